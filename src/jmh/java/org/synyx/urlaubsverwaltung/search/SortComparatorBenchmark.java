@@ -0,0 +1,120 @@
+package org.synyx.urlaubsverwaltung.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Sorts rows like the ones of the statistics and exports by a property and by a nested property path, with
+ * {@link SortComparator#sort(java.util.Collection)}, with the {@link SortComparator} as comparator and with the former
+ * {@link ReflectiveSortComparator}, e.g. {@code ./mvnw -Pjmh test-compile exec:exec}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SortComparatorBenchmark {
+
+    private static final Sort BY_NAME = Sort.by("lastName", "firstName");
+    private static final Sort BY_NESTED_PROPERTY = Sort.by(Sort.Direction.DESC, "account.vacationDaysLeft");
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private List<Row> list;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        list = IntStream.range(0, rows)
+            .mapToObj(i -> new Row("first" + random.nextInt(100), "last" + random.nextInt(rows), new Account(BigDecimal.valueOf(random.nextInt(300), 1))))
+            .toList();
+    }
+
+    @Benchmark
+    public List<Row> sortComparatorByName() {
+        return new SortComparator<>(Row.class, BY_NAME, Locale.GERMAN).sort(list);
+    }
+
+    @Benchmark
+    public List<Row> sortComparatorAsComparatorByName() {
+        return list.stream().sorted(new SortComparator<>(Row.class, BY_NAME, Locale.GERMAN)).toList();
+    }
+
+    @Benchmark
+    public List<Row> reflectiveSortComparatorByName() {
+        return list.stream().sorted(new ReflectiveSortComparator<>(Row.class, BY_NAME)).toList();
+    }
+
+    @Benchmark
+    public List<Row> sortComparatorByNestedProperty() {
+        return new SortComparator<>(Row.class, BY_NESTED_PROPERTY, Locale.GERMAN).sort(list);
+    }
+
+    @Benchmark
+    public List<Row> sortComparatorAsComparatorByNestedProperty() {
+        return list.stream().sorted(new SortComparator<>(Row.class, BY_NESTED_PROPERTY, Locale.GERMAN)).toList();
+    }
+
+    @Benchmark
+    public List<Row> reflectiveSortComparatorByNestedProperty() {
+        return list.stream().sorted(new ReflectiveSortComparator<>(Row.class, BY_NESTED_PROPERTY)).toList();
+    }
+
+    public static class Row {
+
+        private final String firstName;
+        private final String lastName;
+        private final Account account;
+
+        Row(String firstName, String lastName, Account account) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.account = account;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+
+        public Account getAccount() {
+            return account;
+        }
+    }
+
+    public static class Account {
+
+        private final BigDecimal vacationDaysLeft;
+
+        Account(BigDecimal vacationDaysLeft) {
+            this.vacationDaysLeft = vacationDaysLeft;
+        }
+
+        public BigDecimal getVacationDaysLeft() {
+            return vacationDaysLeft;
+        }
+    }
+}
@@ -114,7 +114,10 @@ public class AbsenceApiController {
         final Predicate<AbsenceDto> isNoWorkDay = dto -> dto.getAbsenceType().equals(NO_WORKDAY);
         final Predicate<AbsenceDto> isPublicHoliday = dto -> dto.getAbsenceType().equals(PUBLIC_HOLIDAY);
 
-        return absenceService.getOpenAbsences(person, start, end)
+        final AbsenceQuery query = AbsenceQuery.open(List.of(person), start, end)
+            .withAbsenceTypes(types.stream().map(AbsenceApiController::toAbsenceType).toList());
+
+        return absenceService.getAbsences(query)
             .stream()
             .flatMap(this::toAbsenceDto)
             .filter(
@@ -178,6 +181,15 @@ public class AbsenceApiController {
         }
     }
 
+    private static AbsencePeriod.AbsenceType toAbsenceType(AbsenceDto.AbsenceType absenceType) {
+        return switch (absenceType) {
+            case VACATION -> AbsencePeriod.AbsenceType.VACATION;
+            case SICK_NOTE -> AbsencePeriod.AbsenceType.SICK;
+            case NO_WORKDAY -> AbsencePeriod.AbsenceType.NO_WORKDAY;
+            case PUBLIC_HOLIDAY -> AbsencePeriod.AbsenceType.PUBLIC_HOLIDAY;
+        };
+    }
+
     private AbsenceDto.AbsenceType toAbsenceTypes(AbsencePeriod.AbsenceType genericAbsenceType) {
         return switch (genericAbsenceType) {
             case VACATION -> VACATION;
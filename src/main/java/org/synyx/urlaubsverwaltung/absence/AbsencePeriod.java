@@ -3,10 +3,14 @@ package org.synyx.urlaubsverwaltung.absence;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.time.LocalDate;
+import java.util.AbstractList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
+
+import static java.time.temporal.ChronoUnit.DAYS;
 
 /**
  * Defines absence periods of a {@link Person}.
@@ -49,10 +53,42 @@ public class AbsencePeriod {
         this.absenceRecords = absenceRecords;
     }
 
+    /**
+     * Creates an absence period with the same morning and noon absence on every day of the given date range.
+     *
+     * <p>
+     * The {@link Record}s of the days are not held but created on access, so that a period needs constant memory
+     * regardless of its length. Together with record infos shared by all periods of a person this keeps e.g. the
+     * weekends and public holidays of a whole year down to a few objects per person.
+     *
+     * @param dateRange consecutive days of the absence
+     * @param person    the absent person
+     * @param morning   absence in the morning of every day, {@code null} if there is none
+     * @param noon      absence at noon of every day, {@code null} if there is none
+     * @return the absence period of the consecutive days
+     */
+    public static AbsencePeriod ofConsecutiveDays(DateRange dateRange, Person person, RecordMorning morning, RecordNoon noon) {
+        return new AbsencePeriod(new ConsecutiveDaysRecords(dateRange.startDate(), (int) DAYS.between(dateRange.startDate(), dateRange.endDate()) + 1, person, morning, noon));
+    }
+
     public List<AbsencePeriod.Record> getAbsenceRecords() {
         return Collections.unmodifiableList(absenceRecords);
     }
 
+    /**
+     * Returns the records of the given date without iterating or creating the records of the other days
+     * of a period created with {@link #ofConsecutiveDays(DateRange, Person, RecordMorning, RecordNoon)}.
+     *
+     * @param date to get the records for
+     * @return the records of the given date, empty list if this period has none for the date
+     */
+    public List<AbsencePeriod.Record> getAbsenceRecords(LocalDate date) {
+        if (absenceRecords instanceof ConsecutiveDaysRecords consecutiveDaysRecords) {
+            return consecutiveDaysRecords.getRecord(date).map(List::of).orElseGet(List::of);
+        }
+        return absenceRecords.stream().filter(absenceRecord -> absenceRecord.getDate().isEqual(date)).toList();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -154,6 +190,42 @@ public class AbsencePeriod {
         }
     }
 
+    /**
+     * Range encoded records of consecutive days with the same morning and noon absence.
+     */
+    private static final class ConsecutiveDaysRecords extends AbstractList<Record> implements RandomAccess {
+
+        private final LocalDate startDate;
+        private final int days;
+        private final Person person;
+        private final RecordMorning morning;
+        private final RecordNoon noon;
+
+        private ConsecutiveDaysRecords(LocalDate startDate, int days, Person person, RecordMorning morning, RecordNoon noon) {
+            this.startDate = startDate;
+            this.days = days;
+            this.person = person;
+            this.morning = morning;
+            this.noon = noon;
+        }
+
+        @Override
+        public Record get(int index) {
+            Objects.checkIndex(index, days);
+            return new Record(startDate.plusDays(index), person, morning, noon);
+        }
+
+        @Override
+        public int size() {
+            return days;
+        }
+
+        private Optional<Record> getRecord(LocalDate date) {
+            final long index = DAYS.between(startDate, date);
+            return index >= 0 && index < days ? Optional.of(get((int) index)) : Optional.empty();
+        }
+    }
+
     /**
      * Describes an absence record. (e.g. {@link RecordMorning} absence or {@link RecordNoon} absence)
      */
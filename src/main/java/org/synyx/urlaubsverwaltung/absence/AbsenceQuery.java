@@ -0,0 +1,101 @@
+package org.synyx.urlaubsverwaltung.absence;
+
+import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceType.NO_WORKDAY;
+import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceType.PUBLIC_HOLIDAY;
+
+/**
+ * Describes which {@link AbsencePeriod}s are requested from {@link AbsenceService#getAbsences(AbsenceQuery)}.
+ *
+ * <p>
+ * Only the sources of the requested absence types are loaded, e.g. a query for {@link AbsencePeriod.AbsenceType#VACATION}
+ * neither loads sick notes nor generates no workdays and public holidays.
+ *
+ * @param persons             to get the absences for
+ * @param dateRange           to get the absences within
+ * @param absenceTypes        the requested types of absences
+ * @param applicationStatuses of the requested vacations
+ * @param sickNoteStatuses    of the requested sick notes
+ * @param sourceId            id of the application or the sick note to get the absence of, {@code null} for all
+ */
+public record AbsenceQuery(
+    List<Person> persons,
+    DateRange dateRange,
+    Set<AbsencePeriod.AbsenceType> absenceTypes,
+    List<ApplicationStatus> applicationStatuses,
+    List<SickNoteStatus> sickNoteStatuses,
+    Long sourceId
+) {
+
+    public AbsenceQuery {
+        persons = List.copyOf(persons);
+        absenceTypes = Set.copyOf(absenceTypes);
+        applicationStatuses = List.copyOf(applicationStatuses);
+        sickNoteStatuses = List.copyOf(sickNoteStatuses);
+    }
+
+    /**
+     * Query for all types of absences with one of the status
+     * WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED.
+     *
+     * @param persons to get the absences for
+     * @param start   start of the date range (inclusive)
+     * @param end     end of the date range (inclusive)
+     * @return query for all open absences
+     */
+    public static AbsenceQuery open(List<Person> persons, LocalDate start, LocalDate end) {
+        return new AbsenceQuery(persons, new DateRange(start, end), EnumSet.allOf(AbsencePeriod.AbsenceType.class),
+            ApplicationStatus.activeStatuses(), SickNoteStatus.activeStatuses(), null);
+    }
+
+    /**
+     * Query for all types of absences with one of the status REVOKED, REJECTED, CANCELLED.
+     *
+     * @param persons to get the absences for
+     * @param start   start of the date range (inclusive)
+     * @param end     end of the date range (inclusive)
+     * @return query for all closed absences
+     */
+    public static AbsenceQuery closed(List<Person> persons, LocalDate start, LocalDate end) {
+        return new AbsenceQuery(persons, new DateRange(start, end), EnumSet.allOf(AbsencePeriod.AbsenceType.class),
+            ApplicationStatus.inactiveStatuses(), SickNoteStatus.inactiveStatuses(), null);
+    }
+
+    /**
+     * @param absenceTypes the requested types of absences
+     * @return a copy of this query restricted to the given absence types
+     */
+    public AbsenceQuery withAbsenceTypes(Collection<AbsencePeriod.AbsenceType> absenceTypes) {
+        return new AbsenceQuery(persons, dateRange, Set.copyOf(absenceTypes), applicationStatuses, sickNoteStatuses, sourceId);
+    }
+
+    /**
+     * @param sourceId id of the application or the sick note to get the absence of
+     * @return a copy of this query restricted to the absence of the given application or sick note
+     */
+    public AbsenceQuery withSourceId(Long sourceId) {
+        return new AbsenceQuery(persons, dateRange, absenceTypes, applicationStatuses, sickNoteStatuses, sourceId);
+    }
+
+    public boolean includes(AbsencePeriod.AbsenceType absenceType) {
+        return absenceTypes.contains(absenceType);
+    }
+
+    boolean includesNoWorkdaysOrPublicHolidays() {
+        return includes(NO_WORKDAY) || includes(PUBLIC_HOLIDAY);
+    }
+
+    public Optional<Long> getSourceId() {
+        return Optional.ofNullable(sourceId);
+    }
+}
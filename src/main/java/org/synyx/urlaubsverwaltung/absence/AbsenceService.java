@@ -7,6 +7,15 @@ import java.util.List;
 
 public interface AbsenceService {
 
+    /**
+     * Get the absences described by the given query. Absences not requested by the query are not computed at all,
+     * e.g. sick notes are not loaded when only vacations are requested.
+     *
+     * @param query describing the requested absences
+     * @return list of all matching absences
+     */
+    List<AbsencePeriod> getAbsences(AbsenceQuery query);
+
     /**
      * Get all open absences for the given person and date range.
      * "Open" means it has one of the status WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED
@@ -14,21 +14,24 @@ import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
-import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendarService;
 
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.util.stream.Collectors.toList;
 import static org.slf4j.LoggerFactory.getLogger;
-import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.NO_WORKDAY;
-import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.PUBLIC_HOLIDAY;
+import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceType.NO_WORKDAY;
+import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceType.PUBLIC_HOLIDAY;
+import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceType.SICK;
+import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceType.VACATION;
 
 
 @Service
@@ -59,7 +62,7 @@ public class AbsenceServiceImpl implements AbsenceService {
 
     @Override
     public List<AbsencePeriod> getOpenAbsences(List<Person> persons, LocalDate start, LocalDate end) {
-        return getAbsences(persons, start, end, ApplicationStatus.activeStatuses(), SickNoteStatus.activeStatuses());
+        return getAbsences(AbsenceQuery.open(persons, start, end));
     }
 
     @Override
@@ -69,28 +72,98 @@ public class AbsenceServiceImpl implements AbsenceService {
 
     @Override
     public List<AbsencePeriod> getClosedAbsences(List<Person> persons, LocalDate start, LocalDate end) {
-        return getAbsences(persons, start, end, ApplicationStatus.inactiveStatuses(), SickNoteStatus.inactiveStatuses());
+        return getAbsences(AbsenceQuery.closed(persons, start, end));
     }
 
-    private List<AbsencePeriod> getAbsences(List<Person> persons, LocalDate start, LocalDate end, List<ApplicationStatus> byApplicationStatus, List<SickNoteStatus> bySickNoteStatus) {
+    @Override
+    public List<AbsencePeriod> getAbsences(AbsenceQuery query) {
 
-        final DateRange askedDateRange = new DateRange(start, end);
+        final DateRange askedDateRange = query.dateRange();
 
-        final Map<Person, WorkingTimeCalendar> workingTimeCalendarByPerson = workingTimeCalendarService.getWorkingTimesByPersons(persons, askedDateRange);
+        final List<Application> applications = query.includes(VACATION) ? getApplications(query) : List.of();
+        final List<SickNote> sickNotes = query.includes(SICK) ? getSickNotes(query) : List.of();
+        final boolean withWorkingTimeAbsences = query.includesNoWorkdaysOrPublicHolidays();
 
-        final List<Application> openApplications = applicationService.getForStatesAndPerson(byApplicationStatus, persons, start, end);
-        final List<AbsencePeriod> applicationAbsences = generateAbsencePeriodFromApplication(openApplications, askedDateRange, workingTimeCalendarByPerson::get);
+        if (applications.isEmpty() && sickNotes.isEmpty() && !withWorkingTimeAbsences) {
+            return List.of();
+        }
 
-        final List<SickNote> openSickNotes = sickNoteService.getForStatesAndPerson(bySickNoteStatus, persons, start, end);
-        final List<AbsencePeriod> sickNoteAbsences = generateAbsencePeriodFromSickNotes(openSickNotes, askedDateRange, workingTimeCalendarByPerson::get);
+        final Map<Person, WorkingTimeCalendar> workingTimeCalendarByPerson;
+        if (withWorkingTimeAbsences) {
+            workingTimeCalendarByPerson = workingTimeCalendarService.getWorkingTimesByPersons(query.persons(), askedDateRange);
+        } else {
+            // working times are only required for the persons and days of the loaded absences
+            workingTimeCalendarByPerson = getWorkingTimeCalendarsOfAbsences(applications, sickNotes, askedDateRange);
+        }
 
-        final List<AbsencePeriod> noWorkingDaysAndPublicHolidays = generateAbsencePeriodFromWorkingTimes(workingTimeCalendarByPerson);
+        final List<AbsencePeriod> applicationAbsences = generateAbsencePeriodFromApplication(applications, askedDateRange, workingTimeCalendarByPerson::get);
+        final List<AbsencePeriod> sickNoteAbsences = generateAbsencePeriodFromSickNotes(sickNotes, askedDateRange, workingTimeCalendarByPerson::get);
+        final List<AbsencePeriod> noWorkingDaysAndPublicHolidays = withWorkingTimeAbsences
+            ? generateAbsencePeriodFromWorkingTimes(workingTimeCalendarByPerson, askedDateRange, query)
+            : List.of();
 
         return Stream.of(applicationAbsences.stream(), sickNoteAbsences.stream(), noWorkingDaysAndPublicHolidays.stream())
             .reduce(Stream.of(), Stream::concat)
             .toList();
     }
 
+    private List<Application> getApplications(AbsenceQuery query) {
+
+        final DateRange dateRange = query.dateRange();
+
+        if (query.getSourceId().isPresent()) {
+            return applicationService.getApplicationById(query.getSourceId().get())
+                .filter(application -> query.applicationStatuses().contains(application.getStatus()))
+                .filter(application -> query.persons().contains(application.getPerson()))
+                .filter(application -> isWithin(application.getStartDate(), application.getEndDate(), dateRange))
+                .map(List::of)
+                .orElseGet(List::of);
+        }
+
+        return applicationService.getForStatesAndPerson(query.applicationStatuses(), query.persons(), dateRange.startDate(), dateRange.endDate());
+    }
+
+    private List<SickNote> getSickNotes(AbsenceQuery query) {
+
+        final DateRange dateRange = query.dateRange();
+
+        if (query.getSourceId().isPresent()) {
+            return sickNoteService.getById(query.getSourceId().get())
+                .filter(sickNote -> query.sickNoteStatuses().contains(sickNote.getStatus()))
+                .filter(sickNote -> query.persons().contains(sickNote.getPerson()))
+                .filter(sickNote -> isWithin(sickNote.getStartDate(), sickNote.getEndDate(), dateRange))
+                .map(List::of)
+                .orElseGet(List::of);
+        }
+
+        return sickNoteService.getForStatesAndPerson(query.sickNoteStatuses(), query.persons(), dateRange.startDate(), dateRange.endDate());
+    }
+
+    private Map<Person, WorkingTimeCalendar> getWorkingTimeCalendarsOfAbsences(List<Application> applications, List<SickNote> sickNotes, DateRange askedDateRange) {
+
+        final Set<Person> persons = new HashSet<>();
+        LocalDate start = askedDateRange.endDate();
+        LocalDate end = askedDateRange.startDate();
+
+        for (Application application : applications) {
+            persons.add(application.getPerson());
+            start = minDate(start, application.getStartDate());
+            end = maxDate(end, application.getEndDate());
+        }
+        for (SickNote sickNote : sickNotes) {
+            persons.add(sickNote.getPerson());
+            start = minDate(start, sickNote.getStartDate());
+            end = maxDate(end, sickNote.getEndDate());
+        }
+
+        final DateRange dateRange = new DateRange(maxDate(start, askedDateRange.startDate()), minDate(end, askedDateRange.endDate()));
+        return workingTimeCalendarService.getWorkingTimesByPersons(persons, dateRange);
+    }
+
+    private static boolean isWithin(LocalDate start, LocalDate end, DateRange dateRange) {
+        return !start.isAfter(dateRange.endDate()) && !end.isBefore(dateRange.startDate());
+    }
+
     @Override
     public List<Absence> getOpenAbsencesSince(List<Person> persons, LocalDate since) {
         final List<Application> openApplications = applicationService.getForStatesAndPersonSince(ApplicationStatus.activeStatuses(), persons, since);
@@ -139,49 +212,13 @@ public class AbsenceServiceImpl implements AbsenceService {
             .toList();
     }
 
-    private List<AbsencePeriod> generateAbsencePeriodFromWorkingTimes(Map<Person, WorkingTimeCalendar> workingTimeCalendars) {
+    private List<AbsencePeriod> generateAbsencePeriodFromWorkingTimes(Map<Person, WorkingTimeCalendar> workingTimeCalendars, DateRange askedDateRange, AbsenceQuery query) {
         return workingTimeCalendars.entrySet().stream()
-            .map(this::toAbsencePeriod)
+            .map(entry -> NoWorkdayAndPublicHolidayPeriods.of(entry.getKey(), entry.getValue(), askedDateRange, query.includes(NO_WORKDAY), query.includes(PUBLIC_HOLIDAY)))
             .flatMap(Collection::stream)
             .toList();
     }
 
-    private List<AbsencePeriod> toAbsencePeriod(Map.Entry<Person, WorkingTimeCalendar> workingTimeCalendarEntry) {
-
-        final Person person = workingTimeCalendarEntry.getKey();
-        final WorkingTimeCalendar workingTimeCalendar = workingTimeCalendarEntry.getValue();
-
-        return workingTimeCalendar.workingDays().entrySet().stream()
-            .<AbsencePeriod>mapMulti((workingDayInformationEntry, consumer) -> {
-                final LocalDate date = workingDayInformationEntry.getKey();
-                final WorkingDayInformation workingDayInformation = workingDayInformationEntry.getValue();
-
-                if (!workingDayInformation.dayLength().isFull()) {
-                    if (workingDayInformation.morning() == workingDayInformation.noon()) {
-                        if (workingDayInformation.morning() == NO_WORKDAY) {
-                            consumer.accept(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningNoWorkday(person), new AbsencePeriod.RecordNoonNoWorkday(person)))));
-                        } else if (workingDayInformation.morning() == PUBLIC_HOLIDAY) {
-                            consumer.accept(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningPublicHoliday(person), new AbsencePeriod.RecordNoonPublicHoliday(person)))));
-                        }
-                    } else {
-                        if (workingDayInformation.morning() == NO_WORKDAY) {
-                            consumer.accept(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningNoWorkday(person)))));
-                        } else if (workingDayInformation.morning() == PUBLIC_HOLIDAY) {
-                            consumer.accept(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordMorningPublicHoliday(person)))));
-                        }
-
-                        if (workingDayInformation.noon() == NO_WORKDAY) {
-                            consumer.accept(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordNoonNoWorkday(person)))));
-                        } else if (workingDayInformation.noon() == PUBLIC_HOLIDAY) {
-                            consumer.accept(new AbsencePeriod(List.of(new AbsencePeriod.Record(date, person, new AbsencePeriod.RecordNoonPublicHoliday(person)))));
-                        }
-                    }
-                }
-
-            })
-            .toList();
-    }
-
     private AbsencePeriod toAbsencePeriod(Application application, DateRange askedDateRange, Function<Person, WorkingTimeCalendar> workingTimeCalendarSupplier) {
         return new AbsencePeriod(days(application, askedDateRange, workingTimeCalendarSupplier));
     }
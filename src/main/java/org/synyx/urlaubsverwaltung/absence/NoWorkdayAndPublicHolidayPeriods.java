@@ -0,0 +1,153 @@
+package org.synyx.urlaubsverwaltung.absence;
+
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.NO_WORKDAY;
+import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.PUBLIC_HOLIDAY;
+
+/**
+ * Collects the no workdays and public holidays of a person as {@link AbsencePeriod}s.
+ *
+ * <p>
+ * Consecutive days with the same kind of absence are combined into one
+ * {@link AbsencePeriod#ofConsecutiveDays(DateRange, Person, AbsencePeriod.RecordMorning, AbsencePeriod.RecordNoon) range encoded}
+ * period and all periods of a person share the same record infos.
+ * Days with different kinds of absence in the morning and at noon result in separate morning and noon periods.
+ */
+final class NoWorkdayAndPublicHolidayPeriods {
+
+    private static final int FULL_DAY = 0;
+    private static final int MORNING = 1;
+    private static final int NOON = 2;
+
+    private final Person person;
+    private final AbsencePeriod.RecordMorning morningNoWorkday;
+    private final AbsencePeriod.RecordNoon noonNoWorkday;
+    private final AbsencePeriod.RecordMorning morningPublicHoliday;
+    private final AbsencePeriod.RecordNoon noonPublicHoliday;
+
+    private final Set<WorkingTimeCalendarEntryType> wantedTypes;
+
+    private final LocalDate[] runStart = new LocalDate[3];
+    private final LocalDate[] runEnd = new LocalDate[3];
+    private final WorkingTimeCalendarEntryType[] runType = new WorkingTimeCalendarEntryType[3];
+
+    private final List<AbsencePeriod> absencePeriods = new ArrayList<>();
+
+    private NoWorkdayAndPublicHolidayPeriods(Person person, Set<WorkingTimeCalendarEntryType> wantedTypes) {
+        this.person = person;
+        this.wantedTypes = wantedTypes;
+        this.morningNoWorkday = new AbsencePeriod.RecordMorningNoWorkday(person);
+        this.noonNoWorkday = new AbsencePeriod.RecordNoonNoWorkday(person);
+        this.morningPublicHoliday = new AbsencePeriod.RecordMorningPublicHoliday(person);
+        this.noonPublicHoliday = new AbsencePeriod.RecordNoonPublicHoliday(person);
+    }
+
+    /**
+     * @param person              the calendar belongs to
+     * @param workingTimeCalendar of the person
+     * @param dateRange           to collect the no workdays and public holidays of
+     * @return the no workdays and public holidays of the person within the date range, ordered by date per kind
+     */
+    static List<AbsencePeriod> of(Person person, WorkingTimeCalendar workingTimeCalendar, DateRange dateRange) {
+        return of(person, workingTimeCalendar, dateRange, true, true);
+    }
+
+    /**
+     * @param person              the calendar belongs to
+     * @param workingTimeCalendar of the person
+     * @param dateRange           to collect the no workdays and public holidays of
+     * @param noWorkdays          whether no workdays are collected
+     * @param publicHolidays      whether public holidays are collected
+     * @return the requested kinds of absences of the person within the date range, ordered by date per kind
+     */
+    static List<AbsencePeriod> of(Person person, WorkingTimeCalendar workingTimeCalendar, DateRange dateRange, boolean noWorkdays, boolean publicHolidays) {
+
+        final Set<WorkingTimeCalendarEntryType> wantedTypes = EnumSet.noneOf(WorkingTimeCalendarEntryType.class);
+        if (noWorkdays) {
+            wantedTypes.add(NO_WORKDAY);
+        }
+        if (publicHolidays) {
+            wantedTypes.add(PUBLIC_HOLIDAY);
+        }
+        if (wantedTypes.isEmpty()) {
+            return List.of();
+        }
+
+        final NoWorkdayAndPublicHolidayPeriods periods = new NoWorkdayAndPublicHolidayPeriods(person, wantedTypes);
+        for (LocalDate date : dateRange) {
+            periods.add(date, workingTimeCalendar.workingDays().get(date));
+        }
+        periods.closeRun(FULL_DAY);
+        periods.closeRun(MORNING);
+        periods.closeRun(NOON);
+
+        return periods.absencePeriods;
+    }
+
+    private void add(LocalDate date, WorkingDayInformation workingDayInformation) {
+
+        WorkingTimeCalendarEntryType fullDay = null;
+        WorkingTimeCalendarEntryType morning = null;
+        WorkingTimeCalendarEntryType noon = null;
+
+        if (workingDayInformation != null && !workingDayInformation.dayLength().isFull()) {
+            if (workingDayInformation.morning() == workingDayInformation.noon()) {
+                fullDay = absent(workingDayInformation.morning());
+            } else {
+                morning = absent(workingDayInformation.morning());
+                noon = absent(workingDayInformation.noon());
+            }
+        }
+
+        extendRun(FULL_DAY, date, fullDay);
+        extendRun(MORNING, date, morning);
+        extendRun(NOON, date, noon);
+    }
+
+    private void extendRun(int lane, LocalDate date, WorkingTimeCalendarEntryType type) {
+
+        if (type != null && type == runType[lane] && runEnd[lane].plusDays(1).equals(date)) {
+            runEnd[lane] = date;
+            return;
+        }
+
+        closeRun(lane);
+
+        if (type != null) {
+            runStart[lane] = date;
+            runEnd[lane] = date;
+            runType[lane] = type;
+        }
+    }
+
+    private void closeRun(int lane) {
+
+        final WorkingTimeCalendarEntryType type = runType[lane];
+        if (type == null) {
+            return;
+        }
+
+        final boolean publicHoliday = type == PUBLIC_HOLIDAY;
+        final AbsencePeriod.RecordMorning morning = lane == NOON ? null : publicHoliday ? morningPublicHoliday : morningNoWorkday;
+        final AbsencePeriod.RecordNoon noon = lane == MORNING ? null : publicHoliday ? noonPublicHoliday : noonNoWorkday;
+        absencePeriods.add(AbsencePeriod.ofConsecutiveDays(new DateRange(runStart[lane], runEnd[lane]), person, morning, noon));
+
+        runStart[lane] = null;
+        runEnd[lane] = null;
+        runType[lane] = null;
+    }
+
+    private WorkingTimeCalendarEntryType absent(WorkingTimeCalendarEntryType type) {
+        return wantedTypes.contains(type) ? type : null;
+    }
+}
@@ -48,7 +48,6 @@ import static java.lang.Integer.parseInt;
 import static java.time.DayOfWeek.SATURDAY;
 import static java.time.DayOfWeek.SUNDAY;
 import static java.util.Comparator.comparing;
-import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
@@ -203,10 +202,15 @@ public class AbsenceOverviewViewController implements HasLaunchpad {
 
         final HashMap<Integer, AbsenceOverviewMonthDto> monthsByNr = new HashMap<>();
 
-        final Map<Person, List<AbsencePeriod.Record>> absencePeriodRecordsByPerson = openAbsences.stream()
-            .map(AbsencePeriod::getAbsenceRecords)
-            .flatMap(List::stream)
-            .collect(groupingBy(AbsencePeriod.Record::getPerson));
+        // group the periods instead of their records, so that range encoded periods of no workdays and public holidays
+        // only create the record of the rendered date
+        final Map<Person, List<AbsencePeriod>> absencePeriodsByPerson = new HashMap<>();
+        for (AbsencePeriod absencePeriod : openAbsences) {
+            final List<AbsencePeriod.Record> absenceRecords = absencePeriod.getAbsenceRecords();
+            if (!absenceRecords.isEmpty()) {
+                absencePeriodsByPerson.computeIfAbsent(absenceRecords.getFirst().getPerson(), person -> new ArrayList<>()).add(absencePeriod);
+            }
+        }
 
         final Map<Person, Map<LocalDate, PublicHoliday>> publicHolidaysOfAllPersons = new HashMap<>();
         for (Person person : personList) {
@@ -239,10 +243,10 @@ public class AbsenceOverviewViewController implements HasLaunchpad {
                     .sorted(comparing(WorkingTime::getValidFrom).reversed())
                     .collect(toList());
 
-                final List<AbsencePeriod.Record> personAbsenceRecordsForDate = Optional.ofNullable(absencePeriodRecordsByPerson.get(person))
+                final List<AbsencePeriod.Record> personAbsenceRecordsForDate = absencePeriodsByPerson.getOrDefault(person, List.of())
                     .stream()
+                    .map(absencePeriod -> absencePeriod.getAbsenceRecords(date))
                     .flatMap(List::stream)
-                    .filter(absenceRecord -> absenceRecord.getDate().isEqual(date))
                     .toList();
 
                 final AbsenceOverviewDayType personViewDayType = Optional.ofNullable(publicHolidaysOfAllPersons.get(person).get(date))
@@ -21,6 +21,7 @@ import java.util.Optional;
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.math.BigDecimal.ZERO;
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.config.AsyncTaskExecutors.MAIL_TASK_EXECUTOR;
 
 @Service
 public class VacationDaysReminderService {
@@ -46,7 +47,7 @@ public class VacationDaysReminderService {
     /**
      * Reminds for vacation days left for <b>current year</b>.
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void remindForCurrentlyLeftVacationDays() {
         final int year = Year.now(clock).getValue();
         final List<Person> persons = personService.getActivePersons();
@@ -68,7 +69,7 @@ public class VacationDaysReminderService {
      * Remind for remaining vacation days of last year
      * Should be called after turn of the year logic which calculates the new account for the new year
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void remindForRemainingVacationDays() {
         final int year = Year.now(clock).getValue();
         final List<Person> persons = personService.getActivePersons();
@@ -95,7 +96,7 @@ public class VacationDaysReminderService {
     /**
      * Notify about expired remaining vacation days
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void notifyForExpiredRemainingVacationDays() {
         final LocalDate now = LocalDate.now(clock);
         final int year = now.getYear();
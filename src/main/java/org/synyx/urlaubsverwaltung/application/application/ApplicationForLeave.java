@@ -15,6 +15,15 @@ public class ApplicationForLeave extends Application {
     private final BigDecimal workDays;
 
     public ApplicationForLeave(Application application, WorkDaysCountService workDaysCountService) {
+        this(application, workDaysCountService.getWorkDaysCount(application.getDayLength(), application.getStartDate(), application.getEndDate(), application.getPerson()));
+    }
+
+    /**
+     * @param application to extend
+     * @param workDays    already calculated number of work days of the application,
+     *                    e.g. via {@link WorkDaysCountService#getWorkDaysCount(java.util.List)}
+     */
+    public ApplicationForLeave(Application application, BigDecimal workDays) {
 
         // copy all the properties from the given application for leave
         BeanUtils.copyProperties(application, this);
@@ -22,8 +31,7 @@ public class ApplicationForLeave extends Application {
         // not copied, must be set explicitly
         setId(application.getId());
 
-        // calculate the work days
-        this.workDays = workDaysCountService.getWorkDaysCount(getDayLength(), getStartDate(), getEndDate(), getPerson());
+        this.workDays = workDays;
     }
 
     public BigDecimal getWorkDays() {
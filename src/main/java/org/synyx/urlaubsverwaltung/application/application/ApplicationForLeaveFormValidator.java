@@ -364,10 +364,13 @@ class ApplicationForLeaveFormValidator implements Validator {
             return;
         }
 
+        // facts like the work days are needed by several of the following checks, they are computed only once
+        final ApplicationValidationContext context = new ApplicationValidationContext(applicationMapper.mapToApplication(applicationForm), workDaysCountService);
+
         /*
          * Ensure that no one applies for leave for a vacation of 0 days
          */
-        if (vacationOfZeroDays(applicationForm)) {
+        if (vacationOfZeroDays(context)) {
             errors.reject(ERROR_ZERO_DAYS);
 
             return;
@@ -376,7 +379,7 @@ class ApplicationForLeaveFormValidator implements Validator {
         /*
          * Ensure that there is no application for leave and no sick note in the same period
          */
-        if (vacationIsOverlapping(applicationForm)) {
+        if (vacationIsOverlapping(context)) {
             errors.reject(ERROR_OVERLAP);
 
             return;
@@ -386,7 +389,7 @@ class ApplicationForLeaveFormValidator implements Validator {
          * Ensure that the person has enough vacation days left if the vacation type is
          * {@link org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.HOLIDAY}
          */
-        if (!enoughVacationDaysLeft(applicationForm, vacationType)) {
+        if (!enoughVacationDaysLeft(context, vacationType)) {
             errors.reject(ERROR_NOT_ENOUGH_DAYS);
         }
 
@@ -405,29 +408,23 @@ class ApplicationForLeaveFormValidator implements Validator {
         return workingTime.isPresent();
     }
 
-    private boolean vacationOfZeroDays(ApplicationForLeaveForm applicationForLeaveForm) {
-
-        final BigDecimal days = workDaysCountService.getWorkDaysCount(applicationForLeaveForm.getDayLength(), applicationForLeaveForm.getStartDate(),
-            applicationForLeaveForm.getEndDate(), applicationForLeaveForm.getPerson());
-
-        return CalcUtil.isZero(days);
+    private boolean vacationOfZeroDays(ApplicationValidationContext context) {
+        return CalcUtil.isZero(context.workDays());
     }
 
-    private boolean vacationIsOverlapping(ApplicationForLeaveForm applicationForLeaveForm) {
+    private boolean vacationIsOverlapping(ApplicationValidationContext context) {
 
-        final Application application = applicationMapper.mapToApplication(applicationForLeaveForm);
-        final OverlapCase overlap = overlapService.checkOverlap(application);
+        final OverlapCase overlap = overlapService.checkOverlap(context.application());
 
         return overlap == FULLY_OVERLAPPING || overlap == PARTLY_OVERLAPPING;
     }
 
-    private boolean enoughVacationDaysLeft(ApplicationForLeaveForm applicationForLeaveForm, VacationType<?> vacationType) {
+    private boolean enoughVacationDaysLeft(ApplicationValidationContext context, VacationType<?> vacationType) {
 
         final boolean isHoliday = HOLIDAY.equals(vacationType.getCategory());
 
         if (isHoliday) {
-            final Application application = applicationMapper.mapToApplication(applicationForLeaveForm);
-            return calculationService.checkApplication(application);
+            return calculationService.checkApplication(context);
         }
 
         return true;
@@ -3,6 +3,11 @@ package org.synyx.urlaubsverwaltung.application.application;
 import de.focus_shift.launchpad.api.HasLaunchpad;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,6 +23,7 @@ import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus;
 import org.synyx.urlaubsverwaltung.util.DurationFormatter;
+import org.synyx.urlaubsverwaltung.web.html.PaginationDto;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
 import java.math.BigDecimal;
@@ -29,9 +35,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.Comparator.comparing;
@@ -46,6 +54,7 @@ import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
 import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
 import static org.synyx.urlaubsverwaltung.person.Role.SICK_NOTE_EDIT;
+import static org.synyx.urlaubsverwaltung.web.html.PaginationPageLinkBuilder.buildPageLinkPrefix;
 
 /**
  * Controller for showing applications for leave in a certain state.
@@ -54,6 +63,8 @@ import static org.synyx.urlaubsverwaltung.person.Role.SICK_NOTE_EDIT;
 @RequestMapping("/web")
 class ApplicationForLeaveViewController implements HasLaunchpad {
 
+    private static final Sort OTHER_APPLICATIONS_SORT = Sort.by("startDate", "id");
+
     private final ApplicationService applicationService;
     private final SickNoteService sickNoteService;
     private final WorkDaysCountService workDaysCountService;
@@ -78,33 +89,33 @@ class ApplicationForLeaveViewController implements HasLaunchpad {
     }
 
     @GetMapping("/application")
-    public String showApplication(Model model, Locale locale) {
+    public String showApplication(Pageable pageable, Model model, Locale locale) {
 
-        prepareApplicationModels(model, locale);
+        prepareApplicationModels(pageable, model, locale);
         model.addAttribute("activeContent", "application");
 
         return "application/application-overview";
     }
 
     @GetMapping("/application/replacement")
-    public String showApplicationWithReplacementContent(Model model, Locale locale) {
+    public String showApplicationWithReplacementContent(Pageable pageable, Model model, Locale locale) {
 
-        prepareApplicationModels(model, locale);
+        prepareApplicationModels(pageable, model, locale);
         model.addAttribute("activeContent", "replacement");
 
         return "application/application-overview";
     }
 
     @GetMapping("/sicknote/submitted")
-    public String showApplicationWithSickNoteSubmittedContent(Model model, Locale locale) {
+    public String showApplicationWithSickNoteSubmittedContent(Pageable pageable, Model model, Locale locale) {
 
-        prepareApplicationModels(model, locale);
+        prepareApplicationModels(pageable, model, locale);
         model.addAttribute("activeContent", "sicknote");
 
         return "application/application-overview";
     }
 
-    private void prepareApplicationModels(Model model, Locale locale) {
+    private void prepareApplicationModels(Pageable pageable, Model model, Locale locale) {
 
         final SickNoteSettings sickNoteSettings = settingsService.getSettings().getSickNoteSettings();
 
@@ -118,30 +129,56 @@ class ApplicationForLeaveViewController implements HasLaunchpad {
 
         final List<Person> membersAsDepartmentHead = signedInUser.hasRole(DEPARTMENT_HEAD) ? departmentService.getMembersForDepartmentHead(signedInUser) : List.of();
         final List<Person> membersAsSecondStageAuthority = signedInUser.hasRole(SECOND_STAGE_AUTHORITY) ? departmentService.getMembersForSecondStageAuthority(signedInUser) : List.of();
+        final PersonDataAccess access = new PersonDataAccess(signedInUser, Set.copyOf(membersAsDepartmentHead), Set.copyOf(membersAsSecondStageAuthority));
 
         final List<ApplicationForLeave> userApplications = getApplicationsForLeaveForUser(signedInUser);
-        final List<ApplicationForLeaveDto> userApplicationsDtos = mapToApplicationForLeaveDtoList(userApplications, signedInUser, membersAsDepartmentHead, membersAsSecondStageAuthority, locale);
+        final List<ApplicationForLeaveDto> userApplicationsDtos = mapToApplicationForLeaveDtoList(userApplications, access, locale);
         model.addAttribute("userApplications", userApplicationsDtos);
 
-        final List<ApplicationForLeave> otherApplications = getOtherRelevantApplicationsForLeave(signedInUser, membersAsDepartmentHead, membersAsSecondStageAuthority);
-        final List<ApplicationForLeaveDto> otherApplicationsDtos = mapToApplicationForLeaveDtoList(otherApplications, signedInUser, membersAsDepartmentHead, membersAsSecondStageAuthority, locale);
+        final Pageable otherApplicationsPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), OTHER_APPLICATIONS_SORT);
+        final Page<Application> otherApplicationsPage = getOtherRelevantApplications(signedInUser, membersAsDepartmentHead, membersAsSecondStageAuthority, otherApplicationsPageable);
+        final List<ApplicationForLeaveDto> otherApplicationsDtos = mapToApplicationForLeaveDtoList(toApplicationsForLeave(otherApplicationsPage.getContent()), access, locale);
+        final Page<ApplicationForLeaveDto> otherApplicationsDtoPage = new PageImpl<>(otherApplicationsDtos, otherApplicationsPageable, otherApplicationsPage.getTotalElements());
         model.addAttribute("otherApplications", otherApplicationsDtos);
+        model.addAttribute("otherApplicationsPagination", new PaginationDto<>(otherApplicationsDtoPage, buildPageLinkPrefix(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))));
+        model.addAttribute("paginationPageNumbers", IntStream.rangeClosed(1, otherApplicationsDtoPage.getTotalPages()).boxed().toList());
 
-        final List<SickNote> otherSickNotes = sickNoteService.getForStatesAndPerson(List.of(SickNoteStatus.SUBMITTED), getPersonsForRelevantSubmittedSickNotes(signedInUser)).stream().toList();
+        final List<SickNote> otherSickNotes = getRelevantSubmittedSickNotes(signedInUser);
         final List<SickNoteDto> otherSickNotesDtos = mapToSickNoteDtoList(otherSickNotes, locale);
         model.addAttribute("otherSickNotes", otherSickNotesDtos);
 
         final List<ApplicationForLeave> applicationsForLeaveCancellationRequests = getAllRelevantApplicationsForLeaveCancellationRequests(signedInUser, membersAsDepartmentHead, membersAsSecondStageAuthority);
-        final List<ApplicationForLeaveDto> cancellationDtoList = mapToApplicationForLeaveDtoList(applicationsForLeaveCancellationRequests, signedInUser, membersAsDepartmentHead, membersAsSecondStageAuthority, locale);
+        final List<ApplicationForLeaveDto> cancellationDtoList = mapToApplicationForLeaveDtoList(applicationsForLeaveCancellationRequests, access, locale);
         if (!cancellationDtoList.isEmpty()) {
             model.addAttribute("applications_cancellation_request", cancellationDtoList);
         }
 
         final LocalDate holidayReplacementForDate = LocalDate.now(clock);
-        final List<ApplicationReplacementDto> replacements = getHolidayReplacements(signedInUser, holidayReplacementForDate, locale);
+        final List<ApplicationReplacementDto> replacements = getHolidayReplacements(signedInUser, holidayReplacementForDate, access, locale);
         model.addAttribute("applications_holiday_replacements", replacements);
     }
 
+    /**
+     * Decides whether the signed-in user may access the personal data of the persons shown on the page without
+     * asking the {@link DepartmentService} for every single row. Same rules as
+     * {@link DepartmentService#isSignedInUserAllowedToAccessPersonData(Person, Person)}.
+     */
+    private record PersonDataAccess(Person signedInUser, Set<Person> membersAsDepartmentHead, Set<Person> membersAsSecondStageAuthority) {
+
+        boolean isAllowedToAccessPersonData(Person person) {
+            return signedInUser.hasRole(OFFICE) || signedInUser.hasRole(BOSS) || person.equals(signedInUser)
+                || membersAsDepartmentHead.contains(person) || membersAsSecondStageAuthority.contains(person);
+        }
+
+        boolean isDepartmentHeadOf(Person person) {
+            return membersAsDepartmentHead.contains(person);
+        }
+
+        boolean isSecondStageAuthorityOf(Person person) {
+            return membersAsSecondStageAuthority.contains(person);
+        }
+    }
+
     private static boolean isAllowedToAccessApplicationStatistics(Person signedInUser) {
         return signedInUser.hasAnyRole(OFFICE, BOSS, DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY);
     }
@@ -177,20 +214,15 @@ class ApplicationForLeaveViewController implements HasLaunchpad {
         );
     }
 
-    private List<ApplicationForLeaveDto> mapToApplicationForLeaveDtoList(List<ApplicationForLeave> applications, Person signedInUser, List<Person> membersAsDepartmentHead,
-                                                                         List<Person> membersAsSecondStageAuthority, Locale locale) {
-
+    private List<ApplicationForLeaveDto> mapToApplicationForLeaveDtoList(List<ApplicationForLeave> applications, PersonDataAccess access, Locale locale) {
         return applications.stream()
-            .map(applicationForLeave -> {
-                final boolean allowedToAccessPersonData = departmentService.isSignedInUserAllowedToAccessPersonData(signedInUser, applicationForLeave.getPerson());
-                return toView(applicationForLeave, signedInUser, membersAsDepartmentHead, membersAsSecondStageAuthority, messageSource, locale, allowedToAccessPersonData);
-            })
+            .map(applicationForLeave -> toView(applicationForLeave, access, messageSource, locale))
             .toList();
     }
 
-    private static ApplicationForLeaveDto toView(ApplicationForLeave application, Person signedInUser, List<Person> membersAsDepartmentHead,
-                                                 List<Person> membersAsSecondStageAuthority, MessageSource messageSource, Locale locale, boolean allowedToAccessPersonData) {
+    private static ApplicationForLeaveDto toView(ApplicationForLeave application, PersonDataAccess access, MessageSource messageSource, Locale locale) {
         final Person person = application.getPerson();
+        final Person signedInUser = access.signedInUser();
 
         final boolean isWaiting = application.hasStatus(WAITING);
         final boolean isAllowed = application.hasStatus(ALLOWED);
@@ -200,8 +232,8 @@ class ApplicationForLeaveViewController implements HasLaunchpad {
 
         final boolean isBoss = signedInUser.hasRole(BOSS);
         final boolean isOffice = signedInUser.hasRole(OFFICE);
-        final boolean isDepartmentHeadOfPerson = membersAsDepartmentHead.contains(person);
-        final boolean isSecondStageAuthorityOfPerson = membersAsSecondStageAuthority.contains(person);
+        final boolean isDepartmentHeadOfPerson = access.isDepartmentHeadOf(person);
+        final boolean isSecondStageAuthorityOfPerson = access.isSecondStageAuthorityOf(person);
         final boolean isOwn = person.equals(signedInUser);
 
         final boolean isAllowedToEdit = isWaiting && isOwn;
@@ -212,7 +244,7 @@ class ApplicationForLeaveViewController implements HasLaunchpad {
 
         return ApplicationForLeaveDto.builder()
             .id(application.getId())
-            .person(toViewPerson(person, allowedToAccessPersonData))
+            .person(toViewPerson(person, access.isAllowedToAccessPersonData(person)))
             .vacationType(toViewVacationType(application.getVacationType(), locale))
             .status(application.getStatus())
             .duration(DurationFormatter.toDurationString(application.getHours(), messageSource, locale))
@@ -285,14 +317,13 @@ class ApplicationForLeaveViewController implements HasLaunchpad {
         return new ApplicationForLeaveDto.VacationTypeDto(vacationType.getCategory().name(), vacationType.getLabel(locale), vacationType.getColor());
     }
 
-    private List<ApplicationReplacementDto> getHolidayReplacements(Person signedInUser, LocalDate holidayReplacementForDate, Locale locale) {
-        return applicationService.getForHolidayReplacement(signedInUser, holidayReplacementForDate)
-            .stream()
+    private List<ApplicationReplacementDto> getHolidayReplacements(Person signedInUser, LocalDate holidayReplacementForDate, PersonDataAccess access, Locale locale) {
+        final List<Application> applications = applicationService.getForHolidayReplacement(signedInUser, holidayReplacementForDate).stream()
             .sorted(comparing(Application::getStartDate))
-            .map(application -> {
-                final boolean allowedToAccessPersonData = departmentService.isSignedInUserAllowedToAccessPersonData(signedInUser, application.getPerson());
-                return toApplicationReplacementDto(application, signedInUser, locale, allowedToAccessPersonData);
-            })
+            .toList();
+
+        return toApplicationsForLeave(applications).stream()
+            .map(application -> toApplicationReplacementDto(application, signedInUser, locale, access.isAllowedToAccessPersonData(application.getPerson())))
             .toList();
     }
 
@@ -315,24 +346,25 @@ class ApplicationForLeaveViewController implements HasLaunchpad {
             }
         }
 
-        return cancellationRequests.stream()
+        return toApplicationsForLeave(cancellationRequests.stream()
             .distinct()
             .filter(withoutApplicationsOf(signedInUser))
-            .map(application -> new ApplicationForLeave(application, workDaysCountService))
-            .sorted(comparing(ApplicationForLeave::getStartDate))
-            .toList();
+            .sorted(comparing(Application::getStartDate))
+            .toList());
     }
 
-    private List<ApplicationForLeave> getOtherRelevantApplicationsForLeave(Person signedInUser, List<Person> membersAsDepartmentHead, List<Person> membersAsSecondStageAuthority) {
+    /**
+     * Returns the requested page of applications for leave the signed-in user has to decide on. Work days are
+     * calculated afterwards for the rows of the page only, see {@link #toApplicationsForLeave(List)}.
+     */
+    private Page<Application> getOtherRelevantApplications(Person signedInUser, List<Person> membersAsDepartmentHead, List<Person> membersAsSecondStageAuthority, Pageable pageable) {
 
         if (signedInUser.hasRole(BOSS) || signedInUser.hasRole(OFFICE)) {
             // Boss and Office can see all waiting and temporary allowed applications leave
-            return getApplicationsForLeaveForBossOrOffice().stream()
-                .filter(withoutApplicationsOf(signedInUser))
-                .toList();
+            return applicationService.getForStatesExceptPerson(List.of(WAITING, TEMPORARY_ALLOWED), signedInUser, pageable);
         }
 
-        final List<ApplicationForLeave> applicationsForLeave = new ArrayList<>();
+        final List<Application> applicationsForLeave = new ArrayList<>();
 
         if (signedInUser.hasRole(SECOND_STAGE_AUTHORITY)) {
             // Department head can see waiting and temporary allowed applications for leave of certain department(s)
@@ -344,41 +376,44 @@ class ApplicationForLeaveViewController implements HasLaunchpad {
             applicationsForLeave.addAll(getApplicationsForLeaveForDepartmentHead(signedInUser, membersAsDepartmentHead));
         }
 
-        return applicationsForLeave.stream()
-            .filter(distinctByKey(ApplicationForLeave::getId))
+        final List<Application> relevantApplications = applicationsForLeave.stream()
+            .filter(distinctByKey(Application::getId))
+            .sorted(comparing(Application::getStartDate).thenComparing(Application::getId))
             .toList();
-    }
 
-    private List<ApplicationForLeave> getApplicationsForLeaveForBossOrOffice() {
-        return applicationService.getForStates(List.of(WAITING, TEMPORARY_ALLOWED)).stream()
-            .map(application -> new ApplicationForLeave(application, workDaysCountService))
-            .sorted(comparing(ApplicationForLeave::getStartDate))
-            .toList();
+        final int fromIndex = (int) Math.min(pageable.getOffset(), relevantApplications.size());
+        final int toIndex = Math.min(fromIndex + pageable.getPageSize(), relevantApplications.size());
+        return new PageImpl<>(relevantApplications.subList(fromIndex, toIndex), pageable, relevantApplications.size());
     }
 
     private List<ApplicationForLeave> getApplicationsForLeaveForUser(Person user) {
         final List<ApplicationStatus> states = List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED);
 
-        return applicationService.getForStatesAndPerson(states, List.of(user)).stream()
-            .map(application -> new ApplicationForLeave(application, workDaysCountService))
-            .sorted(comparing(ApplicationForLeave::getStartDate))
-            .toList();
+        return toApplicationsForLeave(applicationService.getForStatesAndPerson(states, List.of(user)).stream()
+            .sorted(comparing(Application::getStartDate))
+            .toList());
     }
 
-    private List<ApplicationForLeave> getApplicationsForLeaveForDepartmentHead(Person head, List<Person> members) {
+    private List<Application> getApplicationsForLeaveForDepartmentHead(Person head, List<Person> members) {
         return applicationService.getForStatesAndPerson(List.of(WAITING), members).stream()
             .filter(withoutApplicationsOf(head))
             .filter(withoutSecondStageAuthorityApplications())
-            .map(application -> new ApplicationForLeave(application, workDaysCountService))
-            .sorted(comparing(ApplicationForLeave::getStartDate))
             .toList();
     }
 
-    private List<ApplicationForLeave> getApplicationsForLeaveForSecondStageAuthority(Person secondStage, List<Person> members) {
+    private List<Application> getApplicationsForLeaveForSecondStageAuthority(Person secondStage, List<Person> members) {
         return applicationService.getForStatesAndPerson(List.of(WAITING, TEMPORARY_ALLOWED), members).stream()
             .filter(withoutApplicationsOf(secondStage))
-            .map(application -> new ApplicationForLeave(application, workDaysCountService))
-            .sorted(comparing(ApplicationForLeave::getStartDate))
+            .toList();
+    }
+
+    /**
+     * Calculates the work days of all given applications at once, see {@link WorkDaysCountService#getWorkDaysCount(List)}.
+     */
+    private List<ApplicationForLeave> toApplicationsForLeave(List<Application> applications) {
+        final List<BigDecimal> workDays = workDaysCountService.getWorkDaysCount(applications);
+        return IntStream.range(0, applications.size())
+            .mapToObj(index -> new ApplicationForLeave(applications.get(index), workDays.get(index)))
             .toList();
     }
 
@@ -395,12 +430,10 @@ class ApplicationForLeaveViewController implements HasLaunchpad {
         return t -> seen.putIfAbsent(keyExtractor.apply(t), Boolean.TRUE) == null;
     }
 
-    private ApplicationReplacementDto toApplicationReplacementDto(Application application, Person holidayReplacementPerson, Locale locale, boolean allowedToAccessPersonData) {
+    private ApplicationReplacementDto toApplicationReplacementDto(ApplicationForLeave application, Person holidayReplacementPerson, Locale locale, boolean allowedToAccessPersonData) {
         final DayLength dayLength = application.getDayLength();
-        final LocalDate startDate = application.getStartDate();
-        final LocalDate endDate = application.getEndDate();
         final Person applicationPerson = application.getPerson();
-        final BigDecimal workDays = workDaysCountService.getWorkDaysCount(dayLength, startDate, endDate, applicationPerson);
+        final BigDecimal workDays = application.getWorkDays();
 
         final String note = application.getHolidayReplacements().stream()
             .filter(holidayReplacementEntity -> holidayReplacementEntity.getPerson().equals(holidayReplacementPerson))
@@ -421,12 +454,19 @@ class ApplicationForLeaveViewController implements HasLaunchpad {
             .build();
     }
 
-    private List<Person> getPersonsForRelevantSubmittedSickNotes(Person signedInUser) {
+    private List<SickNote> getRelevantSubmittedSickNotes(Person signedInUser) {
 
         if (signedInUser.hasRole(OFFICE) || (signedInUser.hasRole(BOSS) && signedInUser.hasRole(SICK_NOTE_EDIT))) {
-            return personService.getActivePersons().stream().filter(person -> !person.equals(signedInUser)).toList();
+            return sickNoteService.getForStates(List.of(SickNoteStatus.SUBMITTED)).stream()
+                .filter(sickNote -> !sickNote.getPerson().hasRole(INACTIVE) && !sickNote.getPerson().equals(signedInUser))
+                .toList();
         }
 
+        return sickNoteService.getForStatesAndPerson(List.of(SickNoteStatus.SUBMITTED), getPersonsForRelevantSubmittedSickNotes(signedInUser));
+    }
+
+    private List<Person> getPersonsForRelevantSubmittedSickNotes(Person signedInUser) {
+
         final List<Person> membersForDepartmentHead = signedInUser.hasRole(DEPARTMENT_HEAD) && signedInUser.hasRole(SICK_NOTE_EDIT)
             ? departmentService.getMembersForDepartmentHead(signedInUser)
             : List.of();
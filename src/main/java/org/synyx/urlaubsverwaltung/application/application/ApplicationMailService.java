@@ -36,6 +36,7 @@ import static java.util.stream.Collectors.toList;
 import static org.synyx.urlaubsverwaltung.absence.AbsenceType.DEFAULT;
 import static org.synyx.urlaubsverwaltung.calendar.ICalType.CANCELLED;
 import static org.synyx.urlaubsverwaltung.calendar.ICalType.PUBLISHED;
+import static org.synyx.urlaubsverwaltung.config.AsyncTaskExecutors.MAIL_TASK_EXECUTOR;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_EMAIL_APPLICATION_ALLOWED;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_EMAIL_APPLICATION_APPLIED;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_EMAIL_APPLICATION_CANCELLATION;
@@ -90,7 +91,7 @@ class ApplicationMailService {
         this.clock = clock;
     }
 
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendAllowedNotification(Application application, ApplicationComment applicationComment) {
 
         final ByteArrayResource calendarFile = generateCalendar(application, DEFAULT, application.getPerson());
@@ -139,7 +140,7 @@ class ApplicationMailService {
      * @param application the application which got rejected
      * @param comment     reason why application was rejected
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendRejectedNotification(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -175,7 +176,7 @@ class ApplicationMailService {
      * @param recipient   to request for a second opinion
      * @param sender      person that asks for a second opinion
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendReferredToManagementNotification(Application application, Person recipient, Person sender) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -201,7 +202,7 @@ class ApplicationMailService {
      * @param application that has been edited
      * @param editor      that edited the application for leave
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendEditedNotification(Application application, Person editor) {
 
         final Mail mailToApplicant;
@@ -234,7 +235,7 @@ class ApplicationMailService {
      *
      * @param application cancellation requested application
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendDeclinedCancellationRequestApplicationNotification(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -267,7 +268,7 @@ class ApplicationMailService {
      * @param application    cancelled application
      * @param createdComment additional comment for the confirming application
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendCancellationRequest(Application application, ApplicationComment createdComment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -298,7 +299,7 @@ class ApplicationMailService {
      *
      * @param application the application that has been converted from sick note to vacation
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendSickNoteConvertedToVacationNotification(Application application) {
 
         final Mail mailToApplicant = Mail.builder()
@@ -324,7 +325,7 @@ class ApplicationMailService {
      * @param application confirmed application
      * @param comment     additional comment for the confirming application
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendConfirmationAllowedDirectly(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -358,7 +359,7 @@ class ApplicationMailService {
      * @param application confirmed application on behalf
      * @param comment     additional comment for the application
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendConfirmationAllowedDirectlyByManagement(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -393,7 +394,7 @@ class ApplicationMailService {
      * @param application directly allowed application
      * @param comment     additional comment for the application
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendDirectlyAllowedNotificationToManagement(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -421,7 +422,7 @@ class ApplicationMailService {
      *
      * @param application to inform the replacement
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void notifyHolidayReplacementAboutDirectlyAllowedApplication(HolidayReplacementEntity holidayReplacement, Application application) {
 
         final ByteArrayResource calendarFile = generateCalendar(application, AbsenceType.HOLIDAY_REPLACEMENT, holidayReplacement.getPerson());
@@ -450,7 +451,7 @@ class ApplicationMailService {
      *
      * @param application to inform the replacement beforehand
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void notifyHolidayReplacementForApply(HolidayReplacementEntity holidayReplacement, Application application) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -476,7 +477,7 @@ class ApplicationMailService {
      *
      * @param application to inform the replacement
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void notifyHolidayReplacementAllow(HolidayReplacementEntity holidayReplacement, Application application) {
 
         final ByteArrayResource calendarFile = generateCalendar(application, AbsenceType.HOLIDAY_REPLACEMENT, holidayReplacement.getPerson());
@@ -505,7 +506,7 @@ class ApplicationMailService {
      *
      * @param application to inform the replacement was cancelled
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void notifyHolidayReplacementAboutCancellation(HolidayReplacementEntity holidayReplacement, Application application) {
 
         final ByteArrayResource calendarFile = generateCalendar(application, DEFAULT, CANCELLED, holidayReplacement.getPerson());
@@ -533,7 +534,7 @@ class ApplicationMailService {
      *
      * @param application to inform the replacement was cancelled
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void notifyHolidayReplacementAboutEdit(HolidayReplacementEntity holidayReplacement, Application application) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -561,7 +562,7 @@ class ApplicationMailService {
      * @param application confirmed application
      * @param comment     additional comment for the confirming application
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendAppliedNotification(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -587,7 +588,7 @@ class ApplicationMailService {
      * @param application confirmed application on behalf
      * @param comment     additional comment for the application
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendAppliedByManagementNotification(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -612,7 +613,7 @@ class ApplicationMailService {
      * @param application the application which got cancelled
      * @param comment     describes the reason of the revocation
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendRevokedNotifications(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -654,7 +655,7 @@ class ApplicationMailService {
      * @param application that was cancelled directly
      * @param comment     additional comment for the application
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendCancelledDirectlyToManagement(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -680,7 +681,7 @@ class ApplicationMailService {
      * @param application the application which got cancelled directly
      * @param comment     describes the reason of the direct cancellation
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendCancelledDirectlyConfirmationByApplicant(Application application, ApplicationComment comment) {
 
         final Person recipient = application.getPerson();
@@ -721,7 +722,7 @@ class ApplicationMailService {
      * @param application confirmed application on behalf
      * @param comment     additional comment for the application
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendCancelledDirectlyConfirmationByManagement(Application application, ApplicationComment comment) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(
@@ -754,7 +755,7 @@ class ApplicationMailService {
      * @param application the application which got cancelled
      * @param comment     describes the reason of the cancellation
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendCancelledConfirmationByManagement(Application application, ApplicationComment comment) {
 
         final ByteArrayResource calendarFile = generateCalendar(application, DEFAULT, CANCELLED, application.getPerson());
@@ -803,7 +804,7 @@ class ApplicationMailService {
      * @param application to allow or reject
      * @param comment     additional comment for the application
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendAppliedNotificationToManagement(Application application, ApplicationComment comment) {
 
         final List<Application> applicationsForLeave =
@@ -834,7 +835,7 @@ class ApplicationMailService {
      * @param application that has been allowed temporary by a department head
      * @param comment     contains reason why application for leave has been allowed temporary
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendTemporaryAllowedNotification(Application application, ApplicationComment comment) {
 
         // Inform user that the application for leave has been allowed temporary
@@ -879,7 +880,7 @@ class ApplicationMailService {
      *
      * @param application to receive a reminding notification
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendRemindNotificationToManagement(Application application) {
 
         final MailTemplateModelSupplier modelSupplier = locale -> Map.of(APPLICATION, application);
@@ -893,7 +894,7 @@ class ApplicationMailService {
         mailService.send(mailToAllowAndRemind);
     }
 
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendRemindForUpcomingApplicationsReminderNotification(List<Application> applications) {
         for (Application application : applications) {
 
@@ -911,7 +912,7 @@ class ApplicationMailService {
         }
     }
 
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendRemindForUpcomingHolidayReplacement(List<Application> applications) {
         for (Application application : applications) {
             for (HolidayReplacementEntity holidayReplacement : application.getHolidayReplacements()) {
@@ -932,7 +933,7 @@ class ApplicationMailService {
         }
     }
 
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendRemindForWaitingApplicationsReminderNotification(List<Application> waitingApplications) {
 
         /*
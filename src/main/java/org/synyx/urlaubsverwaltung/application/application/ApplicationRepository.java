@@ -1,5 +1,7 @@
 package org.synyx.urlaubsverwaltung.application.application;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
@@ -24,6 +26,8 @@ interface ApplicationRepository extends CrudRepository<ApplicationEntity, Long>
 
     List<ApplicationEntity> findByStatusInAndPersonIn(List<ApplicationStatus> statuses, List<Person> persons);
 
+    Page<ApplicationEntity> findByStatusInAndPersonNot(List<ApplicationStatus> statuses, Person person, Pageable pageable);
+
     List<ApplicationEntity> findByStatusInAndPersonInAndEndDateIsGreaterThanEqual(List<ApplicationStatus> statuses, List<Person> persons, LocalDate sinceStartDate);
 
     List<ApplicationEntity> findByStatusInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(List<ApplicationStatus> statuses, LocalDate start, LocalDate end);
@@ -35,7 +39,7 @@ interface ApplicationRepository extends CrudRepository<ApplicationEntity, Long>
     @Query(
         "select x from application x "
             + "where x.status = ?3 "
-            + "and ((x.startDate between ?1 and ?2) or (x.endDate between ?1 and ?2) or (x.startDate < ?1 and x.endDate > ?2)) "
+            + "and x.endDate >= ?1 and x.startDate <= ?2 "
             + "order by x.startDate"
     )
     List<ApplicationEntity> getApplicationsForACertainTimeAndState(LocalDate startDate, LocalDate endDate, ApplicationStatus status);
@@ -43,7 +47,7 @@ interface ApplicationRepository extends CrudRepository<ApplicationEntity, Long>
     @Query(
         "select x from application x "
             + "where x.person = ?3 "
-            + "and ((x.startDate between ?1 and ?2) or (x.endDate between ?1 and ?2) or (x.startDate < ?1 and x.endDate > ?2)) "
+            + "and x.endDate >= ?1 and x.startDate <= ?2 "
             + "order by x.startDate"
     )
     List<ApplicationEntity> getApplicationsForACertainTimeAndPerson(LocalDate startDate, LocalDate endDate, Person person);
@@ -60,6 +64,14 @@ interface ApplicationRepository extends CrudRepository<ApplicationEntity, Long>
     List<ApplicationEntity> findByPersonInAndVacationTypeCategoryAndStatusInAndStartDateIsLessThanEqual(
         Collection<Person> persons, VacationCategory category, List<ApplicationStatus> statuses, LocalDate until);
 
+    List<ApplicationEntity> findByPersonAndVacationTypeCategoryAndStatusIn(Person person, VacationCategory category, List<ApplicationStatus> statuses);
+
+    @Query(
+        "SELECT DISTINCT a.person FROM application a "
+            + "WHERE a.vacationType.category = :category AND a.status IN :statuses"
+    )
+    List<Person> findDistinctPersonByVacationTypeCategoryAndStatusIn(@Param("category") VacationCategory category, @Param("statuses") List<ApplicationStatus> statuses);
+
     List<ApplicationEntity> findByHolidayReplacements_PersonAndEndDateIsGreaterThanEqualAndStatusIn(Person person, LocalDate date, List<ApplicationStatus> status);
 
     List<ApplicationEntity> findByBoss(Person person);
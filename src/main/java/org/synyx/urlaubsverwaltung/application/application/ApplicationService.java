@@ -1,5 +1,7 @@
 package org.synyx.urlaubsverwaltung.application.application;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory;
 import org.synyx.urlaubsverwaltung.person.Person;
 
@@ -112,6 +114,16 @@ public interface ApplicationService {
      */
     List<Application> getForStatesAndPerson(List<ApplicationStatus> statuses, List<Person> persons);
 
+    /**
+     * Get one page of {@link Application}s with specific states of all persons except the given one.
+     *
+     * @param statuses {@link ApplicationStatus} to filter
+     * @param person   {@link Person} whose applications are excluded
+     * @param pageable page and sort of the requested {@link Application}s
+     * @return page of all matching {@link Application}s
+     */
+    Page<Application> getForStatesExceptPerson(List<ApplicationStatus> statuses, Person person, Pageable pageable);
+
     /**
      * Get all {@link Application} with specific states and persons
      *
@@ -151,6 +163,21 @@ public interface ApplicationService {
 
     Duration getTotalOvertimeReductionOfPersonUntil(Person person, LocalDate before);
 
+    /**
+     * Get the overtime reduction of a person per year. The reduction of applications for leave spanning
+     * several years is split up pro rata, so the sum of all years up to a year equals
+     * {@link #getTotalOvertimeReductionOfPersonUntil(Person, LocalDate)} at the end of that year.
+     *
+     * @param person to get the overtime reduction for
+     * @return the overtime reduction of the person by year, years without overtime reduction are omitted
+     */
+    Map<Integer, Duration> getOvertimeReductionOfPersonByYear(Person person);
+
+    /**
+     * @return all persons with at least one active application for leave reducing overtime
+     */
+    List<Person> getPersonsWithOvertimeReduction();
+
     /**
      * Get a list of all active replacements of the given person and that are active at the given date
      * <p>
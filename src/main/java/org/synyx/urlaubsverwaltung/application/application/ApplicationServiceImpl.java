@@ -3,6 +3,8 @@ package org.synyx.urlaubsverwaltung.application.application;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory;
@@ -14,7 +16,9 @@ import org.synyx.urlaubsverwaltung.util.DecimalConverter;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.Year;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -22,6 +26,7 @@ import java.util.function.Function;
 import java.util.stream.StreamSupport;
 
 import static java.math.RoundingMode.HALF_EVEN;
+import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.activeStatuses;
@@ -105,6 +110,11 @@ class ApplicationServiceImpl implements ApplicationService {
         return toApplication(applicationRepository.findByStatusInAndPersonIn(statuses, persons));
     }
 
+    @Override
+    public Page<Application> getForStatesExceptPerson(List<ApplicationStatus> statuses, Person person, Pageable pageable) {
+        return applicationRepository.findByStatusInAndPersonNot(statuses, person, pageable).map(this::toApplication);
+    }
+
     @Override
     public List<Application> getForStatesAndPersonSince(List<ApplicationStatus> statuses, List<Person> persons, LocalDate since) {
         return toApplication(applicationRepository.findByStatusInAndPersonInAndEndDateIsGreaterThanEqual(statuses, persons, since));
@@ -134,19 +144,7 @@ class ApplicationServiceImpl implements ApplicationService {
     public Map<Person, Duration> getTotalOvertimeReductionOfPersonUntil(Collection<Person> persons, LocalDate until) {
 
         final Map<Person, Duration> overtimeReductionByPerson = applicationRepository.findByPersonInAndVacationTypeCategoryAndStatusInAndStartDateIsLessThanEqual(persons, OVERTIME, activeStatuses(), until).stream()
-            .map(application -> {
-                final DateRange dateRangeOfPeriod = new DateRange(application.getStartDate(), until);
-                final DateRange applicationDateRage = new DateRange(application.getStartDate(), application.getEndDate());
-                final Duration durationOfOverlap = dateRangeOfPeriod.overlap(applicationDateRage).map(DateRange::duration).orElse(Duration.ZERO);
-
-                final Duration overtimeReductionHours = Optional.ofNullable(application.getHours()).orElse(Duration.ZERO);
-
-                final BigDecimal overtimeReduction = toFormattedDecimal(overtimeReductionHours)
-                    .divide(toFormattedDecimal(applicationDateRage.duration()), HALF_EVEN)
-                    .multiply(toFormattedDecimal(durationOfOverlap))
-                    .setScale(0, HALF_EVEN);
-                return Map.entry(application.getPerson(), DecimalConverter.toDuration(overtimeReduction));
-            })
+            .map(application -> Map.entry(application.getPerson(), getOvertimeReductionUntil(application, until)))
             .collect(toMap(Map.Entry::getKey, Map.Entry::getValue, Duration::plus));
 
         return persons.stream()
@@ -154,6 +152,43 @@ class ApplicationServiceImpl implements ApplicationService {
             .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
+    @Override
+    public Map<Integer, Duration> getOvertimeReductionOfPersonByYear(Person person) {
+
+        final Map<Integer, Duration> overtimeReductionByYear = new HashMap<>();
+
+        for (ApplicationEntity application : applicationRepository.findByPersonAndVacationTypeCategoryAndStatusIn(person, OVERTIME, activeStatuses())) {
+            // differences of the reduction until the end of each year, so the years add up to the reduction until a year
+            Duration overtimeReductionUntilPreviousYear = Duration.ZERO;
+            for (int year = application.getStartDate().getYear(); year <= application.getEndDate().getYear(); year++) {
+                final Duration overtimeReductionUntilYear = getOvertimeReductionUntil(application, Year.of(year).atDay(1).with(lastDayOfYear()));
+                overtimeReductionByYear.merge(year, overtimeReductionUntilYear.minus(overtimeReductionUntilPreviousYear), Duration::plus);
+                overtimeReductionUntilPreviousYear = overtimeReductionUntilYear;
+            }
+        }
+
+        return overtimeReductionByYear;
+    }
+
+    @Override
+    public List<Person> getPersonsWithOvertimeReduction() {
+        return applicationRepository.findDistinctPersonByVacationTypeCategoryAndStatusIn(OVERTIME, activeStatuses());
+    }
+
+    private static Duration getOvertimeReductionUntil(ApplicationEntity application, LocalDate until) {
+        final DateRange dateRangeOfPeriod = new DateRange(application.getStartDate(), until);
+        final DateRange applicationDateRage = new DateRange(application.getStartDate(), application.getEndDate());
+        final Duration durationOfOverlap = dateRangeOfPeriod.overlap(applicationDateRage).map(DateRange::duration).orElse(Duration.ZERO);
+
+        final Duration overtimeReductionHours = Optional.ofNullable(application.getHours()).orElse(Duration.ZERO);
+
+        final BigDecimal overtimeReduction = toFormattedDecimal(overtimeReductionHours)
+            .divide(toFormattedDecimal(applicationDateRage.duration()), HALF_EVEN)
+            .multiply(toFormattedDecimal(durationOfOverlap))
+            .setScale(0, HALF_EVEN);
+        return DecimalConverter.toDuration(overtimeReduction);
+    }
+
     @Override
     public List<Application> getForHolidayReplacement(Person holidayReplacement, LocalDate date) {
         return toApplication(applicationRepository.findByHolidayReplacements_PersonAndEndDateIsGreaterThanEqualAndStatusIn(holidayReplacement, date, activeStatuses()));
@@ -0,0 +1,80 @@
+package org.synyx.urlaubsverwaltung.application.application;
+
+import org.synyx.urlaubsverwaltung.account.Account;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+/**
+ * Facts about an {@link Application} for leave which are needed several times while it is validated, e.g. the number
+ * of work days of its period or the holidays accounts of its person. Each fact is computed on first use and reused
+ * afterward.
+ *
+ * <p>A context belongs to the validation of exactly one application for leave and is not meant to be kept longer,
+ * as the facts are not updated if the application for leave, the working times or the accounts change.</p>
+ */
+final class ApplicationValidationContext {
+
+    private final Application application;
+    private final WorkDaysCountService workDaysCountService;
+
+    private final Map<WorkDaysKey, BigDecimal> workDays = new HashMap<>();
+    private final Map<Integer, Optional<Account>> holidaysAccounts = new HashMap<>();
+
+    ApplicationValidationContext(Application application, WorkDaysCountService workDaysCountService) {
+        this.application = application;
+        this.workDaysCountService = workDaysCountService;
+    }
+
+    /**
+     * @return the application for leave to be validated
+     */
+    Application application() {
+        return application;
+    }
+
+    /**
+     * @return number of work days of the whole period of the application for leave
+     */
+    BigDecimal workDays() {
+        return workDays(application.getDayLength(), application.getStartDate(), application.getEndDate(), application.getPerson());
+    }
+
+    /**
+     * @see WorkDaysCountService#getWorkDaysCount(DayLength, LocalDate, LocalDate, Person)
+     */
+    BigDecimal workDays(DayLength dayLength, LocalDate startDate, LocalDate endDate, Person person) {
+        return workDays.computeIfAbsent(new WorkDaysKey(dayLength, startDate, endDate, person),
+            key -> workDaysCountService.getWorkDaysCount(dayLength, startDate, endDate, person));
+    }
+
+    /**
+     * @param year   of the holidays account
+     * @param lookup to get the holidays account of the given year, if not done yet
+     * @return the holidays account of the given year, if any
+     */
+    Optional<Account> holidaysAccount(int year, IntFunction<Optional<Account>> lookup) {
+        return holidaysAccounts.computeIfAbsent(year, lookup::apply);
+    }
+
+    /**
+     * Replaces the holidays account of the given year, e.g. after it has been created while validating, so later
+     * lookups of this year do not miss it.
+     *
+     * @param year    of the holidays account
+     * @param account the holidays account of the given year
+     */
+    void holidaysAccountCreated(int year, Account account) {
+        holidaysAccounts.put(year, Optional.of(account));
+    }
+
+    private record WorkDaysKey(DayLength dayLength, LocalDate startDate, LocalDate endDate, Person person) {
+    }
+}
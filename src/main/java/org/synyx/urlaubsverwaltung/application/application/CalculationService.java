@@ -63,7 +63,20 @@ class CalculationService {
      * may be saved because there are enough vacation days left, {@code false} else
      */
     boolean checkApplication(Application application) {
+        return checkApplication(new ApplicationValidationContext(application, workDaysCountService));
+    }
+
+    /**
+     * Checks if applying for leave is possible, i.e. there are enough vacation days left to be used for the
+     * {@link Application} for leave of the given context. Facts already known by the context are not computed again.
+     *
+     * @param context of the validation of the application for leave to check
+     * @return {@code true} if the {@link Application} for leave
+     * may be saved because there are enough vacation days left, {@code false} else
+     */
+    boolean checkApplication(ApplicationValidationContext context) {
 
+        final Application application = context.application();
         final Person person = application.getPerson();
         final DayLength dayLength = application.getDayLength();
         final LocalDate startDate = application.getStartDate();
@@ -74,37 +87,37 @@ class CalculationService {
         final Optional<Application> maybeSavedApplication = getSavedApplicationForEditing(application);
 
         if (yearOfStartDate == yearOfEndDate) {
-            final BigDecimal oldWorkDays = maybeSavedApplication.map(savedApplication -> workDaysCountService.getWorkDaysCount(savedApplication.getDayLength(), savedApplication.getStartDate(), savedApplication.getEndDate(), savedApplication.getPerson())).orElse(ZERO);
-            final BigDecimal workDays = workDaysCountService.getWorkDaysCount(dayLength, startDate, endDate, person).subtract(oldWorkDays);
-            return accountHasEnoughVacationDaysLeft(person, yearOfStartDate, workDays, application);
+            final BigDecimal oldWorkDays = maybeSavedApplication.map(savedApplication -> context.workDays(savedApplication.getDayLength(), savedApplication.getStartDate(), savedApplication.getEndDate(), savedApplication.getPerson())).orElse(ZERO);
+            final BigDecimal workDays = context.workDays().subtract(oldWorkDays);
+            return accountHasEnoughVacationDaysLeft(person, yearOfStartDate, workDays, context);
         } else {
             // ensure that applying for leave for the period in the old year is possible
-            final BigDecimal oldWorkDaysInOldYear = maybeSavedApplication.map(savedApplication -> workDaysCountService.getWorkDaysCount(savedApplication.getDayLength(), savedApplication.getStartDate(), getLastDayOfYear(savedApplication.getStartDate().getYear()), savedApplication.getPerson())).orElse(ZERO);
-            final BigDecimal workDaysInOldYear = workDaysCountService.getWorkDaysCount(dayLength, startDate, getLastDayOfYear(yearOfStartDate), person).subtract(oldWorkDaysInOldYear);
+            final BigDecimal oldWorkDaysInOldYear = maybeSavedApplication.map(savedApplication -> context.workDays(savedApplication.getDayLength(), savedApplication.getStartDate(), getLastDayOfYear(savedApplication.getStartDate().getYear()), savedApplication.getPerson())).orElse(ZERO);
+            final BigDecimal workDaysInOldYear = context.workDays(dayLength, startDate, getLastDayOfYear(yearOfStartDate), person).subtract(oldWorkDaysInOldYear);
 
             // ensure that applying for leave for the period in the new year is possible
-            final BigDecimal oldWorkDaysInNewYear = maybeSavedApplication.map(savedApplication -> workDaysCountService.getWorkDaysCount(savedApplication.getDayLength(), Year.of(savedApplication.getEndDate().getYear()).atDay(1), savedApplication.getEndDate(), savedApplication.getPerson())).orElse(ZERO);
-            final BigDecimal workDaysInNewYear = workDaysCountService.getWorkDaysCount(dayLength, Year.of(yearOfEndDate).atDay(1), endDate, person).subtract(oldWorkDaysInNewYear);
+            final BigDecimal oldWorkDaysInNewYear = maybeSavedApplication.map(savedApplication -> context.workDays(savedApplication.getDayLength(), Year.of(savedApplication.getEndDate().getYear()).atDay(1), savedApplication.getEndDate(), savedApplication.getPerson())).orElse(ZERO);
+            final BigDecimal workDaysInNewYear = context.workDays(dayLength, Year.of(yearOfEndDate).atDay(1), endDate, person).subtract(oldWorkDaysInNewYear);
 
-            return accountHasEnoughVacationDaysLeft(person, yearOfStartDate, workDaysInOldYear, application)
-                && accountHasEnoughVacationDaysLeft(person, yearOfEndDate, workDaysInNewYear, application);
+            return accountHasEnoughVacationDaysLeft(person, yearOfStartDate, workDaysInOldYear, context)
+                && accountHasEnoughVacationDaysLeft(person, yearOfEndDate, workDaysInNewYear, context);
         }
     }
 
-    boolean accountHasEnoughVacationDaysLeft(Person person, int year, BigDecimal workDays, Application application) {
+    private boolean accountHasEnoughVacationDaysLeft(Person person, int year, BigDecimal workDays, ApplicationValidationContext context) {
 
         if (workDays.signum() <= 0) {
             return true;
         }
 
-        final Optional<Account> maybeAccount = getHolidaysAccount(year, person);
+        final Optional<Account> maybeAccount = getHolidaysAccount(year, person, context);
         if (maybeAccount.isEmpty()) {
             return false;
         }
 
         // we also need to look at the next year, because "remaining days" from this year may already have been booked then
         // call accountService directly to avoid auto-creating a new account for next year
-        final Optional<Account> accountNextYear = accountService.getHolidaysAccount(year + 1, person);
+        final Optional<Account> accountNextYear = context.holidaysAccount(year + 1, nextYear -> accountService.getHolidaysAccount(nextYear, person));
         final BigDecimal vacationDaysAlreadyUsedNextYear = accountNextYear.map(vacationDaysService::getUsedRemainingVacationDays).orElse(ZERO);
 
         final Account account = maybeAccount.get();
@@ -112,7 +125,7 @@ class CalculationService {
         LOG.debug("vacation days left of years {} and {} are {} days", year, year + 1, vacationDaysLeft);
 
         // now we need to consider which remaining vacation days expire
-        final BigDecimal vacationDaysRequestedBeforeExpiryDate = getWorkdaysBeforeExpiryDate(account, application);
+        final BigDecimal vacationDaysRequestedBeforeExpiryDate = getWorkdaysBeforeExpiryDate(account, context);
         final BigDecimal vacationDaysLeftUntilExpiryDate = vacationDaysLeft.getVacationDays()
             .add(vacationDaysLeft.getRemainingVacationDays())
             .subtract(vacationDaysRequestedBeforeExpiryDate)
@@ -144,7 +157,7 @@ class CalculationService {
         return vacationDaysLeftAfterExpiryDate;
     }
 
-    private BigDecimal getWorkdaysBeforeExpiryDate(Account account, Application application) {
+    private BigDecimal getWorkdaysBeforeExpiryDate(Account account, ApplicationValidationContext context) {
         final LocalDate firstDayOfYear = Year.of(account.getYear()).atDay(1);
         final LocalDate lastDayOfPeriod = account.doRemainingVacationDaysExpire() ?
             account.getExpiryDate().minusDays(1) : firstDayOfYear.with(lastDayOfYear());
@@ -153,6 +166,7 @@ class CalculationService {
             return ZERO;
         }
 
+        final Application application = context.application();
         final List<DateRange> beforeExpiryDate = overlapService.getListOfOverlaps(
             firstDayOfYear,
             lastDayOfPeriod,
@@ -160,29 +174,27 @@ class CalculationService {
             List.of()
         );
 
-        return beforeExpiryDate.isEmpty() ? ZERO : calculateWorkDaysBeforeExpiryDate(application, beforeExpiryDate);
+        return beforeExpiryDate.isEmpty() ? ZERO : calculateWorkDaysBeforeExpiryDate(application, beforeExpiryDate, context);
     }
 
-    private BigDecimal calculateWorkDaysBeforeExpiryDate(Application application, List<DateRange> beforeExpiryDate) {
+    private BigDecimal calculateWorkDaysBeforeExpiryDate(Application application, List<DateRange> beforeExpiryDate, ApplicationValidationContext context) {
         final LocalDate start = beforeExpiryDate.getFirst().startDate();
         final LocalDate end = beforeExpiryDate.getFirst().endDate();
 
-        return workDaysCountService.getWorkDaysCount(
-            application.getDayLength(),
-            LocalDate.of(start.getYear(), start.getMonth(), start.getDayOfMonth()),
-            LocalDate.of(end.getYear(), end.getMonth(), end.getDayOfMonth()),
-            application.getPerson());
+        return context.workDays(application.getDayLength(), start, end, application.getPerson());
     }
 
-    private Optional<Account> getHolidaysAccount(int year, Person person) {
+    private Optional<Account> getHolidaysAccount(int year, Person person, ApplicationValidationContext context) {
 
-        final Optional<Account> holidaysAccount = accountService.getHolidaysAccount(year, person);
+        final Optional<Account> holidaysAccount = context.holidaysAccount(year, accountYear -> accountService.getHolidaysAccount(accountYear, person));
         if (holidaysAccount.isPresent()) {
             return holidaysAccount;
         }
 
-        final Optional<Account> lastYearsHolidaysAccount = accountService.getHolidaysAccount(year - 1, person);
-        return lastYearsHolidaysAccount.map(accountInteractionService::autoCreateOrUpdateNextYearsHolidaysAccount);
+        final Optional<Account> lastYearsHolidaysAccount = context.holidaysAccount(year - 1, lastYear -> accountService.getHolidaysAccount(lastYear, person));
+        final Optional<Account> createdHolidaysAccount = lastYearsHolidaysAccount.map(accountInteractionService::autoCreateOrUpdateNextYearsHolidaysAccount);
+        createdHolidaysAccount.ifPresent(account -> context.holidaysAccountCreated(year, account));
+        return createdHolidaysAccount;
     }
 
     private Optional<Application> getSavedApplicationForEditing(Application application) {
@@ -4,7 +4,7 @@ package org.synyx.urlaubsverwaltung.application.export;
 import com.opencsv.CSVWriter;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Service;
-import org.synyx.urlaubsverwaltung.csv.CsvExportService;
+import org.synyx.urlaubsverwaltung.csv.StreamingCsvExportService;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
 import java.text.DecimalFormat;
@@ -19,7 +19,9 @@ import static java.time.format.FormatStyle.MEDIUM;
 import static java.time.format.FormatStyle.SHORT;
 
 @Service
-class ApplicationForLeaveCsvExportService implements CsvExportService<ApplicationForLeaveExport> {
+class ApplicationForLeaveCsvExportService implements StreamingCsvExportService<ApplicationForLeaveExport> {
+
+    private static final int COLUMNS = 9;
 
     private final MessageSource messageSource;
 
@@ -38,27 +40,19 @@ class ApplicationForLeaveCsvExportService implements CsvExportService<Applicatio
     }
 
     @Override
-    public void write(FilterPeriod period, Locale locale, List<ApplicationForLeaveExport> applicationForLeaveExports, CSVWriter csvWriter) {
+    public void writeHeader(FilterPeriod period, Locale locale, CSVWriter csvWriter) {
+        csvWriter.writeNext(header(locale));
+    }
 
-        final String[] csvHeader = {
-            getTranslation(locale, "person.account.basedata.personnelNumber"),
-            getTranslation(locale, "person.data.firstName"),
-            getTranslation(locale, "person.data.lastName"),
-            getTranslation(locale, "applications.export.departments"),
-            getTranslation(locale, "applications.export.from"),
-            getTranslation(locale, "applications.export.to"),
-            getTranslation(locale, "applications.export.length"),
-            getTranslation(locale, "applications.export.type"),
-            getTranslation(locale, "applications.export.days"),
-        };
+    @Override
+    public void writeRows(FilterPeriod period, Locale locale, List<ApplicationForLeaveExport> applicationForLeaveExports, CSVWriter csvWriter) {
 
         final DateTimeFormatter dateTimeFormatter = ofLocalizedDate(MEDIUM).withLocale(locale);
         final DecimalFormat decimalFormat = (DecimalFormat) getInstance(locale);
-        csvWriter.writeNext(csvHeader);
 
         applicationForLeaveExports.forEach(applicationForLeaveExport ->
             applicationForLeaveExport.getApplicationForLeaves().forEach(applicationForLeave -> {
-                final String[] applicationCsvRow = new String[csvHeader.length];
+                final String[] applicationCsvRow = new String[COLUMNS];
                 applicationCsvRow[0] = applicationForLeaveExport.getPersonalNumber();
                 applicationCsvRow[1] = applicationForLeaveExport.getFirstName();
                 applicationCsvRow[2] = applicationForLeaveExport.getLastName();
@@ -74,6 +68,20 @@ class ApplicationForLeaveCsvExportService implements CsvExportService<Applicatio
         );
     }
 
+    private String[] header(Locale locale) {
+        return new String[]{
+            getTranslation(locale, "person.account.basedata.personnelNumber"),
+            getTranslation(locale, "person.data.firstName"),
+            getTranslation(locale, "person.data.lastName"),
+            getTranslation(locale, "applications.export.departments"),
+            getTranslation(locale, "applications.export.from"),
+            getTranslation(locale, "applications.export.to"),
+            getTranslation(locale, "applications.export.length"),
+            getTranslation(locale, "applications.export.type"),
+            getTranslation(locale, "applications.export.days"),
+        };
+    }
+
     private String getTranslation(Locale locale, String key, Object... args) {
         return messageSource.getMessage(key, args, locale);
     }
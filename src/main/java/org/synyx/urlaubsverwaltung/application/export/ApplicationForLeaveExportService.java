@@ -21,12 +21,13 @@ import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.search.SortComparator;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Stream;
 
+import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
@@ -73,53 +74,111 @@ class ApplicationForLeaveExportService {
         final Pageable pageable = pageableSearchQuery.getPageable();
 
         final Page<Person> relevantMembersPage = getMembersForPerson(person, pageableSearchQuery);
-        final List<Person> relevantMembers = relevantMembersPage.getContent();
-        final List<Long> relevantPersonIds = relevantMembers.stream().map(Person::getId).collect(toList());
+        List<Person> relevantMembers = relevantMembersPage.getContent();
 
-        if (relevantPersonIds.isEmpty()) {
+        if (relevantMembers.isEmpty()) {
             return Page.empty();
         }
 
-        final List<Application> applications = getApplications(person, relevantMembers, from, to);
-
-        final Map<Person, List<Application>> applicationsByPerson = applications.stream().collect(groupingBy(Application::getPerson));
-        for (Person member : relevantMembers) {
-            applicationsByPerson.putIfAbsent(member, List.of());
-        }
-
-
-        final Map<PersonId, PersonBasedata> basedataByPersonId = personBasedataService.getBasedataByPersonId(relevantPersonIds);
-        final Map<PersonId, List<String>> departmentsByPersonId = departmentService.getDepartmentNamesByMembers(relevantMembers);
-
-        Stream<ApplicationForLeaveExport> exportsStream = applicationsByPerson.entrySet()
-            .stream()
-            .map(toApplicationForLeaveExport(basedataByPersonId, departmentsByPersonId));
-
         if (relevantMembersPage.getPageable().isUnpaged()) {
             // we don't have to restrict the statistics if persons page is paged and or sorted already.
             // otherwise we have fetched ALL persons -> therefore skip and limit statistics content.
-            exportsStream = exportsStream
+            relevantMembers = relevantMembers.stream()
                 .skip((long) pageable.getPageNumber() * pageable.getPageSize())
-                .limit(pageable.getPageSize());
+                .limit(pageable.getPageSize())
+                .toList();
         }
 
-        final List<ApplicationForLeaveExport> content = exportsStream
-            .sorted(new SortComparator<>(ApplicationForLeaveExport.class, pageable.getSort()))
-            .collect(toList());
+        final List<ApplicationForLeaveExport> content = new SortComparator<>(ApplicationForLeaveExport.class, pageable.getSort())
+            .sort(getExports(person, relevantMembers, from, to));
 
         return new PageImpl<>(content, pageable, relevantMembersPage.getTotalElements());
     }
 
-    private Function<Map.Entry<Person, List<Application>>, ApplicationForLeaveExport> toApplicationForLeaveExport(Map<PersonId, PersonBasedata> basedataForPersons, Map<PersonId, List<String>> departmentsForPersons) {
-        return personListEntry ->
-        {
-            final Person person = personListEntry.getKey();
-            final PersonId personId = new PersonId(person.getId());
-            final String personnelNumber = basedataForPersons.getOrDefault(personId, new PersonBasedata(personId, "", "")).getPersonnelNumber();
-            final List<String> departments = departmentsForPersons.getOrDefault(personId, List.of());
-            final List<ApplicationForLeave> applicationForLeaves = personListEntry.getValue().stream().map(app -> new ApplicationForLeave(app, workDaysCountService)).collect(toList());
-            return new ApplicationForLeaveExport(personnelNumber, person.getFirstName(), person.getLastName(), applicationForLeaves, departments);
-        };
+    /**
+     * Returns all persons that the person is allowed to access, to export them chunk by chunk with
+     * {@link #getAll(Person, List, LocalDate, LocalDate, Pageable)}. The persons are sorted once by the person attributes
+     * of the given sort and by their id, so every person is contained in exactly one chunk and the chunks are in order.
+     *
+     * @param person to ask for the export
+     * @param sort   of the export, attributes other than person attributes are not available before the export
+     * @return all persons that the person can access, sorted
+     */
+    List<Person> getAllMembers(Person person, Sort sort) {
+
+        final Sort personSort = toPersonSort(sort);
+        final PageableSearchQuery allMembers = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, personSort), "");
+
+        final List<Person> members = person.hasRole(OFFICE) || person.hasRole(BOSS)
+            ? personService.getActivePersons(allMembers).getContent()
+            : departmentService.getManagedMembersOfPerson(person, allMembers).getContent();
+
+        return new SortComparator<>(Person.class, personSort).sort(members, comparing(Person::getId));
+    }
+
+    /**
+     * Returns the export of one chunk of the given persons.
+     *
+     * @param person  to ask for the export
+     * @param members all persons to be exported, see {@link #getAllMembers(Person, Sort)}
+     * @param from    a specific date
+     * @param to      a specific date
+     * @param chunk   of the persons to be exported
+     * @return the {@link ApplicationForLeaveExport} of the persons of the chunk, in the order of the persons
+     */
+    Page<ApplicationForLeaveExport> getAll(Person person, List<Person> members, LocalDate from, LocalDate to, Pageable chunk) {
+
+        final List<Person> membersOfChunk = members.stream()
+            .skip(chunk.getOffset())
+            .limit(chunk.getPageSize())
+            .toList();
+
+        if (membersOfChunk.isEmpty()) {
+            return new PageImpl<>(List.of(), chunk, members.size());
+        }
+
+        return new PageImpl<>(getExports(person, membersOfChunk, from, to), chunk, members.size());
+    }
+
+    /**
+     * @return the export of each of the given members, in the order of the members
+     */
+    private List<ApplicationForLeaveExport> getExports(Person person, List<Person> members, LocalDate from, LocalDate to) {
+
+        final List<Application> applications = getApplications(person, members, from, to);
+        final Map<Person, List<Application>> applicationsByPerson = applications.stream().collect(groupingBy(Application::getPerson));
+
+        final List<Long> personIds = members.stream().map(Person::getId).collect(toList());
+        final Map<Application, BigDecimal> workDaysByApplication = getWorkDaysOf(applications);
+        final Map<PersonId, PersonBasedata> basedataByPersonId = personBasedataService.getBasedataByPersonId(personIds);
+        final Map<PersonId, List<String>> departmentsByPersonId = departmentService.getDepartmentNamesByMembers(members);
+
+        return members.stream()
+            .map(member -> toApplicationForLeaveExport(member, applicationsByPerson.getOrDefault(member, List.of()), workDaysByApplication, basedataByPersonId, departmentsByPersonId))
+            .toList();
+    }
+
+    /**
+     * Calculates the work days of all applications at once.
+     */
+    private Map<Application, BigDecimal> getWorkDaysOf(List<Application> applications) {
+
+        final List<BigDecimal> workDays = workDaysCountService.getWorkDaysCount(applications);
+
+        final Map<Application, BigDecimal> workDaysByApplication = new IdentityHashMap<>();
+        for (int i = 0; i < applications.size(); i++) {
+            workDaysByApplication.put(applications.get(i), workDays.get(i));
+        }
+        return workDaysByApplication;
+    }
+
+    private static ApplicationForLeaveExport toApplicationForLeaveExport(Person person, List<Application> applications, Map<Application, BigDecimal> workDaysByApplication,
+                                                                         Map<PersonId, PersonBasedata> basedataForPersons, Map<PersonId, List<String>> departmentsForPersons) {
+        final PersonId personId = new PersonId(person.getId());
+        final String personnelNumber = basedataForPersons.getOrDefault(personId, new PersonBasedata(personId, "", "")).getPersonnelNumber();
+        final List<String> departments = departmentsForPersons.getOrDefault(personId, List.of());
+        final List<ApplicationForLeave> applicationForLeaves = applications.stream().map(app -> new ApplicationForLeave(app, workDaysByApplication.get(app))).collect(toList());
+        return new ApplicationForLeaveExport(personnelNumber, person.getFirstName(), person.getLastName(), applicationForLeaves, departments);
     }
 
     private List<Application> getApplications(Person person, List<Person> members, LocalDate from, LocalDate to) {
@@ -156,14 +215,18 @@ class ApplicationForLeaveExportService {
     }
 
     private PageRequest mapToPersonPageRequest(Pageable statisticsPageRequest) {
+        return PageRequest.of(statisticsPageRequest.getPageNumber(), statisticsPageRequest.getPageSize(), toPersonSort(statisticsPageRequest.getSort()));
+    }
+
+    private Sort toPersonSort(Sort sort) {
         Sort personSort = Sort.unsorted();
 
-        for (Sort.Order order : statisticsPageRequest.getSort()) {
+        for (Sort.Order order : sort) {
             if (order.getProperty().startsWith(PERSON_PREFIX)) {
                 personSort = personSort.and(Sort.by(order.getDirection(), order.getProperty().replace(PERSON_PREFIX, "")));
             }
         }
 
-        return PageRequest.of(statisticsPageRequest.getPageNumber(), statisticsPageRequest.getPageSize(), personSort);
+        return personSort;
     }
 }
@@ -2,8 +2,6 @@ package org.synyx.urlaubsverwaltung.application.export;
 
 import de.focus_shift.launchpad.api.HasLaunchpad;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -17,7 +15,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
-import org.synyx.urlaubsverwaltung.csv.CSVFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
@@ -30,7 +28,6 @@ import java.time.Year;
 import java.util.List;
 import java.util.Locale;
 
-import static java.lang.Integer.MAX_VALUE;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static org.springframework.http.HttpStatus.OK;
@@ -40,6 +37,8 @@ import static org.synyx.urlaubsverwaltung.security.SecurityRules.IS_PRIVILEGED_U
 @RequestMapping("/web/application")
 class ApplicationForLeaveExportViewController implements HasLaunchpad {
 
+    private static final int EXPORT_CHUNK_SIZE = 100;
+
     private final PersonService personService;
     private final ApplicationForLeaveExportService applicationForLeaveExportService;
     private final ApplicationForLeaveCsvExportService applicationForLeaveCsvExportService;
@@ -61,7 +60,7 @@ class ApplicationForLeaveExportViewController implements HasLaunchpad {
 
     @PreAuthorize(IS_PRIVILEGED_USER)
     @GetMapping(value = "/export")
-    public ResponseEntity<ByteArrayResource> downloadCsvExport(
+    public ResponseEntity<StreamingResponseBody> downloadCsvExport(
         @RequestParam(value = "from", defaultValue = "") String from,
         @RequestParam(value = "to", defaultValue = "") String to,
         @RequestParam(value = "allElements", defaultValue = "false") boolean allElements,
@@ -70,27 +69,28 @@ class ApplicationForLeaveExportViewController implements HasLaunchpad {
         Locale locale
     ) {
         final FilterPeriod period = toFilterPeriod(from, to, locale);
-
-        // NOTE: Not supported at the moment
-        if (period.getStartDate().getYear() != period.getEndDate().getYear()) {
-            return ResponseEntity.badRequest().build();
-        }
-
         final Person signedInUser = personService.getSignedInUser();
 
-        final Pageable adaptedPageable = allElements ? PageRequest.of(0, MAX_VALUE, pageable.getSort()) : pageable;
-        final String adaptedQuery = allElements ? "" : query;
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(adaptedPageable, adaptedQuery);
-
-        final Page<ApplicationForLeaveExport> exportPage = applicationForLeaveExportService.getAll(signedInUser, period.getStartDate(), period.getEndDate(), pageableSearchQuery);
-        final List<ApplicationForLeaveExport> export = exportPage.getContent();
-        final CSVFile csvFile = applicationForLeaveCsvExportService.generateCSV(period, locale, export);
+        final StreamingResponseBody body;
+        if (allElements) {
+            // the persons are fetched and sorted once, their applications are fetched and written chunk by chunk
+            // to keep the memory footprint independent of the number of applications
+            final List<Person> members = applicationForLeaveExportService.getAllMembers(signedInUser, pageable.getSort());
+            final Pageable firstChunk = PageRequest.of(0, EXPORT_CHUNK_SIZE, pageable.getSort());
+            body = outputStream -> applicationForLeaveCsvExportService.writeAllPages(period, locale, firstChunk,
+                chunk -> applicationForLeaveExportService.getAll(signedInUser, members, period.getStartDate(), period.getEndDate(), chunk),
+                outputStream);
+        } else {
+            final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageable, query);
+            final List<ApplicationForLeaveExport> export = applicationForLeaveExportService.getAll(signedInUser, period.getStartDate(), period.getEndDate(), pageableSearchQuery).getContent();
+            body = outputStream -> applicationForLeaveCsvExportService.write(period, locale, export, outputStream);
+        }
 
         final HttpHeaders headers = new HttpHeaders();
         headers.setContentType(new MediaType("text", "csv", UTF_8));
-        headers.setContentDisposition(ContentDisposition.builder("attachment").filename(csvFile.fileName(), UTF_8).build());
+        headers.setContentDisposition(ContentDisposition.builder("attachment").filename(applicationForLeaveCsvExportService.fileName(period, locale), UTF_8).build());
 
-        return ResponseEntity.status(OK).headers(headers).body(csvFile.resource());
+        return ResponseEntity.status(OK).headers(headers).body(body);
     }
 
     private FilterPeriod toFilterPeriod(String startDateString, String endDateString, Locale locale) {
@@ -80,9 +80,8 @@ class ApplicationForLeaveStatisticsService {
                 .limit(pageable.getPageSize());
         }
 
-        final List<ApplicationForLeaveStatistics> content = statisticsStream
-            .sorted(new SortComparator<>(ApplicationForLeaveStatistics.class, pageable.getSort()))
-            .collect(toList());
+        final List<ApplicationForLeaveStatistics> content = new SortComparator<>(ApplicationForLeaveStatistics.class, pageable.getSort())
+            .sort(statisticsStream.toList());
 
         return new PageImpl<>(content, pageable, relevantPersonsPage.getTotalElements());
     }
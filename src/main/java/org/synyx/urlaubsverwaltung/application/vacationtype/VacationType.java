@@ -1,10 +1,14 @@
 package org.synyx.urlaubsverwaltung.application.vacationtype;
 
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Describes a type of vacation.
+ *
+ * <p>A vacation type is immutable, so its label is resolved only once per locale.</p>
  */
 public abstract class VacationType<T extends VacationType<T>> {
 
@@ -17,6 +21,8 @@ public abstract class VacationType<T extends VacationType<T>> {
     protected final boolean visibleToEveryone;
     protected final VacationTypeLabelResolver<T> labelResolver;
 
+    private final Map<Locale, String> labelByLocale = new ConcurrentHashMap<>();
+
     protected VacationType(Builder<T, ?> builder) {
         this.id = builder.id;
         this.active = builder.active;
@@ -62,7 +68,10 @@ public abstract class VacationType<T extends VacationType<T>> {
 
     @SuppressWarnings("unchecked")
     public String getLabel(Locale locale) {
-        return labelResolver.getLabel((T) this, locale);
+        if (locale == null) {
+            return labelResolver.getLabel((T) this, null);
+        }
+        return labelByLocale.computeIfAbsent(locale, key -> labelResolver.getLabel((T) this, key));
     }
 
     protected VacationTypeLabelResolver<T> getLabelResolver() {
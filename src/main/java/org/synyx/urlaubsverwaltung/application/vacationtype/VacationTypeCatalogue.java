@@ -0,0 +1,49 @@
+package org.synyx.urlaubsverwaltung.application.vacationtype;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+/**
+ * Immutable snapshot of all vacation types, sorted by id.
+ *
+ * <p>The snapshot is shared by all requests, the labels of its vacation types are resolved once per locale
+ * and kept afterward, see {@link VacationType#getLabel(java.util.Locale)}.</p>
+ */
+final class VacationTypeCatalogue {
+
+    private final List<VacationType<?>> all;
+    private final List<VacationType<?>> active;
+    private final Map<Long, VacationType<?>> byId;
+
+    private VacationTypeCatalogue(List<VacationType<?>> all) {
+        this.all = List.copyOf(all);
+        this.active = all.stream().filter(VacationType::isActive).toList();
+        this.byId = all.stream()
+            .filter(vacationType -> vacationType.getId() != null)
+            .collect(toUnmodifiableMap(VacationType::getId, identity()));
+    }
+
+    /**
+     * @param vacationTypes all vacation types, sorted by id
+     * @return the catalogue of the given vacation types
+     */
+    static VacationTypeCatalogue of(List<VacationType<?>> vacationTypes) {
+        return new VacationTypeCatalogue(vacationTypes);
+    }
+
+    List<VacationType<?>> all() {
+        return all;
+    }
+
+    List<VacationType<?>> active() {
+        return active;
+    }
+
+    Optional<VacationType<?>> byId(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(byId.get(id));
+    }
+}
@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.application.vacationtype;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
@@ -8,6 +9,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
 
 import java.util.Locale;
 import java.util.Map;
@@ -15,6 +17,8 @@ import java.util.Objects;
 
 import static jakarta.persistence.EnumType.STRING;
 import static jakarta.persistence.GenerationType.SEQUENCE;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
+import static org.synyx.urlaubsverwaltung.config.SecondLevelCacheRegions.VACATION_TYPE;
 
 /**
  * Describes a type of vacation.
@@ -22,6 +26,8 @@ import static jakarta.persistence.GenerationType.SEQUENCE;
  * @since 2.15.0
  */
 @Entity(name = "vacation_type")
+@Cacheable
+@Cache(usage = READ_WRITE, region = VACATION_TYPE)
 public class VacationTypeEntity {
 
     @Id
@@ -9,15 +9,19 @@ import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.lang.invoke.MethodHandles.lookup;
-import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.HOLIDAY;
@@ -28,6 +32,10 @@ import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCateg
 import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeColor.YELLOW;
 import static org.synyx.urlaubsverwaltung.settings.SupportedLanguages.compareSupportedLanguageLocale;
 
+/**
+ * Serves vacation types from a {@link VacationTypeCatalogue} which is loaded once and shared afterward.
+ * The catalogue is dropped as soon as vacation types are created or updated and loaded again on next access.
+ */
 @Service
 @Transactional
 public class VacationTypeServiceImpl implements VacationTypeService {
@@ -38,6 +46,9 @@ public class VacationTypeServiceImpl implements VacationTypeService {
     private final ApplicationEventPublisher applicationEventPublisher;
     private final MessageSource messageSource;
 
+    private final AtomicReference<VacationTypeCatalogue> catalogue = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
     @Autowired
     VacationTypeServiceImpl(VacationTypeRepository vacationTypeRepository,
                             ApplicationEventPublisher applicationEventPublisher,
@@ -49,28 +60,24 @@ public class VacationTypeServiceImpl implements VacationTypeService {
 
     @Override
     public Optional<VacationType<?>> getById(Long id) {
-        return Optional.of(convert(vacationTypeRepository.getReferenceById(id), messageSource));
+        return catalogue().byId(id);
     }
 
     @Override
     public List<VacationType<?>> getAllVacationTypes() {
-        return vacationTypeRepository.findAll(Sort.by("id")).stream()
-            .map(vacationTypeEntity -> convert(vacationTypeEntity, messageSource))
-            .collect(toList());
+        return catalogue().all();
     }
 
     @Override
     public List<VacationType<?>> getActiveVacationTypes() {
-        return vacationTypeRepository.findByActiveIsTrueOrderById().stream()
-            .map(vacationTypeEntity -> convert(vacationTypeEntity, messageSource))
-            .collect(toList());
+        return catalogue().active();
     }
 
     @Override
     public List<VacationType<?>> getActiveVacationTypesWithoutCategory(VacationCategory vacationCategory) {
         return getActiveVacationTypes().stream()
             .filter(vacationType -> vacationType.getCategory() != vacationCategory)
-            .collect(toList());
+            .toList();
     }
 
     @Override
@@ -103,6 +110,7 @@ public class VacationTypeServiceImpl implements VacationTypeService {
             .map(VacationTypeServiceImpl::convert)
             .toList();
 
+        evictCatalogue();
         vacationTypeRepository.saveAll(updatedEntities).stream()
             .map(entity -> convert(entity, messageSource))
             .map(VacationTypeUpdatedEvent::of)
@@ -123,6 +131,7 @@ public class VacationTypeServiceImpl implements VacationTypeService {
             })
             .toList();
 
+        evictCatalogue();
         vacationTypeRepository.saveAll(newEntities).stream()
             .map(entity -> convert(entity, messageSource))
             .map(VacationTypeCreatedEvent::of)
@@ -169,7 +178,59 @@ public class VacationTypeServiceImpl implements VacationTypeService {
             final List<VacationTypeEntity> vacationTypes = List.of(holiday, holiday, specialleave, unpaidleave, overtime, parentalLeave, maternityProtection, sabbatical, paidLeave, cure, education, homeOffice, outOfOffice, training, employmentBan, educationalLeave);
             final List<VacationTypeEntity> savesVacationTypes = vacationTypeRepository.saveAll(vacationTypes);
             LOG.info("Saved initial vacation types {}", savesVacationTypes);
+            evictCatalogue();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(VacationTypeUpdatedEvent event) {
+        evictCatalogueNow();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(VacationTypeCreatedEvent event) {
+        evictCatalogueNow();
+    }
+
+    private VacationTypeCatalogue catalogue() {
+        final VacationTypeCatalogue cached = catalogue.get();
+        if (cached != null) {
+            return cached;
         }
+
+        final long expectedGeneration = generation.get();
+        final List<VacationType<?>> vacationTypes = vacationTypeRepository.findAll(Sort.by("id")).stream()
+            .<VacationType<?>>map(vacationTypeEntity -> convert(vacationTypeEntity, messageSource))
+            .toList();
+        final VacationTypeCatalogue loaded = VacationTypeCatalogue.of(vacationTypes);
+
+        // a catalogue loaded while vacation types have been changed may be stale already, use it only once
+        if (generation.get() == expectedGeneration) {
+            catalogue.compareAndSet(null, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops the catalogue now and again after completion of the current transaction, as a catalogue loaded
+     * meanwhile by another transaction does not contain the changes yet.
+     */
+    private void evictCatalogue() {
+        evictCatalogueNow();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictCatalogueNow();
+                }
+            });
+        }
+    }
+
+    private void evictCatalogueNow() {
+        generation.incrementAndGet();
+        catalogue.set(null);
     }
 
     private static VacationTypeEntity createVacationTypeEntity(boolean active, VacationCategory category, String messageKey, boolean requiresApprovalToApply, boolean requiresApprovalToCancel, VacationTypeColor color, boolean visibleToEveryone) {
@@ -1,11 +1,13 @@
 package org.synyx.urlaubsverwaltung.calendar;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.synyx.urlaubsverwaltung.person.PersonDisabledEvent;
 
+import static org.synyx.urlaubsverwaltung.config.AsyncTaskExecutors.CALENDAR_TASK_EXECUTOR;
+
 @Component
 class PersonDisabledListener {
 
@@ -20,8 +22,8 @@ class PersonDisabledListener {
         this.companyCalendarService = companyCalendarService;
     }
 
-    @Async
-    @EventListener
+    @Async(CALENDAR_TASK_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
     public void handlePersonDisabledEvent(PersonDisabledEvent event) {
         final long personId = event.getPersonId();
 
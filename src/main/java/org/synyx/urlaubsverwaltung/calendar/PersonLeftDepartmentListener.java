@@ -1,11 +1,13 @@
 package org.synyx.urlaubsverwaltung.calendar;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.synyx.urlaubsverwaltung.department.PersonLeftDepartmentEvent;
 
+import static org.synyx.urlaubsverwaltung.config.AsyncTaskExecutors.CALENDAR_TASK_EXECUTOR;
+
 @Component
 class PersonLeftDepartmentListener {
 
@@ -16,8 +18,8 @@ class PersonLeftDepartmentListener {
         this.departmentCalendarService = departmentCalendarService;
     }
 
-    @Async
-    @EventListener
+    @Async(CALENDAR_TASK_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
     public void handlePersonDisabledEvent(PersonLeftDepartmentEvent event) {
         final long personId = event.getPersonId();
         final long departmentId = event.getDepartmentId();
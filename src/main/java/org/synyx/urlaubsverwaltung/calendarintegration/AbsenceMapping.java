@@ -7,6 +7,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.SequenceGenerator;
 
+import java.time.Instant;
 import java.util.Objects;
 
 import static jakarta.persistence.EnumType.STRING;
@@ -31,9 +32,24 @@ public class AbsenceMapping {
     @Column(nullable = false)
     private AbsenceMappingType absenceMappingType;
 
-    @Column(nullable = false)
+    /**
+     * id of the event in the calendar, empty as long as the absence has not been added yet
+     */
     private String eventId;
 
+    /**
+     * operation that still has to be synced to the calendar, empty if the event is in sync
+     */
+    @Enumerated(STRING)
+    private CalendarSyncOperation pendingOperation;
+
+    private Instant queuedAt;
+
+    @Column(nullable = false)
+    private int failedAttempts;
+
+    private Instant nextAttemptAt;
+
     protected AbsenceMapping() {
         /* OK */
     }
@@ -44,6 +60,42 @@ public class AbsenceMapping {
         this.eventId = eventId;
     }
 
+    static AbsenceMapping pending(Long absenceId, AbsenceMappingType absenceMappingType, Instant queuedAt) {
+        final AbsenceMapping absenceMapping = new AbsenceMapping(absenceId, absenceMappingType, null);
+        absenceMapping.enqueue(CalendarSyncOperation.ADD, queuedAt);
+        return absenceMapping;
+    }
+
+    /**
+     * Replaces the pending operation, a former failed attempt is not relevant anymore.
+     */
+    void enqueue(CalendarSyncOperation operation, Instant queuedAt) {
+        this.pendingOperation = operation;
+        this.queuedAt = queuedAt;
+        this.failedAttempts = 0;
+        this.nextAttemptAt = null;
+    }
+
+    void clearPendingOperation() {
+        this.pendingOperation = null;
+        this.queuedAt = null;
+        this.failedAttempts = 0;
+        this.nextAttemptAt = null;
+    }
+
+    /**
+     * Postpones the next attempt while the pending operation is sent, so that it is sent again if its result is
+     * never recorded.
+     */
+    void claim(Instant until) {
+        this.nextAttemptAt = until;
+    }
+
+    void failed(Instant nextAttemptAt) {
+        this.failedAttempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
     public Long getId() {
         return id;
     }
@@ -76,6 +128,22 @@ public class AbsenceMapping {
         this.eventId = eventId;
     }
 
+    public CalendarSyncOperation getPendingOperation() {
+        return pendingOperation;
+    }
+
+    public Instant getQueuedAt() {
+        return queuedAt;
+    }
+
+    public int getFailedAttempts() {
+        return failedAttempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -1,8 +1,13 @@
 package org.synyx.urlaubsverwaltung.calendarintegration;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 interface AbsenceMappingRepository extends CrudRepository<AbsenceMapping, Long> {
@@ -11,4 +16,13 @@ interface AbsenceMappingRepository extends CrudRepository<AbsenceMapping, Long>
 
     @Modifying
     void deleteByEventId(String eventId);
+
+    @Query("""
+        select m from AbsenceMapping m
+        where m.pendingOperation is not null
+            and m.queuedAt <= :queuedBefore
+            and (m.nextAttemptAt is null or m.nextAttemptAt <= :now)
+        order by m.queuedAt, m.id
+        """)
+    List<AbsenceMapping> findDueForSync(@Param("queuedBefore") Instant queuedBefore, @Param("now") Instant now, Pageable pageable);
 }
@@ -2,6 +2,7 @@ package org.synyx.urlaubsverwaltung.calendarintegration;
 
 import org.synyx.urlaubsverwaltung.absence.Absence;
 
+import java.util.List;
 import java.util.Optional;
 
 
@@ -26,8 +27,9 @@ interface CalendarProvider {
      * @param absence          represents the updated absence
      * @param eventId          id of event to be updated
      * @param calendarSettings contains configuration for calendar provider
+     * @return id of updated absence event, may be empty if an error occurred during the calendar sync
      */
-    void update(Absence absence, String eventId, CalendarSettings calendarSettings);
+    Optional<String> update(Absence absence, String eventId, CalendarSettings calendarSettings);
 
 
     /**
@@ -39,6 +41,31 @@ interface CalendarProvider {
     Optional<String> delete(String eventId, CalendarSettings calendarSettings);
 
 
+    /**
+     * Syncs several changes of absences at once. Providers that support batch requests should override this method,
+     * the default implementation sends one request after another.
+     *
+     * @param requests         changes of absences to sync
+     * @param calendarSettings contains configuration for calendar provider
+     * @return one result per request, in the same order as the requests
+     */
+    default List<CalendarSyncResult> sync(List<CalendarSyncRequest> requests, CalendarSettings calendarSettings) {
+        return requests.stream()
+            .map(request -> switch (request.operation()) {
+                case ADD -> add(request.absence(), calendarSettings)
+                    .map(CalendarSyncResult::success)
+                    .orElseGet(CalendarSyncResult::failure);
+                case UPDATE -> update(request.absence(), request.eventId(), calendarSettings)
+                    .map(CalendarSyncResult::success)
+                    .orElseGet(CalendarSyncResult::failure);
+                case DELETE -> delete(request.eventId(), calendarSettings)
+                    .map(CalendarSyncResult::success)
+                    .orElseGet(CalendarSyncResult::failure);
+            })
+            .toList();
+    }
+
+
     /**
      * Check the settings for calendar sync.
      *
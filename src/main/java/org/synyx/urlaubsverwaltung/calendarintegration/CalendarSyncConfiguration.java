@@ -0,0 +1,37 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.synyx.urlaubsverwaltung.config.ScheduleLocking;
+
+import java.time.Duration;
+
+@Configuration
+class CalendarSyncConfiguration implements SchedulingConfigurer {
+
+    private final CalendarSyncProperties calendarSyncProperties;
+    private final CalendarSyncQueueProcessor calendarSyncQueueProcessor;
+    private final ScheduleLocking scheduleLocking;
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    @Autowired
+    CalendarSyncConfiguration(CalendarSyncProperties calendarSyncProperties, CalendarSyncQueueProcessor calendarSyncQueueProcessor,
+                              ScheduleLocking scheduleLocking, ThreadPoolTaskScheduler taskScheduler) {
+        this.calendarSyncProperties = calendarSyncProperties;
+        this.calendarSyncQueueProcessor = calendarSyncQueueProcessor;
+        this.scheduleLocking = scheduleLocking;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(taskScheduler);
+        taskRegistrar.addFixedDelayTask(
+            scheduleLocking.withLock("CalendarSyncQueue", calendarSyncQueueProcessor::processQueue, CalendarSyncQueueProcessor.CLAIM_TIMEOUT, Duration.ZERO),
+            calendarSyncProperties.getInterval()
+        );
+    }
+}
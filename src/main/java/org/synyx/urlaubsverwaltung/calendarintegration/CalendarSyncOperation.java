@@ -0,0 +1,11 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+/**
+ * Pending operation of an {@link AbsenceMapping} that still has to be synced to the calendar provider.
+ */
+enum CalendarSyncOperation {
+
+    ADD,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,89 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.calendar-sync")
+@Validated
+public class CalendarSyncProperties {
+
+    /**
+     * Time an absence has to be unchanged before it is synced. Multiple changes of the same absence
+     * within this time are sent as one request.
+     */
+    @NotNull
+    private Duration debounce = Duration.ofSeconds(30);
+
+    /**
+     * Delay between two runs of the sync queue.
+     */
+    @NotNull
+    private Duration interval = Duration.ofSeconds(10);
+
+    /**
+     * Maximum number of requests sent per run, which limits the requests to the calendar provider
+     * to {@code batch-size} per {@code interval}.
+     */
+    @Min(1)
+    @Max(1000)
+    private int batchSize = 50;
+
+    /**
+     * Number of attempts until a failing sync of an absence is given up.
+     */
+    @Min(1)
+    private int maxAttempts = 5;
+
+    /**
+     * Delay before the first retry of a failed sync, doubled for every further attempt.
+     */
+    @NotNull
+    private Duration retryBackoff = Duration.ofMinutes(1);
+
+    public Duration getDebounce() {
+        return debounce;
+    }
+
+    public void setDebounce(Duration debounce) {
+        this.debounce = debounce;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    public void setRetryBackoff(Duration retryBackoff) {
+        this.retryBackoff = retryBackoff;
+    }
+}
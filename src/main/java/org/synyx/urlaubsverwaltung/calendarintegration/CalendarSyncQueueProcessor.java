@@ -0,0 +1,242 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.absence.AbsenceTimeConfiguration;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.calendarintegration.AbsenceMappingType.VACATION;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncOperation.ADD;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncOperation.DELETE;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncOperation.UPDATE;
+
+/**
+ * Sends the pending changes of the {@link AbsenceMapping}s to the configured {@link CalendarProvider}.
+ *
+ * <p>
+ * Changes are sent once the absence has not been changed for {@link CalendarSyncProperties#getDebounce()}, at most
+ * {@link CalendarSyncProperties#getBatchSize()} per run in the order they have been queued. Failed changes are retried
+ * with an exponential backoff until {@link CalendarSyncProperties#getMaxAttempts()} is reached.
+ *
+ * <p>
+ * No transaction is open while the changes are sent. The due changes are claimed in a first transaction and the
+ * results are recorded in a second one. Changes of an absence queued in the meantime are kept and sent by a later
+ * run, claimed changes whose results are never recorded are sent again after {@link #CLAIM_TIMEOUT}.
+ */
+@Service
+class CalendarSyncQueueProcessor {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    /**
+     * Time the claimed changes are not due again, at least as long as a run may take.
+     */
+    static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(5);
+
+    private final AbsenceMappingRepository absenceMappingRepository;
+    private final CalendarProviderService calendarProviderService;
+    private final CalendarSettingsService calendarSettingsService;
+    private final SettingsService settingsService;
+    private final ApplicationService applicationService;
+    private final SickNoteService sickNoteService;
+    private final CalendarSyncProperties calendarSyncProperties;
+    private final TransactionOperations transactionOperations;
+    private final Clock clock;
+
+    @Autowired
+    CalendarSyncQueueProcessor(AbsenceMappingRepository absenceMappingRepository, CalendarProviderService calendarProviderService,
+                               CalendarSettingsService calendarSettingsService, SettingsService settingsService,
+                               ApplicationService applicationService, SickNoteService sickNoteService,
+                               CalendarSyncProperties calendarSyncProperties, TransactionOperations transactionOperations, Clock clock) {
+        this.absenceMappingRepository = absenceMappingRepository;
+        this.calendarProviderService = calendarProviderService;
+        this.calendarSettingsService = calendarSettingsService;
+        this.settingsService = settingsService;
+        this.applicationService = applicationService;
+        this.sickNoteService = sickNoteService;
+        this.calendarSyncProperties = calendarSyncProperties;
+        this.transactionOperations = transactionOperations;
+        this.clock = clock;
+    }
+
+    public void processQueue() {
+
+        final Optional<CalendarProvider> maybeCalendarProvider = calendarProviderService.getCalendarProvider();
+        if (maybeCalendarProvider.isEmpty()) {
+            return;
+        }
+
+        final Instant now = Instant.now(clock);
+        final List<ClaimedChange> claimedChanges = transactionOperations.execute(status -> claimDueChanges(now));
+        if (claimedChanges == null || claimedChanges.isEmpty()) {
+            return;
+        }
+
+        final List<CalendarSyncRequest> requests = claimedChanges.stream().map(ClaimedChange::request).toList();
+        final List<CalendarSyncResult> results = maybeCalendarProvider.get().sync(requests, calendarSettingsService.getCalendarSettings());
+
+        final long failures = results.stream().filter(result -> !result.isSuccessful()).count();
+        transactionOperations.executeWithoutResult(status -> {
+            for (int i = 0; i < claimedChanges.size(); i++) {
+                record(claimedChanges.get(i), results.get(i), now);
+            }
+        });
+
+        LOG.info("Synced {} absences to calendar, {} failed", requests.size() - failures, failures);
+    }
+
+    private List<ClaimedChange> claimDueChanges(Instant now) {
+
+        final List<AbsenceMapping> dueAbsenceMappings = absenceMappingRepository.findDueForSync(
+            now.minus(calendarSyncProperties.getDebounce()), now, PageRequest.of(0, calendarSyncProperties.getBatchSize()));
+        if (dueAbsenceMappings.isEmpty()) {
+            return List.of();
+        }
+
+        final AbsenceTimeConfiguration absenceTimeConfiguration = new AbsenceTimeConfiguration(settingsService.getSettings().getTimeSettings());
+
+        final List<ClaimedChange> claimedChanges = new ArrayList<>();
+        for (AbsenceMapping absenceMapping : dueAbsenceMappings) {
+            final Optional<CalendarSyncRequest> maybeRequest = toRequest(absenceMapping, absenceTimeConfiguration);
+            if (maybeRequest.isPresent()) {
+                claimedChanges.add(new ClaimedChange(absenceMapping.getId(), absenceMapping.getAbsenceId(),
+                    absenceMapping.getAbsenceMappingType(), absenceMapping.getQueuedAt(), maybeRequest.get()));
+                absenceMapping.claim(now.plus(CLAIM_TIMEOUT));
+                absenceMappingRepository.save(absenceMapping);
+            } else {
+                // the absence does not exist anymore and has never been added to the calendar
+                absenceMappingRepository.delete(absenceMapping);
+            }
+        }
+
+        return claimedChanges;
+    }
+
+    private void record(ClaimedChange claimedChange, CalendarSyncResult result, Instant now) {
+
+        final CalendarSyncOperation operation = claimedChange.request().operation();
+        final Optional<AbsenceMapping> maybeAbsenceMapping = absenceMappingRepository.findById(claimedChange.absenceMappingId());
+
+        if (maybeAbsenceMapping.isEmpty()) {
+            // deleted while it has been added, the added event has to be deleted again
+            if (result.isSuccessful() && operation == ADD) {
+                final AbsenceMapping absenceMapping = new AbsenceMapping(claimedChange.absenceId(), claimedChange.absenceMappingType(), result.eventId().orElseThrow());
+                absenceMapping.enqueue(DELETE, now);
+                absenceMappingRepository.save(absenceMapping);
+            }
+            return;
+        }
+
+        final AbsenceMapping absenceMapping = maybeAbsenceMapping.get();
+        if (!claimedChange.queuedAt().equals(absenceMapping.getQueuedAt())) {
+            // changed while it has been sent, the later change is kept and sent by a later run
+            if (result.isSuccessful()) {
+                syncedBeforeChange(absenceMapping, operation, result.eventId().orElseThrow());
+            }
+            return;
+        }
+
+        if (result.isSuccessful()) {
+            synced(absenceMapping, operation, result.eventId().orElseThrow());
+        } else {
+            failed(absenceMapping, now);
+        }
+    }
+
+    private Optional<CalendarSyncRequest> toRequest(AbsenceMapping absenceMapping, AbsenceTimeConfiguration absenceTimeConfiguration) {
+
+        final CalendarSyncOperation operation = absenceMapping.getPendingOperation();
+        if (operation == DELETE) {
+            return Optional.of(CalendarSyncRequest.delete(absenceMapping.getEventId()));
+        }
+
+        final Optional<Absence> maybeAbsence = getAbsence(absenceMapping, absenceTimeConfiguration);
+        if (maybeAbsence.isEmpty()) {
+            return Optional.ofNullable(absenceMapping.getEventId()).map(CalendarSyncRequest::delete);
+        }
+
+        return Optional.of(operation == ADD
+            ? CalendarSyncRequest.add(maybeAbsence.get())
+            : CalendarSyncRequest.update(absenceMapping.getEventId(), maybeAbsence.get()));
+    }
+
+    private Optional<Absence> getAbsence(AbsenceMapping absenceMapping, AbsenceTimeConfiguration absenceTimeConfiguration) {
+        if (absenceMapping.getAbsenceMappingType() == VACATION) {
+            return applicationService.getApplicationById(absenceMapping.getAbsenceId())
+                .map(application -> new Absence(application.getPerson(), application.getPeriod(), absenceTimeConfiguration));
+        }
+        return sickNoteService.getById(absenceMapping.getAbsenceId())
+            .map(sickNote -> new Absence(sickNote.getPerson(), sickNote.getPeriod(), absenceTimeConfiguration));
+    }
+
+    private void synced(AbsenceMapping absenceMapping, CalendarSyncOperation operation, String eventId) {
+        if (operation == DELETE) {
+            absenceMappingRepository.delete(absenceMapping);
+            return;
+        }
+        absenceMapping.setEventId(eventId);
+        absenceMapping.clearPendingOperation();
+        absenceMappingRepository.save(absenceMapping);
+    }
+
+    private void syncedBeforeChange(AbsenceMapping absenceMapping, CalendarSyncOperation operation, String eventId) {
+
+        final CalendarSyncOperation pendingOperation = absenceMapping.getPendingOperation();
+        if (operation == DELETE) {
+            if (pendingOperation == DELETE) {
+                absenceMappingRepository.delete(absenceMapping);
+                return;
+            }
+            absenceMapping.setEventId(null);
+            absenceMapping.enqueue(ADD, absenceMapping.getQueuedAt());
+        } else {
+            absenceMapping.setEventId(eventId);
+            if (pendingOperation == ADD) {
+                absenceMapping.enqueue(UPDATE, absenceMapping.getQueuedAt());
+            }
+        }
+        absenceMappingRepository.save(absenceMapping);
+    }
+
+    private void failed(AbsenceMapping absenceMapping, Instant now) {
+
+        final int attempts = absenceMapping.getFailedAttempts() + 1;
+        if (attempts >= calendarSyncProperties.getMaxAttempts()) {
+            LOG.error("Giving up to sync {} of absence {} of type {} to calendar after {} attempts",
+                absenceMapping.getPendingOperation(), absenceMapping.getAbsenceId(), absenceMapping.getAbsenceMappingType(), attempts);
+            if (absenceMapping.getEventId() == null) {
+                absenceMappingRepository.delete(absenceMapping);
+            } else {
+                absenceMapping.clearPendingOperation();
+                absenceMappingRepository.save(absenceMapping);
+            }
+            return;
+        }
+
+        final Instant nextAttemptAt = now.plus(calendarSyncProperties.getRetryBackoff().multipliedBy(1L << (attempts - 1)));
+        absenceMapping.failed(nextAttemptAt);
+        absenceMappingRepository.save(absenceMapping);
+    }
+
+    /**
+     * A change claimed to be sent, {@code queuedAt} identifies the change of the {@link AbsenceMapping}.
+     */
+    private record ClaimedChange(Long absenceMappingId, Long absenceId, AbsenceMappingType absenceMappingType,
+                                 Instant queuedAt, CalendarSyncRequest request) {
+    }
+}
@@ -0,0 +1,25 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.synyx.urlaubsverwaltung.absence.Absence;
+
+/**
+ * Single change of an absence that is sent to a {@link CalendarProvider} as part of a batch.
+ *
+ * @param operation operation to execute
+ * @param eventId   id of the event in the calendar, {@code null} for {@link CalendarSyncOperation#ADD}
+ * @param absence   current state of the absence, {@code null} for {@link CalendarSyncOperation#DELETE}
+ */
+record CalendarSyncRequest(CalendarSyncOperation operation, String eventId, Absence absence) {
+
+    static CalendarSyncRequest add(Absence absence) {
+        return new CalendarSyncRequest(CalendarSyncOperation.ADD, null, absence);
+    }
+
+    static CalendarSyncRequest update(String eventId, Absence absence) {
+        return new CalendarSyncRequest(CalendarSyncOperation.UPDATE, eventId, absence);
+    }
+
+    static CalendarSyncRequest delete(String eventId) {
+        return new CalendarSyncRequest(CalendarSyncOperation.DELETE, eventId, null);
+    }
+}
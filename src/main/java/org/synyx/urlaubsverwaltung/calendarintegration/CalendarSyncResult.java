@@ -0,0 +1,23 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import java.util.Optional;
+
+/**
+ * Result of a {@link CalendarSyncRequest}.
+ *
+ * @param eventId id of the added, updated or deleted event, empty if the request failed and has to be retried
+ */
+record CalendarSyncResult(Optional<String> eventId) {
+
+    static CalendarSyncResult success(String eventId) {
+        return new CalendarSyncResult(Optional.of(eventId));
+    }
+
+    static CalendarSyncResult failure() {
+        return new CalendarSyncResult(Optional.empty());
+    }
+
+    boolean isSuccessful() {
+        return eventId.isPresent();
+    }
+}
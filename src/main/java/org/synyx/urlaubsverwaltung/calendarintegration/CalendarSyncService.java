@@ -3,10 +3,7 @@ package org.synyx.urlaubsverwaltung.calendarintegration;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.synyx.urlaubsverwaltung.absence.Absence;
-import org.synyx.urlaubsverwaltung.absence.AbsenceTimeConfiguration;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedEvent;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedTemporarilyEvent;
@@ -16,7 +13,6 @@ import org.synyx.urlaubsverwaltung.application.application.ApplicationDeletedEve
 import org.synyx.urlaubsverwaltung.application.application.ApplicationRejectedEvent;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationRevokedEvent;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationUpdatedEvent;
-import org.synyx.urlaubsverwaltung.settings.SettingsService;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCancelledEvent;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCreatedEvent;
@@ -24,110 +20,102 @@ import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteDeletedEvent;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteToApplicationConvertedEvent;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteUpdatedEvent;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.synyx.urlaubsverwaltung.calendarintegration.AbsenceMappingType.SICKNOTE;
 import static org.synyx.urlaubsverwaltung.calendarintegration.AbsenceMappingType.VACATION;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncOperation.ADD;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncOperation.DELETE;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncOperation.UPDATE;
 
 @Service
 class CalendarSyncService {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
-    private final SettingsService settingsService;
     private final CalendarSettingsService calendarSettingsService;
     private final CalendarProviderService calendarProviderService;
     private final AbsenceMappingRepository absenceMappingRepository;
+    private final Clock clock;
 
     @Autowired
     CalendarSyncService(
-        SettingsService settingsService,
         CalendarSettingsService calendarSettingsService,
         CalendarProviderService calendarProviderService,
-        AbsenceMappingRepository absenceMappingRepository
+        AbsenceMappingRepository absenceMappingRepository,
+        Clock clock
     ) {
-        this.settingsService = settingsService;
         this.calendarSettingsService = calendarSettingsService;
         this.calendarProviderService = calendarProviderService;
         this.absenceMappingRepository = absenceMappingRepository;
+        this.clock = clock;
         LOG.debug("The following calendar provider is configured: {}", calendarProviderService.getCalendarProvider().getClass());
     }
 
-    @Async
     @EventListener
     public void consumeApplicationAppliedEvent(ApplicationAppliedEvent event) {
         addCalendarEntry(event.application());
     }
 
-    @Async
     @EventListener
     public void consumeApplicationAllowedTemporarilyEvent(ApplicationAllowedTemporarilyEvent event) {
         updateCalendarEntry(event.application());
     }
 
-    @Async
     @EventListener
     public void consumeApplicationAllowedEvent(ApplicationAllowedEvent event) {
         updateCalendarEntry(event.application());
     }
 
-    @Async
     @EventListener
     public void consumeApplicationUpdatedEvent(ApplicationUpdatedEvent event) {
         updateCalendarEntry(event.application());
     }
 
-    @Async
     @EventListener
     public void consumeApplicationRejectedEvent(ApplicationRejectedEvent event) {
         deleteCalendarEntry(event.application());
     }
 
-    @Async
     @EventListener
     public void consumeApplicationRevokedEvent(ApplicationRevokedEvent event) {
         deleteCalendarEntry(event.application());
     }
 
-    @Async
     @EventListener
     public void consumeApplicationCancelledEvent(ApplicationCancelledEvent event) {
         deleteCalendarEntry(event.application());
     }
 
-    @Async
     @EventListener
     public void consumeApplicationDeletedEvent(ApplicationDeletedEvent event) {
         deleteCalendarEntry(event.application());
     }
 
-    @Async
     @EventListener
     public void consumeSickNoteCreatedEvent(SickNoteCreatedEvent event) {
         addCalendarEntry(event.sickNote());
     }
 
-    @Async
     @EventListener
     public void consumeSickNoteUpdatedEvent(SickNoteUpdatedEvent event) {
         updateCalendarEntry(event.sickNote());
     }
 
-    @Async
     @EventListener
     public void consumeSickNoteCancelledEvent(SickNoteCancelledEvent event) {
         deleteCalendarEntry(event.sickNote());
     }
 
-    @Async
     @EventListener
     public void consumeSickNoteDeletedEvent(SickNoteDeletedEvent event) {
         deleteCalendarEntry(event.sickNote());
     }
 
-    @Async
     @EventListener
     public void consumeSickNoteToApplicationConvertedEvent(SickNoteToApplicationConvertedEvent event) {
         deleteCalendarEntry(event.sickNote());
@@ -135,50 +123,64 @@ class CalendarSyncService {
     }
 
     private void addCalendarEntry(Application application) {
-        calendarProviderService.getCalendarProvider()
-            .flatMap(calendarProvider -> calendarProvider.add(new Absence(application.getPerson(), application.getPeriod(), getAbsenceTimeConfiguration()), getCalendarSettings()))
-            .ifPresent(eventId -> createCalendarEntryMapping(application.getId(), VACATION, eventId));
+        enqueue(application.getId(), VACATION, ADD);
     }
 
     private void addCalendarEntry(SickNote sickNote) {
-        calendarProviderService.getCalendarProvider()
-            .flatMap(calendarProvider -> calendarProvider.add(new Absence(sickNote.getPerson(), sickNote.getPeriod(), getAbsenceTimeConfiguration()), getCalendarSettings()))
-            .ifPresent(eventId -> createCalendarEntryMapping(sickNote.getId(), SICKNOTE, eventId));
+        enqueue(sickNote.getId(), SICKNOTE, ADD);
     }
 
     private void updateCalendarEntry(Application application) {
-        getAbsenceByIdAndType(application.getId(), VACATION)
-            .ifPresent(absenceMapping ->
-                calendarProviderService.getCalendarProvider()
-                    .ifPresent(calendarProvider -> {
-                        final Absence absence = new Absence(application.getPerson(), application.getPeriod(), getAbsenceTimeConfiguration());
-                        calendarProvider.update(absence, absenceMapping.getEventId(), getCalendarSettings());
-                    })
-            );
+        enqueue(application.getId(), VACATION, UPDATE);
     }
 
     private void updateCalendarEntry(SickNote sickNote) {
-        getAbsenceByIdAndType(sickNote.getId(), VACATION)
-            .ifPresent(absenceMapping -> calendarProviderService.getCalendarProvider()
-                .ifPresent(calendarProvider -> {
-                    final Absence absence = new Absence(sickNote.getPerson(), sickNote.getPeriod(), getAbsenceTimeConfiguration());
-                    calendarProvider.update(absence, absenceMapping.getEventId(), getCalendarSettings());
-                })
-            );
+        enqueue(sickNote.getId(), SICKNOTE, UPDATE);
     }
 
     private void deleteCalendarEntry(Application application) {
-        getAbsenceByIdAndType(application.getId(), VACATION)
-            .flatMap(absenceMapping -> calendarProviderService.getCalendarProvider()
-                .flatMap(calendarProvider -> calendarProvider.delete(absenceMapping.getEventId(), getCalendarSettings())))
-            .ifPresent(absenceMappingRepository::deleteByEventId);
+        enqueue(application.getId(), VACATION, DELETE);
     }
 
     private void deleteCalendarEntry(SickNote sickNote) {
-        getAbsenceByIdAndType(sickNote.getId(), SICKNOTE)
-            .flatMap(absenceMapping -> calendarProviderService.getCalendarProvider()
-                .flatMap(calendarProvider -> calendarProvider.delete(absenceMapping.getEventId(), getCalendarSettings())))
-            .ifPresent(absenceMappingRepository::deleteByEventId);
+        enqueue(sickNote.getId(), SICKNOTE, DELETE);
+    }
+
+    /**
+     * Queues the change of an absence in its {@link AbsenceMapping}. Changes that have not been synced yet
+     * are coalesced, so that only the latest state of the absence is sent by the {@link CalendarSyncQueueProcessor}.
+     */
+    private void enqueue(Long absenceId, AbsenceMappingType absenceMappingType, CalendarSyncOperation operation) {
+
+        if (calendarProviderService.getCalendarProvider().isEmpty()) {
+            return;
+        }
+
+        final Instant now = Instant.now(clock);
+        final Optional<AbsenceMapping> maybeAbsenceMapping = getAbsenceByIdAndType(absenceId, absenceMappingType);
+        if (maybeAbsenceMapping.isEmpty()) {
+            if (operation == ADD) {
+                absenceMappingRepository.save(AbsenceMapping.pending(absenceId, absenceMappingType, now));
+            }
+            // absences that have never been added to the calendar cannot be updated or deleted
+            return;
+        }
+
+        final AbsenceMapping absenceMapping = maybeAbsenceMapping.get();
+        final boolean isInCalendar = absenceMapping.getEventId() != null;
+
+        if (operation == DELETE && !isInCalendar) {
+            LOG.debug("Absence {} of type {} deleted before it has been added to the calendar", absenceId, absenceMappingType);
+            absenceMappingRepository.delete(absenceMapping);
+            return;
+        }
+
+        final CalendarSyncOperation coalescedOperation = switch (operation) {
+            case ADD, UPDATE -> isInCalendar ? UPDATE : ADD;
+            case DELETE -> DELETE;
+        };
+        absenceMapping.enqueue(coalescedOperation, now);
+        absenceMappingRepository.save(absenceMapping);
     }
 
     void checkCalendarSyncSettings() {
@@ -186,10 +188,6 @@ class CalendarSyncService {
             .ifPresent(calendarProvider -> calendarProvider.checkCalendarSyncSettings(getCalendarSettings()));
     }
 
-    private void createCalendarEntryMapping(Long id, AbsenceMappingType absenceMappingType, String eventId) {
-        absenceMappingRepository.save(new AbsenceMapping(id, absenceMappingType, eventId));
-    }
-
     private Optional<AbsenceMapping> getAbsenceByIdAndType(Long id, AbsenceMappingType absenceMappingType) {
         return absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(id, absenceMappingType);
     }
@@ -197,8 +195,4 @@ class CalendarSyncService {
     private CalendarSettings getCalendarSettings() {
         return calendarSettingsService.getCalendarSettings();
     }
-
-    private AbsenceTimeConfiguration getAbsenceTimeConfiguration() {
-        return new AbsenceTimeConfiguration(settingsService.getSettings().getTimeSettings());
-    }
 }
@@ -1,5 +1,9 @@
 package org.synyx.urlaubsverwaltung.calendarintegration;
 
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpResponse;
 import com.google.api.client.util.DateTime;
 import com.google.api.services.calendar.Calendar;
@@ -13,11 +17,14 @@ import org.synyx.urlaubsverwaltung.absence.Absence;
 
 import java.io.IOException;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
+import static org.apache.http.HttpStatus.SC_GONE;
+import static org.apache.http.HttpStatus.SC_NOT_FOUND;
 import static org.apache.http.HttpStatus.SC_OK;
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -27,6 +34,7 @@ public class GoogleCalendarSyncProvider implements CalendarProvider {
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
     private static final String DATE_PATTERN_YYYY_MM_DD = "yyyy-MM-dd";
+    private static final int MAX_BATCH_SIZE = 50;
 
     private final GoogleCalendarClientProvider googleCalendarClientProvider;
 
@@ -64,7 +72,7 @@ public class GoogleCalendarSyncProvider implements CalendarProvider {
     }
 
     @Override
-    public void update(Absence absence, String eventId, CalendarSettings calendarSettings) {
+    public Optional<String> update(Absence absence, String eventId, CalendarSettings calendarSettings) {
 
         final GoogleCalendarSettings googleCalendarSettings = calendarSettings.getGoogleCalendarSettings();
         maybeCalendarClient = googleCalendarClientProvider.getCalendarClient(googleCalendarSettings);
@@ -84,10 +92,12 @@ public class GoogleCalendarSyncProvider implements CalendarProvider {
                 calendarClient.events().patch(calendarId, eventId, event).execute();
 
                 LOG.info("Event {} has been updated in calendar '{}'.", eventId, calendarId);
+                return Optional.of(eventId);
             } catch (IOException ex) {
                 LOG.warn("Could not update event {} in calendar '{}'.", eventId, calendarId, ex);
             }
         }
+        return Optional.empty();
     }
 
     @Override
@@ -110,6 +120,105 @@ public class GoogleCalendarSyncProvider implements CalendarProvider {
         return Optional.empty();
     }
 
+    /**
+     * Sends all requests as one or more Google batch requests, a single batch contains at most {@value MAX_BATCH_SIZE}
+     * requests. Deleting an event that does not exist anymore is treated as success.
+     */
+    @Override
+    public List<CalendarSyncResult> sync(List<CalendarSyncRequest> requests, CalendarSettings calendarSettings) {
+
+        final CalendarSyncResult[] results = new CalendarSyncResult[requests.size()];
+        Arrays.fill(results, CalendarSyncResult.failure());
+
+        final GoogleCalendarSettings googleCalendarSettings = calendarSettings.getGoogleCalendarSettings();
+        maybeCalendarClient = googleCalendarClientProvider.getCalendarClient(googleCalendarSettings);
+
+        if (maybeCalendarClient.isPresent()) {
+            final Calendar calendarClient = maybeCalendarClient.get();
+            final String calendarId = googleCalendarSettings.getCalendarId();
+
+            for (int batchStart = 0; batchStart < requests.size(); batchStart += MAX_BATCH_SIZE) {
+                final int batchEnd = Math.min(batchStart + MAX_BATCH_SIZE, requests.size());
+                try {
+                    final BatchRequest batch = calendarClient.batch();
+                    for (int i = batchStart; i < batchEnd; i++) {
+                        queue(calendarClient, batch, calendarId, requests.get(i), results, i);
+                    }
+                    batch.execute();
+                } catch (IOException ex) {
+                    LOG.warn("Could not sync {} events with calendar '{}'.", batchEnd - batchStart, calendarId, ex);
+                }
+            }
+        }
+
+        return List.of(results);
+    }
+
+    private static void queue(Calendar calendarClient, BatchRequest batch, String calendarId, CalendarSyncRequest request,
+                              CalendarSyncResult[] results, int index) throws IOException {
+        switch (request.operation()) {
+            case ADD -> {
+                final Event event = new Event();
+                fillEvent(request.absence(), event);
+                calendarClient.events().insert(calendarId, event).queue(batch, new SyncCallback<>(results, index, calendarId, request) {
+                    @Override
+                    public void onSuccess(Event eventInCalendar, HttpHeaders responseHeaders) {
+                        succeeded(eventInCalendar.getId());
+                    }
+                });
+            }
+            case UPDATE -> {
+                final Event event = new Event();
+                fillEvent(request.absence(), event);
+                calendarClient.events().patch(calendarId, request.eventId(), event).queue(batch, new SyncCallback<>(results, index, calendarId, request) {
+                    @Override
+                    public void onSuccess(Event eventInCalendar, HttpHeaders responseHeaders) {
+                        succeeded(request.eventId());
+                    }
+                });
+            }
+            case DELETE -> calendarClient.events().delete(calendarId, request.eventId()).queue(batch, new SyncCallback<>(results, index, calendarId, request) {
+                @Override
+                public void onSuccess(Void nothing, HttpHeaders responseHeaders) {
+                    succeeded(request.eventId());
+                }
+
+                @Override
+                public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                    if (error.getCode() == SC_NOT_FOUND || error.getCode() == SC_GONE) {
+                        succeeded(request.eventId());
+                    } else {
+                        super.onFailure(error, responseHeaders);
+                    }
+                }
+            });
+        }
+    }
+
+    private abstract static class SyncCallback<T> extends JsonBatchCallback<T> {
+
+        private final CalendarSyncResult[] results;
+        private final int index;
+        private final String calendarId;
+        private final CalendarSyncRequest request;
+
+        SyncCallback(CalendarSyncResult[] results, int index, String calendarId, CalendarSyncRequest request) {
+            this.results = results;
+            this.index = index;
+            this.calendarId = calendarId;
+            this.request = request;
+        }
+
+        void succeeded(String eventId) {
+            results[index] = CalendarSyncResult.success(eventId);
+        }
+
+        @Override
+        public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+            LOG.warn("Could not {} event {} in calendar '{}': {} {}", request.operation(), request.eventId(), calendarId, error.getCode(), error.getMessage());
+        }
+    }
+
     @Override
     public void checkCalendarSyncSettings(CalendarSettings calendarSettings) {
 
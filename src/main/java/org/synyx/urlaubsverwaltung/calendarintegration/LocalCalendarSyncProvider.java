@@ -0,0 +1,82 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.synyx.urlaubsverwaltung.absence.Absence;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Collections.unmodifiableMap;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Calendar provider that keeps the events in memory. It works without any connection to a calendar service
+ * and is meant to try out and measure the calendar sync locally.
+ *
+ * <p>
+ * Enabled with {@code uv.calendar-sync.local-provider.enabled=true}.
+ */
+@Service
+@ConditionalOnProperty(value = "uv.calendar-sync.local-provider.enabled", havingValue = "true")
+class LocalCalendarSyncProvider implements CalendarProvider {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private final Map<String, Absence> events = new ConcurrentHashMap<>();
+    private final AtomicLong batches = new AtomicLong();
+
+    @Override
+    public Optional<String> add(Absence absence, CalendarSettings calendarSettings) {
+        final String eventId = UUID.randomUUID().toString();
+        events.put(eventId, absence);
+        LOG.debug("Event {} for '{}' added to local calendar.", eventId, absence.getPerson().getId());
+        return Optional.of(eventId);
+    }
+
+    @Override
+    public Optional<String> update(Absence absence, String eventId, CalendarSettings calendarSettings) {
+        if (events.replace(eventId, absence) == null) {
+            LOG.warn("Could not update unknown event {} in local calendar.", eventId);
+            return Optional.empty();
+        }
+        return Optional.of(eventId);
+    }
+
+    @Override
+    public Optional<String> delete(String eventId, CalendarSettings calendarSettings) {
+        events.remove(eventId);
+        return Optional.of(eventId);
+    }
+
+    @Override
+    public List<CalendarSyncResult> sync(List<CalendarSyncRequest> requests, CalendarSettings calendarSettings) {
+        batches.incrementAndGet();
+        return CalendarProvider.super.sync(requests, calendarSettings);
+    }
+
+    @Override
+    public void checkCalendarSyncSettings(CalendarSettings calendarSettings) {
+        LOG.info("Local calendar contains {} events.", events.size());
+    }
+
+    /**
+     * @return all events of the local calendar by event id
+     */
+    Map<String, Absence> getEvents() {
+        return unmodifiableMap(events);
+    }
+
+    /**
+     * @return number of batches that have been synced
+     */
+    long getNumberOfBatches() {
+        return batches.get();
+    }
+}
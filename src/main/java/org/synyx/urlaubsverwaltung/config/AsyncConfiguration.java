@@ -0,0 +1,63 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.util.concurrent.Executor;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.config.AsyncTaskExecutors.CALENDAR_TASK_EXECUTOR;
+import static org.synyx.urlaubsverwaltung.config.AsyncTaskExecutors.EXTENSION_TASK_EXECUTOR;
+import static org.synyx.urlaubsverwaltung.config.AsyncTaskExecutors.MAIL_TASK_EXECUTOR;
+
+/**
+ * Executes methods annotated with {@code @Async} on a bounded executor per concern, see {@link AsyncTaskExecutors}.
+ * Methods without a named executor are executed on a new (virtual, if enabled) thread each.
+ */
+@Configuration
+@EnableAsync
+@ConditionalOnProperty(value = "uv.async.enabled", havingValue = "true", matchIfMissing = true)
+class AsyncConfiguration implements AsyncConfigurer {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private final SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder;
+
+    AsyncConfiguration(SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder) {
+        this.simpleAsyncTaskExecutorBuilder = simpleAsyncTaskExecutorBuilder;
+    }
+
+    @Bean(MAIL_TASK_EXECUTOR)
+    BoundedVirtualThreadTaskExecutor mailTaskExecutor(AsyncProperties asyncProperties, MeterRegistry meterRegistry) {
+        return new BoundedVirtualThreadTaskExecutor(MAIL_TASK_EXECUTOR, asyncProperties.getMail(), asyncProperties.getShutdownTimeout(), meterRegistry);
+    }
+
+    @Bean(CALENDAR_TASK_EXECUTOR)
+    BoundedVirtualThreadTaskExecutor calendarTaskExecutor(AsyncProperties asyncProperties, MeterRegistry meterRegistry) {
+        return new BoundedVirtualThreadTaskExecutor(CALENDAR_TASK_EXECUTOR, asyncProperties.getCalendar(), asyncProperties.getShutdownTimeout(), meterRegistry);
+    }
+
+    @Bean(EXTENSION_TASK_EXECUTOR)
+    BoundedVirtualThreadTaskExecutor extensionTaskExecutor(AsyncProperties asyncProperties, MeterRegistry meterRegistry) {
+        return new BoundedVirtualThreadTaskExecutor(EXTENSION_TASK_EXECUTOR, asyncProperties.getExtension(), asyncProperties.getShutdownTimeout(), meterRegistry);
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return simpleAsyncTaskExecutorBuilder.threadNamePrefix("async-").build();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (throwable, method, params) ->
+            LOG.error("Asynchronous execution of {}.{} failed", method.getDeclaringClass().getSimpleName(), method.getName(), throwable);
+    }
+}
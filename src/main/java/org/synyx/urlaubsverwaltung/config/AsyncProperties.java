@@ -0,0 +1,127 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.async")
+@Validated
+public class AsyncProperties {
+
+    /**
+     * Executes methods annotated with {@code @Async} on the executors below. If disabled, they are executed
+     * synchronously by the calling thread.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Time to wait on shutdown for queued and running tasks to be completed.
+     */
+    @NotNull
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Executor sending mails.
+     */
+    @Valid
+    private Executor mail = new Executor(4, 1000);
+
+    /**
+     * Executor updating the shared calendars.
+     */
+    @Valid
+    private Executor calendar = new Executor(2, 500);
+
+    /**
+     * Executor publishing events to extensions.
+     */
+    @Valid
+    private Executor extension = new Executor(4, 1000);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public void setShutdownTimeout(Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    public Executor getMail() {
+        return mail;
+    }
+
+    public void setMail(Executor mail) {
+        this.mail = mail;
+    }
+
+    public Executor getCalendar() {
+        return calendar;
+    }
+
+    public void setCalendar(Executor calendar) {
+        this.calendar = calendar;
+    }
+
+    public Executor getExtension() {
+        return extension;
+    }
+
+    public void setExtension(Executor extension) {
+        this.extension = extension;
+    }
+
+    public static class Executor {
+
+        /**
+         * Maximum number of tasks executed at the same time, each on its own virtual thread.
+         */
+        @Min(1)
+        private int concurrency;
+
+        /**
+         * Maximum number of tasks waiting for execution. Tasks submitted to a full queue are executed
+         * by the submitting thread, which slows down the producer instead of dropping the task.
+         */
+        @Min(0)
+        private int queueCapacity;
+
+        public Executor() {
+            // for property binding
+        }
+
+        Executor(int concurrency, int queueCapacity) {
+            this.concurrency = concurrency;
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public void setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.synyx.urlaubsverwaltung.config;
+
+/**
+ * Names of the executors to be used with {@code @Async}, see {@link AsyncProperties}.
+ */
+public final class AsyncTaskExecutors {
+
+    public static final String MAIL_TASK_EXECUTOR = "mailTaskExecutor";
+    public static final String CALENDAR_TASK_EXECUTOR = "calendarTaskExecutor";
+    public static final String EXTENSION_TASK_EXECUTOR = "extensionTaskExecutor";
+
+    private AsyncTaskExecutors() {
+        // ok
+    }
+}
@@ -0,0 +1,159 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.util.concurrent.FutureUtils;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.isSynchronizationActive;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization;
+
+/**
+ * Executes at most {@link AsyncProperties.Executor#getConcurrency()} tasks at the same time on virtual threads.
+ *
+ * <p>
+ * Further tasks are queued up to {@link AsyncProperties.Executor#getQueueCapacity()}. Tasks submitted to a full queue
+ * are executed by the submitting thread, so producers are slowed down instead of tasks being dropped. On shutdown no
+ * further tasks are accepted and the queued and running tasks are awaited up to the given timeout.
+ *
+ * <p>
+ * Besides the executor metrics of micrometer ({@code executor.queued}, {@code executor.active}, ...) the time tasks
+ * wait in the queue ({@code executor.idle}), the time tasks are executed ({@code executor}) and the number of tasks
+ * executed by the submitting thread ({@code executor.caller.runs}) are recorded, all tagged with the name of the executor.
+ *
+ * <p>
+ * Tasks submitted within a transaction are handed to the executor after the transaction has been committed and are
+ * discarded if it is rolled back, so a task never reads data that has not been committed yet, e.g. a mail about an
+ * application for leave that has just been applied for.
+ */
+class BoundedVirtualThreadTaskExecutor extends ThreadPoolTaskExecutor {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private final String name;
+    private final MeterRegistry meterRegistry;
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+    private final Counter callerRuns;
+
+    BoundedVirtualThreadTaskExecutor(String name, AsyncProperties.Executor properties, Duration shutdownTimeout, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.meterRegistry = meterRegistry;
+
+        this.waitTimer = Timer.builder("executor.idle")
+            .description("Time tasks wait in the queue of the executor")
+            .tag("name", name)
+            .register(meterRegistry);
+        this.executionTimer = Timer.builder("executor")
+            .description("Time tasks are executed by the executor")
+            .tag("name", name)
+            .register(meterRegistry);
+        this.callerRuns = Counter.builder("executor.caller.runs")
+            .description("Number of tasks executed by the submitting thread because the queue of the executor was full")
+            .tag("name", name)
+            .register(meterRegistry);
+
+        setBeanName(name);
+        setThreadFactory(Thread.ofVirtual().name(name + "-", 0).factory());
+        setCorePoolSize(properties.getConcurrency());
+        setMaxPoolSize(properties.getConcurrency());
+        setQueueCapacity(properties.getQueueCapacity());
+        setRejectedExecutionHandler(this::runInCallerThread);
+        setTaskDecorator(this::timed);
+        setWaitForTasksToCompleteOnShutdown(true);
+        setAwaitTerminationMillis(shutdownTimeout.toMillis());
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (isSynchronizationActive()) {
+            registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    BoundedVirtualThreadTaskExecutor.super.execute(task);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        LOG.debug("Transaction has not been committed, task of executor {} is discarded", name);
+                    }
+                }
+            });
+        } else {
+            super.execute(task);
+        }
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        final FutureTask<Object> future = new FutureTask<>(task, null);
+        execute(future);
+        return future;
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        final FutureTask<T> future = new FutureTask<>(task);
+        execute(future);
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Void> submitCompletable(Runnable task) {
+        return CompletableFuture.runAsync(task, this::execute);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submitCompletable(Callable<T> task) {
+        return FutureUtils.callAsync(task, this::execute);
+    }
+
+    @Override
+    protected ExecutorService initializeExecutor(ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+        final ExecutorService executorService = super.initializeExecutor(threadFactory, rejectedExecutionHandler);
+        new ExecutorServiceMetrics(executorService, name, Tags.empty()).bindTo(meterRegistry);
+        return executorService;
+    }
+
+    private Runnable timed(Runnable task) {
+        final long submittedAt = System.nanoTime();
+        return () -> {
+            final long startedAt = System.nanoTime();
+            waitTimer.record(Duration.ofNanos(startedAt - submittedAt));
+            try {
+                task.run();
+            } finally {
+                executionTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+            }
+        };
+    }
+
+    private void runInCallerThread(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            LOG.warn("Executor {} has been shut down, task is discarded", name);
+            return;
+        }
+
+        LOG.debug("Queue of executor {} is full, executing task by the submitting thread", name);
+        callerRuns.increment();
+        task.run();
+    }
+}
@@ -0,0 +1,57 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.SharedCacheMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.hibernate.cache.jcache.ConfigSettings.CACHE_MANAGER;
+import static org.hibernate.cache.jcache.ConfigSettings.MISSING_CACHE_STRATEGY;
+import static org.hibernate.cache.jcache.ConfigSettings.SIMPLE_FACTORY_NAME;
+import static org.hibernate.cache.jcache.MissingCacheStrategy.FAIL;
+import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.JAKARTA_SHARED_CACHE_MODE;
+import static org.hibernate.cfg.AvailableSettings.USE_QUERY_CACHE;
+import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
+
+/**
+ * Caches read-mostly reference data (persons, departments, working times, vacation types and settings) in the
+ * second-level cache of hibernate, so that e.g. the signed-in person or the settings are not selected again and
+ * again by every request. Only entities and collections annotated with {@link org.hibernate.annotations.Cache}
+ * are cached, see {@link SecondLevelCacheRegions}.
+ *
+ * <p>
+ * The regions are bounded Caffeine caches provided by JCache, see {@link SecondLevelCacheManagerFactory}. Regions
+ * that are not configured there are not created, so nothing is cached without bounds.
+ *
+ * <p>
+ * The cache is stored in the local JVM and is disabled by default. It must not be enabled if the application is
+ * running with more than one instance, as changes made by one instance are not visible to the others until the
+ * entries expire.
+ */
+@Configuration
+@ConditionalOnProperty(value = "uv.cache.second-level.enabled", havingValue = "true")
+class SecondLevelCacheConfiguration {
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(SecondLevelCacheProperties secondLevelCacheProperties,
+                                                                                MeterRegistry meterRegistry) {
+        final SecondLevelCacheManagerFactory cacheManagerFactory = new SecondLevelCacheManagerFactory(secondLevelCacheProperties, meterRegistry);
+        return properties -> {
+            properties.put(USE_SECOND_LEVEL_CACHE, true);
+            properties.put(USE_QUERY_CACHE, false);
+            properties.put(JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+            properties.put(CACHE_REGION_FACTORY, SIMPLE_FACTORY_NAME);
+            properties.put(CACHE_MANAGER, cacheManagerFactory.create());
+            properties.put(MISSING_CACHE_STRATEGY, FAIL.getExternalRepresentation());
+        };
+    }
+
+    @Bean
+    SecondLevelCacheEviction secondLevelCacheEviction(EntityManagerFactory entityManagerFactory) {
+        return new SecondLevelCacheEviction(entityManagerFactory);
+    }
+}
@@ -0,0 +1,80 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.slf4j.Logger;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeUpdatedEvent;
+import org.synyx.urlaubsverwaltung.department.DepartmentChangedEvent;
+import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
+import org.synyx.urlaubsverwaltung.person.PersonDisabledEvent;
+import org.synyx.urlaubsverwaltung.person.PersonUpdatedEvent;
+import org.synyx.urlaubsverwaltung.settings.SettingsUpdatedEvent;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.config.SecondLevelCacheRegions.DEPARTMENT;
+import static org.synyx.urlaubsverwaltung.config.SecondLevelCacheRegions.PERSON;
+import static org.synyx.urlaubsverwaltung.config.SecondLevelCacheRegions.SETTINGS;
+import static org.synyx.urlaubsverwaltung.config.SecondLevelCacheRegions.VACATION_TYPE;
+import static org.synyx.urlaubsverwaltung.config.SecondLevelCacheRegions.WORKING_TIME;
+
+/**
+ * Evicts the regions of the second-level cache affected by an update of the reference data.
+ *
+ * <p>
+ * Hibernate keeps the cache up to date on its own for changes made through the entity manager. The regions are
+ * evicted anyway after such an update has been committed, so changes hibernate does not know about (e.g. bulk
+ * updates or changes of collections by native queries) are never served from the cache longer than until the next
+ * update of the same kind of reference data.
+ */
+class SecondLevelCacheEviction {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    SecondLevelCacheEviction(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(SettingsUpdatedEvent event) {
+        evict(SETTINGS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(VacationTypeUpdatedEvent event) {
+        evict(VACATION_TYPE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(PersonUpdatedEvent event) {
+        evict(PERSON);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(PersonDisabledEvent event) {
+        evict(PERSON);
+    }
+
+    /**
+     * A deleted person is removed from departments and its working times are deleted as well.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(PersonDeletedEvent event) {
+        evict(PERSON);
+        evict(DEPARTMENT);
+        evict(WORKING_TIME);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(DepartmentChangedEvent event) {
+        evict(DEPARTMENT);
+    }
+
+    private void evict(String regionName) {
+        LOG.debug("Evicting region {} of the second-level cache", regionName);
+        entityManagerFactory.getCache().unwrap(Cache.class).evictRegion(regionName);
+    }
+}
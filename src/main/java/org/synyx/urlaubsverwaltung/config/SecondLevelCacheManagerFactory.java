@@ -0,0 +1,110 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.Factory;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryListener;
+import javax.cache.event.CacheEntryRemovedListener;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Creates the {@link CacheManager} holding the regions of the second-level cache, one bounded Caffeine cache for
+ * each of the {@link SecondLevelCacheRegions}. Hibernate takes over the cache manager and closes it on shutdown.
+ *
+ * <p>
+ * Records the lookups ({@code cache.gets} tagged with {@code result} {@code hit} or {@code miss}), the evicted,
+ * expired and removed entries ({@code cache.evictions}) and the number of entries ({@code cache.size}), all tagged
+ * with the name of the region as {@code cache}. Clearing a whole region, e.g. by {@link SecondLevelCacheEviction},
+ * is not counted as eviction.
+ */
+class SecondLevelCacheManagerFactory {
+
+    private static final String METRIC_CACHE_GETS = "cache.gets";
+    private static final String METRIC_CACHE_EVICTIONS = "cache.evictions";
+    private static final String METRIC_CACHE_SIZE = "cache.size";
+
+    private final SecondLevelCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    SecondLevelCacheManagerFactory(SecondLevelCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    CacheManager create() {
+
+        // every application context gets its own cache manager, the caching provider shares them by uri
+        final URI uri = URI.create("urlaubsverwaltung-second-level-cache-" + UUID.randomUUID());
+        final CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager(uri, getClass().getClassLoader());
+
+        for (String regionName : SecondLevelCacheRegions.all()) {
+            final Cache<Object, Object> cache = cacheManager.createCache(regionName, configuration(regionName));
+            registerMetrics(regionName, cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class));
+        }
+
+        return cacheManager;
+    }
+
+    private CaffeineConfiguration<Object, Object> configuration(String regionName) {
+
+        final Counter evictions = Counter.builder(METRIC_CACHE_EVICTIONS)
+            .description("Number of entries evicted from the second-level cache")
+            .tag("cache", regionName)
+            .register(meterRegistry);
+        final Factory<CacheEntryListener<? super Object, ? super Object>> evictionListener = () -> new EvictionListener(evictions);
+
+        final CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(properties.getMaximumSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(properties.getTimeToLive().toNanos()));
+        // hibernate stores immutable cache entries, copying them on every access is not needed
+        configuration.setStoreByValue(false);
+        configuration.setNativeStatisticsEnabled(true);
+        configuration.addCacheEntryListenerConfiguration(
+            new MutableCacheEntryListenerConfiguration<>(evictionListener, null, false, true));
+        return configuration;
+    }
+
+    private void registerMetrics(String regionName, com.github.benmanes.caffeine.cache.Cache<?, ?> cache) {
+        FunctionCounter.builder(METRIC_CACHE_GETS, cache, c -> c.stats().hitCount())
+            .description("Number of lookups answered from the second-level cache")
+            .tags("cache", regionName, "result", "hit")
+            .register(meterRegistry);
+        FunctionCounter.builder(METRIC_CACHE_GETS, cache, c -> c.stats().missCount())
+            .description("Number of lookups not answered from the second-level cache")
+            .tags("cache", regionName, "result", "miss")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_CACHE_SIZE, cache, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+            .description("Number of entries in the second-level cache")
+            .tag("cache", regionName)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Counts the entries evicted because of the size bound or the time to live and the entries removed by hibernate.
+     */
+    private record EvictionListener(Counter evictions)
+        implements CacheEntryRemovedListener<Object, Object>, CacheEntryExpiredListener<Object, Object> {
+
+        @Override
+        public void onRemoved(Iterable<CacheEntryEvent<?, ?>> events) {
+            events.forEach(event -> evictions.increment());
+        }
+
+        @Override
+        public void onExpired(Iterable<CacheEntryEvent<?, ?>> events) {
+            events.forEach(event -> evictions.increment());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties("uv.cache.second-level")
+@Validated
+public class SecondLevelCacheProperties {
+
+    /**
+     * Caches persons, departments, working times, vacation types and settings in the local JVM.
+     * Must not be enabled if more than one instance of the application is running.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of entries of each region, e.g. of the persons. Least recently used entries are evicted first.
+     */
+    @Min(1)
+    private long maximumSize = 10_000;
+
+    /**
+     * Time after which an entry is evicted after it has been stored.
+     */
+    @NotNull
+    private Duration timeToLive = Duration.ofHours(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+}
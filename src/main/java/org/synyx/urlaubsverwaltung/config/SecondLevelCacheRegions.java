@@ -0,0 +1,25 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import java.util.List;
+
+/**
+ * Names of the regions of the second-level cache, see {@link SecondLevelCacheConfiguration}.
+ *
+ * <p>The collections of an entity are cached in the region of the entity, so evicting the region evicts both.</p>
+ */
+public final class SecondLevelCacheRegions {
+
+    public static final String PERSON = "person";
+    public static final String DEPARTMENT = "department";
+    public static final String WORKING_TIME = "workingTime";
+    public static final String VACATION_TYPE = "vacationType";
+    public static final String SETTINGS = "settings";
+
+    static List<String> all() {
+        return List.of(PERSON, DEPARTMENT, WORKING_TIME, VACATION_TYPE, SETTINGS);
+    }
+
+    private SecondLevelCacheRegions() {
+        // only constants
+    }
+}
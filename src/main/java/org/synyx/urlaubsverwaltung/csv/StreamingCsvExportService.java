@@ -0,0 +1,93 @@
+package org.synyx.urlaubsverwaltung.csv;
+
+import com.opencsv.CSVWriter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.synyx.urlaubsverwaltung.web.FilterPeriod;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import static com.opencsv.ICSVWriter.DEFAULT_LINE_END;
+import static com.opencsv.ICSVWriter.DEFAULT_QUOTE_CHARACTER;
+import static com.opencsv.ICSVWriter.NO_QUOTE_CHARACTER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * {@link CsvExportService} that is able to write the csv directly into an {@link OutputStream} page by page,
+ * so that only the data of one page has to be held in memory regardless of the amount of exported data.
+ */
+public interface StreamingCsvExportService<T> extends CsvExportService<T> {
+
+    /**
+     * Writes the header rows into the csv writer
+     *
+     * @param period    to add period to csv
+     * @param locale    for i18n (messages and number formats)
+     * @param csvWriter to write the header
+     */
+    void writeHeader(FilterPeriod period, Locale locale, CSVWriter csvWriter);
+
+    /**
+     * Writes the rows of the data into the csv writer
+     *
+     * @param period    to add period to csv
+     * @param locale    for i18n (messages and number formats)
+     * @param data      are the main information for the csv
+     * @param csvWriter to write the rows
+     */
+    void writeRows(FilterPeriod period, Locale locale, List<T> data, CSVWriter csvWriter);
+
+    @Override
+    default void write(FilterPeriod period, Locale locale, List<T> data, CSVWriter csvWriter) {
+        writeHeader(period, locale, csvWriter);
+        writeRows(period, locale, data, csvWriter);
+    }
+
+    /**
+     * Writes the csv with the given data into the output stream.
+     *
+     * @param period       will be used to create the content of the csv file
+     * @param locale       for i18n (messages and number formats)
+     * @param data         will be used to create the content of the csv file
+     * @param outputStream to write the csv into, is flushed but not closed
+     */
+    default void write(FilterPeriod period, Locale locale, List<T> data, OutputStream outputStream) {
+        writeAllPages(period, locale, Pageable.unpaged(), unpaged -> new PageImpl<>(data), outputStream);
+    }
+
+    /**
+     * Writes the csv into the output stream. The data is fetched page by page starting with the given pageable
+     * until there is no next page, every page is flushed to the output stream before the next one is fetched.
+     *
+     * @param period       will be used to create the content of the csv file
+     * @param locale       for i18n (messages and number formats)
+     * @param firstPage    to start with, defines the page size and sort of all pages
+     * @param pageSupplier provides the data of the requested page
+     * @param outputStream to write the csv into, is flushed but not closed
+     */
+    default void writeAllPages(FilterPeriod period, Locale locale, Pageable firstPage, Function<Pageable, Page<T>> pageSupplier, OutputStream outputStream) {
+        try {
+            outputStream.write(bom());
+
+            final CSVWriter csvWriter = new CSVWriter(new OutputStreamWriter(outputStream, UTF_8), separator(), NO_QUOTE_CHARACTER, DEFAULT_QUOTE_CHARACTER, DEFAULT_LINE_END);
+            writeHeader(period, locale, csvWriter);
+
+            Pageable pageable = firstPage;
+            Page<T> page;
+            do {
+                page = pageSupplier.apply(pageable);
+                writeRows(period, locale, page.getContent(), csvWriter);
+                csvWriter.flush();
+                pageable = page.nextPageable();
+            } while (page.hasNext());
+        } catch (IOException e) {
+            throw new CsvExportException("csv data could not be written to output stream", e);
+        }
+    }
+}
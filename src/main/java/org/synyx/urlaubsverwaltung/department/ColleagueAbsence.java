@@ -0,0 +1,43 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.synyx.urlaubsverwaltung.department.PersonCopies.copyOf;
+
+/**
+ * Immutable snapshot of an active application of a colleague, as cached by the {@link ColleagueAbsenceCache}.
+ *
+ * <p>
+ * The person is a copy detached from any persistence context. Every call of {@link #toApplication()} hands out
+ * a new application and person, so the cached snapshot can't be changed by the callers.
+ */
+record ColleagueAbsence(Long id, Person person, LocalDate startDate, LocalTime startTime, LocalDate endDate,
+                        LocalTime endTime, DayLength dayLength, ApplicationStatus status, VacationType<?> vacationType) {
+
+    static ColleagueAbsence of(Application application) {
+        return new ColleagueAbsence(application.getId(), copyOf(application.getPerson()), application.getStartDate(),
+            application.getStartTime(), application.getEndDate(), application.getEndTime(), application.getDayLength(),
+            application.getStatus(), application.getVacationType());
+    }
+
+    Application toApplication() {
+        final Application application = new Application();
+        application.setId(id);
+        application.setPerson(copyOf(person));
+        application.setStartDate(startDate);
+        application.setStartTime(startTime);
+        application.setEndDate(endDate);
+        application.setEndTime(endTime);
+        application.setDayLength(dayLength);
+        application.setStatus(status);
+        application.setVacationType(vacationType);
+        return application;
+    }
+}
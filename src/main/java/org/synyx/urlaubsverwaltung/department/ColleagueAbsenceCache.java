@@ -0,0 +1,302 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedTemporarilyEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAppliedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCancellationRequestedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCancelledEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCreatedFromSickNoteEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationDeclinedCancellationRequestEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationDeletedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationRejectedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationRevokedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationUpdatedEvent;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeUpdatedEvent;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Comparator.comparing;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.activeStatuses;
+
+/**
+ * Caches the active applications of all members of a department per month.
+ *
+ * <p>
+ * The applications of the colleagues of a person are assembled from the buckets of the departments
+ * the person is member of. If there are no departments at all, the applications of all persons are cached
+ * in one bucket per month. Buckets belong to the current {@link DepartmentGraph} and are dropped as soon as
+ * the graph is rebuilt. Changes of applications evict the buckets of the departments of the applicant.
+ *
+ * <p>
+ * Buckets contain immutable {@link ColleagueAbsence snapshots} of the applications, every lookup hands out new
+ * {@link Application applications}. At most {@value #MAXIMUM_BUCKETS} buckets are kept, each one for at most
+ * {@link #EXPIRE_AFTER_WRITE}, which also limits how long changes of persons, e.g. of their names, are not visible.
+ */
+@Component
+class ColleagueAbsenceCache {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private static final String CACHE_NAME = "colleagueAbsences";
+    private static final String METRIC_CACHE_GETS = "cache.gets";
+    private static final String METRIC_CACHE_EVICTIONS = "cache.evictions";
+    private static final String METRIC_CACHE_SIZE = "cache.size";
+
+    static final long MAXIMUM_BUCKETS = 2_000;
+    static final Duration EXPIRE_AFTER_WRITE = Duration.ofHours(1);
+
+    /**
+     * Department id of the buckets containing the applications of all persons, used if there are no departments at all.
+     */
+    private static final Long ALL_PERSONS_ID = -1L;
+    private static final List<Long> ALL_PERSONS = List.of(ALL_PERSONS_ID);
+
+    private final ApplicationService applicationService;
+    private final DepartmentMembershipIndex departmentMembershipIndex;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    /**
+     * Incremented with every eviction. Buckets are only stored if no eviction happened while they have been loaded,
+     * stores hold the read lock and evictions the write lock, so no eviction can happen between check and store.
+     */
+    private final AtomicLong generation = new AtomicLong();
+    private final ReadWriteLock generationLock = new ReentrantReadWriteLock();
+    private final AtomicReference<Buckets> current;
+
+    ColleagueAbsenceCache(ApplicationService applicationService, DepartmentMembershipIndex departmentMembershipIndex, MeterRegistry meterRegistry) {
+        this.applicationService = applicationService;
+        this.departmentMembershipIndex = departmentMembershipIndex;
+        this.hits = Counter.builder(METRIC_CACHE_GETS)
+            .description("Number of colleague absence lookups answered from the cache")
+            .tags("cache", CACHE_NAME, "result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder(METRIC_CACHE_GETS)
+            .description("Number of colleague absence lookups that had to be loaded")
+            .tags("cache", CACHE_NAME, "result", "miss")
+            .register(meterRegistry);
+        this.evictions = Counter.builder(METRIC_CACHE_EVICTIONS)
+            .description("Number of evicted colleague absence buckets")
+            .tag("cache", CACHE_NAME)
+            .register(meterRegistry);
+        this.current = new AtomicReference<>(newBuckets(null));
+        Gauge.builder(METRIC_CACHE_SIZE, current, buckets -> buckets.get().applications().estimatedSize())
+            .description("Number of cached colleague absence buckets")
+            .tag("cache", CACHE_NAME)
+            .register(meterRegistry);
+    }
+
+    /**
+     * @param person    the person to get the applications of the colleagues for
+     * @param startDate start of the period (inclusive)
+     * @param endDate   end of the period (inclusive)
+     * @return active applications of all colleagues of the given person, ordered by start date
+     */
+    List<Application> getApplicationsFromColleaguesOf(Person person, LocalDate startDate, LocalDate endDate) {
+
+        final DepartmentGraph graph = departmentMembershipIndex.graph();
+        final Buckets buckets = bucketsOf(graph);
+
+        final List<Long> departmentIds = graph.getNumberOfDepartments() == 0
+            ? ALL_PERSONS
+            : graph.getDepartmentIdsOfMember(person);
+
+        final Map<Long, ColleagueAbsence> absencesById = new LinkedHashMap<>();
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(YearMonth.from(endDate)); month = month.plusMonths(1)) {
+            for (Long departmentId : departmentIds) {
+                for (ColleagueAbsence absence : bucket(graph, buckets, new BucketKey(departmentId, month))) {
+                    absencesById.putIfAbsent(absence.id(), absence);
+                }
+            }
+        }
+
+        return absencesById.values().stream()
+            .filter(absence -> !absence.person().equals(person))
+            .filter(absence -> !absence.startDate().isAfter(endDate) && !absence.endDate().isBefore(startDate))
+            .sorted(comparing(ColleagueAbsence::startDate))
+            .map(ColleagueAbsence::toApplication)
+            .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(ApplicationAppliedEvent event) {
+        evict(event.application());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(ApplicationAllowedEvent event) {
+        evict(event.application());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(ApplicationAllowedTemporarilyEvent event) {
+        evict(event.application());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(ApplicationRejectedEvent event) {
+        evict(event.application());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(ApplicationCancelledEvent event) {
+        evict(event.application());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(ApplicationRevokedEvent event) {
+        evict(event.application());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(ApplicationCancellationRequestedEvent event) {
+        evict(event.application());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(ApplicationDeclinedCancellationRequestEvent event) {
+        evict(event.application());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(ApplicationCreatedFromSickNoteEvent event) {
+        evict(event.application());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(ApplicationUpdatedEvent event) {
+        evict(event.application());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(ApplicationDeletedEvent event) {
+        evict(event.application());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(VacationTypeUpdatedEvent event) {
+        generationLock.writeLock().lock();
+        try {
+            generation.incrementAndGet();
+            current.get().applications().invalidateAll();
+        } finally {
+            generationLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Evicts all months of the departments of the applicant, because the period of an updated application
+     * may have been changed.
+     */
+    private void evict(Application application) {
+        generationLock.writeLock().lock();
+        try {
+            generation.incrementAndGet();
+
+            final Buckets buckets = current.get();
+            if (buckets.graph() == null) {
+                return;
+            }
+
+            final List<Long> departmentIds = new ArrayList<>(buckets.graph().getDepartmentIdsOfMember(application.getPerson()));
+            departmentIds.addAll(ALL_PERSONS);
+
+            buckets.applications().asMap().keySet().removeIf(key -> departmentIds.contains(key.departmentId()));
+        } finally {
+            generationLock.writeLock().unlock();
+        }
+    }
+
+    private Buckets bucketsOf(DepartmentGraph graph) {
+        return current.updateAndGet(buckets -> buckets.graph() == graph ? buckets : newBuckets(graph));
+    }
+
+    private Buckets newBuckets(DepartmentGraph graph) {
+        final Cache<BucketKey, List<ColleagueAbsence>> applications = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_BUCKETS)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .executor(Runnable::run)
+            .removalListener((BucketKey key, List<ColleagueAbsence> bucket, RemovalCause cause) -> {
+                if (cause != RemovalCause.REPLACED) {
+                    evictions.increment();
+                }
+            })
+            .build();
+        return new Buckets(graph, applications);
+    }
+
+    private List<ColleagueAbsence> bucket(DepartmentGraph graph, Buckets buckets, BucketKey key) {
+
+        final List<ColleagueAbsence> cached = buckets.applications().getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        // applications loaded while an application has been changed are handed out once, but never stored
+        final long expectedGeneration = generation.get();
+        final List<ColleagueAbsence> loaded = load(graph, key).stream().map(ColleagueAbsence::of).toList();
+
+        generationLock.readLock().lock();
+        try {
+            if (generation.get() == expectedGeneration) {
+                buckets.applications().asMap().putIfAbsent(key, loaded);
+            }
+        } finally {
+            generationLock.readLock().unlock();
+        }
+
+        LOG.debug("Loaded {} applications of department {} in {}", loaded.size(), key.departmentId(), key.month());
+        return loaded;
+    }
+
+    private List<Application> load(DepartmentGraph graph, BucketKey key) {
+
+        final LocalDate firstDayOfMonth = key.month().atDay(1);
+        final LocalDate lastDayOfMonth = key.month().atEndOfMonth();
+
+        if (ALL_PERSONS_ID.equals(key.departmentId())) {
+            return applicationService.getForStates(activeStatuses(), firstDayOfMonth, lastDayOfMonth);
+        }
+
+        final List<Person> members = graph.getMembersOfDepartment(key.departmentId());
+        if (members.isEmpty()) {
+            return List.of();
+        }
+
+        return applicationService.getForStatesAndPerson(activeStatuses(), members, firstDayOfMonth, lastDayOfMonth);
+    }
+
+    private record BucketKey(Long departmentId, YearMonth month) {
+    }
+
+    private record Buckets(DepartmentGraph graph, Cache<BucketKey, List<ColleagueAbsence>> applications) {
+    }
+}
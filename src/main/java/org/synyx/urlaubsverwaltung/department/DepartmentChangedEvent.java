@@ -0,0 +1,9 @@
+package org.synyx.urlaubsverwaltung.department;
+
+/**
+ * Published after a department has been created, updated or deleted.
+ *
+ * @param departmentId id of the changed department
+ */
+public record DepartmentChangedEvent(Long departmentId) {
+}
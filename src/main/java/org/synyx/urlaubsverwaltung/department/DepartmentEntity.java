@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.department;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -10,6 +11,8 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.Fetch;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.time.LocalDate;
@@ -17,11 +20,15 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
-import static jakarta.persistence.FetchType.EAGER;
 import static jakarta.persistence.GenerationType.SEQUENCE;
 import static java.time.ZoneOffset.UTC;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
+import static org.hibernate.annotations.FetchMode.SUBSELECT;
+import static org.synyx.urlaubsverwaltung.config.SecondLevelCacheRegions.DEPARTMENT;
 
 @Entity(name = "department")
+@Cacheable
+@Cache(usage = READ_WRITE, region = DEPARTMENT)
 class DepartmentEntity {
 
     @Id
@@ -43,15 +50,22 @@ class DepartmentEntity {
     // flag for two stage approval process
     private boolean twoStageApproval;
 
+    // collections are loaded lazily, but for all departments of the same query at once
+    @Cache(usage = READ_WRITE, region = DEPARTMENT)
     @CollectionTable(name = "department_member", joinColumns = @JoinColumn(name = "department_id"))
-    @ElementCollection(fetch = EAGER)
+    @ElementCollection
+    @Fetch(SUBSELECT)
     private List<DepartmentMemberEmbeddable> members = new ArrayList<>();
 
-    @OneToMany(fetch = EAGER)
+    @Cache(usage = READ_WRITE, region = DEPARTMENT)
+    @OneToMany
+    @Fetch(SUBSELECT)
     @CollectionTable(name = "department_department_head")
     private List<Person> departmentHeads = new ArrayList<>();
 
-    @OneToMany(fetch = EAGER)
+    @Cache(usage = READ_WRITE, region = DEPARTMENT)
+    @OneToMany
+    @Fetch(SUBSELECT)
     @CollectionTable(name = "department_second_stage_authority")
     private List<Person> secondStageAuthorities = new ArrayList<>();
 
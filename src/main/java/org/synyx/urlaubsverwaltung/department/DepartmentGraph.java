@@ -0,0 +1,299 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+import static org.synyx.urlaubsverwaltung.department.PersonCopies.copyOf;
+
+/**
+ * Immutable snapshot of all department relations.
+ *
+ * <p>
+ * Departments are mapped to a dense index, so the departments of a person can be stored as {@link BitSet}.
+ * Managed members are stored as hash sets to answer membership tests in constant time, the department heads and
+ * second stage authorities allowed to manage a person are stored the other way round to look up the responsible
+ * managers of a person without testing every manager.
+ *
+ * <p>
+ * The relations are stored by the ids of the persons. The graph keeps its own copies of the persons, detached from
+ * the persistence context it has been built in, and hands out new copies on every call, as it is shared by all
+ * threads.
+ */
+final class DepartmentGraph {
+
+    private static final BitSet NO_DEPARTMENTS = new BitSet();
+
+    private final List<Long> departmentIds;
+    private final Map<Long, Person> personsById;
+    private final Map<Long, List<Long>> membersByDepartmentId;
+
+    private final Map<Long, BitSet> departmentsByMember;
+    private final Map<Long, BitSet> departmentsByDepartmentHead;
+    private final Map<Long, BitSet> departmentsBySecondStageAuthority;
+
+    private final Map<Long, Set<Long>> membersByDepartmentHead;
+    private final Map<Long, Set<Long>> membersBySecondStageAuthority;
+    private final Map<Long, Set<Long>> managedMembersByDepartmentHead;
+    private final Map<Long, Set<Long>> managedMembersBySecondStageAuthority;
+    private final Map<Long, Set<Long>> departmentHeadsByManagedMember;
+    private final Map<Long, Set<Long>> secondStageAuthoritiesByManagedMember;
+
+    private DepartmentGraph(List<Long> departmentIds,
+                            Map<Long, Person> personsById,
+                            Map<Long, List<Long>> membersByDepartmentId,
+                            Map<Long, BitSet> departmentsByMember,
+                            Map<Long, BitSet> departmentsByDepartmentHead,
+                            Map<Long, BitSet> departmentsBySecondStageAuthority,
+                            Map<Long, Set<Long>> membersByDepartmentHead,
+                            Map<Long, Set<Long>> membersBySecondStageAuthority,
+                            Map<Long, Set<Long>> managedMembersByDepartmentHead,
+                            Map<Long, Set<Long>> managedMembersBySecondStageAuthority,
+                            Map<Long, Set<Long>> departmentHeadsByManagedMember,
+                            Map<Long, Set<Long>> secondStageAuthoritiesByManagedMember) {
+        this.departmentIds = departmentIds;
+        this.personsById = personsById;
+        this.membersByDepartmentId = membersByDepartmentId;
+        this.departmentsByMember = departmentsByMember;
+        this.departmentsByDepartmentHead = departmentsByDepartmentHead;
+        this.departmentsBySecondStageAuthority = departmentsBySecondStageAuthority;
+        this.membersByDepartmentHead = membersByDepartmentHead;
+        this.membersBySecondStageAuthority = membersBySecondStageAuthority;
+        this.managedMembersByDepartmentHead = managedMembersByDepartmentHead;
+        this.managedMembersBySecondStageAuthority = managedMembersBySecondStageAuthority;
+        this.departmentHeadsByManagedMember = departmentHeadsByManagedMember;
+        this.secondStageAuthoritiesByManagedMember = secondStageAuthoritiesByManagedMember;
+    }
+
+    static DepartmentGraph of(List<DepartmentEntity> departments) {
+
+        final List<Long> departmentIds = new ArrayList<>(departments.size());
+        final Map<Long, Person> personsById = new HashMap<>();
+        final Map<Long, List<Long>> membersByDepartmentId = new HashMap<>();
+
+        final Map<Long, BitSet> departmentsByMember = new HashMap<>();
+        final Map<Long, BitSet> departmentsByDepartmentHead = new HashMap<>();
+        final Map<Long, BitSet> departmentsBySecondStageAuthority = new HashMap<>();
+
+        final Map<Long, Set<Long>> membersByDepartmentHead = new HashMap<>();
+        final Map<Long, Set<Long>> membersBySecondStageAuthority = new HashMap<>();
+        final Map<Long, Set<Long>> managedMembersByDepartmentHead = new HashMap<>();
+        final Map<Long, Set<Long>> managedMembersBySecondStageAuthority = new HashMap<>();
+        final Map<Long, Set<Long>> departmentHeadsByManagedMember = new HashMap<>();
+        final Map<Long, Set<Long>> secondStageAuthoritiesByManagedMember = new HashMap<>();
+
+        for (int departmentIndex = 0; departmentIndex < departments.size(); departmentIndex++) {
+            final DepartmentEntity department = departments.get(departmentIndex);
+
+            final List<Long> members = idsOf(department.getMembers().stream().map(DepartmentMemberEmbeddable::getPerson).toList(), personsById);
+            final List<Long> departmentHeads = idsOf(department.getDepartmentHeads(), personsById);
+            final List<Long> secondStageAuthorities = idsOf(department.getSecondStageAuthorities(), personsById);
+            final List<Long> managedMembers = members.stream()
+                .filter(member -> !secondStageAuthorities.contains(member))
+                .toList();
+
+            departmentIds.add(department.getId());
+            membersByDepartmentId.put(department.getId(), members);
+
+            for (Long member : members) {
+                departmentsByMember.computeIfAbsent(member, id -> new BitSet()).set(departmentIndex);
+            }
+
+            for (Long departmentHead : departmentHeads) {
+                departmentsByDepartmentHead.computeIfAbsent(departmentHead, id -> new BitSet()).set(departmentIndex);
+                membersByDepartmentHead.computeIfAbsent(departmentHead, id -> new LinkedHashSet<>()).addAll(members);
+                managedMembersByDepartmentHead.computeIfAbsent(departmentHead, id -> new LinkedHashSet<>()).addAll(managedMembers);
+                for (Long managedMember : managedMembers) {
+                    departmentHeadsByManagedMember.computeIfAbsent(managedMember, id -> new LinkedHashSet<>()).add(departmentHead);
+                }
+            }
+
+            for (Long secondStageAuthority : secondStageAuthorities) {
+                departmentsBySecondStageAuthority.computeIfAbsent(secondStageAuthority, id -> new BitSet()).set(departmentIndex);
+                membersBySecondStageAuthority.computeIfAbsent(secondStageAuthority, id -> new LinkedHashSet<>()).addAll(members);
+                managedMembersBySecondStageAuthority.computeIfAbsent(secondStageAuthority, id -> new LinkedHashSet<>()).addAll(managedMembers);
+                for (Long managedMember : managedMembers) {
+                    secondStageAuthoritiesByManagedMember.computeIfAbsent(managedMember, id -> new LinkedHashSet<>()).add(secondStageAuthority);
+                }
+            }
+        }
+
+        return new DepartmentGraph(
+            unmodifiableList(departmentIds),
+            personsById,
+            membersByDepartmentId,
+            departmentsByMember,
+            departmentsByDepartmentHead,
+            departmentsBySecondStageAuthority,
+            unmodifiableValues(membersByDepartmentHead),
+            unmodifiableValues(membersBySecondStageAuthority),
+            unmodifiableValues(managedMembersByDepartmentHead),
+            unmodifiableValues(managedMembersBySecondStageAuthority),
+            unmodifiableValues(departmentHeadsByManagedMember),
+            unmodifiableValues(secondStageAuthoritiesByManagedMember)
+        );
+    }
+
+    /**
+     * @return the number of departments
+     */
+    int getNumberOfDepartments() {
+        return departmentIds.size();
+    }
+
+    /**
+     * @param member person that is member of departments
+     * @return ids of all departments the given person is member of, in order of the departments
+     */
+    List<Long> getDepartmentIdsOfMember(Person member) {
+        return departmentsByMember.getOrDefault(member.getId(), NO_DEPARTMENTS).stream()
+            .mapToObj(departmentIds::get)
+            .toList();
+    }
+
+    /**
+     * @param departmentId id of the department
+     * @return all members of the given department, empty if the department does not exist
+     */
+    List<Person> getMembersOfDepartment(Long departmentId) {
+        return personsOf(membersByDepartmentId.getOrDefault(departmentId, List.of()));
+    }
+
+    /**
+     * @param departmentHead person that is department head
+     * @return all members of all departments the given person is department head of, in order of the departments
+     */
+    List<Person> getMembersOfDepartmentHead(Person departmentHead) {
+        return personsOf(membersByDepartmentHead.getOrDefault(departmentHead.getId(), Set.of()));
+    }
+
+    /**
+     * @param departmentHead person that is department head
+     * @param person         person to check
+     * @return whether the given person is member of any department the given person is department head of
+     */
+    boolean isMemberOfDepartmentHead(Person departmentHead, Person person) {
+        return membersByDepartmentHead.getOrDefault(departmentHead.getId(), Set.of()).contains(person.getId());
+    }
+
+    /**
+     * @param secondStageAuthority person that is second stage authority
+     * @return all members of all departments the given person is second stage authority of, in order of the departments
+     */
+    List<Person> getMembersOfSecondStageAuthority(Person secondStageAuthority) {
+        return personsOf(membersBySecondStageAuthority.getOrDefault(secondStageAuthority.getId(), Set.of()));
+    }
+
+    /**
+     * @param secondStageAuthority person that is second stage authority
+     * @param person               person to check
+     * @return whether the given person is member of any department the given person is second stage authority of
+     */
+    boolean isMemberOfSecondStageAuthority(Person secondStageAuthority, Person person) {
+        return membersBySecondStageAuthority.getOrDefault(secondStageAuthority.getId(), Set.of()).contains(person.getId());
+    }
+
+    /**
+     * Members that are second stage authority of the very same department are not managed by the department head.
+     *
+     * @param departmentHead person that is department head
+     * @return all members the given department head is allowed to manage
+     */
+    List<Person> getManagedMembersOfDepartmentHead(Person departmentHead) {
+        return personsOf(managedMembersByDepartmentHead.getOrDefault(departmentHead.getId(), Set.of()));
+    }
+
+    /**
+     * @param departmentHead person that is department head
+     * @param person         person to check
+     * @return whether the given department head is allowed to manage the given person
+     */
+    boolean isManagedMemberOfDepartmentHead(Person departmentHead, Person person) {
+        return managedMembersByDepartmentHead.getOrDefault(departmentHead.getId(), Set.of()).contains(person.getId());
+    }
+
+    /**
+     * Members that are second stage authority of the very same department are not managed by the second stage authority.
+     *
+     * @param secondStageAuthority person that is second stage authority
+     * @return all members the given second stage authority is allowed to manage
+     */
+    List<Person> getManagedMembersOfSecondStageAuthority(Person secondStageAuthority) {
+        return personsOf(managedMembersBySecondStageAuthority.getOrDefault(secondStageAuthority.getId(), Set.of()));
+    }
+
+    /**
+     * @param secondStageAuthority person that is second stage authority
+     * @param person               person to check
+     * @return whether the given second stage authority is allowed to manage the given person
+     */
+    boolean isManagedMemberOfSecondStageAuthority(Person secondStageAuthority, Person person) {
+        return managedMembersBySecondStageAuthority.getOrDefault(secondStageAuthority.getId(), Set.of()).contains(person.getId());
+    }
+
+    /**
+     * Inverse of {@link #getManagedMembersOfDepartmentHead(Person)}.
+     *
+     * @param member person that is member of departments
+     * @return all department heads allowed to manage the given person, regardless of their role
+     */
+    List<Person> getDepartmentHeadsOfManagedMember(Person member) {
+        return personsOf(departmentHeadsByManagedMember.getOrDefault(member.getId(), Set.of()));
+    }
+
+    /**
+     * Inverse of {@link #getManagedMembersOfSecondStageAuthority(Person)}.
+     *
+     * @param member person that is member of departments
+     * @return all second stage authorities allowed to manage the given person, regardless of their role
+     */
+    List<Person> getSecondStageAuthoritiesOfManagedMember(Person member) {
+        return personsOf(secondStageAuthoritiesByManagedMember.getOrDefault(member.getId(), Set.of()));
+    }
+
+    /**
+     * @param person the person to get the departments for
+     * @param includeManaged whether departments the person is department head or second stage authority of are included
+     * @return departments of the person as index set
+     */
+    BitSet getDepartments(Person person, boolean includeManaged) {
+
+        final BitSet departments = (BitSet) departmentsByMember.getOrDefault(person.getId(), NO_DEPARTMENTS).clone();
+        if (includeManaged) {
+            departments.or(departmentsByDepartmentHead.getOrDefault(person.getId(), NO_DEPARTMENTS));
+            departments.or(departmentsBySecondStageAuthority.getOrDefault(person.getId(), NO_DEPARTMENTS));
+        }
+        return departments;
+    }
+
+    private List<Person> personsOf(Collection<Long> personIds) {
+        final List<Person> persons = new ArrayList<>(personIds.size());
+        for (Long personId : personIds) {
+            persons.add(copyOf(personsById.get(personId)));
+        }
+        return persons;
+    }
+
+    private static List<Long> idsOf(List<Person> persons, Map<Long, Person> personsById) {
+        final List<Long> ids = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            personsById.computeIfAbsent(person.getId(), id -> copyOf(person));
+            ids.add(person.getId());
+        }
+        return unmodifiableList(ids);
+    }
+
+    private static Map<Long, Set<Long>> unmodifiableValues(Map<Long, Set<Long>> map) {
+        map.replaceAll((id, ids) -> unmodifiableSet(ids));
+        return map;
+    }
+}
@@ -0,0 +1,10 @@
+package org.synyx.urlaubsverwaltung.department;
+
+/**
+ * Projection of a single department membership without loading the department or the person.
+ *
+ * @param personId id of the member
+ * @param departmentName name of the department
+ */
+record DepartmentMembership(Long personId, String departmentName) {
+}
@@ -0,0 +1,87 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
+import org.synyx.urlaubsverwaltung.person.PersonUpdatedEvent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Holds the current {@link DepartmentGraph} shared by all threads.
+ *
+ * <p>
+ * The graph is never modified, it is replaced (copy-on-write) with a new one that is built lazily on the next access
+ * after a department or a person has been changed.
+ */
+@Component
+class DepartmentMembershipIndex {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+    private static final String METRIC_DEPARTMENT_GRAPH_REBUILDS = "departments.graph.rebuilds";
+
+    private final DepartmentRepository departmentRepository;
+    private final TransactionOperations transactionOperations;
+    private final Counter rebuilds;
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<VersionedGraph> current = new AtomicReference<>();
+
+    DepartmentMembershipIndex(DepartmentRepository departmentRepository, TransactionOperations transactionOperations, MeterRegistry meterRegistry) {
+        this.departmentRepository = departmentRepository;
+        this.transactionOperations = transactionOperations;
+        this.rebuilds = Counter.builder(METRIC_DEPARTMENT_GRAPH_REBUILDS)
+            .description("Number of times the in-memory department graph has been rebuilt")
+            .register(meterRegistry);
+    }
+
+    DepartmentGraph graph() {
+
+        final long expectedVersion = version.get();
+        final VersionedGraph versionedGraph = current.get();
+        if (versionedGraph != null && versionedGraph.version() == expectedVersion) {
+            return versionedGraph.graph();
+        }
+
+        // department collections are lazy and have to be initialized within the same session
+        final DepartmentGraph graph = transactionOperations.execute(status -> DepartmentGraph.of(departmentRepository.findAll()));
+        rebuilds.increment();
+        LOG.debug("Rebuilt department graph for version {}", expectedVersion);
+
+        // a graph built while another change happened is handed out once, but never stored
+        final VersionedGraph rebuilt = new VersionedGraph(expectedVersion, graph);
+        current.accumulateAndGet(rebuilt, (existing, next) -> existing == null || existing.version() < next.version() ? next : existing);
+
+        return graph;
+    }
+
+    void invalidate() {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(DepartmentChangedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(PersonUpdatedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(PersonDeletedEvent event) {
+        invalidate();
+    }
+
+    private record VersionedGraph(long version, DepartmentGraph graph) {
+    }
+}
@@ -1,6 +1,8 @@
 package org.synyx.urlaubsverwaltung.department;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.util.List;
@@ -20,7 +22,16 @@ interface DepartmentRepository extends JpaRepository<DepartmentEntity, Long> {
 
     List<DepartmentEntity> findByMembersPerson(Person person);
 
-    List<DepartmentEntity> findDistinctByMembersPersonIn(List<Person> person);
+    @Query("""
+        select distinct d from department d left join d.members m
+        where m.person = :person
+            or (:includeDepartmentHead = true and :person member of d.departmentHeads)
+            or (:includeSecondStageAuthority = true and :person member of d.secondStageAuthorities)
+        """)
+    List<DepartmentEntity> findDepartmentsPersonHasAccessTo(@Param("person") Person person, @Param("includeDepartmentHead") boolean includeDepartmentHead, @Param("includeSecondStageAuthority") boolean includeSecondStageAuthority);
+
+    @Query("select new org.synyx.urlaubsverwaltung.department.DepartmentMembership(m.person.id, d.name) from department d join d.members m where m.person in :persons")
+    List<DepartmentMembership> findMembershipsOfPersons(@Param("persons") List<Person> persons);
 
     Optional<DepartmentEntity> findFirstByName(String departmentName);
 }
@@ -148,6 +148,16 @@ public interface DepartmentService {
      */
     boolean isDepartmentHeadAllowedToManagePerson(Person departmentHead, Person person);
 
+    /**
+     * Get all active department heads that are allowed to manage the given person,
+     * see {@link #isDepartmentHeadAllowedToManagePerson(Person, Person)}.
+     *
+     * @param person to get the department heads of
+     * @return active persons with role {@link org.synyx.urlaubsverwaltung.person.Role#DEPARTMENT_HEAD} allowed to manage
+     * the given person, ordered by first and last name
+     */
+    List<Person> getDepartmentHeadsAllowedToManagePerson(Person person);
+
     /**
      * Check the role of the given person and return a {@link Page} of all managed and active {@link Person}s for the
      * {@link Pageable} request. Managed members are all persons for which a privileged person are responsible
@@ -225,6 +235,16 @@ public interface DepartmentService {
      */
     boolean isSecondStageAuthorityAllowedToManagePerson(Person secondStageAuthority, Person person);
 
+    /**
+     * Get all active second stage authorities that are allowed to manage the given person,
+     * see {@link #isSecondStageAuthorityAllowedToManagePerson(Person, Person)}.
+     *
+     * @param person to get the second stage authorities of
+     * @return active persons with role {@link org.synyx.urlaubsverwaltung.person.Role#SECOND_STAGE_AUTHORITY} allowed
+     * to manage the given person, ordered by first and last name
+     */
+    List<Person> getSecondStageAuthoritiesAllowedToManagePerson(Person person);
+
     /**
      * Get all distinct managed members of the second stage authority.
      * Managed members are all persons for which the second stage authority are responsible for and can
@@ -8,8 +8,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.application.application.Application;
-import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
 import org.synyx.urlaubsverwaltung.person.PersonId;
@@ -20,25 +20,24 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsLast;
 import static java.util.function.Predicate.isEqual;
 import static java.util.function.Predicate.not;
-import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static org.slf4j.LoggerFactory.getLogger;
-import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.activeStatuses;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
 import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
@@ -52,15 +51,21 @@ class DepartmentServiceImpl implements DepartmentService {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
+    private static final Comparator<Person> PERSON_BY_NAME = comparing(Person::getFirstName, nullsLast(naturalOrder()))
+        .thenComparing(Person::getLastName, nullsLast(naturalOrder()));
+
     private final DepartmentRepository departmentRepository;
-    private final ApplicationService applicationService;
+    private final DepartmentMembershipIndex departmentMembershipIndex;
+    private final ColleagueAbsenceCache colleagueAbsenceCache;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final Clock clock;
 
     @Autowired
-    DepartmentServiceImpl(DepartmentRepository departmentRepository, ApplicationService applicationService, ApplicationEventPublisher applicationEventPublisher, Clock clock) {
+    DepartmentServiceImpl(DepartmentRepository departmentRepository, DepartmentMembershipIndex departmentMembershipIndex,
+                          ColleagueAbsenceCache colleagueAbsenceCache, ApplicationEventPublisher applicationEventPublisher, Clock clock) {
         this.departmentRepository = departmentRepository;
-        this.applicationService = applicationService;
+        this.departmentMembershipIndex = departmentMembershipIndex;
+        this.colleagueAbsenceCache = colleagueAbsenceCache;
         this.applicationEventPublisher = applicationEventPublisher;
         this.clock = clock;
     }
@@ -72,24 +77,7 @@ class DepartmentServiceImpl implements DepartmentService {
 
     @Override
     public List<Person> getManagedActiveMembersOfPerson(Person person) {
-
-        final List<DepartmentEntity> departments;
-
-        if (person.hasRole(DEPARTMENT_HEAD) && person.hasRole(SECOND_STAGE_AUTHORITY)) {
-            departments = departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person);
-        } else if (person.hasRole(DEPARTMENT_HEAD)) {
-            departments = departmentRepository.findByDepartmentHeads(person);
-        } else if (person.hasRole(SECOND_STAGE_AUTHORITY)) {
-            departments = departmentRepository.findBySecondStageAuthorities(person);
-        } else {
-            departments = List.of();
-        }
-
-        return departments.stream()
-            .map(DepartmentEntity::getMembers)
-            .flatMap(List::stream)
-            .map(DepartmentMemberEmbeddable::getPerson)
-            .distinct()
+        return getMembersOfManagedDepartments(person).stream()
             .filter(Person::isActive)
             .collect(toList());
     }
@@ -100,40 +88,27 @@ class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Person> getManagedMembersOfPersonAndDepartment(Person person, Long departmentId, PageableSearchQuery pageableSearchQuery) {
         final Predicate<Person> filter = nameContains(pageableSearchQuery.getQuery()).and(not(Person::isInactive));
         return managedMembersOfPersonAndDepartment(person, departmentId, pageableSearchQuery, filter);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Person> getManagedInactiveMembersOfPersonAndDepartment(Person person, Long departmentId, PageableSearchQuery pageableSearchQuery) {
         final Predicate<Person> filter = nameContains(pageableSearchQuery.getQuery()).and(Person::isInactive);
         return managedMembersOfPersonAndDepartment(person, departmentId, pageableSearchQuery, filter);
     }
 
     private Page<Person> getManagedMembersOfPerson(Person person, PageableSearchQuery personPageableSearchQuery, Predicate<Person> predicate) {
-        final List<DepartmentEntity> departments;
-
-        if (person.hasRole(DEPARTMENT_HEAD) && person.hasRole(SECOND_STAGE_AUTHORITY)) {
-            departments = departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person);
-        } else if (person.hasRole(DEPARTMENT_HEAD)) {
-            departments = departmentRepository.findByDepartmentHeads(person);
-        } else if (person.hasRole(SECOND_STAGE_AUTHORITY)) {
-            departments = departmentRepository.findBySecondStageAuthorities(person);
-        } else {
-            departments = List.of();
-        }
 
         final Pageable pageable = personPageableSearchQuery.getPageable();
 
-        final List<Person> managedMembers = departments.stream()
-            .map(DepartmentEntity::getMembers)
-            .flatMap(List::stream)
-            .map(DepartmentMemberEmbeddable::getPerson)
-            .distinct()
-            .filter(nameContains(personPageableSearchQuery.getQuery()).and(predicate))
-            .sorted(new SortComparator<>(Person.class, pageable.getSort()))
-            .toList();
+        final List<Person> managedMembers = new SortComparator<>(Person.class, pageable.getSort())
+            .sort(getMembersOfManagedDepartments(person).stream()
+                .filter(nameContains(personPageableSearchQuery.getQuery()).and(predicate))
+                .toList());
 
         final List<Person> content = managedMembers.stream()
             .skip((long) pageable.getPageNumber() * pageable.getPageSize())
@@ -149,16 +124,19 @@ class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Department> getDepartmentById(Long departmentId) {
         return departmentRepository.findById(departmentId).map(this::mapToDepartment);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Department> getDepartmentByName(String departmentName) {
         return departmentRepository.findFirstByName(departmentName).map(this::mapToDepartment);
     }
 
     @Override
+    @Transactional
     public Department create(Department department) {
 
         final DepartmentEntity departmentEntity = mapToDepartmentEntityWithoutMembers(department);
@@ -179,12 +157,15 @@ class DepartmentServiceImpl implements DepartmentService {
         final DepartmentEntity createdDepartmentEntity = departmentRepository.save(departmentEntity);
         final Department createdDepartment = mapToDepartment(createdDepartmentEntity);
 
+        applicationEventPublisher.publishEvent(new DepartmentChangedEvent(createdDepartment.getId()));
+
         LOG.info("Created department: {}", createdDepartment);
 
         return createdDepartment;
     }
 
     @Override
+    @Transactional
     public Department update(Department department) {
 
         final DepartmentEntity currentDepartmentEntity = departmentRepository.findById(department.getId())
@@ -201,6 +182,7 @@ class DepartmentServiceImpl implements DepartmentService {
         final DepartmentEntity updatedDepartmentEntity = departmentRepository.save(departmentEntity);
         final Department updatedDepartment = mapToDepartment(updatedDepartmentEntity);
         sendMemberLeftDepartmentEvent(department, currentDepartmentEntity);
+        applicationEventPublisher.publishEvent(new DepartmentChangedEvent(updatedDepartment.getId()));
 
         LOG.info("Updated department: {}", updatedDepartment);
 
@@ -213,6 +195,7 @@ class DepartmentServiceImpl implements DepartmentService {
      * @param event the person who is deleted
      */
     @EventListener
+    @Transactional
     void deleteAssignedDepartmentsOfMember(PersonDeletedEvent event) {
 
         getAssignedDepartmentsOfMember(event.person()).forEach(department -> {
@@ -229,6 +212,7 @@ class DepartmentServiceImpl implements DepartmentService {
      * @param event the person who is deleted
      */
     @EventListener
+    @Transactional
     void deleteDepartmentHead(PersonDeletedEvent event) {
 
         getManagedDepartmentsOfDepartmentHead(event.person()).forEach(department -> {
@@ -246,6 +230,7 @@ class DepartmentServiceImpl implements DepartmentService {
      * @param event the person who is deleted
      */
     @EventListener
+    @Transactional
     void deleteSecondStageAuthority(PersonDeletedEvent event) {
 
         getManagedDepartmentsOfSecondStageAuthority(event.person()).forEach(department -> {
@@ -257,16 +242,19 @@ class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
+    @Transactional
     public void delete(Long departmentId) {
 
         if (this.departmentExists(departmentId)) {
             departmentRepository.deleteById(departmentId);
+            applicationEventPublisher.publishEvent(new DepartmentChangedEvent(departmentId));
         } else {
             LOG.info("No department found for ID = {}, deletion is not necessary.", departmentId);
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Department> getAllDepartments() {
         return departmentRepository.findAll().stream()
             .map(this::mapToDepartment)
@@ -275,6 +263,7 @@ class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Department> getAssignedDepartmentsOfMember(Person member) {
         return departmentRepository.findByMembersPerson(member).stream()
             .map(this::mapToDepartment)
@@ -283,6 +272,7 @@ class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Department> getManagedDepartmentsOfDepartmentHead(Person departmentHead) {
         return departmentRepository.findByDepartmentHeads(departmentHead).stream()
             .map(this::mapToDepartment)
@@ -291,6 +281,7 @@ class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Department> getManagedDepartmentsOfSecondStageAuthority(Person secondStageAuthority) {
         return departmentRepository.findBySecondStageAuthorities(secondStageAuthority).stream()
             .map(this::mapToDepartment)
@@ -299,100 +290,74 @@ class DepartmentServiceImpl implements DepartmentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Department> getDepartmentsPersonHasAccessTo(Person person) {
 
         if (person.hasRole(BOSS) || person.hasRole(OFFICE)) {
             return getAllDepartments();
         }
 
-        final List<Department> departments = new ArrayList<>();
-        if (person.hasRole(SECOND_STAGE_AUTHORITY)) {
-            departments.addAll(getManagedDepartmentsOfSecondStageAuthority(person));
-        }
-
-        if (person.hasRole(DEPARTMENT_HEAD)) {
-            departments.addAll(getManagedDepartmentsOfDepartmentHead(person));
-        }
-
-        departments.addAll(getAssignedDepartmentsOfMember(person));
-
-        return departments.stream()
-            .distinct()
+        return departmentRepository.findDepartmentsPersonHasAccessTo(person, person.hasRole(DEPARTMENT_HEAD), person.hasRole(SECOND_STAGE_AUTHORITY)).stream()
+            .map(this::mapToDepartment)
             .sorted(departmentComparator())
             .collect(toList());
     }
 
     @Override
     public List<Application> getApplicationsFromColleaguesOf(Person person, LocalDate startDate, LocalDate endDate) {
-
-        final List<Application> colleaguesApplications;
-
-        if (getNumberOfDepartments() == 0) {
-            colleaguesApplications = applicationService.getForStates(activeStatuses(), startDate, endDate).stream()
-                .filter(application -> !application.getPerson().equals(person))
-                .toList();
-        } else {
-            final List<Person> colleagues = getMembersOfAssignedDepartments(person).stream()
-                .filter(not(isEqual(person)))
-                .toList();
-            colleaguesApplications = applicationService.getForStatesAndPerson(activeStatuses(), colleagues, startDate, endDate);
-        }
-
-        return colleaguesApplications.stream()
-            .sorted(comparing(Application::getStartDate))
-            .toList();
+        return colleagueAbsenceCache.getApplicationsFromColleaguesOf(person, startDate, endDate);
     }
 
     @Override
     public List<Person> getMembersForDepartmentHead(Person departmentHead) {
-        return getManagedDepartmentsOfDepartmentHead(departmentHead).stream()
-            .map(Department::getMembers)
-            .flatMap(List::stream)
-            .distinct()
-            .collect(toList());
+        return departmentMembershipIndex.graph().getMembersOfDepartmentHead(departmentHead);
     }
 
     @Override
     public List<Person> getMembersForSecondStageAuthority(Person secondStageAuthority) {
-        return getManagedDepartmentsOfSecondStageAuthority(secondStageAuthority).stream()
-            .map(Department::getMembers)
-            .flatMap(List::stream)
-            .distinct()
-            .collect(toList());
+        return departmentMembershipIndex.graph().getMembersOfSecondStageAuthority(secondStageAuthority);
     }
 
     @Override
     public boolean isDepartmentHeadAllowedToManagePerson(Person departmentHead, Person person) {
         if (departmentHead.hasRole(DEPARTMENT_HEAD)) {
-            return getManagedMembersOfDepartmentHead(departmentHead).contains(person);
+            return departmentMembershipIndex.graph().isManagedMemberOfDepartmentHead(departmentHead, person);
         }
 
         return false;
     }
 
+    @Override
+    public List<Person> getDepartmentHeadsAllowedToManagePerson(Person person) {
+        return departmentMembershipIndex.graph().getDepartmentHeadsOfManagedMember(person).stream()
+            .filter(departmentHead -> departmentHead.isActive() && departmentHead.hasRole(DEPARTMENT_HEAD))
+            .sorted(PERSON_BY_NAME)
+            .toList();
+    }
+
     public List<Person> getManagedMembersOfDepartmentHead(Person departmentHead) {
-        return getManagedDepartmentsOfDepartmentHead(departmentHead)
-            .stream()
-            .flatMap(department -> department.getMembers().stream().filter(isNotSecondStageIn(department)))
-            .distinct()
-            .collect(toList());
+        return departmentMembershipIndex.graph().getManagedMembersOfDepartmentHead(departmentHead);
     }
 
     @Override
     public boolean isSecondStageAuthorityAllowedToManagePerson(Person secondStageAuthority, Person person) {
         if (secondStageAuthority.hasRole(SECOND_STAGE_AUTHORITY)) {
-            return getManagedMembersForSecondStageAuthority(secondStageAuthority).contains(person);
+            return departmentMembershipIndex.graph().isManagedMemberOfSecondStageAuthority(secondStageAuthority, person);
         }
 
         return false;
     }
 
+    @Override
+    public List<Person> getSecondStageAuthoritiesAllowedToManagePerson(Person person) {
+        return departmentMembershipIndex.graph().getSecondStageAuthoritiesOfManagedMember(person).stream()
+            .filter(secondStageAuthority -> secondStageAuthority.isActive() && secondStageAuthority.hasRole(SECOND_STAGE_AUTHORITY))
+            .sorted(PERSON_BY_NAME)
+            .toList();
+    }
+
     public List<Person> getManagedMembersForSecondStageAuthority(Person secondStageAuthority) {
-        return getManagedDepartmentsOfSecondStageAuthority(secondStageAuthority)
-            .stream()
-            .flatMap(department -> department.getMembers().stream().filter(isNotSecondStageIn(department)))
-            .distinct()
-            .collect(toList());
+        return departmentMembershipIndex.graph().getManagedMembersOfSecondStageAuthority(secondStageAuthority);
     }
 
     @Override
@@ -422,25 +387,11 @@ class DepartmentServiceImpl implements DepartmentService {
     @Override
     public Map<PersonId, List<String>> getDepartmentNamesByMembers(List<Person> persons) {
 
-        final Map<List<Person>, List<Department>> personDepartmentList = departmentRepository.findDistinctByMembersPersonIn(persons).stream()
-            .map(this::mapToDepartment)
-            .collect(groupingBy(Department::getMembers));
-
         final Map<PersonId, List<String>> departmentsByPerson = new HashMap<>();
-        personDepartmentList.forEach((personList, departmentList) -> {
-
-            final List<String> departmentNames = departmentList.stream()
-                .map(Department::getName)
-                .toList();
-
-            personList.forEach(person -> {
-                if (persons.contains(person)) {
-                    final PersonId personId = new PersonId(person.getId());
-                    final List<String> bucket = departmentsByPerson.getOrDefault(personId, List.of());
-                    departmentsByPerson.put(personId, merge(departmentNames, bucket));
-                }
-            });
-        });
+        departmentRepository.findMembershipsOfPersons(persons).forEach(membership ->
+            departmentsByPerson.computeIfAbsent(new PersonId(membership.personId()), personId -> new ArrayList<>())
+                .add(membership.departmentName())
+        );
 
         return departmentsByPerson;
     }
@@ -448,39 +399,45 @@ class DepartmentServiceImpl implements DepartmentService {
     @Override
     public boolean hasDepartmentMatch(Person person, Person otherPerson) {
 
-        final Set<DepartmentEntity> personDepartments = new HashSet<>(departmentRepository.findByMembersPerson(person));
-        if (person.hasAnyRole(DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY)) {
-            personDepartments.addAll(
-                departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person)
-            );
-        }
+        final DepartmentGraph departmentGraph = departmentMembershipIndex.graph();
 
-        final Set<DepartmentEntity> otherPersonDepartments = new HashSet<>(departmentRepository.findByMembersPerson(otherPerson));
-        if (otherPerson.hasAnyRole(DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY)) {
-            otherPersonDepartments.addAll(
-                departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(otherPerson, otherPerson)
-            );
-        }
+        final BitSet personDepartments = departmentGraph.getDepartments(person, person.hasAnyRole(DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY));
+        final BitSet otherPersonDepartments = departmentGraph.getDepartments(otherPerson, otherPerson.hasAnyRole(DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY));
 
-        return personDepartments.stream().anyMatch(otherPersonDepartments::contains);
+        return personDepartments.intersects(otherPersonDepartments);
     }
 
-    private static List<String> merge(Collection<String> departmentNames, Collection<String> bucket) {
-        return Stream.concat(bucket.stream(), departmentNames.stream()).collect(toList());
-    }
+    private Set<Person> getMembersOfManagedDepartments(Person person) {
 
-    private Predicate<Person> isNotSecondStageIn(Department department) {
-        return person -> !department.getSecondStageAuthorities().contains(person);
+        if (!person.hasAnyRole(DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY)) {
+            return Set.of();
+        }
+
+        final DepartmentGraph departmentGraph = departmentMembershipIndex.graph();
+
+        final Set<Person> members = new LinkedHashSet<>();
+        if (person.hasRole(DEPARTMENT_HEAD)) {
+            members.addAll(departmentGraph.getMembersOfDepartmentHead(person));
+        }
+        if (person.hasRole(SECOND_STAGE_AUTHORITY)) {
+            members.addAll(departmentGraph.getMembersOfSecondStageAuthority(person));
+        }
+
+        return members;
     }
 
+    /**
+     * Must be called within a transaction. The collections of the department are loaded lazily and copied, so the
+     * department can be used after the transaction has been closed.
+     */
     private Department mapToDepartment(DepartmentEntity departmentEntity) {
         final Department department = new Department();
 
         department.setId(departmentEntity.getId());
         department.setName(departmentEntity.getName());
         department.setDescription(departmentEntity.getDescription());
-        department.setDepartmentHeads(departmentEntity.getDepartmentHeads());
-        department.setSecondStageAuthorities(departmentEntity.getSecondStageAuthorities());
+        department.setDepartmentHeads(new ArrayList<>(departmentEntity.getDepartmentHeads()));
+        department.setSecondStageAuthorities(new ArrayList<>(departmentEntity.getSecondStageAuthorities()));
         department.setTwoStageApproval(departmentEntity.isTwoStageApproval());
         department.setCreatedAt(departmentEntity.getCreatedAt());
         department.setLastModification(departmentEntity.getLastModification());
@@ -544,10 +501,12 @@ class DepartmentServiceImpl implements DepartmentService {
 
         final List<DepartmentMemberEmbeddable> departmentMembers = departmentEntity.getMembers();
 
-        final List<Person> content = departmentMembers.stream()
+        final List<Person> members = departmentMembers.stream()
             .map(DepartmentMemberEmbeddable::getPerson)
             .filter(filter)
-            .sorted(new SortComparator<>(Person.class, pageable.getSort()))
+            .toList();
+
+        final List<Person> content = new SortComparator<>(Person.class, pageable.getSort()).sort(members).stream()
             .skip((long) pageable.getPageNumber() * pageable.getPageSize())
             .limit(pageable.getPageSize())
             .collect(toList());
@@ -578,17 +537,10 @@ class DepartmentServiceImpl implements DepartmentService {
             .forEach(person -> applicationEventPublisher.publishEvent(new PersonLeftDepartmentEvent(this, person.getId(), department.getId())));
     }
 
-    private List<Person> getMembersOfAssignedDepartments(Person member) {
-        return getAssignedDepartmentsOfMember(member).stream()
-            .map(Department::getMembers)
-            .flatMap(List::stream)
-            .distinct()
-            .toList();
-    }
 
     private boolean isSecondStageAuthorityAllowedToAccessPersonData(Person secondStageAuthority, Person person) {
         if (secondStageAuthority.hasRole(SECOND_STAGE_AUTHORITY)) {
-            return getMembersForSecondStageAuthority(secondStageAuthority).contains(person);
+            return departmentMembershipIndex.graph().isMemberOfSecondStageAuthority(secondStageAuthority, person);
         }
 
         return false;
@@ -596,7 +548,7 @@ class DepartmentServiceImpl implements DepartmentService {
 
     private boolean isDepartmentHeadAllowedToAccessPersonData(Person departmentHead, Person person) {
         if (departmentHead.hasRole(DEPARTMENT_HEAD)) {
-            return getMembersForDepartmentHead(departmentHead).contains(person);
+            return departmentMembershipIndex.graph().isMemberOfDepartmentHead(departmentHead, person);
         }
 
         return false;
@@ -0,0 +1,23 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.util.List;
+
+/**
+ * Copies of persons detached from any persistence context, for snapshots that are shared by all threads. A snapshot
+ * keeps its own copy and hands out a new copy on every access, so the shared copy can't be changed by the callers.
+ */
+final class PersonCopies {
+
+    private PersonCopies() {
+    }
+
+    static Person copyOf(Person person) {
+        final Person copy = new Person(person.getUsername(), person.getLastName(), person.getFirstName(), person.getEmail());
+        copy.setId(person.getId());
+        copy.setPermissions(List.copyOf(person.getPermissions()));
+        copy.setNotifications(List.copyOf(person.getNotifications()));
+        return copy;
+    }
+}
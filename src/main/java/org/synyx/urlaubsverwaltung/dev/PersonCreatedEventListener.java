@@ -1,8 +1,8 @@
 package org.synyx.urlaubsverwaltung.dev;
 
 import org.slf4j.Logger;
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.synyx.urlaubsverwaltung.person.PersonCreatedEvent;
 
 import static java.lang.invoke.MethodHandles.lookup;
@@ -19,7 +19,7 @@ class PersonCreatedEventListener {
     }
 
     @Async
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     void on(PersonCreatedEvent event) {
         final String email = event.getEmail();
         if (email == null || email.isEmpty()) {
@@ -9,22 +9,23 @@ import de.focus_shift.urlaubsverwaltung.extension.api.application.DayLength;
 import de.focus_shift.urlaubsverwaltung.extension.api.application.VacationTypeDTO;
 import de.focus_shift.urlaubsverwaltung.extension.api.tenancy.TenantSupplier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.synyx.urlaubsverwaltung.absence.AbsencePeriod;
+import org.synyx.urlaubsverwaltung.absence.AbsenceQuery;
 import org.synyx.urlaubsverwaltung.absence.AbsenceService;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedEvent;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationCancelledEvent;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationCreatedFromSickNoteEvent;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
+import org.synyx.urlaubsverwaltung.extension.outbox.ExtensionEventOutbox;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -39,14 +40,14 @@ public class ApplicationEventHandlerExtension {
 
     private final TenantSupplier tenantSupplier;
     private final AbsenceService absenceService;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ExtensionEventOutbox extensionEventOutbox;
 
     public ApplicationEventHandlerExtension(TenantSupplier tenantSupplier,
                                             AbsenceService absenceService,
-                                            ApplicationEventPublisher applicationEventPublisher) {
+                                            ExtensionEventOutbox extensionEventOutbox) {
         this.tenantSupplier = tenantSupplier;
         this.absenceService = absenceService;
-        this.applicationEventPublisher = applicationEventPublisher;
+        this.extensionEventOutbox = extensionEventOutbox;
     }
 
     private static Set<LocalDate> toAbsentWorkingDays(AbsencePeriod absencePeriod) {
@@ -175,43 +176,46 @@ public class ApplicationEventHandlerExtension {
     }
 
     @EventListener
-    @Async
     void on(ApplicationAllowedEvent event) {
         getAbsencePeriods(event.application())
             .ifPresent(absencePeriod -> {
                 final ApplicationAllowedEventDTO dto = toApplicationAllowedEventDTO(tenantSupplier.get(), event).apply(absencePeriod);
-                applicationEventPublisher.publishEvent(dto);
+                extensionEventOutbox.add(dto);
             });
     }
 
     @EventListener
-    @Async
     void on(ApplicationCancelledEvent event) {
         getClosedAbsencePeriods(event.application())
             .ifPresent(absencePeriod -> {
                 final ApplicationCancelledEventDTO dto = toApplicationCancelledEventDTO(tenantSupplier.get(), event).apply(absencePeriod);
-                applicationEventPublisher.publishEvent(dto);
+                extensionEventOutbox.add(dto);
             });
     }
 
     @EventListener
-    @Async
     void on(ApplicationCreatedFromSickNoteEvent event) {
         getAbsencePeriods(event.application())
             .ifPresent(absencePeriod -> {
                 final ApplicationCreatedFromSickNoteEventDTO dto = toApplicationCreatedFromSickNoteEventDTO(tenantSupplier.get(), event).apply(absencePeriod);
-                applicationEventPublisher.publishEvent(dto);
+                extensionEventOutbox.add(dto);
             });
     }
 
     private Optional<AbsencePeriod> getAbsencePeriods(Application application) {
-        return absenceService.getOpenAbsences(application.getPerson(), application.getStartDate(), application.getEndDate()).stream()
+        final AbsenceQuery query = AbsenceQuery.open(List.of(application.getPerson()), application.getStartDate(), application.getEndDate())
+            .withAbsenceTypes(List.of(AbsencePeriod.AbsenceType.VACATION))
+            .withSourceId(application.getId());
+        return absenceService.getAbsences(query).stream()
             .filter(isFullOrSameDayLength(application.getDayLength()))
             .findFirst();
     }
 
     private Optional<AbsencePeriod> getClosedAbsencePeriods(Application application) {
-        return absenceService.getClosedAbsences(application.getPerson(), application.getStartDate(), application.getEndDate()).stream()
+        final AbsenceQuery query = AbsenceQuery.closed(List.of(application.getPerson()), application.getStartDate(), application.getEndDate())
+            .withAbsenceTypes(List.of(AbsencePeriod.AbsenceType.VACATION))
+            .withSourceId(application.getId());
+        return absenceService.getAbsences(query).stream()
             .filter(isFullOrSameDayLength(application.getDayLength()))
             .findFirst();
     }
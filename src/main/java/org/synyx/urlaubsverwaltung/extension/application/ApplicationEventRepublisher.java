@@ -17,6 +17,7 @@ import static java.lang.invoke.MethodHandles.lookup;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.config.AsyncTaskExecutors.EXTENSION_TASK_EXECUTOR;
 
 @Component
 @ConditionalOnProperty(value = "uv.extensions.application.republish.enabled", havingValue = "true")
@@ -35,7 +36,7 @@ public class ApplicationEventRepublisher {
         this.clock = clock;
     }
 
-    @Async
+    @Async(EXTENSION_TASK_EXECUTOR)
     @EventListener(ApplicationStartedEvent.class)
     void republishEvents() {
 
@@ -0,0 +1,22 @@
+package org.synyx.urlaubsverwaltung.extension.outbox;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * Delivers the events to the extensions listening for application events of the given type.
+ */
+class ApplicationEventExtensionEventBus implements ExtensionEventBus {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    ApplicationEventExtensionEventBus(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void publish(List<Object> events) {
+        events.forEach(applicationEventPublisher::publishEvent);
+    }
+}
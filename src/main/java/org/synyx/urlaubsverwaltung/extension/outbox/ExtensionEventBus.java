@@ -0,0 +1,18 @@
+package org.synyx.urlaubsverwaltung.extension.outbox;
+
+import java.util.List;
+
+/**
+ * Delivers the events of the {@link ExtensionEventOutbox} to the extensions.
+ */
+public interface ExtensionEventBus {
+
+    /**
+     * Delivers the given events in the given order. The events are delivered again
+     * if an exception is thrown, so extensions have to deal with duplicates by the id of the events.
+     * An event that keeps failing is given up after {@link ExtensionEventOutboxProperties#getMaxAttempts()}.
+     *
+     * @param events to deliver
+     */
+    void publish(List<Object> events);
+}
@@ -0,0 +1,63 @@
+package org.synyx.urlaubsverwaltung.extension.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * Stores events for the extensions to be delivered by the {@link ExtensionEventOutboxRelay}.
+ *
+ * <p>
+ * Events are stored in the transaction of the caller, so an event is delivered if and only if the change
+ * that caused it has been committed, even if the application is restarted in between.
+ */
+@Component
+@ConditionalOnProperty(value = "uv.extensions.enabled", havingValue = "true")
+public class ExtensionEventOutbox {
+
+    static final String METRIC_OUTBOX_EVENTS_WRITTEN = "extensions.outbox.events.written";
+
+    private final ExtensionEventOutboxRepository extensionEventOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    ExtensionEventOutbox(ExtensionEventOutboxRepository extensionEventOutboxRepository, ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry, Clock clock) {
+        this.extensionEventOutboxRepository = extensionEventOutboxRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * @param event to deliver to the extensions, must be serializable as json
+     */
+    @Transactional
+    public void add(Object event) {
+
+        final String eventType = event.getClass().getName();
+
+        final String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize event of type " + eventType, e);
+        }
+
+        extensionEventOutboxRepository.save(new ExtensionEventOutboxEntry(eventType, payload, Instant.now(clock)));
+
+        Counter.builder(METRIC_OUTBOX_EVENTS_WRITTEN)
+            .description("Number of events stored in the outbox for the extensions")
+            .tag("type", event.getClass().getSimpleName())
+            .register(meterRegistry)
+            .increment();
+    }
+}
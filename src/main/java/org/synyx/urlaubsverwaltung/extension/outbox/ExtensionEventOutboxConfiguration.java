@@ -0,0 +1,53 @@
+package org.synyx.urlaubsverwaltung.extension.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.synyx.urlaubsverwaltung.config.ScheduleLocking;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(value = "uv.extensions.enabled", havingValue = "true")
+@EnableConfigurationProperties(ExtensionEventOutboxProperties.class)
+class ExtensionEventOutboxConfiguration implements SchedulingConfigurer {
+
+    private final ExtensionEventOutboxProperties extensionEventOutboxProperties;
+    private final ExtensionEventOutboxRelay extensionEventOutboxRelay;
+    private final ScheduleLocking scheduleLocking;
+    private final ThreadPoolTaskScheduler taskScheduler;
+
+    ExtensionEventOutboxConfiguration(ExtensionEventOutboxProperties extensionEventOutboxProperties,
+                                      ExtensionEventOutboxRelay extensionEventOutboxRelay,
+                                      ScheduleLocking scheduleLocking, ThreadPoolTaskScheduler taskScheduler) {
+        this.extensionEventOutboxProperties = extensionEventOutboxProperties;
+        this.extensionEventOutboxRelay = extensionEventOutboxRelay;
+        this.scheduleLocking = scheduleLocking;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ExtensionEventBus.class)
+    static ExtensionEventBus applicationEventExtensionEventBus(ApplicationEventPublisher applicationEventPublisher) {
+        return new ApplicationEventExtensionEventBus(applicationEventPublisher);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(taskScheduler);
+        taskRegistrar.addFixedDelayTask(
+            scheduleLocking.withLock("ExtensionEventOutboxRelay", extensionEventOutboxRelay::relay, Duration.ofMinutes(5), Duration.ZERO),
+            extensionEventOutboxProperties.getInterval()
+        );
+        taskRegistrar.addFixedDelayTask(
+            scheduleLocking.withLock("ExtensionEventOutboxCleanup", extensionEventOutboxRelay::deleteDeliveredEvents),
+            Duration.ofHours(1)
+        );
+    }
+}
@@ -0,0 +1,140 @@
+package org.synyx.urlaubsverwaltung.extension.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import static jakarta.persistence.GenerationType.SEQUENCE;
+
+/**
+ * An event for the extensions, serialized as json and stored in the same transaction as the change that caused it.
+ *
+ * <p>
+ * The id is the offset of the entry, entries are delivered in the order of their offset.
+ * Entries that have not been delivered yet have no delivery date. Entries that could not be read or delivered are
+ * given up with a failure date and are not delivered anymore, unless they are delivered again from an offset.
+ */
+@Entity
+@Table(name = "extension_event_outbox")
+class ExtensionEventOutboxEntry {
+
+    @Id
+    @Column(name = "id", unique = true, nullable = false, updatable = false)
+    @GeneratedValue(strategy = SEQUENCE, generator = "extension_event_outbox_generator")
+    @SequenceGenerator(name = "extension_event_outbox_generator", sequenceName = "extension_event_outbox_id_seq")
+    private Long id;
+
+    /**
+     * Fully qualified class name of the event
+     */
+    @Column(nullable = false, updatable = false)
+    private String eventType;
+
+    @Column(nullable = false, updatable = false)
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    private Instant deliveredAt;
+
+    @Column(nullable = false)
+    private int failedAttempts;
+
+    private Instant failedAt;
+
+    /**
+     * Reason why the entry has been given up
+     */
+    private String failure;
+
+    protected ExtensionEventOutboxEntry() {
+        // OK
+    }
+
+    ExtensionEventOutboxEntry(String eventType, String payload, Instant createdAt) {
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    void setId(Long id) {
+        this.id = id;
+    }
+
+    String getEventType() {
+        return eventType;
+    }
+
+    String getPayload() {
+        return payload;
+    }
+
+    Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    Instant getDeliveredAt() {
+        return deliveredAt;
+    }
+
+    void delivered(Instant deliveredAt) {
+        this.deliveredAt = deliveredAt;
+    }
+
+    int getFailedAttempts() {
+        return failedAttempts;
+    }
+
+    Instant getFailedAt() {
+        return failedAt;
+    }
+
+    String getFailure() {
+        return failure;
+    }
+
+    void failedAttempt() {
+        this.failedAttempts++;
+    }
+
+    void failed(Instant failedAt, String failure) {
+        this.failedAt = failedAt;
+        this.failure = failure;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final ExtensionEventOutboxEntry that = (ExtensionEventOutboxEntry) o;
+        return id != null && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    @Override
+    public String toString() {
+        return "ExtensionEventOutboxEntry{" +
+            "id=" + id +
+            ", eventType='" + eventType + '\'' +
+            ", createdAt=" + createdAt +
+            ", deliveredAt=" + deliveredAt +
+            ", failedAttempts=" + failedAttempts +
+            ", failedAt=" + failedAt +
+            '}';
+    }
+}
@@ -0,0 +1,86 @@
+package org.synyx.urlaubsverwaltung.extension.outbox;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties("uv.extensions.outbox")
+@Validated
+public class ExtensionEventOutboxProperties {
+
+    /**
+     * Delay between two runs of the relay delivering the events of the outbox to the extensions.
+     */
+    @NotNull
+    private Duration interval = Duration.ofSeconds(1);
+
+    /**
+     * Maximum number of events delivered per run of the relay.
+     */
+    @Min(1)
+    @Max(1000)
+    private int batchSize = 100;
+
+    /**
+     * Number of attempts until the delivery of an event is given up, so the following events are not blocked by it.
+     */
+    @Min(1)
+    private int maxAttempts = 10;
+
+    /**
+     * Time delivered events are kept in the outbox, so they can be delivered again with {@code replay-from}.
+     */
+    @NotNull
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * Offset of the first event that is delivered again on startup, e.g. after an extension lost events.
+     * Nothing is delivered again if not set.
+     */
+    @Min(1)
+    private Long replayFrom;
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public Long getReplayFrom() {
+        return replayFrom;
+    }
+
+    public void setReplayFrom(Long replayFrom) {
+        this.replayFrom = replayFrom;
+    }
+}
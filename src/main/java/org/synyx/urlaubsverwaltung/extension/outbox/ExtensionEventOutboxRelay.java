@@ -0,0 +1,229 @@
+package org.synyx.urlaubsverwaltung.extension.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Delivers the events of the {@link ExtensionEventOutbox} to the {@link ExtensionEventBus}.
+ *
+ * <p>
+ * Every run delivers at most {@link ExtensionEventOutboxProperties#getBatchSize()} events at once in the order of their
+ * offset. The events are marked as delivered in the same transaction, so a failed delivery is repeated and every event
+ * is delivered at least once. Delivered events are kept for {@link ExtensionEventOutboxProperties#getRetention()}
+ * and can be delivered again from a given offset.
+ *
+ * <p>
+ * If a batch cannot be delivered, its events are delivered one by one up to the failing one. The attempts of the
+ * failing event are counted and the following events wait for it, until it is given up after
+ * {@link ExtensionEventOutboxProperties#getMaxAttempts()}. Events that cannot be read are given up right away.
+ * Given up events are kept as failed and are delivered again with the delivered ones from a given offset.
+ */
+@Component
+@ConditionalOnProperty(value = "uv.extensions.enabled", havingValue = "true")
+class ExtensionEventOutboxRelay {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private static final String EXTENSION_API_PACKAGE = "de.focus_shift.urlaubsverwaltung.extension.api.";
+
+    static final String METRIC_OUTBOX_EVENTS_DELIVERED = "extensions.outbox.events.delivered";
+    static final String METRIC_OUTBOX_EVENTS_FAILED = "extensions.outbox.events.failed";
+    static final String METRIC_OUTBOX_EVENTS_PENDING = "extensions.outbox.events.pending";
+    static final String METRIC_OUTBOX_RELAY = "extensions.outbox.relay";
+
+    private final ExtensionEventOutboxRepository extensionEventOutboxRepository;
+    private final ExtensionEventBus extensionEventBus;
+    private final ObjectMapper objectMapper;
+    private final ExtensionEventOutboxProperties extensionEventOutboxProperties;
+    private final TransactionOperations transactionOperations;
+    private final Clock clock;
+
+    private final Counter delivered;
+    private final Counter failed;
+    private final Timer relayTimer;
+
+    ExtensionEventOutboxRelay(ExtensionEventOutboxRepository extensionEventOutboxRepository, ExtensionEventBus extensionEventBus,
+                              ObjectMapper objectMapper, ExtensionEventOutboxProperties extensionEventOutboxProperties,
+                              TransactionOperations transactionOperations, MeterRegistry meterRegistry, Clock clock) {
+        this.extensionEventOutboxRepository = extensionEventOutboxRepository;
+        this.extensionEventBus = extensionEventBus;
+        this.objectMapper = objectMapper;
+        this.extensionEventOutboxProperties = extensionEventOutboxProperties;
+        this.transactionOperations = transactionOperations;
+        this.clock = clock;
+
+        this.delivered = Counter.builder(METRIC_OUTBOX_EVENTS_DELIVERED)
+            .description("Number of events of the outbox delivered to the extensions")
+            .register(meterRegistry);
+        this.failed = Counter.builder(METRIC_OUTBOX_EVENTS_FAILED)
+            .description("Number of events of the outbox that could not be read or delivered and have been given up")
+            .register(meterRegistry);
+        this.relayTimer = Timer.builder(METRIC_OUTBOX_RELAY)
+            .description("Time to deliver one batch of events of the outbox to the extensions")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_OUTBOX_EVENTS_PENDING, extensionEventOutboxRepository, ExtensionEventOutboxRepository::countByDeliveredAtIsNullAndFailedAtIsNull)
+            .description("Number of events of the outbox that have not been delivered yet")
+            .register(meterRegistry);
+    }
+
+    public void relay() {
+
+        final List<ExtensionEventOutboxEntry> entries = transactionOperations.execute(status ->
+            extensionEventOutboxRepository.findByDeliveredAtIsNullAndFailedAtIsNullOrderById(PageRequest.of(0, extensionEventOutboxProperties.getBatchSize())));
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+
+        final Timer.Sample sample = Timer.start();
+        final Instant now = Instant.now(clock);
+
+        final List<PendingEvent> pendingEvents = new ArrayList<>(entries.size());
+        final List<ExtensionEventOutboxEntry> unreadableEntries = new ArrayList<>();
+        for (ExtensionEventOutboxEntry entry : entries) {
+            try {
+                pendingEvents.add(new PendingEvent(entry, toEvent(entry)));
+            } catch (IllegalArgumentException e) {
+                LOG.error("Giving up event with offset {} of type {}: {}", entry.getId(), entry.getEventType(), e.getMessage(), e);
+                entry.failed(now, e.getMessage());
+                unreadableEntries.add(entry);
+            }
+        }
+
+        if (!unreadableEntries.isEmpty()) {
+            transactionOperations.executeWithoutResult(status -> extensionEventOutboxRepository.saveAll(unreadableEntries));
+            failed.increment(unreadableEntries.size());
+        }
+
+        final int deliveredEvents = deliver(pendingEvents, now);
+
+        delivered.increment(deliveredEvents);
+        sample.stop(relayTimer);
+
+        LOG.debug("Delivered {} of {} events of the outbox to the extensions up to offset {}", deliveredEvents, entries.size(), entries.getLast().getId());
+    }
+
+    /**
+     * Delivers all events from the given offset on again that are still kept in the outbox.
+     *
+     * @param offset of the first event to deliver again
+     */
+    @Transactional
+    public void replayFrom(long offset) {
+        final int replayed = extensionEventOutboxRepository.markUndeliveredFrom(offset);
+        LOG.info("Delivering {} events of the outbox from offset {} on again", replayed, offset);
+    }
+
+    @Transactional
+    public void deleteDeliveredEvents() {
+        final Instant deliveredBefore = Instant.now(clock).minus(extensionEventOutboxProperties.getRetention());
+        final int deleted = extensionEventOutboxRepository.deleteDeliveredBefore(deliveredBefore);
+        LOG.info("Deleted {} events of the outbox delivered before {}", deleted, deliveredBefore);
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    void replayOnStartup() {
+        final Long replayFrom = extensionEventOutboxProperties.getReplayFrom();
+        if (replayFrom != null) {
+            replayFrom(replayFrom);
+        }
+    }
+
+    /**
+     * @return number of delivered events
+     */
+    private int deliver(List<PendingEvent> pendingEvents, Instant now) {
+
+        if (pendingEvents.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionOperations.executeWithoutResult(status -> deliverInOneTransaction(pendingEvents, now));
+            return pendingEvents.size();
+        } catch (RuntimeException e) {
+            if (pendingEvents.size() == 1) {
+                failedAttempt(pendingEvents.getFirst().entry(), now, e);
+                return 0;
+            }
+            LOG.warn("Could not deliver {} events of the outbox as one batch, delivering them one by one", pendingEvents.size(), e);
+        }
+
+        int deliveredEvents = 0;
+        for (PendingEvent pendingEvent : pendingEvents) {
+            try {
+                transactionOperations.executeWithoutResult(status -> deliverInOneTransaction(List.of(pendingEvent), now));
+                deliveredEvents++;
+            } catch (RuntimeException e) {
+                failedAttempt(pendingEvent.entry(), now, e);
+                // the following events are delivered after this one to keep the order
+                break;
+            }
+        }
+        return deliveredEvents;
+    }
+
+    private void deliverInOneTransaction(List<PendingEvent> pendingEvents, Instant now) {
+        extensionEventBus.publish(pendingEvents.stream().map(PendingEvent::event).toList());
+        final List<ExtensionEventOutboxEntry> entries = pendingEvents.stream().map(PendingEvent::entry).toList();
+        entries.forEach(entry -> entry.delivered(now));
+        extensionEventOutboxRepository.saveAll(entries);
+    }
+
+    private void failedAttempt(ExtensionEventOutboxEntry entry, Instant now, RuntimeException exception) {
+
+        final int maxAttempts = extensionEventOutboxProperties.getMaxAttempts();
+
+        // the entry is loaded again, it may have been marked as delivered by the failed transaction
+        transactionOperations.executeWithoutResult(status -> extensionEventOutboxRepository.findById(entry.getId()).ifPresent(current -> {
+            current.failedAttempt();
+            if (current.getFailedAttempts() >= maxAttempts) {
+                LOG.error("Giving up event with offset {} of type {} after {} failed attempts", current.getId(), current.getEventType(), current.getFailedAttempts(), exception);
+                current.failed(now, exception.toString());
+                failed.increment();
+            } else {
+                LOG.warn("Could not deliver event with offset {} of type {}, attempt {} of {}", current.getId(), current.getEventType(), current.getFailedAttempts(), maxAttempts, exception);
+            }
+            extensionEventOutboxRepository.save(current);
+        }));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the event of the entry cannot be read
+     */
+    private Object toEvent(ExtensionEventOutboxEntry entry) {
+
+        if (!entry.getEventType().startsWith(EXTENSION_API_PACKAGE)) {
+            throw new IllegalArgumentException("unsupported type " + entry.getEventType());
+        }
+
+        try {
+            final Class<?> eventType = Class.forName(entry.getEventType());
+            return objectMapper.readValue(entry.getPayload(), eventType);
+        } catch (ClassNotFoundException | JsonProcessingException e) {
+            throw new IllegalArgumentException("could not be read: " + e.getMessage(), e);
+        }
+    }
+
+    private record PendingEvent(ExtensionEventOutboxEntry entry, Object event) {
+    }
+}
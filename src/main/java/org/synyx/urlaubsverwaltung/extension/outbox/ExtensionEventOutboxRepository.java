@@ -0,0 +1,36 @@
+package org.synyx.urlaubsverwaltung.extension.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+interface ExtensionEventOutboxRepository extends CrudRepository<ExtensionEventOutboxEntry, Long> {
+
+    List<ExtensionEventOutboxEntry> findByDeliveredAtIsNullAndFailedAtIsNullOrderById(Pageable pageable);
+
+    long countByDeliveredAtIsNullAndFailedAtIsNull();
+
+    /**
+     * Delivers the delivered and the given up entries from the given offset on again.
+     *
+     * @param offset of the first entry to deliver again
+     * @return number of entries that will be delivered again
+     */
+    @Modifying
+    @Query("UPDATE ExtensionEventOutboxEntry entry SET entry.deliveredAt = null, entry.failedAt = null, entry.failure = null, entry.failedAttempts = 0 " +
+        "WHERE entry.id >= :offset AND (entry.deliveredAt IS NOT NULL OR entry.failedAt IS NOT NULL)")
+    int markUndeliveredFrom(@Param("offset") long offset);
+
+    /**
+     * @param deliveredBefore entries delivered before are deleted
+     * @return number of deleted entries
+     */
+    @Modifying
+    @Query("DELETE FROM ExtensionEventOutboxEntry entry WHERE entry.deliveredAt < :deliveredBefore")
+    int deleteDeliveredBefore(@Param("deliveredBefore") Instant deliveredBefore);
+}
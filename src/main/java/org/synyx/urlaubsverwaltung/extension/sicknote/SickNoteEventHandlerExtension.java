@@ -9,12 +9,12 @@ import de.focus_shift.urlaubsverwaltung.extension.api.sicknote.SickNotePersonDTO
 import de.focus_shift.urlaubsverwaltung.extension.api.sicknote.SickNoteUpdatedEventDTO;
 import de.focus_shift.urlaubsverwaltung.extension.api.tenancy.TenantSupplier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.synyx.urlaubsverwaltung.absence.AbsencePeriod;
+import org.synyx.urlaubsverwaltung.absence.AbsenceQuery;
 import org.synyx.urlaubsverwaltung.absence.AbsenceService;
+import org.synyx.urlaubsverwaltung.extension.outbox.ExtensionEventOutbox;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteCancelledEvent;
@@ -25,13 +25,13 @@ import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteUpdatedEvent;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-
 @Component
 @ConditionalOnProperty(value = "uv.extensions.enabled", havingValue = "true")
 public class SickNoteEventHandlerExtension {
@@ -40,14 +40,14 @@ public class SickNoteEventHandlerExtension {
 
     private final TenantSupplier tenantSupplier;
     private final AbsenceService absenceService;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ExtensionEventOutbox extensionEventOutbox;
 
     public SickNoteEventHandlerExtension(TenantSupplier tenantSupplier,
                                          AbsenceService absenceService,
-                                         ApplicationEventPublisher applicationEventPublisher) {
+                                         ExtensionEventOutbox extensionEventOutbox) {
         this.tenantSupplier = tenantSupplier;
         this.absenceService = absenceService;
-        this.applicationEventPublisher = applicationEventPublisher;
+        this.extensionEventOutbox = extensionEventOutbox;
     }
 
     private static Set<LocalDate> toAbsentWorkingDays(AbsencePeriod absencePeriod) {
@@ -195,45 +195,47 @@ public class SickNoteEventHandlerExtension {
     }
 
     @EventListener
-    @Async
     void on(SickNoteCancelledEvent event) {
         getClosedAbsencePeriods(event.sickNote())
             .map(toSickNoteCancelledEventDTO(tenantSupplier.get(), event))
-            .ifPresent(applicationEventPublisher::publishEvent);
+            .ifPresent(extensionEventOutbox::add);
     }
 
     @EventListener
-    @Async
     void on(SickNoteCreatedEvent event) {
         getAbsencePeriods(event.sickNote())
             .map(toSickNoteCreatedEventDTO(tenantSupplier.get(), event))
-            .ifPresent(applicationEventPublisher::publishEvent);
+            .ifPresent(extensionEventOutbox::add);
     }
 
     @EventListener
-    @Async
     void on(SickNoteUpdatedEvent event) {
         getAbsencePeriods(event.sickNote())
             .map(toSickNoteUpdatedEventDTO(tenantSupplier.get(), event))
-            .ifPresent(applicationEventPublisher::publishEvent);
+            .ifPresent(extensionEventOutbox::add);
     }
 
     @EventListener
-    @Async
     void on(SickNoteToApplicationConvertedEvent event) {
         getAbsencePeriods(event.sickNote())
             .map(toSickNoteConvertedEventDTO(tenantSupplier.get(), event))
-            .ifPresent(applicationEventPublisher::publishEvent);
+            .ifPresent(extensionEventOutbox::add);
     }
 
     private Optional<AbsencePeriod> getAbsencePeriods(SickNote sickNote) {
-        return absenceService.getOpenAbsences(sickNote.getPerson(), sickNote.getStartDate(), sickNote.getEndDate()).stream()
+        final AbsenceQuery query = AbsenceQuery.open(List.of(sickNote.getPerson()), sickNote.getStartDate(), sickNote.getEndDate())
+            .withAbsenceTypes(List.of(AbsencePeriod.AbsenceType.SICK))
+            .withSourceId(sickNote.getId());
+        return absenceService.getAbsences(query).stream()
             .filter(isFullOrSameDayLength(sickNote.getDayLength()))
             .findFirst();
     }
 
     private Optional<AbsencePeriod> getClosedAbsencePeriods(SickNote sickNote) {
-        return absenceService.getClosedAbsences(sickNote.getPerson(), sickNote.getStartDate(), sickNote.getEndDate()).stream()
+        final AbsenceQuery query = AbsenceQuery.closed(List.of(sickNote.getPerson()), sickNote.getStartDate(), sickNote.getEndDate())
+            .withAbsenceTypes(List.of(AbsencePeriod.AbsenceType.SICK))
+            .withSourceId(sickNote.getId());
+        return absenceService.getAbsences(query).stream()
             .filter(isFullOrSameDayLength(sickNote.getDayLength()))
             .findFirst();
     }
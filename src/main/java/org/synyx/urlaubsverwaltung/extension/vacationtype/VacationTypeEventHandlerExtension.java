@@ -3,9 +3,7 @@ package org.synyx.urlaubsverwaltung.extension.vacationtype;
 import de.focus_shift.urlaubsverwaltung.extension.api.tenancy.TenantSupplier;
 import de.focus_shift.urlaubsverwaltung.extension.api.vacationtype.VacationTypeUpdatedEventDTO;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.synyx.urlaubsverwaltung.application.vacationtype.CustomVacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
@@ -13,6 +11,7 @@ import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeCreatedEvent;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeLabel;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeUpdatedEvent;
+import org.synyx.urlaubsverwaltung.extension.outbox.ExtensionEventOutbox;
 import org.synyx.urlaubsverwaltung.settings.SupportedLanguages;
 
 import java.util.Arrays;
@@ -28,23 +27,21 @@ import static java.util.stream.Collectors.toMap;
 class VacationTypeEventHandlerExtension {
 
     private final TenantSupplier tenantSupplier;
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ExtensionEventOutbox extensionEventOutbox;
 
 
     VacationTypeEventHandlerExtension(TenantSupplier tenantSupplier,
-                                      ApplicationEventPublisher applicationEventPublisher) {
+                                      ExtensionEventOutbox extensionEventOutbox) {
         this.tenantSupplier = tenantSupplier;
-        this.applicationEventPublisher = applicationEventPublisher;
+        this.extensionEventOutbox = extensionEventOutbox;
     }
 
     @EventListener
-    @Async
     void onVacationTypeCreated(VacationTypeCreatedEvent event) {
         publishVacationType(event.vacationType());
     }
 
     @EventListener
-    @Async
     void onVacationTypeUpdated(VacationTypeUpdatedEvent event) {
         publishVacationType(event.updatedVacationType());
     }
@@ -52,7 +49,7 @@ class VacationTypeEventHandlerExtension {
     private void publishVacationType(VacationType<?> vacationType) {
         final String tenant = tenantSupplier.get();
         final VacationTypeUpdatedEventDTO updatedEventDTO = toVacationTypeDTO(tenant, vacationType);
-        applicationEventPublisher.publishEvent(updatedEventDTO);
+        extensionEventOutbox.add(updatedEventDTO);
     }
 
     private VacationTypeUpdatedEventDTO toVacationTypeDTO(String tenantId, VacationType<?> vacationType) {
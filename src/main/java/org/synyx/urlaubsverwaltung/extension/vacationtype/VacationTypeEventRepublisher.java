@@ -13,6 +13,7 @@ import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeUpdatedE
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.config.AsyncTaskExecutors.EXTENSION_TASK_EXECUTOR;
 
 @Component
 @ConditionalOnProperty(value = "uv.extensions.vacationtype.republish.enabled", havingValue = "true")
@@ -30,7 +31,7 @@ class VacationTypeEventRepublisher {
         this.vacationTypeEventHandlerExtension = vacationTypeEventHandlerExtension;
     }
 
-    @Async
+    @Async(EXTENSION_TASK_EXECUTOR)
     @EventListener(ApplicationStartedEvent.class)
     void republishEvents() {
 
@@ -2,6 +2,7 @@ package org.synyx.urlaubsverwaltung.mail;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import org.hibernate.validator.constraints.URL;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
@@ -27,6 +28,9 @@ public class MailProperties {
     @URL
     private String applicationUrl;
 
+    @NotNull
+    private MailRenderingMode renderingMode = MailRenderingMode.PER_LOCALE;
+
     public String getFrom() {
         return from;
     }
@@ -66,4 +70,12 @@ public class MailProperties {
     public void setApplicationUrl(String applicationUrl) {
         this.applicationUrl = applicationUrl;
     }
+
+    public MailRenderingMode getRenderingMode() {
+        return renderingMode;
+    }
+
+    public void setRenderingMode(MailRenderingMode renderingMode) {
+        this.renderingMode = renderingMode;
+    }
 }
@@ -0,0 +1,18 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+/**
+ * Defines how often the template of a {@link Mail} is processed when the mail is sent to multiple recipients.
+ */
+public enum MailRenderingMode {
+
+    /**
+     * The template is processed for every single recipient.
+     */
+    PER_RECIPIENT,
+
+    /**
+     * The template is processed once per locale of the recipients. Recipient specific parts
+     * ({@code recipient.id} and {@code recipient.niceName}) are filled in afterwards for every recipient.
+     */
+    PER_LOCALE
+}
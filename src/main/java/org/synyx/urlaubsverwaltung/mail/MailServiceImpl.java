@@ -1,5 +1,7 @@
 package org.synyx.urlaubsverwaltung.mail;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -12,11 +14,16 @@ import org.thymeleaf.ITemplateEngine;
 import org.thymeleaf.context.Context;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
 import static java.lang.invoke.MethodHandles.lookup;
+import static org.synyx.urlaubsverwaltung.config.AsyncTaskExecutors.MAIL_TASK_EXECUTOR;
+import static org.synyx.urlaubsverwaltung.mail.MailRenderingMode.PER_LOCALE;
+import static org.synyx.urlaubsverwaltung.mail.MailRenderingMode.PER_RECIPIENT;
+import static org.synyx.urlaubsverwaltung.mail.PrecompiledMailBody.placeholderRecipient;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
@@ -27,58 +34,79 @@ import static org.slf4j.LoggerFactory.getLogger;
 class MailServiceImpl implements MailService {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
+    private static final String METRIC_MAIL_TEMPLATE_RENDERING = "mail.template.rendering";
 
     private final MessageSource emailMessageSource;
     private final ITemplateEngine emailTemplateEngine;
     private final MailSenderService mailSenderService;
     private final MailProperties mailProperties;
     private final UserSettingsService userSettingsService;
+    private final MeterRegistry meterRegistry;
 
     @Autowired
     MailServiceImpl(MessageSource emailMessageSource, ITemplateEngine emailTemplateEngine, MailSenderService mailSenderService,
-                    MailProperties mailProperties, UserSettingsService userSettingsService) {
+                    MailProperties mailProperties, UserSettingsService userSettingsService, MeterRegistry meterRegistry) {
         this.emailMessageSource = emailMessageSource;
         this.emailTemplateEngine = emailTemplateEngine;
         this.mailProperties = mailProperties;
         this.mailSenderService = mailSenderService;
         this.userSettingsService = userSettingsService;
+        this.meterRegistry = meterRegistry;
     }
 
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     @Override
     public void send(Mail mail) {
 
         final List<Person> recipients = getRecipients(mail);
         final Map<Person, Locale> effectiveLocales = userSettingsService.getEffectiveLocale(recipients);
 
-        recipients.forEach(recipient -> {
-
-            final Locale effectiveLocale = effectiveLocales.get(recipient);
+        final String from = generateMailAddressAndDisplayName(mailProperties.getFrom(), mailProperties.getFromDisplayName());
+        final String replyTo = generateMailAddressAndDisplayName(mailProperties.getReplyTo(), mailProperties.getReplyToDisplayName());
 
-            final Context context = new Context(effectiveLocale);
-            context.setVariables(mail.getTemplateModel(effectiveLocale));
-            context.setVariable("baseLinkURL", getApplicationUrl());
-            context.setVariable("rightPadder", RightPadder.getInstance());
-            context.setVariable("recipient", recipient);
+        final Map<Locale, PrecompiledMailBody> precompiledBodies = new HashMap<>();
 
-            final String from = generateMailAddressAndDisplayName(mailProperties.getFrom(), mailProperties.getFromDisplayName());
-            final String replyTo = generateMailAddressAndDisplayName(mailProperties.getReplyTo(), mailProperties.getReplyToDisplayName());
+        recipients.forEach(recipient -> {
 
             final String email = recipient.getEmail();
-            final String subject = getTranslation(effectiveLocale, mail.getSubjectMessageKey(), mail.getSubjectMessageArguments());
-            final String body = emailTemplateEngine.process(mail.getTemplateName(), context);
-
-            if (email != null) {
-                mail.getMailAttachments().ifPresentOrElse(
-                    mailAttachments -> mailSenderService.sendEmail(from, replyTo, email, subject, body, mailAttachments),
-                    () -> mailSenderService.sendEmail(from, replyTo, email, subject, body)
-                );
-            } else {
+            if (email == null) {
                 LOG.debug("Could not send mail to E-Mail-Address of person with id {}, because email is null.", recipient.getId());
+                return;
             }
+
+            final Locale effectiveLocale = effectiveLocales.get(recipient);
+
+            final String subject = getTranslation(effectiveLocale, mail.getSubjectMessageKey(), mail.getSubjectMessageArguments());
+            final String body = switch (mailProperties.getRenderingMode()) {
+                case PER_RECIPIENT -> render(mail, effectiveLocale, recipient, PER_RECIPIENT);
+                case PER_LOCALE -> precompiledBodies
+                    .computeIfAbsent(effectiveLocale, locale -> PrecompiledMailBody.compile(render(mail, locale, placeholderRecipient(), PER_LOCALE)))
+                    .fill(recipient);
+            };
+
+            mail.getMailAttachments().ifPresentOrElse(
+                mailAttachments -> mailSenderService.sendEmail(from, replyTo, email, subject, body, mailAttachments),
+                () -> mailSenderService.sendEmail(from, replyTo, email, subject, body)
+            );
         });
     }
 
+    private String render(Mail mail, Locale locale, Person recipient, MailRenderingMode renderingMode) {
+
+        final Context context = new Context(locale);
+        context.setVariables(mail.getTemplateModel(locale));
+        context.setVariable("baseLinkURL", getApplicationUrl());
+        context.setVariable("rightPadder", RightPadder.getInstance());
+        context.setVariable("recipient", recipient);
+
+        return Timer.builder(METRIC_MAIL_TEMPLATE_RENDERING)
+            .description("Time spent to process a mail template")
+            .tag("template", mail.getTemplateName())
+            .tag("mode", renderingMode.name().toLowerCase(Locale.ROOT))
+            .register(meterRegistry)
+            .record(() -> emailTemplateEngine.process(mail.getTemplateName(), context));
+    }
+
     private List<Person> getRecipients(Mail mail) {
 
         final List<Person> recipients = new ArrayList<>();
@@ -0,0 +1,118 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mail body that has been rendered once with a placeholder recipient. The recipient specific slots
+ * are filled in with {@link #fill(Person)} for every real recipient without processing the template again.
+ */
+final class PrecompiledMailBody {
+
+    private static final String RECIPIENT_NICE_NAME_SLOT = "{uv:recipient.niceName}";
+    private static final long RECIPIENT_ID_SLOT = -7_346_285_019_264_813L;
+    private static final String RECIPIENT_ID_SLOT_TEXT = String.valueOf(RECIPIENT_ID_SLOT);
+
+    private final List<String> fragments;
+    private final List<Slot> slots;
+
+    private PrecompiledMailBody(List<String> fragments, List<Slot> slots) {
+        this.fragments = fragments;
+        this.slots = slots;
+    }
+
+    /**
+     * @return the person that has to be used as {@code recipient} while rendering the template
+     */
+    static Person placeholderRecipient() {
+        final Person placeholder = new Person();
+        placeholder.setId(RECIPIENT_ID_SLOT);
+        placeholder.setFirstName(RECIPIENT_NICE_NAME_SLOT);
+        return placeholder;
+    }
+
+    /**
+     * Splits the body rendered with the {@link #placeholderRecipient()} into static fragments and recipient slots.
+     *
+     * @param renderedBody body rendered with the {@link #placeholderRecipient()}
+     * @return the precompiled body
+     */
+    static PrecompiledMailBody compile(String renderedBody) {
+
+        final List<String> fragments = new ArrayList<>();
+        final List<Slot> slots = new ArrayList<>();
+
+        int start = 0;
+        while (true) {
+            final int niceNameIndex = renderedBody.indexOf(RECIPIENT_NICE_NAME_SLOT, start);
+            final int idIndex = renderedBody.indexOf(RECIPIENT_ID_SLOT_TEXT, start);
+
+            final Slot slot;
+            final int slotIndex;
+            if (niceNameIndex >= 0 && (idIndex < 0 || niceNameIndex < idIndex)) {
+                slot = Slot.NICE_NAME;
+                slotIndex = niceNameIndex;
+            } else if (idIndex >= 0) {
+                slot = Slot.ID;
+                slotIndex = idIndex;
+            } else {
+                break;
+            }
+
+            fragments.add(renderedBody.substring(start, slotIndex));
+            slots.add(slot);
+            start = slotIndex + slot.placeholderLength();
+        }
+        fragments.add(renderedBody.substring(start));
+
+        return new PrecompiledMailBody(List.copyOf(fragments), List.copyOf(slots));
+    }
+
+    /**
+     * @param recipient the real recipient of the mail
+     * @return the mail body for the given recipient
+     */
+    String fill(Person recipient) {
+
+        final StringBuilder body = new StringBuilder();
+        for (int i = 0; i < slots.size(); i++) {
+            body.append(fragments.get(i));
+            body.append(slots.get(i).valueOf(recipient));
+        }
+        body.append(fragments.get(fragments.size() - 1));
+
+        return body.toString();
+    }
+
+    private enum Slot {
+        NICE_NAME {
+            @Override
+            int placeholderLength() {
+                return RECIPIENT_NICE_NAME_SLOT.length();
+            }
+
+            @Override
+            String valueOf(Person recipient) {
+                return recipient.getNiceName();
+            }
+        },
+        ID {
+            @Override
+            int placeholderLength() {
+                return RECIPIENT_ID_SLOT_TEXT.length();
+            }
+
+            @Override
+            String valueOf(Person recipient) {
+                final Long id = recipient.getId();
+                return id == null ? "" : id.toString();
+            }
+        };
+
+        abstract int placeholderLength();
+
+        abstract String valueOf(Person recipient);
+    }
+}
@@ -0,0 +1,94 @@
+package org.synyx.urlaubsverwaltung.overlap;
+
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.Comparator.comparing;
+import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.FULLY_OVERLAPPING;
+import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.NO_OVERLAPPING;
+import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.PARTLY_OVERLAPPING;
+
+/**
+ * Index of the days covered by a set of {@link DateRange}s.
+ *
+ * <p>The date ranges are sorted once and merged into disjoint ranges, ranges overlapping or abutting each other
+ * are merged into one (e.g. 16.-18. and 19.-20. result in 16.-20.). Afterward the {@link OverlapCase} of a period is
+ * determined by a binary search instead of comparing the period with every single date range.</p>
+ */
+final class DateRangeIndex {
+
+    private final List<DateRange> mergedDateRanges;
+
+    private DateRangeIndex(List<DateRange> mergedDateRanges) {
+        this.mergedDateRanges = mergedDateRanges;
+    }
+
+    static DateRangeIndex of(Collection<DateRange> dateRanges) {
+
+        final List<DateRange> sortedDateRanges = dateRanges.stream()
+            .sorted(comparing(DateRange::startDate))
+            .toList();
+
+        final List<DateRange> mergedDateRanges = new ArrayList<>();
+        for (DateRange dateRange : sortedDateRanges) {
+            final DateRange last = mergedDateRanges.isEmpty() ? null : mergedDateRanges.getLast();
+            if (last != null && !dateRange.startDate().isAfter(last.endDate().plusDays(1))) {
+                final LocalDate endDate = dateRange.endDate().isAfter(last.endDate()) ? dateRange.endDate() : last.endDate();
+                mergedDateRanges.set(mergedDateRanges.size() - 1, new DateRange(last.startDate(), endDate));
+            } else {
+                mergedDateRanges.add(dateRange);
+            }
+        }
+
+        return new DateRangeIndex(mergedDateRanges);
+    }
+
+    /**
+     * Determine how the given period is covered by the indexed date ranges.
+     *
+     * @param period to be checked
+     * @return {@link OverlapCase#FULLY_OVERLAPPING} if every day of the period is covered,
+     * {@link OverlapCase#PARTLY_OVERLAPPING} if some days are covered and {@link OverlapCase#NO_OVERLAPPING} otherwise
+     */
+    OverlapCase overlapCase(DateRange period) {
+
+        // the last merged date range starting on or before the end of the period is the only candidate
+        // to cover the end of the period, all others end before it
+        final int index = lastStartingOnOrBefore(period.endDate());
+        if (index < 0) {
+            return NO_OVERLAPPING;
+        }
+
+        final DateRange candidate = mergedDateRanges.get(index);
+        if (!candidate.startDate().isAfter(period.startDate()) && !candidate.endDate().isBefore(period.endDate())) {
+            return FULLY_OVERLAPPING;
+        }
+
+        if (!candidate.endDate().isBefore(period.startDate())) {
+            return PARTLY_OVERLAPPING;
+        }
+
+        // merged date ranges are disjoint, so the candidate ending before the period means all previous do as well
+        return NO_OVERLAPPING;
+    }
+
+    private int lastStartingOnOrBefore(LocalDate date) {
+        int low = 0;
+        int high = mergedDateRanges.size() - 1;
+        int result = -1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            if (mergedDateRanges.get(middle).startDate().isAfter(date)) {
+                high = middle - 1;
+            } else {
+                result = middle;
+                low = middle + 1;
+            }
+        }
+        return result;
+    }
+}
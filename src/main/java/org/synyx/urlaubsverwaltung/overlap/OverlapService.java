@@ -5,13 +5,13 @@ import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -22,9 +22,8 @@ import static org.synyx.urlaubsverwaltung.application.application.ApplicationSta
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED_CANCELLATION_REQUESTED;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.TEMPORARY_ALLOWED;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.WAITING;
-import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.FULLY_OVERLAPPING;
 import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.NO_OVERLAPPING;
-import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.PARTLY_OVERLAPPING;
+import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.activeStatuses;
 
 /**
  * This service handles the validation of {@link Application} for leave concerning overlapping, i.e. if there is already
@@ -33,6 +32,8 @@ import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.PARTLY_OVERLAPPING
 @Service
 public class OverlapService {
 
+    private static final List<ApplicationStatus> CONFLICTING_STATUSES = List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED);
+
     private final ApplicationService applicationService;
     private final SickNoteService sickNoteService;
 
@@ -131,30 +132,19 @@ public class OverlapService {
             return NO_OVERLAPPING;
         }
 
-        // case (2) or (3): overlap
-
-        final List<DateRange> listOfOverlaps = getListOfOverlaps(startDate, endDate, applications, sickNotes);
-        final List<DateRange> listOfGaps = getListOfGaps(startDate, endDate, listOfOverlaps);
-
-        // gaps between the intervals mean that you can apply vacation for this periods
-        // this is case (3)
-        if (!listOfGaps.isEmpty()) {
-            /* (3) The period of the new application is part
-             * of an existent application's period, but for a part of it you could apply new vacation; i.e. user
-             * must be asked if he wants to apply for leave for the not overlapping period of the new
-             * application.
-             */
-            return PARTLY_OVERLAPPING;
-        }
-        // no gaps mean that period of application is element of other periods of applications
-        // i.e. you have no free periods to apply vacation for
-        // this is case (2)
-
-        /* (2) The period of
-         * the new application is element of an existent application's period; i.e. the new application is not
-         * necessary because there is already an existent application for this period.
+        /* (2) The period of the new application is element of the periods of existent applications and sick notes;
+         * i.e. the new application is not necessary because there is already an existent absence for this period.
+         *
+         * (3) The period of the new application is partly covered by the periods of existent applications and sick
+         * notes, but for a part of it you could apply new vacation.
          */
-        return FULLY_OVERLAPPING;
+        final Stream<DateRange> applicationDateRanges = applications.stream()
+            .map(application -> new DateRange(application.getStartDate(), application.getEndDate()));
+        final Stream<DateRange> sickNoteDateRanges = sickNotes.stream()
+            .map(sickNote -> new DateRange(sickNote.getStartDate(), sickNote.getEndDate()));
+
+        return DateRangeIndex.of(Stream.concat(applicationDateRanges, sickNoteDateRanges).toList())
+            .overlapCase(new DateRange(startDate, endDate));
     }
 
     /**
@@ -167,13 +157,9 @@ public class OverlapService {
      * @return {@link List} of {@link Application}s overlapping with the period
      */
     private List<Application> getRelevantApplicationsForLeave(Person person, LocalDate startDate, LocalDate endDate, DayLength dayLength) {
-
-        // get all applications for leave
-        final List<Application> applicationsForLeave = applicationService.getApplicationsForACertainPeriodAndPerson(startDate, endDate, person);
-
-        // remove the non-relevant ones
-        return applicationsForLeave.stream()
-            .filter(withConflictingStatus().and(withOverlappingDayLength(dayLength)))
+        return applicationService.getApplicationsForACertainPeriodAndStatus(startDate, endDate, List.of(person), CONFLICTING_STATUSES)
+            .stream()
+            .filter(withOverlappingDayLength(dayLength))
             .collect(toList());
     }
 
@@ -181,13 +167,6 @@ public class OverlapService {
         return application -> application.getDayLength().isFull() || dayLength.isFull() || application.getDayLength().equals(dayLength);
     }
 
-    private Predicate<Application> withConflictingStatus() {
-        return application -> application.hasStatus(WAITING) ||
-            application.hasStatus(ALLOWED) ||
-            application.hasStatus(ALLOWED_CANCELLATION_REQUESTED) ||
-            application.hasStatus(TEMPORARY_ALLOWED);
-    }
-
     /**
      * Get all active sick notes of the given person that are in the given period.
      *
@@ -198,69 +177,6 @@ public class OverlapService {
      */
     private List<SickNote> getRelevantSickNotes(Person person, LocalDate startDate, LocalDate endDate) {
         // only active sick notes are relevant
-        return sickNoteService.getByPersonAndPeriod(person, startDate, endDate)
-            .stream()
-            .filter(SickNote::isActive)
-            .collect(toList());
-    }
-
-    /**
-     * Get a list of gaps within the given intervals.
-     *
-     * @param startDate      defines the start of the period
-     * @param endDate        defines the end of the period
-     * @param listOfOverlaps list of overlaps
-     * @return {@link List} of gaps
-     */
-    private List<DateRange> getListOfGaps(LocalDate startDate, LocalDate endDate, List<DateRange> listOfOverlaps) {
-        // check start and end points
-        if (listOfOverlaps.isEmpty()) {
-            return List.of();
-        }
-
-        final LocalDate firstOverlapStart = listOfOverlaps.getFirst().startDate();
-        final LocalDate lastOverlapEnd = listOfOverlaps.getLast().endDate();
-
-        final List<DateRange> listOfGaps = new ArrayList<>();
-        if (startDate.isBefore(firstOverlapStart)) {
-            listOfGaps.add(new DateRange(startDate, firstOverlapStart));
-        }
-        if (endDate.isAfter(lastOverlapEnd)) {
-            listOfGaps.add(new DateRange(lastOverlapEnd, endDate));
-        }
-
-        // check if intervals abut or gap
-        for (int i = 0; (i + 1) < listOfOverlaps.size(); i++) {
-            // if they don't abut, you can calculate the gap
-            // test if end of interval is equals resp. one day plus of start of other interval
-            // e.g. if period 1: 16.-18. and period 2: 19.-20 --> they abut
-            // e.g. if period 1: 16.-18. and period 2: 20.-22 --> they have a gap
-            if (intervalsHaveGap(listOfOverlaps.get(i), listOfOverlaps.get(i + 1))) {
-                final Optional<DateRange> maybeGap = listOfOverlaps.get(i).gap(listOfOverlaps.get(i + 1));
-                maybeGap.ifPresent(listOfGaps::add);
-            }
-        }
-
-        return listOfGaps;
-    }
-
-    /**
-     * Check if the two given intervals have a gap or if they abut.
-     *
-     * <p>Some examples:</p>
-     * <p>(1) period 16.-18. and period 19.-20. --> they abut</p>
-     * <p>(2) period 16.-18. and period 20.-22. --> they have a gap</p>
-     *
-     * @param firstInterval
-     * @param secondInterval
-     * @return {@code true} if they have a gap between or {@code false} if they have no gap
-     */
-    private boolean intervalsHaveGap(DateRange firstInterval, DateRange secondInterval) {
-
-        // test if end of interval is equals resp. one day plus of start of other interval
-        final LocalDate endOfFirstInterval = firstInterval.endDate();
-        final LocalDate startOfSecondInterval = secondInterval.startDate();
-
-        return !(endOfFirstInterval.equals(startOfSecondInterval) || endOfFirstInterval.plusDays(1).equals(startOfSecondInterval));
+        return sickNoteService.getForStatesAndPerson(activeStatuses(), List.of(person), startDate, endDate);
     }
 }
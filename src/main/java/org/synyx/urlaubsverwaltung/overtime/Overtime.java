@@ -6,7 +6,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PostLoad;
 import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Transient;
 import org.synyx.urlaubsverwaltung.DurationConverter;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.person.Person;
@@ -19,6 +21,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import static jakarta.persistence.GenerationType.SEQUENCE;
 import static java.math.RoundingMode.HALF_EVEN;
@@ -57,6 +60,12 @@ public class Overtime {
     @Column(nullable = false)
     private LocalDate lastModificationDate;
 
+    /**
+     * Start date as loaded from the database, to know the first year affected by a change of the start date.
+     */
+    @Transient
+    private LocalDate persistedStartDate;
+
     protected Overtime() {
         // OK
     }
@@ -172,6 +181,18 @@ public class Overtime {
         return this.lastModificationDate;
     }
 
+    /**
+     * @return the start date as loaded from the database, empty if the overtime has not been persisted yet
+     */
+    Optional<LocalDate> getPersistedStartDate() {
+        return Optional.ofNullable(persistedStartDate);
+    }
+
+    @PostLoad
+    void rememberPersistedStartDate() {
+        this.persistedStartDate = startDate;
+    }
+
     /**
      * Should be called whenever an overtime entity is updated.
      */
@@ -44,6 +44,11 @@ interface OvertimeRepository extends CrudRepository<Overtime, Long> {
 
     List<Overtime> findByPersonAndStartDateIsBefore(Person person, LocalDate before);
 
+    List<Overtime> findByPersonAndEndDateIsGreaterThanEqual(Person person, LocalDate start);
+
+    @Query("SELECT DISTINCT overtime.person FROM Overtime overtime")
+    List<Person> findDistinctPersons();
+
     @Modifying
     void deleteByPerson(Person personId);
 }
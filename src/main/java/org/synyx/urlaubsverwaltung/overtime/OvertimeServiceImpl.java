@@ -17,7 +17,6 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Year;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -25,7 +24,6 @@ import java.util.Optional;
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.math.RoundingMode.HALF_EVEN;
 import static java.time.Duration.ZERO;
-import static java.time.temporal.ChronoUnit.MINUTES;
 import static java.time.temporal.TemporalAdjusters.firstDayOfYear;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static java.util.stream.Collectors.groupingBy;
@@ -46,6 +44,7 @@ class OvertimeServiceImpl implements OvertimeService {
 
     private final OvertimeRepository overtimeRepository;
     private final OvertimeCommentRepository overtimeCommentRepository;
+    private final OvertimeYearBalanceService overtimeYearBalanceService;
     private final ApplicationService applicationService;
     private final OvertimeMailService overtimeMailService;
     private final SettingsService settingsService;
@@ -53,10 +52,11 @@ class OvertimeServiceImpl implements OvertimeService {
 
     @Autowired
     public OvertimeServiceImpl(OvertimeRepository overtimeRepository, OvertimeCommentRepository overtimeCommentRepository,
-                               ApplicationService applicationService, OvertimeMailService overtimeMailService,
-                               SettingsService settingsService, Clock clock) {
+                               OvertimeYearBalanceService overtimeYearBalanceService, ApplicationService applicationService,
+                               OvertimeMailService overtimeMailService, SettingsService settingsService, Clock clock) {
         this.overtimeRepository = overtimeRepository;
         this.overtimeCommentRepository = overtimeCommentRepository;
+        this.overtimeYearBalanceService = overtimeYearBalanceService;
         this.applicationService = applicationService;
         this.overtimeMailService = overtimeMailService;
         this.settingsService = settingsService;
@@ -78,6 +78,7 @@ class OvertimeServiceImpl implements OvertimeService {
         // save overtime record
         overtime.onUpdate();
         final Overtime savedOvertime = overtimeRepository.save(overtime);
+        overtimeYearBalanceService.updateOvertime(overtime);
 
         // save comment
         final OvertimeCommentAction action = isNewOvertime ? CREATED : EDITED;
@@ -117,22 +118,12 @@ class OvertimeServiceImpl implements OvertimeService {
 
     @Override
     public Duration getTotalOvertimeForPersonBeforeYear(Person person, int year) {
-        final LocalDate firstDayOfYear = Year.of(year).atDay(1);
-        final LocalDate lastDayOfBeforeYear = firstDayOfYear.minusYears(1).with(lastDayOfYear());
-        final Duration totalOvertimeReductionBeforeYear = applicationService.getTotalOvertimeReductionOfPersonUntil(person, lastDayOfBeforeYear);
-        final Duration totalOvertimeBeforeYear = overtimeRepository.findByPersonAndStartDateIsBefore(person, firstDayOfYear).stream()
-            .map(overtime -> overtime.getTotalDurationBefore(year))
-            .reduce(ZERO, Duration::plus);
-
-        return totalOvertimeBeforeYear.minus(totalOvertimeReductionBeforeYear);
+        return overtimeYearBalanceService.getLeftOvertimeBefore(person, year);
     }
 
     @Override
     public Duration getLeftOvertimeForPerson(Person person) {
-        final Duration totalOvertime = getTotalOvertimeForPerson(person);
-        final Duration overtimeReduction = applicationService.getTotalOvertimeReductionOfPerson(person);
-
-        return totalOvertime.minus(overtimeReduction);
+        return overtimeYearBalanceService.getLeftOvertime(person);
     }
 
     @Override
@@ -155,7 +146,7 @@ class OvertimeServiceImpl implements OvertimeService {
             .filter(application -> activeStatuses().contains(application.getStatus()))
             .collect(groupingBy(Application::getPerson));
 
-        final Map<Person, Duration> overtimeSumBeforeYearByPerson = getOvertimeSumBeforeYear(persons, start.getYear());
+        final Map<Person, Duration> overtimeSumBeforeYearByPerson = overtimeYearBalanceService.getLeftOvertimeBefore(persons, start.getYear());
         final Map<Person, Duration> yearOvertimeSumByPerson = getTotalOvertimeUntil(persons, start.with(firstDayOfYear()), start.with(lastDayOfYear()));
         final Map<Person, Duration> dateRangeOvertimeSumByPerson = getTotalOvertimeUntil(persons, start, end);
         final Map<Person, OvertimeReduction> dateRangeOvertimeReductionByPerson = getOvertimeReduction(overtimeApplicationsByPerson, start, end);
@@ -178,31 +169,6 @@ class OvertimeServiceImpl implements OvertimeService {
             .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
-    private Map<Person, Duration> getOvertimeSumBeforeYear(Collection<Person> persons, int year) {
-
-        final LocalDate lastDayOfLastYear = Year.of(year - 1).atDay(1).with(lastDayOfYear());
-        final Map<Person, Duration> totalReductionBeforeYearByPerson = applicationService.getTotalOvertimeReductionOfPersonUntil(persons, lastDayOfLastYear);
-        final Map<Person, Duration> overtimesStartingWithoutRequestedYearByPerson = getTotalOvertimeUntil(persons, lastDayOfLastYear);
-        return persons.stream()
-            .map(person -> {
-                final Duration totalOvertimeReductionBeforeYear = totalReductionBeforeYearByPerson.getOrDefault(person, ZERO);
-                final Duration totalOvertimeBeforeYear = overtimesStartingWithoutRequestedYearByPerson.getOrDefault(person, ZERO);
-                final Duration duration = totalOvertimeBeforeYear.minus(totalOvertimeReductionBeforeYear);
-                return Map.entry(person, duration);
-            })
-            .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
-    }
-
-    private Map<Person, Duration> getTotalOvertimeUntil(Collection<Person> persons, LocalDate until) {
-        return overtimeRepository.findByPersonIsInAndStartDateIsLessThanEqual(persons, until).stream()
-            .map(overtime -> {
-                final DateRange requestedDateRange = new DateRange(overtime.getStartDate(), until);
-                final Duration overtimeDurationForDateRange = overtime.getDurationForDateRange(requestedDateRange);
-                return Map.entry(overtime.getPerson(), overtimeDurationForDateRange);
-            })
-            .collect(toMap(Map.Entry::getKey, Map.Entry::getValue, Duration::plus));
-    }
-
     private Map<Person, Duration> getTotalOvertimeUntil(List<Person> persons, LocalDate start, LocalDate end) {
         final DateRange requestedDateRange = new DateRange(start, end);
         return overtimeRepository.findByPersonIsInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(persons, start, end).stream()
@@ -276,6 +242,7 @@ class OvertimeServiceImpl implements OvertimeService {
         final Person personToBeDeleted = event.person();
         overtimeCommentRepository.deleteByOvertimePerson(personToBeDeleted);
         deleteCommentAuthor(personToBeDeleted);
+        overtimeYearBalanceService.deleteAll(personToBeDeleted);
         overtimeRepository.deleteByPerson(personToBeDeleted);
     }
 
@@ -285,13 +252,6 @@ class OvertimeServiceImpl implements OvertimeService {
         overtimeCommentRepository.saveAll(overtimeComments);
     }
 
-    private Duration getTotalOvertimeForPerson(Person person) {
-        return overtimeRepository.calculateTotalHoursForPerson(person)
-            .map(totalHours -> Math.round(totalHours * 60))
-            .map(totalMinutes -> Duration.of(totalMinutes, MINUTES))
-            .orElse(ZERO);
-    }
-
     private record OvertimeReduction(Duration reductionOverall, Duration reductionDateRange) {
 
         static OvertimeReduction identity() {
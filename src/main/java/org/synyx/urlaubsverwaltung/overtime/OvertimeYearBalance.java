@@ -0,0 +1,135 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import static jakarta.persistence.GenerationType.SEQUENCE;
+
+/**
+ * Overtime of a person within one year and the left overtime at the end of that year.
+ *
+ * <p>
+ * The closing balance carries the overtime and overtime reductions of all previous years, so the left overtime
+ * of a person up to a year is read from one balance instead of summing up every overtime record ever recorded.
+ * Years without any overtime or overtime reduction have no balance, the closing balance of the previous year applies.
+ */
+@Entity
+@Table(name = "overtime_year_balance")
+class OvertimeYearBalance {
+
+    @Id
+    @Column(name = "id", unique = true, nullable = false, updatable = false)
+    @GeneratedValue(strategy = SEQUENCE, generator = "overtime_year_balance_generator")
+    @SequenceGenerator(name = "overtime_year_balance_generator", sequenceName = "overtime_year_balance_id_seq")
+    private Long id;
+
+    @ManyToOne
+    private Person person;
+
+    @Column(name = "balance_year", nullable = false)
+    private int year;
+
+    /**
+     * Overtime recorded within the year in seconds
+     */
+    @Column(nullable = false)
+    private long overtimeSeconds;
+
+    /**
+     * Overtime reduced by applications for leave within the year in seconds
+     */
+    @Column(nullable = false)
+    private long overtimeReductionSeconds;
+
+    /**
+     * Left overtime at the end of the year in seconds
+     */
+    @Column(nullable = false)
+    private long closingBalanceSeconds;
+
+    protected OvertimeYearBalance() {
+        // OK
+    }
+
+    OvertimeYearBalance(Person person, int year) {
+        this.person = person;
+        this.year = year;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    Person getPerson() {
+        return person;
+    }
+
+    int getYear() {
+        return year;
+    }
+
+    Duration getOvertime() {
+        return Duration.ofSeconds(overtimeSeconds);
+    }
+
+    void setOvertime(Duration overtime) {
+        this.overtimeSeconds = overtime.toSeconds();
+    }
+
+    Duration getOvertimeReduction() {
+        return Duration.ofSeconds(overtimeReductionSeconds);
+    }
+
+    void setOvertimeReduction(Duration overtimeReduction) {
+        this.overtimeReductionSeconds = overtimeReduction.toSeconds();
+    }
+
+    Duration getClosingBalance() {
+        return Duration.ofSeconds(closingBalanceSeconds);
+    }
+
+    void setClosingBalance(Duration closingBalance) {
+        this.closingBalanceSeconds = closingBalance.toSeconds();
+    }
+
+    boolean isEmpty() {
+        return overtimeSeconds == 0 && overtimeReductionSeconds == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "OvertimeYearBalance{" +
+            "id=" + id +
+            ", year=" + year +
+            ", overtime=" + getOvertime() +
+            ", overtimeReduction=" + getOvertimeReduction() +
+            ", closingBalance=" + getClosingBalance() +
+            '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final OvertimeYearBalance that = (OvertimeYearBalance) o;
+        return null != this.getId() && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
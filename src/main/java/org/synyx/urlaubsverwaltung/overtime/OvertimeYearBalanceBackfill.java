@@ -0,0 +1,70 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import org.slf4j.Logger;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.synyx.urlaubsverwaltung.config.ScheduleLocking;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.overtime.OvertimeYearBalanceBackfillCompletion.ID;
+
+/**
+ * Calculates the {@link OvertimeYearBalance}s of all persons with overtime recorded before the balances have been
+ * introduced, once on startup.
+ *
+ * <p>
+ * The balances are calculated under a lock, so only one of several instances starting at the same time calculates them.
+ * The balances of each person are committed on their own and the backfill is marked as completed after the last person,
+ * so a backfill aborted halfway is done again on the next startup. Calculating the balances of a person again yields
+ * the same balances.
+ */
+@Component
+class OvertimeYearBalanceBackfill {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    static final String LOCK_NAME = "OvertimeYearBalanceBackfill";
+
+    private final OvertimeYearBalanceService overtimeYearBalanceService;
+    private final OvertimeYearBalanceBackfillCompletionRepository completionRepository;
+    private final ScheduleLocking scheduleLocking;
+    private final Clock clock;
+
+    OvertimeYearBalanceBackfill(OvertimeYearBalanceService overtimeYearBalanceService,
+                                OvertimeYearBalanceBackfillCompletionRepository completionRepository,
+                                ScheduleLocking scheduleLocking, Clock clock) {
+        this.overtimeYearBalanceService = overtimeYearBalanceService;
+        this.completionRepository = completionRepository;
+        this.scheduleLocking = scheduleLocking;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    void onStartup() {
+        scheduleLocking.withLock(LOCK_NAME, this::calculateMissingBalances, Duration.ofHours(1), Duration.ZERO).run();
+    }
+
+    void calculateMissingBalances() {
+
+        if (completionRepository.existsById(ID)) {
+            return;
+        }
+
+        final Set<Person> persons = overtimeYearBalanceService.getPersonsWithOvertime();
+        for (Person person : persons) {
+            overtimeYearBalanceService.recalculateAll(person);
+        }
+
+        completionRepository.save(new OvertimeYearBalanceBackfillCompletion(Instant.now(clock)));
+
+        LOG.info("Calculated overtime year balances of {} persons", persons.size());
+    }
+}
@@ -0,0 +1,43 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * Marks the one-time calculation of the {@link OvertimeYearBalance}s of all persons as completed,
+ * see {@link OvertimeYearBalanceBackfill}. There is at most one completion.
+ */
+@Entity
+@Table(name = "overtime_year_balance_backfill")
+class OvertimeYearBalanceBackfillCompletion {
+
+    static final Long ID = 1L;
+
+    @Id
+    @Column(name = "id", unique = true, nullable = false, updatable = false)
+    private Long id;
+
+    @Column(nullable = false)
+    private Instant completedAt;
+
+    protected OvertimeYearBalanceBackfillCompletion() {
+        // OK
+    }
+
+    OvertimeYearBalanceBackfillCompletion(Instant completedAt) {
+        this.id = ID;
+        this.completedAt = completedAt;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    Instant getCompletedAt() {
+        return completedAt;
+    }
+}
@@ -0,0 +1,6 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import org.springframework.data.repository.CrudRepository;
+
+interface OvertimeYearBalanceBackfillCompletionRepository extends CrudRepository<OvertimeYearBalanceBackfillCompletion, Long> {
+}
@@ -0,0 +1,40 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+interface OvertimeYearBalanceRepository extends CrudRepository<OvertimeYearBalance, Long> {
+
+    List<OvertimeYearBalance> findByPersonOrderByYear(Person person);
+
+    Optional<OvertimeYearBalance> findFirstByPersonOrderByYearDesc(Person person);
+
+    Optional<OvertimeYearBalance> findFirstByPersonAndYearLessThanOrderByYearDesc(Person person, int year);
+
+    /**
+     * @param persons to get the balances of
+     * @param year    the balances are before
+     * @return the latest balance before the given year of each person, persons without any balance before the year are omitted
+     */
+    @Query("""
+        SELECT balance
+        FROM OvertimeYearBalance balance
+        WHERE balance.person IN :persons
+          AND balance.year = (
+            SELECT MAX(previous.year)
+            FROM OvertimeYearBalance previous
+            WHERE previous.person = balance.person AND previous.year < :year
+          )
+        """)
+    List<OvertimeYearBalance> findLatestByPersonIsInAndYearLessThan(@Param("persons") Collection<Person> persons, @Param("year") int year);
+
+    @Modifying
+    void deleteByPerson(Person person);
+}
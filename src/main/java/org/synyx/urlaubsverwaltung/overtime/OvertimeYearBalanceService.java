@@ -0,0 +1,244 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import org.slf4j.Logger;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAppliedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCancelledEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationCreatedFromSickNoteEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationRejectedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationRevokedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationUpdatedEvent;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.time.Duration.ZERO;
+import static java.util.stream.Collectors.toMap;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.OVERTIME;
+
+/**
+ * Maintains the {@link OvertimeYearBalance}s of persons.
+ *
+ * <p>
+ * The balances are recalculated whenever an overtime record is recorded and whenever an application for leave
+ * reducing overtime is applied for, allowed, changed, rejected, cancelled or revoked. Balances of persons recorded
+ * before the balances have been introduced are calculated once by {@link OvertimeYearBalanceBackfill}.
+ */
+@Service
+@Transactional
+class OvertimeYearBalanceService {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private final OvertimeYearBalanceRepository overtimeYearBalanceRepository;
+    private final OvertimeRepository overtimeRepository;
+    private final ApplicationService applicationService;
+
+    OvertimeYearBalanceService(OvertimeYearBalanceRepository overtimeYearBalanceRepository, OvertimeRepository overtimeRepository,
+                               ApplicationService applicationService) {
+        this.overtimeYearBalanceRepository = overtimeYearBalanceRepository;
+        this.overtimeRepository = overtimeRepository;
+        this.applicationService = applicationService;
+    }
+
+    /**
+     * @param person to get the left overtime of
+     * @return the left overtime of the person including all recorded overtime and overtime reductions
+     */
+    Duration getLeftOvertime(Person person) {
+        return overtimeYearBalanceRepository.findFirstByPersonOrderByYearDesc(person)
+            .map(OvertimeYearBalance::getClosingBalance)
+            .orElse(ZERO);
+    }
+
+    /**
+     * @param person to get the left overtime of
+     * @param year   the left overtime is carried into
+     * @return the left overtime of the person at the end of the year before the given year
+     */
+    Duration getLeftOvertimeBefore(Person person, int year) {
+        return overtimeYearBalanceRepository.findFirstByPersonAndYearLessThanOrderByYearDesc(person, year)
+            .map(OvertimeYearBalance::getClosingBalance)
+            .orElse(ZERO);
+    }
+
+    /**
+     * @param persons to get the left overtime of
+     * @param year    the left overtime is carried into
+     * @return the left overtime of each person at the end of the year before the given year
+     */
+    Map<Person, Duration> getLeftOvertimeBefore(Collection<Person> persons, int year) {
+
+        if (persons.isEmpty()) {
+            return Map.of();
+        }
+
+        final Map<Person, Duration> closingBalanceByPerson = overtimeYearBalanceRepository.findLatestByPersonIsInAndYearLessThan(persons, year).stream()
+            .collect(toMap(OvertimeYearBalance::getPerson, OvertimeYearBalance::getClosingBalance));
+
+        return persons.stream()
+            .distinct()
+            .collect(toMap(person -> person, person -> closingBalanceByPerson.getOrDefault(person, ZERO)));
+    }
+
+    /**
+     * Recalculates the balances of the person after the given overtime record has been created or changed.
+     * Only the overtime of the years from the former or the new start date of the overtime record on,
+     * whichever is earlier, is summed up again.
+     *
+     * @param overtime the created or changed overtime record
+     */
+    void updateOvertime(Overtime overtime) {
+        final LocalDate firstChangedDate = overtime.getPersistedStartDate()
+            .filter(persistedStartDate -> persistedStartDate.isBefore(overtime.getStartDate()))
+            .orElse(overtime.getStartDate());
+
+        final int fromYear = firstChangedDate.getYear();
+        final List<Overtime> overtimeRecords = overtimeRepository.findByPersonAndEndDateIsGreaterThanEqual(overtime.getPerson(), Year.of(fromYear).atDay(1));
+        recalculate(overtime.getPerson(), overtimeRecords, fromYear);
+    }
+
+    /**
+     * Recalculates the balances of the person after an application for leave reducing overtime has been changed.
+     *
+     * @param person the application for leave belongs to
+     */
+    void updateOvertimeReduction(Person person) {
+        recalculate(person, List.of(), Integer.MAX_VALUE);
+    }
+
+    void deleteAll(Person person) {
+        overtimeYearBalanceRepository.deleteByPerson(person);
+    }
+
+    /**
+     * @return all persons with any overtime record or any application for leave reducing overtime
+     */
+    Set<Person> getPersonsWithOvertime() {
+        final Set<Person> persons = new LinkedHashSet<>(overtimeRepository.findDistinctPersons());
+        persons.addAll(applicationService.getPersonsWithOvertimeReduction());
+        return persons;
+    }
+
+    /**
+     * Recalculates all balances of the person from all overtime records and overtime reductions,
+     * regardless of the balances calculated so far.
+     *
+     * @param person to recalculate the balances of
+     */
+    void recalculateAll(Person person) {
+        recalculate(person, overtimeRepository.findByPerson(person), Integer.MIN_VALUE);
+    }
+
+    @EventListener
+    void on(ApplicationAppliedEvent event) {
+        updateOvertimeReductionOf(event.application());
+    }
+
+    /**
+     * Applications for leave of vacation types without approval are allowed directly, without being applied for before.
+     */
+    @EventListener
+    void on(ApplicationAllowedEvent event) {
+        updateOvertimeReductionOf(event.application());
+    }
+
+    @EventListener
+    void on(ApplicationCreatedFromSickNoteEvent event) {
+        updateOvertimeReductionOf(event.application());
+    }
+
+    @EventListener
+    void on(ApplicationRejectedEvent event) {
+        updateOvertimeReductionOf(event.application());
+    }
+
+    @EventListener
+    void on(ApplicationCancelledEvent event) {
+        updateOvertimeReductionOf(event.application());
+    }
+
+    @EventListener
+    void on(ApplicationRevokedEvent event) {
+        updateOvertimeReductionOf(event.application());
+    }
+
+    /**
+     * The vacation type of an edited application may have been changed from or to overtime reduction,
+     * so the balances are recalculated regardless of the vacation type.
+     */
+    @EventListener
+    void on(ApplicationUpdatedEvent event) {
+        updateOvertimeReduction(event.application().getPerson());
+    }
+
+    private void updateOvertimeReductionOf(Application application) {
+        if (application.getVacationType() != null && application.getVacationType().isOfCategory(OVERTIME)) {
+            updateOvertimeReduction(application.getPerson());
+        }
+    }
+
+    /**
+     * @param person          to recalculate the balances of
+     * @param overtimeRecords all overtime records of the person ending in or after {@code overtimeFromYear}
+     * @param overtimeFromYear first year whose overtime is summed up again, the overtime of the years before is kept
+     */
+    private void recalculate(Person person, List<Overtime> overtimeRecords, int overtimeFromYear) {
+
+        final TreeMap<Integer, OvertimeYearBalance> balanceByYear = new TreeMap<>();
+        for (OvertimeYearBalance balance : overtimeYearBalanceRepository.findByPersonOrderByYear(person)) {
+            balanceByYear.put(balance.getYear(), balance);
+            if (balance.getYear() >= overtimeFromYear) {
+                balance.setOvertime(ZERO);
+            }
+            balance.setOvertimeReduction(ZERO);
+        }
+
+        for (Overtime overtime : overtimeRecords) {
+            overtime.getDurationByYear().forEach((year, duration) -> {
+                if (year >= overtimeFromYear) {
+                    final OvertimeYearBalance balance = balanceByYear.computeIfAbsent(year, key -> new OvertimeYearBalance(person, key));
+                    balance.setOvertime(balance.getOvertime().plus(duration));
+                }
+            });
+        }
+
+        applicationService.getOvertimeReductionOfPersonByYear(person).forEach((year, overtimeReduction) ->
+            balanceByYear.computeIfAbsent(year, key -> new OvertimeYearBalance(person, key)).setOvertimeReduction(overtimeReduction));
+
+        final List<OvertimeYearBalance> emptyBalances = new ArrayList<>();
+        final List<OvertimeYearBalance> balances = new ArrayList<>();
+
+        Duration closingBalance = ZERO;
+        for (OvertimeYearBalance balance : balanceByYear.values()) {
+            if (balance.isEmpty()) {
+                emptyBalances.add(balance);
+            } else {
+                closingBalance = closingBalance.plus(balance.getOvertime()).minus(balance.getOvertimeReduction());
+                balance.setClosingBalance(closingBalance);
+                balances.add(balance);
+            }
+        }
+
+        overtimeYearBalanceRepository.deleteAll(emptyBalances);
+        overtimeYearBalanceRepository.saveAll(balances);
+
+        LOG.debug("Recalculated {} overtime year balances of person with id {}", balances.size(), person.getId());
+    }
+}
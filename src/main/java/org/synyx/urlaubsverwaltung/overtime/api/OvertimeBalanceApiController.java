@@ -0,0 +1,156 @@
+package org.synyx.urlaubsverwaltung.overtime.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.synyx.urlaubsverwaltung.api.RestControllerAdviceMarker;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.overtime.LeftOvertime;
+import org.synyx.urlaubsverwaltung.overtime.OvertimeService;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.person.api.PersonMapper;
+import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static java.time.temporal.TemporalAdjusters.firstDayOfYear;
+import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
+import static java.util.Comparator.comparing;
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.activeStatuses;
+import static org.synyx.urlaubsverwaltung.security.SecurityRules.IS_BOSS_OR_OFFICE;
+
+@Tag(
+    name = "overtime",
+    description = """
+        Overtime: Returns the left overtime of many persons at once
+        """
+)
+@RestControllerAdviceMarker
+@RestController
+@RequestMapping("/api/overtime")
+public class OvertimeBalanceApiController {
+
+    public static final String BALANCES = "balances";
+
+    static final int MAX_PAGE_SIZE = 500;
+
+    private final PersonService personService;
+    private final ApplicationService applicationService;
+    private final OvertimeService overtimeService;
+
+    @Autowired
+    OvertimeBalanceApiController(PersonService personService, ApplicationService applicationService, OvertimeService overtimeService) {
+        this.personService = personService;
+        this.applicationService = applicationService;
+        this.overtimeService = overtimeService;
+    }
+
+    @Operation(
+        summary = "Returns the left overtime of persons for a certain period of time",
+        description = """
+            Get the left overtime of the given persons or, if no persons are given, of all active persons page by page,
+            ordered by the id of the person. The left overtime of all persons of a page is calculated at once.
+
+            The left overtime is the overtime left at the end of the year of the period,
+            the left overtime for the period is the overtime left at the end of the period.
+
+            Needed basic authorities:
+            * user
+
+            Needed additional authorities:
+            * boss or office
+            """
+    )
+    @GetMapping(path = BALANCES, produces = {APPLICATION_JSON_VALUE, HAL_JSON_VALUE})
+    @PreAuthorize(IS_BOSS_OR_OFFICE)
+    public OvertimeBalancesDto getOvertimeBalances(
+        @Parameter(description = "IDs of the persons, all active persons if not defined")
+        @RequestParam(value = "personIds", required = false)
+        List<Long> personIds,
+        @Parameter(description = "Start date with pattern yyyy-MM-dd")
+        @RequestParam("from")
+        @DateTimeFormat(iso = ISO.DATE)
+        LocalDate startDate,
+        @Parameter(description = "End date with pattern yyyy-MM-dd, must be in the same year as the start date")
+        @RequestParam("to")
+        @DateTimeFormat(iso = ISO.DATE)
+        LocalDate endDate,
+        @Parameter(description = "Zero based number of the page")
+        @RequestParam(value = "page", defaultValue = "0")
+        int page,
+        @Parameter(description = "Number of persons per page, at most " + MAX_PAGE_SIZE)
+        @RequestParam(value = "size", defaultValue = "100")
+        int size) {
+
+        if (startDate.isAfter(endDate)) {
+            throw new ResponseStatusException(BAD_REQUEST, "Parameter 'from' must be before or equals to 'to' parameter");
+        }
+
+        if (startDate.getYear() != endDate.getYear()) {
+            throw new ResponseStatusException(BAD_REQUEST, "Parameters 'from' and 'to' must be in the same year");
+        }
+
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(BAD_REQUEST, "Parameter 'page' must not be negative and 'size' must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        final PageRequest pageRequest = PageRequest.of(page, size, ASC, "id");
+        final Page<Person> persons = personIds == null
+            ? personService.getActivePersons(new PageableSearchQuery(pageRequest))
+            : getPersonsByIds(personIds, pageRequest);
+
+        final List<Person> personsOfPage = persons.getContent();
+        final List<Application> applications = personsOfPage.isEmpty()
+            ? List.of()
+            : applicationService.getApplicationsForACertainPeriodAndStatus(startDate.with(firstDayOfYear()), startDate.with(lastDayOfYear()), personsOfPage, activeStatuses());
+        final Map<Person, LeftOvertime> leftOvertimeByPerson = personsOfPage.isEmpty()
+            ? Map.of()
+            : overtimeService.getLeftOvertimeTotalAndDateRangeForPersons(personsOfPage, applications, startDate, endDate);
+
+        final List<OvertimeBalanceDto> balances = personsOfPage.stream()
+            .map(person -> toOvertimeBalanceDto(person, leftOvertimeByPerson.get(person)))
+            .toList();
+
+        return new OvertimeBalancesDto(balances, persons.getNumber(), persons.getSize(), persons.getTotalElements(), persons.getTotalPages());
+    }
+
+    private Page<Person> getPersonsByIds(List<Long> personIds, PageRequest pageRequest) {
+
+        final List<Long> sortedPersonIds = personIds.stream().distinct().sorted().toList();
+        final int fromIndex = (int) Math.min(pageRequest.getOffset(), sortedPersonIds.size());
+        final int toIndex = Math.min(fromIndex + pageRequest.getPageSize(), sortedPersonIds.size());
+        final List<Long> personIdsOfPage = sortedPersonIds.subList(fromIndex, toIndex);
+
+        final List<Person> persons = personIdsOfPage.isEmpty()
+            ? List.of()
+            : personService.getAllPersonsByIds(personIdsOfPage).stream().sorted(comparing(Person::getId)).toList();
+
+        return new PageImpl<>(persons, pageRequest, sortedPersonIds.size());
+    }
+
+    private static OvertimeBalanceDto toOvertimeBalanceDto(Person person, LeftOvertime leftOvertime) {
+        final LeftOvertime balance = leftOvertime == null ? LeftOvertime.identity() : leftOvertime;
+        return new OvertimeBalanceDto(PersonMapper.mapToDto(person),
+            balance.getLeftOvertimeOverall().toString(), balance.getLeftOvertimeDateRange().toString());
+    }
+}
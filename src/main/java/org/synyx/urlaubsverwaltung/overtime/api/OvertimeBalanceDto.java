@@ -0,0 +1,35 @@
+package org.synyx.urlaubsverwaltung.overtime.api;
+
+import org.springframework.hateoas.RepresentationModel;
+import org.synyx.urlaubsverwaltung.person.api.PersonDto;
+
+public class OvertimeBalanceDto extends RepresentationModel<OvertimeBalanceDto> {
+
+    private final PersonDto person;
+    private final String leftOvertime;
+    private final String leftOvertimeForPeriod;
+
+    OvertimeBalanceDto(PersonDto person, String leftOvertime, String leftOvertimeForPeriod) {
+        this.person = person;
+        this.leftOvertime = leftOvertime;
+        this.leftOvertimeForPeriod = leftOvertimeForPeriod;
+    }
+
+    public PersonDto getPerson() {
+        return person;
+    }
+
+    /**
+     * @return left overtime at the end of the year of the requested period as ISO-8601 duration
+     */
+    public String getLeftOvertime() {
+        return leftOvertime;
+    }
+
+    /**
+     * @return left overtime at the end of the requested period as ISO-8601 duration
+     */
+    public String getLeftOvertimeForPeriod() {
+        return leftOvertimeForPeriod;
+    }
+}
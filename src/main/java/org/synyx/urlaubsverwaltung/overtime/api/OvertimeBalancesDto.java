@@ -0,0 +1,42 @@
+package org.synyx.urlaubsverwaltung.overtime.api;
+
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.List;
+
+public class OvertimeBalancesDto extends RepresentationModel<OvertimeBalancesDto> {
+
+    private final List<OvertimeBalanceDto> balances;
+    private final int page;
+    private final int size;
+    private final long totalElements;
+    private final int totalPages;
+
+    OvertimeBalancesDto(List<OvertimeBalanceDto> balances, int page, int size, long totalElements, int totalPages) {
+        this.balances = balances;
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+    }
+
+    public List<OvertimeBalanceDto> getBalances() {
+        return balances;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public int getTotalPages() {
+        return totalPages;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.account.Account;
 import org.synyx.urlaubsverwaltung.account.AccountService;
 import org.synyx.urlaubsverwaltung.account.VacationDaysLeft;
@@ -28,6 +29,7 @@ import org.synyx.urlaubsverwaltung.settings.SettingsService;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCounter;
 
 import java.math.BigDecimal;
 import java.time.Clock;
@@ -57,6 +59,9 @@ public class OverviewViewController implements HasLaunchpad {
 
     private static final String PERSON_ATTRIBUTE = "person";
 
+    // without applications or sick notes there are no work days to count, so the working times don't have to be loaded
+    private static final WorkDaysCounter NO_WORK_DAYS = (dayLength, startDate, endDate) -> BigDecimal.ZERO;
+
     private final PersonService personService;
     private final AccountService accountService;
     private final VacationDaysService vacationDaysService;
@@ -160,29 +165,37 @@ public class OverviewViewController implements HasLaunchpad {
             .toList();
         model.addAttribute("sickNotes", sortedSickNotes);
 
-        final SickDaysOverview sickDaysOverview = new SickDaysOverview(sickNotes, workDaysCountService, from, to);
+        final WorkDaysCounter workDaysCounter = sickNotes.isEmpty() ? NO_WORK_DAYS : workDaysCountService.getWorkDaysCounter(person, new DateRange(from, to));
+        final SickDaysOverview sickDaysOverview = new SickDaysOverview(sickNotes, workDaysCounter, from, to);
         model.addAttribute("sickDaysOverview", sickDaysOverview);
     }
 
     private void prepareApplications(Person person, int year, Model model, Locale locale) {
 
+        final LocalDate firstDayOfYear = Year.of(year).atDay(1);
+        final LocalDate lastDayOfYear = getLastDayOfYear(year);
+
         // get the person's applications for the given year
-        final List<Application> applications =
-            applicationService.getApplicationsForACertainPeriodAndPerson(Year.of(year).atDay(1), getLastDayOfYear(year), person);
+        final List<Application> applications = applicationService.getApplicationsForACertainPeriodAndPerson(firstDayOfYear, lastDayOfYear, person);
 
         final List<OverviewApplicationDto> applicationsForLeave;
         final UsedDaysOverview usedDaysOverview;
 
         if (applications.isEmpty()) {
             applicationsForLeave = List.of();
-            usedDaysOverview = new UsedDaysOverview(List.of(), year, workDaysCountService);
+            usedDaysOverview = new UsedDaysOverview(List.of(), year, NO_WORK_DAYS);
         } else {
+            // the working times are loaded once for all the applications, which may reach into the previous or next year
+            final LocalDate from = applications.stream().map(Application::getStartDate).filter(firstDayOfYear::isAfter).min(LocalDate::compareTo).orElse(firstDayOfYear);
+            final LocalDate to = applications.stream().map(Application::getEndDate).filter(lastDayOfYear::isBefore).max(LocalDate::compareTo).orElse(lastDayOfYear);
+            final WorkDaysCounter workDaysCounter = workDaysCountService.getWorkDaysCounter(person, new DateRange(from, to));
+
             applicationsForLeave = applications.stream()
-                .map(application -> new ApplicationForLeave(application, workDaysCountService))
+                .map(application -> new ApplicationForLeave(application, workDaysCounter.getWorkDaysCount(application.getDayLength(), application.getStartDate(), application.getEndDate())))
                 .sorted(comparing(ApplicationForLeave::getStartDate).reversed())
                 .map(applicationForLeave -> overviewApplicationDto(applicationForLeave, locale))
                 .collect(toList());
-            usedDaysOverview = new UsedDaysOverview(applications, year, workDaysCountService);
+            usedDaysOverview = new UsedDaysOverview(applications, year, workDaysCounter);
         }
 
         model.addAttribute("applications", applicationsForLeave);
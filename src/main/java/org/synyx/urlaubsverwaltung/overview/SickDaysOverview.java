@@ -2,7 +2,7 @@ package org.synyx.urlaubsverwaltung.overview;
 
 import org.synyx.urlaubsverwaltung.sicknote.sickdays.SickDays;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCounter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -20,7 +20,13 @@ public class SickDaysOverview {
     private final SickDays sickDays;
     private final SickDays childSickDays;
 
-    SickDaysOverview(List<SickNote> sickNotes, WorkDaysCountService workDaysCountService, LocalDate from, LocalDate to) {
+    /**
+     * @param sickNotes       of a person touching the given period
+     * @param workDaysCounter of the person, covering at least the given period
+     * @param from            first day of the period (inclusive)
+     * @param to              last day of the period (inclusive)
+     */
+    SickDaysOverview(List<SickNote> sickNotes, WorkDaysCounter workDaysCounter, LocalDate from, LocalDate to) {
 
         this.sickDays = new SickDays();
         this.childSickDays = new SickDays();
@@ -30,36 +36,29 @@ public class SickDaysOverview {
                 continue;
             }
 
-            if (sickNote.getSickNoteType().isOfCategory(SICK_NOTE_CHILD)) {
-                this.childSickDays.addDays(TOTAL, getTotalDays(sickNote, workDaysCountService, from, to));
+            final SickDays days = sickNote.getSickNoteType().isOfCategory(SICK_NOTE_CHILD) ? this.childSickDays : this.sickDays;
+            days.addDays(TOTAL, getTotalDays(sickNote, workDaysCounter, from, to));
 
-                if (sickNote.isAubPresent()) {
-                    this.childSickDays.addDays(WITH_AUB, getDaysWithAUB(sickNote, workDaysCountService, from, to));
-                }
-            } else {
-                this.sickDays.addDays(TOTAL, getTotalDays(sickNote, workDaysCountService, from, to));
-
-                if (sickNote.isAubPresent()) {
-                    this.sickDays.addDays(WITH_AUB, getDaysWithAUB(sickNote, workDaysCountService, from, to));
-                }
+            if (sickNote.isAubPresent()) {
+                days.addDays(WITH_AUB, getDaysWithAUB(sickNote, workDaysCounter, from, to));
             }
         }
     }
 
-    private BigDecimal getTotalDays(SickNote sickNote, WorkDaysCountService workDaysCountService, LocalDate from, LocalDate to) {
+    private BigDecimal getTotalDays(SickNote sickNote, WorkDaysCounter workDaysCounter, LocalDate from, LocalDate to) {
 
         final LocalDate start = maxDate(sickNote.getStartDate(), from);
         final LocalDate end = minDate(sickNote.getEndDate(), to);
 
-        return workDaysCountService.getWorkDaysCount(sickNote.getDayLength(), start, end, sickNote.getPerson());
+        return workDaysCounter.getWorkDaysCount(sickNote.getDayLength(), start, end);
     }
 
-    private BigDecimal getDaysWithAUB(SickNote sickNote, WorkDaysCountService workDaysCountService, LocalDate from, LocalDate to) {
+    private BigDecimal getDaysWithAUB(SickNote sickNote, WorkDaysCounter workDaysCounter, LocalDate from, LocalDate to) {
 
         final LocalDate start = maxDate(sickNote.getAubStartDate(), from);
         final LocalDate end = minDate(sickNote.getAubEndDate(), to);
 
-        return workDaysCountService.getWorkDaysCount(sickNote.getDayLength(), start, end, sickNote.getPerson());
+        return workDaysCounter.getWorkDaysCount(sickNote.getDayLength(), start, end);
     }
 
     public SickDays getSickDays() {
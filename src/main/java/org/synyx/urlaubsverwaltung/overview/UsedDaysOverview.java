@@ -3,9 +3,7 @@ package org.synyx.urlaubsverwaltung.overview;
 import org.springframework.util.Assert;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
-import org.synyx.urlaubsverwaltung.period.DayLength;
-import org.synyx.urlaubsverwaltung.person.Person;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCounter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -34,7 +32,12 @@ public class UsedDaysOverview {
     private final UsedDays otherDays;
     private final UsedDays otherDaysAllowed;
 
-    UsedDaysOverview(List<Application> applications, int year, WorkDaysCountService calendarService) {
+    /**
+     * @param applications        of a person touching the given year
+     * @param year                to sum up the used days for, days of applications outside of this year are not considered
+     * @param workDaysCounter of the person, covering at least the given year
+     */
+    UsedDaysOverview(List<Application> applications, int year, WorkDaysCounter workDaysCounter) {
 
         this.year = year;
         this.holidayDays = new UsedDays(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED);
@@ -45,7 +48,7 @@ public class UsedDaysOverview {
 
         for (final Application application : applications) {
             if (application.hasStatus(WAITING) || application.hasStatus(TEMPORARY_ALLOWED) || application.hasStatus(ALLOWED) || application.hasStatus(ALLOWED_CANCELLATION_REQUESTED)) {
-                final BigDecimal vacationDays = getVacationDays(application, calendarService);
+                final BigDecimal vacationDays = getVacationDays(application, workDaysCounter);
                 final ApplicationStatus status = application.getStatus();
 
                 if (application.getVacationType().isOfCategory(HOLIDAY)) {
@@ -81,7 +84,7 @@ public class UsedDaysOverview {
         return otherDaysAllowed;
     }
 
-    private BigDecimal getVacationDays(Application application, WorkDaysCountService calendarService) {
+    private BigDecimal getVacationDays(Application application, WorkDaysCounter workDaysCounter) {
 
         final int yearOfStartDate = application.getStartDate().getYear();
         final int yearOfEndDate = application.getEndDate().getYear();
@@ -89,17 +92,14 @@ public class UsedDaysOverview {
         Assert.isTrue(yearOfStartDate == this.year || yearOfEndDate == this.year,
             "Either start date or end date must be in the given year.");
 
-        final DayLength dayLength = application.getDayLength();
-        final Person person = application.getPerson();
-
         if (yearOfStartDate != yearOfEndDate) {
             final LocalDate startDate = getStartDateForCalculation(application);
             final LocalDate endDate = getEndDateForCalculation(application);
 
-            return calendarService.getWorkDaysCount(dayLength, startDate, endDate, person);
+            return workDaysCounter.getWorkDaysCount(application.getDayLength(), startDate, endDate);
         }
 
-        return calendarService.getWorkDaysCount(dayLength, application.getStartDate(), application.getEndDate(), person);
+        return workDaysCounter.getWorkDaysCount(application.getDayLength(), application.getStartDate(), application.getEndDate());
     }
 
     private LocalDate getStartDateForCalculation(Application application) {
@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.person;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
@@ -7,6 +8,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.SequenceGenerator;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.Fetch;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -17,7 +20,10 @@ import static jakarta.persistence.FetchType.EAGER;
 import static jakarta.persistence.GenerationType.SEQUENCE;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableCollection;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
+import static org.hibernate.annotations.FetchMode.SUBSELECT;
 import static org.springframework.util.StringUtils.hasText;
+import static org.synyx.urlaubsverwaltung.config.SecondLevelCacheRegions.PERSON;
 import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
 import static org.synyx.urlaubsverwaltung.person.Role.privilegedRoles;
 
@@ -25,6 +31,8 @@ import static org.synyx.urlaubsverwaltung.person.Role.privilegedRoles;
  * This class describes a person.
  */
 @Entity
+@Cacheable
+@Cache(usage = READ_WRITE, region = PERSON)
 public class Person {
 
     @Id
@@ -41,11 +49,19 @@ public class Person {
     private String firstName;
     private String email;
 
+    /*
+     * permissions and notifications stay eager: persons are used detached everywhere, e.g. as signed-in user, in
+     * views and in mails. They are loaded with one statement for all persons of a query instead of one per person.
+     */
+    @Cache(usage = READ_WRITE, region = PERSON)
     @ElementCollection(fetch = EAGER)
+    @Fetch(SUBSELECT)
     @Enumerated(STRING)
     private Collection<Role> permissions;
 
+    @Cache(usage = READ_WRITE, region = PERSON)
     @ElementCollection(fetch = EAGER)
+    @Fetch(SUBSELECT)
     @Enumerated(STRING)
     private Collection<MailNotification> notifications;
 
@@ -1,8 +1,8 @@
 package org.synyx.urlaubsverwaltung.person;
 
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.synyx.urlaubsverwaltung.mail.Mail;
 import org.synyx.urlaubsverwaltung.mail.MailService;
 import org.synyx.urlaubsverwaltung.person.web.PersonPermissionsRoleDto;
@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.synyx.urlaubsverwaltung.config.AsyncTaskExecutors.MAIL_TASK_EXECUTOR;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_EMAIL_PERSON_NEW_MANAGEMENT_ALL;
 
 @Service
@@ -24,8 +25,8 @@ public class PersonMailService {
         this.personService = personService;
     }
 
-    @Async
-    @EventListener
+    @Async(MAIL_TASK_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
     public void sendPersonCreationNotification(PersonCreatedEvent event) {
 
         final Map<String, Object> model = new HashMap<>();
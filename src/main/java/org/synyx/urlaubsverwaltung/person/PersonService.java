@@ -3,6 +3,7 @@ package org.synyx.urlaubsverwaltung.person;
 import org.springframework.data.domain.Page;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,6 +64,14 @@ public interface PersonService {
      */
     Optional<Person> getPersonByID(Long id);
 
+    /**
+     * finds all {@link Person}s in the database by their primary keys.
+     *
+     * @param ids the ids of the persons
+     * @return all persons for the given ids, ids without a person are ignored
+     */
+    List<Person> getAllPersonsByIds(Collection<Long> ids);
+
     /**
      * finds a {@link Person} in the database by username.
      *
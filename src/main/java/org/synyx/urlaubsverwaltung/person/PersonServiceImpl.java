@@ -16,6 +16,7 @@ import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeWriteService;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -155,6 +156,11 @@ class PersonServiceImpl implements PersonService {
         return personRepository.findById(id);
     }
 
+    @Override
+    public List<Person> getAllPersonsByIds(Collection<Long> ids) {
+        return personRepository.findAllById(ids);
+    }
+
     @Override
     public Optional<Person> getPersonByUsername(String username) {
         return personRepository.findByUsernameIgnoreCase(username);
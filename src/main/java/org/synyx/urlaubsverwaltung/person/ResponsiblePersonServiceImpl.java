@@ -10,8 +10,6 @@ import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
-import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
-import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
 
 @Service
 class ResponsiblePersonServiceImpl implements ResponsiblePersonService {
@@ -27,10 +25,8 @@ class ResponsiblePersonServiceImpl implements ResponsiblePersonService {
     @Override
     public List<Person> getResponsibleManagersOf(Person personOfInterest) {
         final List<Person> managementDepartmentPersons = new ArrayList<>();
-        if (departmentsAvailable()) {
-            managementDepartmentPersons.addAll(getResponsibleDepartmentHeads(personOfInterest));
-            managementDepartmentPersons.addAll(getResponsibleSecondStageAuthorities(personOfInterest));
-        }
+        managementDepartmentPersons.addAll(getResponsibleDepartmentHeads(personOfInterest));
+        managementDepartmentPersons.addAll(getResponsibleSecondStageAuthorities(personOfInterest));
 
         final List<Person> bosses = personService.getActivePersonsByRole(BOSS);
         return Stream.concat(managementDepartmentPersons.stream(), bosses.stream())
@@ -40,26 +36,20 @@ class ResponsiblePersonServiceImpl implements ResponsiblePersonService {
 
     @Override
     public List<Person> getResponsibleDepartmentHeads(Person personOfInterest) {
-        return personService.getActivePersonsByRole(DEPARTMENT_HEAD)
+        return departmentService.getDepartmentHeadsAllowedToManagePerson(personOfInterest)
             .stream()
-            .filter(departmentHead -> departmentService.isDepartmentHeadAllowedToManagePerson(departmentHead, personOfInterest))
             .filter(without(personOfInterest))
             .collect(toList());
     }
 
     @Override
     public List<Person> getResponsibleSecondStageAuthorities(Person personOfInterest) {
-        return personService.getActivePersonsByRole(SECOND_STAGE_AUTHORITY)
+        return departmentService.getSecondStageAuthoritiesAllowedToManagePerson(personOfInterest)
             .stream()
-            .filter(secondStageAuthority -> departmentService.isSecondStageAuthorityAllowedToManagePerson(secondStageAuthority, personOfInterest))
             .filter(without(personOfInterest))
             .collect(toList());
     }
 
-    private boolean departmentsAvailable() {
-        return departmentService.getNumberOfDepartments() > 0;
-    }
-
     private static Predicate<Person> without(Person personOfInterest) {
         return person -> !person.equals(personOfInterest);
     }
@@ -0,0 +1,53 @@
+package org.synyx.urlaubsverwaltung.publicholiday;
+
+import de.focus_shift.jollyday.core.HolidayManager;
+
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+/**
+ * Holiday managers by country, each created on first use, as creating a holiday manager parses the holidays
+ * of the whole country. Iterating over the map creates the holiday managers of all countries.
+ */
+final class LazyHolidayManagerMap extends AbstractMap<String, HolidayManager> {
+
+    private final List<String> countries;
+    private final Function<String, HolidayManager> holidayManagerFactory;
+    private final Map<String, HolidayManager> holidayManagers = new ConcurrentHashMap<>();
+
+    LazyHolidayManagerMap(List<String> countries, Function<String, HolidayManager> holidayManagerFactory) {
+        this.countries = List.copyOf(countries);
+        this.holidayManagerFactory = holidayManagerFactory;
+    }
+
+    @Override
+    public HolidayManager get(Object country) {
+        if (!containsKey(country)) {
+            return null;
+        }
+        return holidayManagers.computeIfAbsent((String) country, holidayManagerFactory);
+    }
+
+    @Override
+    public boolean containsKey(Object country) {
+        return country != null && countries.contains(country);
+    }
+
+    @Override
+    public int size() {
+        return countries.size();
+    }
+
+    @Override
+    public Set<Entry<String, HolidayManager>> entrySet() {
+        return countries.stream()
+            .map(country -> Map.entry(country, get(country)))
+            .collect(toUnmodifiableSet());
+    }
+}
@@ -2,27 +2,45 @@ package org.synyx.urlaubsverwaltung.publicholiday;
 
 import de.focus_shift.jollyday.core.HolidayManager;
 import de.focus_shift.jollyday.core.ManagerParameters;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 import java.net.URL;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 @Configuration
+@ImportRuntimeHints(PublicHolidayConfiguration.HolidaysRuntimeHints.class)
 class PublicHolidayConfiguration {
 
     private static final List<String> COUNTRIES = List.of("de", "at", "ch", "gb", "gr", "mt", "it", "hr", "es", "nl");
 
     @Bean
     Map<String, HolidayManager> holidayManagerMap() {
-        final Map<String, HolidayManager> countryMap = new HashMap<>();
-        COUNTRIES.forEach(country -> {
-            final ClassLoader cl = Thread.currentThread().getContextClassLoader();
-            final URL url = cl.getResource("Holidays_" + country + ".xml");
-            countryMap.put(country, HolidayManager.getInstance(ManagerParameters.create(url)));
-        });
-        return countryMap;
+        return new LazyHolidayManagerMap(COUNTRIES, PublicHolidayConfiguration::holidayManager);
+    }
+
+    private static HolidayManager holidayManager(String country) {
+        final URL url = PublicHolidayConfiguration.class.getClassLoader().getResource(holidaysResource(country));
+        return HolidayManager.getInstance(ManagerParameters.create(url));
+    }
+
+    private static String holidaysResource(String country) {
+        return "Holidays_" + country + ".xml";
+    }
+
+    /**
+     * The holidays are loaded from the classpath on first use, not while the application context is refreshed,
+     * so the resources have to be registered for ahead-of-time processed applications.
+     */
+    static class HolidaysRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            COUNTRIES.forEach(country -> hints.resources().registerPattern(holidaysResource(country)));
+        }
     }
 }
@@ -1,92 +1,269 @@
 package org.synyx.urlaubsverwaltung.search;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.slf4j.Logger;
 import org.springframework.beans.BeanUtils;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Sort;
 
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
-import java.util.Iterator;
 import java.util.List;
-import java.util.function.Function;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
 import static java.lang.invoke.MethodHandles.lookup;
-import static java.util.Comparator.comparing;
-import static java.util.Comparator.naturalOrder;
-import static java.util.Comparator.nullsLast;
-import static java.util.Comparator.reverseOrder;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isPublic;
 import static org.slf4j.LoggerFactory.getLogger;
 
+/**
+ * Compares objects by the properties of a {@link Sort}, e.g. {@code lastName} or {@code account.vacationDaysLeft}.
+ *
+ * <p>
+ * The getters of a property path are looked up once per type and path and invoked by method handles afterward,
+ * so comparing does not use reflection. As the properties are usually given by a request parameter, only the property
+ * paths the type contains are cached and at most {@value #MAX_PROPERTY_PATHS_PER_TYPE} per type. Values of unknown properties and values behind a {@code null} on the
+ * property path are {@code null}, {@code null} values are placed at the end regardless of the direction.
+ * Strings are compared case-insensitive by the {@link Collator} of the current locale, all other values by
+ * their natural order.
+ *
+ * <p>
+ * {@link #sort(Collection)} resolves the sort key of every element once, i.e. the values of the properties and the
+ * collation keys of the strings, and sorts by these keys. Used as {@link Comparator}, the sort keys of both elements
+ * are resolved on every comparison. The collation keys of at most {@value #MAX_COLLATION_KEYS} strings are kept for
+ * all sorts. An instance is meant to be used for one sort at a time and not shared between threads.
+ */
 public class SortComparator<T> implements Comparator<T> {
 
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
-    private final Comparator<T> comparator;
+    static final int MAX_PROPERTY_PATHS_PER_TYPE = 64;
+
+    private static final ClassValue<Map<String, PropertyPath>> PROPERTY_PATHS = new ClassValue<>() {
+        @Override
+        protected Map<String, PropertyPath> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    static final int MAX_COLLATION_KEYS = 50_000;
+
+    /**
+     * Comparing collation keys is a lot faster than comparing by the collator, which decomposes both strings on every
+     * comparison. Creating a key still takes longer than sorting by it, therefore the keys are shared by all sorts,
+     * as mostly the same names are sorted again and again. Collation keys are immutable.
+     */
+    private static final Cache<CollationKeyId, CollationKey> COLLATION_KEYS = Caffeine.newBuilder()
+        .maximumSize(MAX_COLLATION_KEYS)
+        .build();
+
+    private final PropertyPath[] propertyPaths;
+    private final boolean[] descending;
+    private final Locale locale;
+    private final Collator collator;
 
     public SortComparator(Class<T> type, Sort sort) {
-        this.comparator = buildComparator(type, sort);
+        this(type, sort, LocaleContextHolder.getLocale());
+    }
+
+    public SortComparator(Class<T> type, Sort sort, Locale locale) {
+
+        final List<Sort.Order> orders = sort.toList();
+        this.propertyPaths = new PropertyPath[orders.size()];
+        this.descending = new boolean[orders.size()];
+        for (int i = 0; i < orders.size(); i++) {
+            propertyPaths[i] = propertyPath(type, orders.get(i).getProperty());
+            descending[i] = orders.get(i).isDescending();
+        }
+
+        // collators synchronize every comparison and are not thread-safe otherwise, therefore one per comparator
+        this.locale = locale;
+        this.collator = Collator.getInstance(locale);
+        this.collator.setStrength(Collator.SECONDARY);
     }
 
     @Override
     public int compare(T o1, T o2) {
-        return comparator.compare(o1, o2);
+        return compareSortKeys(sortKey(o1), sortKey(o2));
     }
 
-    private static <T> Comparator<T> buildComparator(Class<T> type, Sort sort) {
-        final Iterator<Sort.Order> orderIterator = sort.iterator();
-        if (!orderIterator.hasNext()) {
-            return comparing(t -> 0);
+    /**
+     * Sorts the given elements, the sort key of every element is resolved once.
+     *
+     * @param elements to sort
+     * @return new list of the given elements in sort order
+     */
+    public List<T> sort(Collection<? extends T> elements) {
+        return sort(elements, (o1, o2) -> 0);
+    }
+
+    /**
+     * Sorts the given elements, the sort key of every element is resolved once.
+     *
+     * @param elements    to sort
+     * @param tieBreaker  compares the elements with equal sort keys, e.g. by their id
+     * @return new list of the given elements in sort order
+     */
+    public List<T> sort(Collection<? extends T> elements, Comparator<? super T> tieBreaker) {
+
+        final List<KeyedElement<T>> keyedElements = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            keyedElements.add(new KeyedElement<>(sortKey(element), element));
         }
 
-        Comparator<T> comparator = sortComparable(type, orderIterator.next());
-        while (orderIterator.hasNext()) {
-            comparator = comparator.thenComparing(sortComparable(type, orderIterator.next()));
+        keyedElements.sort((keyed1, keyed2) -> {
+            final int result = compareSortKeys(keyed1.sortKey(), keyed2.sortKey());
+            return result != 0 ? result : tieBreaker.compare(keyed1.element(), keyed2.element());
+        });
+
+        final List<T> sorted = new ArrayList<>(keyedElements.size());
+        for (KeyedElement<T> keyedElement : keyedElements) {
+            sorted.add(keyedElement.element());
         }
+        return sorted;
+    }
 
-        return comparator;
+    /**
+     * @return the values of the properties of the given element, strings as their collation key
+     */
+    private Object[] sortKey(T element) {
+        final Object[] sortKey = new Object[propertyPaths.length];
+        for (int i = 0; i < propertyPaths.length; i++) {
+            final Object value = propertyPaths[i].value(element);
+            sortKey[i] = value instanceof String string
+                ? COLLATION_KEYS.get(new CollationKeyId(locale, string), id -> collator.getCollationKey(id.source()))
+                : value;
+        }
+        return sortKey;
     }
 
-    private static <T> Comparator<T> sortComparable(Class<T> type, Sort.Order order) {
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compareSortKeys(Object[] sortKey1, Object[] sortKey2) {
+        for (int i = 0; i < sortKey1.length; i++) {
+            final Object value1 = sortKey1[i];
+            final Object value2 = sortKey2[i];
 
-        final Function<? super T, Comparable<? super Comparable>> valueExtractor =
-            (T entity) -> extractComparableValue(type, entity, List.of(order.getProperty().split("\\.")));
+            final int result;
+            if (value1 == null || value2 == null) {
+                // null values are placed at the end regardless of the direction
+                result = value1 == value2 ? 0 : value1 == null ? 1 : -1;
+            } else {
+                final int compared = ((Comparable) value1).compareTo(value2);
+                result = descending[i] ? -compared : compared;
+            }
 
-        return order.isDescending()
-            ? comparing(valueExtractor, nullsLast(reverseOrder()))
-            : comparing(valueExtractor, nullsLast(naturalOrder()));
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
     }
 
-    private static <T> Comparable<? super Comparable> extractComparableValue(Class<T> type, T entity, List<String> properties) {
-        if (properties.isEmpty()) {
-            return null;
+    private static PropertyPath propertyPath(Class<?> type, String property) {
+
+        final Map<String, PropertyPath> propertyPaths = PROPERTY_PATHS.get(type);
+
+        final PropertyPath cachedPropertyPath = propertyPaths.get(property);
+        if (cachedPropertyPath != null) {
+            return cachedPropertyPath;
         }
 
-        final String errorMessage = format("type=\"%s\" does not contain property=\"%s\".", type, String.join(".", properties));
+        final PropertyPath propertyPath = PropertyPath.compile(type, property);
+        if (propertyPath != PropertyPath.UNKNOWN && propertyPaths.size() < MAX_PROPERTY_PATHS_PER_TYPE) {
+            propertyPaths.putIfAbsent(property, propertyPath);
+        }
+
+        return propertyPath;
+    }
+
+    /**
+     * @return number of cached property paths of the given type
+     */
+    static int cachedPropertyPaths(Class<?> type) {
+        return PROPERTY_PATHS.get(type).size();
+    }
+
+    private record KeyedElement<T>(Object[] sortKey, T element) {
+    }
+
+    private record CollationKeyId(Locale locale, String source) {
+    }
+
+    /**
+     * Getters of a property path, e.g. {@code getAccount} and {@code getVacationDaysLeft} for
+     * {@code account.vacationDaysLeft}, or no getters at all if the type does not contain the property path.
+     */
+    private record PropertyPath(List<MethodHandle> getters) {
+
+        private static final PropertyPath UNKNOWN = new PropertyPath(List.of());
 
-        final PropertyDescriptor propertyDescriptor = BeanUtils.getPropertyDescriptor(type, properties.getFirst());
-        if (propertyDescriptor == null) {
-            LOG.debug(errorMessage);
-            return null;
+        static PropertyPath compile(Class<?> type, String property) {
+
+            final List<MethodHandle> getters = new ArrayList<>();
+
+            Class<?> currentType = type;
+            for (String name : property.split("\\.")) {
+                final PropertyDescriptor propertyDescriptor = BeanUtils.getPropertyDescriptor(currentType, name);
+                if (propertyDescriptor == null || propertyDescriptor.getReadMethod() == null) {
+                    LOG.debug(format("type=\"%s\" does not contain property=\"%s\".", type, property));
+                    return UNKNOWN;
+                }
+
+                final Method readMethod = propertyDescriptor.getReadMethod();
+                getters.add(getter(readMethod, type, property));
+                currentType = readMethod.getReturnType();
+            }
+
+            return new PropertyPath(List.copyOf(getters));
         }
 
-        final Method readMethod = propertyDescriptor.getReadMethod();
-        Object value;
-        try {
-            value = readMethod.invoke(entity);
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new SortComparatorException(errorMessage, e);
+        private static MethodHandle getter(Method readMethod, Class<?> type, String property) {
+            final Class<?> declaringClass = readMethod.getDeclaringClass();
+            try {
+                // getters of e.g. package-private classes are not accessible by the public lookup
+                final MethodHandles.Lookup lookup = isPublic(readMethod.getModifiers()) && isPublic(declaringClass.getModifiers())
+                    ? MethodHandles.publicLookup()
+                    : MethodHandles.privateLookupIn(declaringClass, lookup());
+                return lookup.unreflect(readMethod).asType(methodType(Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new SortComparatorException(format("type=\"%s\" does not contain property=\"%s\".", type, property), e);
+            }
         }
 
-        if (properties.size() == 1) {
-            if (value instanceof String string) {
-                value = string.toLowerCase();
+        Object value(Object object) {
+            if (getters.isEmpty()) {
+                return null;
+            }
+
+            Object value = object;
+            for (MethodHandle getter : getters) {
+                if (value == null) {
+                    return null;
+                }
+                value = invoke(getter, value);
             }
-            return (Comparable<? super Comparable>) value;
+            return value;
         }
 
-        return extractComparableValue((Class<T>) readMethod.getReturnType(), (T) value, properties.subList(1, properties.size()));
+        private static Object invoke(MethodHandle getter, Object object) {
+            try {
+                return (Object) getter.invokeExact(object);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new SortComparatorException(format("could not read property of type=\"%s\".", object.getClass()), e);
+            }
+        }
     }
 }
@@ -1,10 +1,12 @@
 package org.synyx.urlaubsverwaltung.settings;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.SequenceGenerator;
+import org.hibernate.annotations.Cache;
 import org.synyx.urlaubsverwaltung.absence.TimeSettings;
 import org.synyx.urlaubsverwaltung.account.AccountSettings;
 import org.synyx.urlaubsverwaltung.application.settings.ApplicationSettings;
@@ -16,12 +18,16 @@ import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeSettings;
 import java.util.Objects;
 
 import static jakarta.persistence.GenerationType.SEQUENCE;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
+import static org.synyx.urlaubsverwaltung.config.SecondLevelCacheRegions.SETTINGS;
 
 
 /**
  * Represents the settings / business rules for the application.
  */
 @Entity
+@Cacheable
+@Cache(usage = READ_WRITE, region = SETTINGS)
 public class Settings {
 
     @Id
@@ -0,0 +1,11 @@
+package org.synyx.urlaubsverwaltung.settings;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record SettingsUpdatedEvent(UUID id, Instant createdAt, Settings updatedSettings) {
+
+    public static SettingsUpdatedEvent of(Settings updatedSettings) {
+        return new SettingsUpdatedEvent(UUID.randomUUID(), Instant.now(), updatedSettings);
+    }
+}
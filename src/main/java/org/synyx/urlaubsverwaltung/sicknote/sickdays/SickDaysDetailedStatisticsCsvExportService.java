@@ -4,7 +4,7 @@ package org.synyx.urlaubsverwaltung.sicknote.sickdays;
 import com.opencsv.CSVWriter;
 import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Service;
-import org.synyx.urlaubsverwaltung.csv.CsvExportService;
+import org.synyx.urlaubsverwaltung.csv.StreamingCsvExportService;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
 import java.text.DecimalFormat;
@@ -19,7 +19,9 @@ import static java.time.format.FormatStyle.MEDIUM;
 import static java.time.format.FormatStyle.SHORT;
 
 @Service
-class SickDaysDetailedStatisticsCsvExportService implements CsvExportService<SickDaysDetailedStatistics> {
+class SickDaysDetailedStatisticsCsvExportService implements StreamingCsvExportService<SickDaysDetailedStatistics> {
+
+    private static final int COLUMNS = 12;
 
     private final MessageSource messageSource;
 
@@ -38,31 +40,19 @@ class SickDaysDetailedStatisticsCsvExportService implements CsvExportService<Sic
     }
 
     @Override
-    public void write(FilterPeriod period, Locale locale, List<SickDaysDetailedStatistics> allDetailedSickNotes, CSVWriter csvWriter) {
+    public void writeHeader(FilterPeriod period, Locale locale, CSVWriter csvWriter) {
+        csvWriter.writeNext(header(locale));
+    }
 
-        final String[] csvHeader = {
-            getTranslation(locale, "person.account.basedata.personnelNumber"),
-            getTranslation(locale, "person.data.firstName"),
-            getTranslation(locale, "person.data.lastName"),
-            getTranslation(locale, "sicknotes.statistics.departments"),
-            getTranslation(locale, "sicknotes.statistics.from"),
-            getTranslation(locale, "sicknotes.statistics.to"),
-            getTranslation(locale, "sicknotes.statistics.length"),
-            getTranslation(locale, "sicknotes.statistics.days"),
-            getTranslation(locale, "sicknotes.statistics.type"),
-            getTranslation(locale, "sicknotes.statistics.certificate.from"),
-            getTranslation(locale, "sicknotes.statistics.certificate.to"),
-            getTranslation(locale, "sicknotes.statistics.certificate.days")
-        };
+    @Override
+    public void writeRows(FilterPeriod period, Locale locale, List<SickDaysDetailedStatistics> allDetailedSickNotes, CSVWriter csvWriter) {
 
         final DateTimeFormatter dateTimeFormatter = ofLocalizedDate(MEDIUM).withLocale(locale);
         final DecimalFormat decimalFormat = (DecimalFormat) getInstance(locale);
 
-        csvWriter.writeNext(csvHeader);
-
         allDetailedSickNotes.forEach(detailedSickNote ->
             detailedSickNote.getSickNotes().forEach(sickNote -> {
-                final String[] sickNoteCsvRow = new String[csvHeader.length];
+                final String[] sickNoteCsvRow = new String[COLUMNS];
                 sickNoteCsvRow[0] = detailedSickNote.getPersonalNumber();
                 sickNoteCsvRow[1] = detailedSickNote.getPerson().getFirstName();
                 sickNoteCsvRow[2] = detailedSickNote.getPerson().getLastName();
@@ -82,6 +72,23 @@ class SickDaysDetailedStatisticsCsvExportService implements CsvExportService<Sic
         );
     }
 
+    private String[] header(Locale locale) {
+        return new String[]{
+            getTranslation(locale, "person.account.basedata.personnelNumber"),
+            getTranslation(locale, "person.data.firstName"),
+            getTranslation(locale, "person.data.lastName"),
+            getTranslation(locale, "sicknotes.statistics.departments"),
+            getTranslation(locale, "sicknotes.statistics.from"),
+            getTranslation(locale, "sicknotes.statistics.to"),
+            getTranslation(locale, "sicknotes.statistics.length"),
+            getTranslation(locale, "sicknotes.statistics.days"),
+            getTranslation(locale, "sicknotes.statistics.type"),
+            getTranslation(locale, "sicknotes.statistics.certificate.from"),
+            getTranslation(locale, "sicknotes.statistics.certificate.to"),
+            getTranslation(locale, "sicknotes.statistics.certificate.days")
+        };
+    }
+
     private String getTranslation(Locale locale, String key, Object... args) {
         return messageSource.getMessage(key, args, locale);
     }
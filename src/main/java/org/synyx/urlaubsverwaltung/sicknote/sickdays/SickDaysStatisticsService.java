@@ -22,9 +22,8 @@ import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Stream;
 
+import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
@@ -64,46 +63,91 @@ public class SickDaysStatisticsService {
         final Pageable pageable = pageableSearchQuery.getPageable();
 
         final Page<Person> relevantMembersPage = getMembersForPerson(person, pageableSearchQuery);
-        final List<Person> relevantMembers = relevantMembersPage.getContent();
-        final List<Long> relevantPersonIds = relevantMembers.stream().map(Person::getId).collect(toList());
-        final List<SickNote> sickNotes = getSickNotes(person, relevantMembers, from, to);
-
-        final Map<Person, List<SickNote>> sickNotesByPerson = sickNotes.stream().collect(groupingBy(SickNote::getPerson));
-        for (Person member : relevantMembers) {
-            sickNotesByPerson.putIfAbsent(member, List.of());
-        }
-
-        final Map<PersonId, PersonBasedata> basedataByPersonId = personBasedataService.getBasedataByPersonId(relevantPersonIds);
-        final Map<PersonId, List<String>> departmentsByPersonId = departmentService.getDepartmentNamesByMembers(relevantMembers);
-
-        Stream<SickDaysDetailedStatistics> statisticsStream = sickNotesByPerson.entrySet()
-            .stream()
-            .map(toSickNoteDetailedStatistics(basedataByPersonId, departmentsByPersonId));
+        List<Person> relevantMembers = relevantMembersPage.getContent();
 
         if (relevantMembersPage.getPageable().isUnpaged()) {
             // we don't have to restrict the statistics if persons page is paged and or sorted already.
             // otherwise we have fetched ALL persons -> therefore skip and limit statistics content.
-            statisticsStream = statisticsStream
+            relevantMembers = relevantMembers.stream()
                 .skip((long) pageable.getPageNumber() * pageable.getPageSize())
-                .limit(pageable.getPageSize());
+                .limit(pageable.getPageSize())
+                .toList();
         }
 
-        final List<SickDaysDetailedStatistics> content = statisticsStream
-            .sorted(new SortComparator<>(SickDaysDetailedStatistics.class, pageable.getSort()))
-            .collect(toList());
+        final List<SickDaysDetailedStatistics> content = new SortComparator<>(SickDaysDetailedStatistics.class, pageable.getSort())
+            .sort(getStatistics(person, relevantMembers, from, to));
 
         return new PageImpl<>(content, pageable, relevantMembersPage.getTotalElements());
     }
 
-    private Function<Map.Entry<Person, List<SickNote>>, SickDaysDetailedStatistics> toSickNoteDetailedStatistics(Map<PersonId, PersonBasedata> basedataForPersons, Map<PersonId, List<String>> departmentsForPersons) {
-        return personListEntry ->
-        {
-            final Person person = personListEntry.getKey();
-            final PersonId personId = new PersonId(person.getId());
-            final String personnelNumber = basedataForPersons.getOrDefault(personId, new PersonBasedata(personId, "", "")).getPersonnelNumber();
-            final List<String> departments = departmentsForPersons.getOrDefault(personId, List.of());
-            return new SickDaysDetailedStatistics(personnelNumber, person, personListEntry.getValue(), departments);
-        };
+    /**
+     * Returns all persons that the person is allowed to access, to export them chunk by chunk with
+     * {@link #getAll(Person, List, LocalDate, LocalDate, Pageable)}. The persons are sorted once by the person attributes
+     * of the given sort and by their id, so every person is contained in exactly one chunk and the chunks are in order.
+     *
+     * @param person to ask for the statistics
+     * @param sort   of the statistics, attributes other than person attributes are not available before the export
+     * @return all persons that the person can access, sorted
+     */
+    List<Person> getAllMembers(Person person, Sort sort) {
+
+        final Sort personSort = toPersonSort(sort);
+        final PageableSearchQuery allMembers = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, personSort), "");
+
+        final List<Person> members = person.hasRole(OFFICE) || person.hasRole(BOSS) && person.hasRole(SICK_NOTE_VIEW)
+            ? personService.getActivePersons(allMembers).getContent()
+            : departmentService.getManagedMembersOfPerson(person, allMembers).getContent();
+
+        return new SortComparator<>(Person.class, personSort).sort(members, comparing(Person::getId));
+    }
+
+    /**
+     * Returns the statistics of one chunk of the given persons.
+     *
+     * @param person  to ask for the statistics
+     * @param members all persons to be exported, see {@link #getAllMembers(Person, Sort)}
+     * @param from    a specific date
+     * @param to      a specific date
+     * @param chunk   of the persons to be exported
+     * @return the {@link SickDaysDetailedStatistics} of the persons of the chunk, in the order of the persons
+     */
+    Page<SickDaysDetailedStatistics> getAll(Person person, List<Person> members, LocalDate from, LocalDate to, Pageable chunk) {
+
+        final List<Person> membersOfChunk = members.stream()
+            .skip(chunk.getOffset())
+            .limit(chunk.getPageSize())
+            .toList();
+
+        if (membersOfChunk.isEmpty()) {
+            return new PageImpl<>(List.of(), chunk, members.size());
+        }
+
+        return new PageImpl<>(getStatistics(person, membersOfChunk, from, to), chunk, members.size());
+    }
+
+    /**
+     * @return the statistics of each of the given members, in the order of the members
+     */
+    private List<SickDaysDetailedStatistics> getStatistics(Person person, List<Person> members, LocalDate from, LocalDate to) {
+
+        final List<SickNote> sickNotes = getSickNotes(person, members, from, to);
+        final Map<Person, List<SickNote>> sickNotesByPerson = sickNotes.stream().collect(groupingBy(SickNote::getPerson));
+
+        final List<Long> personIds = members.stream().map(Person::getId).collect(toList());
+        final Map<PersonId, PersonBasedata> basedataByPersonId = personBasedataService.getBasedataByPersonId(personIds);
+        final Map<PersonId, List<String>> departmentsByPersonId = departmentService.getDepartmentNamesByMembers(members);
+
+        return members.stream()
+            .map(member -> toSickNoteDetailedStatistics(member, sickNotesByPerson.getOrDefault(member, List.of()), basedataByPersonId, departmentsByPersonId))
+            .toList();
+    }
+
+    private static SickDaysDetailedStatistics toSickNoteDetailedStatistics(Person person, List<SickNote> sickNotes, Map<PersonId, PersonBasedata> basedataForPersons,
+                                                                          Map<PersonId, List<String>> departmentsForPersons) {
+        final PersonId personId = new PersonId(person.getId());
+        final String personnelNumber = basedataForPersons.getOrDefault(personId, new PersonBasedata(personId, "", "")).getPersonnelNumber();
+        final List<String> departments = departmentsForPersons.getOrDefault(personId, List.of());
+        return new SickDaysDetailedStatistics(personnelNumber, person, sickNotes, departments);
     }
 
     private List<SickNote> getSickNotes(Person person, List<Person> members, LocalDate from, LocalDate to) {
@@ -140,14 +184,18 @@ public class SickDaysStatisticsService {
     }
 
     private PageRequest mapToPersonPageRequest(Pageable statisticsPageRequest) {
+        return PageRequest.of(statisticsPageRequest.getPageNumber(), statisticsPageRequest.getPageSize(), toPersonSort(statisticsPageRequest.getSort()));
+    }
+
+    private Sort toPersonSort(Sort sort) {
         Sort personSort = Sort.unsorted();
 
-        for (Sort.Order order : statisticsPageRequest.getSort()) {
+        for (Sort.Order order : sort) {
             if (order.getProperty().startsWith("person.")) {
                 personSort = personSort.and(Sort.by(order.getDirection(), order.getProperty().replace("person.", "")));
             }
         }
 
-        return PageRequest.of(statisticsPageRequest.getPageNumber(), statisticsPageRequest.getPageSize(), personSort);
+        return personSort;
     }
 }
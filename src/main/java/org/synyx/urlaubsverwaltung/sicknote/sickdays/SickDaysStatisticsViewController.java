@@ -1,8 +1,6 @@
 package org.synyx.urlaubsverwaltung.sicknote.sickdays;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -16,7 +14,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
-import org.synyx.urlaubsverwaltung.csv.CSVFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
@@ -26,9 +24,9 @@ import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
+import java.util.List;
 import java.util.Locale;
 
-import static java.lang.Integer.MAX_VALUE;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
 import static org.springframework.http.HttpStatus.OK;
@@ -40,6 +38,8 @@ import static org.springframework.http.HttpStatus.OK;
 @RequestMapping("/web/sickdays/statistics")
 class SickDaysStatisticsViewController {
 
+    private static final int EXPORT_CHUNK_SIZE = 100;
+
     private final SickDaysStatisticsService sickDaysStatisticsService;
     private final SickDaysDetailedStatisticsCsvExportService sickDaysDetailedStatisticsCsvExportService;
     private final PersonService personService;
@@ -60,36 +60,36 @@ class SickDaysStatisticsViewController {
 
     @PreAuthorize("hasAnyAuthority('OFFICE', 'SICK_NOTE_VIEW')")
     @GetMapping("/download")
-    public ResponseEntity<ByteArrayResource> downloadCSV(@RequestParam(value = "from", defaultValue = "") String from,
-                                                         @RequestParam(value = "to", defaultValue = "") String to,
-                                                         @RequestParam(value = "allElements", defaultValue = "false") boolean allElements,
-                                                         @RequestParam(value = "query", required = false, defaultValue = "") String query,
-                                                         @SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC) Pageable pageable,
-                                                         Locale locale) {
+    public ResponseEntity<StreamingResponseBody> downloadCSV(@RequestParam(value = "from", defaultValue = "") String from,
+                                                             @RequestParam(value = "to", defaultValue = "") String to,
+                                                             @RequestParam(value = "allElements", defaultValue = "false") boolean allElements,
+                                                             @RequestParam(value = "query", required = false, defaultValue = "") String query,
+                                                             @SortDefault(sort = "person.firstName", direction = Sort.Direction.ASC) Pageable pageable,
+                                                             Locale locale) {
 
         final FilterPeriod period = toFilterPeriod(from, to, locale);
-
-        // NOTE: Not supported at the moment
-        if (period.getStartDate().getYear() != period.getEndDate().getYear()) {
-            return ResponseEntity.badRequest().build();
-        }
-
         final Person signedInUser = personService.getSignedInUser();
 
-        final Pageable adaptedPageable = allElements ? PageRequest.of(0, MAX_VALUE, pageable.getSort()) : pageable;
-        final String adaptedQuery = allElements ? "" : query;
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(adaptedPageable, adaptedQuery);
-
-        final Page<SickDaysDetailedStatistics> sickDaysStatisticsPage =
-            sickDaysStatisticsService.getAll(signedInUser, period.getStartDate(), period.getEndDate(), pageableSearchQuery);
-
-        final CSVFile csvFile = sickDaysDetailedStatisticsCsvExportService.generateCSV(period, locale, sickDaysStatisticsPage.getContent());
+        final StreamingResponseBody body;
+        if (allElements) {
+            // the persons are fetched and sorted once, their sick notes are fetched and written chunk by chunk
+            // to keep the memory footprint independent of the number of sick notes
+            final List<Person> members = sickDaysStatisticsService.getAllMembers(signedInUser, pageable.getSort());
+            final Pageable firstChunk = PageRequest.of(0, EXPORT_CHUNK_SIZE, pageable.getSort());
+            body = outputStream -> sickDaysDetailedStatisticsCsvExportService.writeAllPages(period, locale, firstChunk,
+                chunk -> sickDaysStatisticsService.getAll(signedInUser, members, period.getStartDate(), period.getEndDate(), chunk),
+                outputStream);
+        } else {
+            final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageable, query);
+            final List<SickDaysDetailedStatistics> statistics = sickDaysStatisticsService.getAll(signedInUser, period.getStartDate(), period.getEndDate(), pageableSearchQuery).getContent();
+            body = outputStream -> sickDaysDetailedStatisticsCsvExportService.write(period, locale, statistics, outputStream);
+        }
 
         final HttpHeaders headers = new HttpHeaders();
         headers.setContentType(new MediaType("text", "csv", UTF_8));
-        headers.setContentDisposition(ContentDisposition.builder("attachment").filename(csvFile.fileName(), UTF_8).build());
+        headers.setContentDisposition(ContentDisposition.builder("attachment").filename(sickDaysDetailedStatisticsCsvExportService.fileName(period, locale), UTF_8).build());
 
-        return ResponseEntity.status(OK).headers(headers).body(csvFile.resource());
+        return ResponseEntity.status(OK).headers(headers).body(body);
     }
 
     private FilterPeriod toFilterPeriod(String startDateString, String endDateString, Locale locale) {
@@ -21,6 +21,7 @@ import java.util.Map;
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.time.temporal.ChronoUnit.DAYS;
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.synyx.urlaubsverwaltung.config.AsyncTaskExecutors.MAIL_TASK_EXECUTOR;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_EMAIL_SICK_NOTE_ACCEPTED_BY_MANAGEMENT_TO_MANAGEMENT;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_EMAIL_SICK_NOTE_ACCEPTED_BY_MANAGEMENT_TO_USER;
 import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_EMAIL_SICK_NOTE_CANCELLED_BY_MANAGEMENT;
@@ -59,7 +60,7 @@ class SickNoteMailService {
     /**
      * Sends mail to person and office if sick pay (gesetzliche Lohnfortzahlung im Krankheitsfall) is about to end.
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendEndOfSickPayNotification() {
 
         final List<SickNote> sickNotes = sickNoteService.getSickNotesReachingEndOfSickPay();
@@ -105,7 +106,7 @@ class SickNoteMailService {
      *
      * @param sickNote that has been created
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendCreatedToSickPerson(SickNote sickNote) {
         final Mail mailToApplicant = Mail.builder()
             .withRecipient(sickNote.getPerson(), NOTIFICATION_EMAIL_SICK_NOTE_CREATED_BY_MANAGEMENT)
@@ -121,7 +122,7 @@ class SickNoteMailService {
      *
      * @param sickNote that has been accepted or created
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendCreatedOrAcceptedToColleagues(SickNote sickNote) {
 
         // Inform colleagues of applicant which are in same department
@@ -140,7 +141,7 @@ class SickNoteMailService {
      *
      * @param sickNote that has been created
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendEditedToSickPerson(SickNote sickNote) {
         final Mail mailToApplicant = Mail.builder()
             .withRecipient(sickNote.getPerson(), NOTIFICATION_EMAIL_SICK_NOTE_EDITED_BY_MANAGEMENT)
@@ -155,7 +156,7 @@ class SickNoteMailService {
      *
      * @param sickNote that has been created
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendCancelledToSickPerson(SickNote sickNote) {
         final Mail mailToRelevantColleagues = Mail.builder()
             .withRecipient(sickNote.getPerson(), NOTIFICATION_EMAIL_SICK_NOTE_CANCELLED_BY_MANAGEMENT)
@@ -171,7 +172,7 @@ class SickNoteMailService {
      *
      * @param sickNote that has been created
      */
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendCancelToColleagues(SickNote sickNote) {
 
         // Inform colleagues of applicant which are in same department
@@ -185,7 +186,7 @@ class SickNoteMailService {
         mailService.send(mailToRelevantColleagues);
     }
 
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendSickNoteSubmittedNotificationToSickPerson(SickNote submittedSickNote) {
         final Mail mailToApplicant = Mail.builder()
             .withRecipient(submittedSickNote.getPerson(), NOTIFICATION_EMAIL_SICK_NOTE_SUBMITTED_BY_USER_TO_USER)
@@ -195,7 +196,7 @@ class SickNoteMailService {
         mailService.send(mailToApplicant);
     }
 
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendSickNoteAcceptedNotificationToSickPerson(SickNote acceptedSickNote, Person maintainer) {
         final Mail mailToApplicant = Mail.builder()
                 .withRecipient(acceptedSickNote.getPerson(), NOTIFICATION_EMAIL_SICK_NOTE_ACCEPTED_BY_MANAGEMENT_TO_USER)
@@ -205,7 +206,7 @@ class SickNoteMailService {
         mailService.send(mailToApplicant);
     }
 
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendSickNoteSubmittedNotificationToOfficeAndResponsibleManagement(SickNote submittedSickNote) {
 
         final List<Person> recipients =
@@ -219,7 +220,7 @@ class SickNoteMailService {
         mailService.send(mailToOfficeAndResponsibleManagement);
     }
 
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendSickNoteCreatedNotificationToOfficeAndResponsibleManagement(SickNote createdSickNote, String comment) {
 
         final List<Person> recipientsWithoutApplier =
@@ -236,7 +237,7 @@ class SickNoteMailService {
     }
 
 
-    @Async
+    @Async(MAIL_TASK_EXECUTOR)
     void sendSickNoteAcceptedNotificationToOfficeAndResponsibleManagement(SickNote acceptedSickNote, Person maintainer) {
         final List<Person> recipients =
                 mailRecipientService.getRecipientsOfInterest(acceptedSickNote.getPerson(), NOTIFICATION_EMAIL_SICK_NOTE_ACCEPTED_BY_MANAGEMENT_TO_MANAGEMENT)
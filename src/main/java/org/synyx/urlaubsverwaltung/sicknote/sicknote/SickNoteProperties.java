@@ -1,6 +1,7 @@
 package org.synyx.urlaubsverwaltung.sicknote.sicknote;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
@@ -14,6 +15,9 @@ public class SickNoteProperties {
     @Valid
     private EndOfPayNotification endOfPayNotification = new EndOfPayNotification();
 
+    @Valid
+    private Statistics statistics = new Statistics();
+
     public EndOfPayNotification getEndOfPayNotification() {
         return endOfPayNotification;
     }
@@ -22,6 +26,14 @@ public class SickNoteProperties {
         this.endOfPayNotification = endOfPayNotification;
     }
 
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
+    public void setStatistics(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
     public static class EndOfPayNotification {
 
         /**
@@ -38,5 +50,22 @@ public class SickNoteProperties {
             this.cron = cron;
         }
     }
-}
 
+    public static class Statistics {
+
+        /**
+         * Number of sick notes from which on the sick days of the statistics are summed up
+         * in parallel on the common fork join pool
+         */
+        @Min(1)
+        private int parallelThreshold = 5000;
+
+        public int getParallelThreshold() {
+            return parallelThreshold;
+        }
+
+        public void setParallelThreshold(int parallelThreshold) {
+            this.parallelThreshold = parallelThreshold;
+        }
+    }
+}
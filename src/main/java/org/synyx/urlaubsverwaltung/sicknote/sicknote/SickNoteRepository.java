@@ -17,8 +17,7 @@ interface SickNoteRepository extends CrudRepository<SickNoteEntity, Long> {
 
     @Query(
         "SELECT x FROM SickNoteEntity x WHERE x.person = ?1 AND "
-            + "((x.startDate BETWEEN ?2 AND ?3) OR (x.endDate BETWEEN ?2 AND ?3) "
-            + "OR (x.startDate < ?2 and x.endDate > ?3)) "
+            + "x.endDate >= ?2 AND x.startDate <= ?3 "
             + "ORDER BY x.startDate"
     )
     List<SickNoteEntity> findByPersonAndPeriod(Person person, LocalDate startDate, LocalDate endDate);
@@ -43,6 +42,8 @@ interface SickNoteRepository extends CrudRepository<SickNoteEntity, Long> {
         @Param("today") LocalDate today
     );
 
+    List<SickNoteEntity> findByStatusIn(List<SickNoteStatus> sickNoteStatuses);
+
     List<SickNoteEntity> findByStatusInAndPersonIn(List<SickNoteStatus> sickNoteStatuses, List<Person> persons);
 
     List<SickNoteEntity> findByStatusInAndEndDateGreaterThanEqual(List<SickNoteStatus> openSickNoteStatuses, LocalDate since);
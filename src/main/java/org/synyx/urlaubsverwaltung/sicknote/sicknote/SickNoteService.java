@@ -54,6 +54,13 @@ public interface SickNoteService {
      */
     List<SickNote> getForStatesSince(List<SickNoteStatus> sickNoteStatuses, LocalDate since);
 
+    /**
+     * Get all {@link SickNote} with specific states
+     *
+     * @return all {@link SickNote} with specific states
+     */
+    List<SickNote> getForStates(List<SickNoteStatus> sickNoteStatuses);
+
     /**
      * Get all {@link SickNote} with specific states and persons
      *
@@ -102,16 +102,13 @@ class SickNoteServiceImpl implements SickNoteService {
     }
 
     @Override
-    public List<SickNote> getForStatesAndPerson(List<SickNoteStatus> sickNoteStatuses, List<Person> persons) {
-        final List<SickNoteEntity> entities = sickNoteRepository.findByStatusInAndPersonIn(sickNoteStatuses, persons);
-
-        final Optional<LocalDate> min = entities.stream().min(comparing(SickNoteEntity::getStartDate)).map(SickNoteEntity::getStartDate);
-        final Optional<LocalDate> max = entities.stream().max(comparing(SickNoteEntity::getEndDate)).map(SickNoteEntity::getEndDate);
-        if (min.isEmpty() || max.isEmpty()) {
-            return List.of();
-        }
+    public List<SickNote> getForStates(List<SickNoteStatus> sickNoteStatuses) {
+        return toSickNoteWithWorkDays(sickNoteRepository.findByStatusIn(sickNoteStatuses));
+    }
 
-        return toSickNoteWithWorkDays(entities, new DateRange(min.get(), max.get()));
+    @Override
+    public List<SickNote> getForStatesAndPerson(List<SickNoteStatus> sickNoteStatuses, List<Person> persons) {
+        return toSickNoteWithWorkDays(sickNoteRepository.findByStatusInAndPersonIn(sickNoteStatuses, persons));
     }
 
     @Override
@@ -208,6 +205,16 @@ class SickNoteServiceImpl implements SickNoteService {
                 .build();
     }
 
+    private List<SickNote> toSickNoteWithWorkDays(List<SickNoteEntity> entities) {
+        final Optional<LocalDate> min = entities.stream().min(comparing(SickNoteEntity::getStartDate)).map(SickNoteEntity::getStartDate);
+        final Optional<LocalDate> max = entities.stream().max(comparing(SickNoteEntity::getEndDate)).map(SickNoteEntity::getEndDate);
+        if (min.isEmpty() || max.isEmpty()) {
+            return List.of();
+        }
+
+        return toSickNoteWithWorkDays(entities, new DateRange(min.get(), max.get()));
+    }
+
     private List<SickNote> toSickNoteWithWorkDays(Collection<SickNoteEntity> entities, DateRange dateRange) {
         if (entities.isEmpty()) {
             return List.of();
@@ -2,13 +2,13 @@ package org.synyx.urlaubsverwaltung.sicknote.statistics;
 
 import org.springframework.format.annotation.DateTimeFormat;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static java.math.BigDecimal.ZERO;
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
@@ -26,14 +26,19 @@ public class SickNoteStatistics {
     private final BigDecimal totalNumberOfSickDays;
     private final Long numberOfPersonsWithMinimumOneSickNote;
 
-    SickNoteStatistics(Clock clock, List<SickNote> sickNotes, WorkDaysCountService workDaysCountService) {
+    /**
+     * @param clock     to determine the year of the statistic
+     * @param sickNotes of the year including their {@link org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar}
+     * @param parallel  whether the sick days are summed up in parallel, worthwhile for a large amount of sick notes only
+     */
+    SickNoteStatistics(Clock clock, List<SickNote> sickNotes, boolean parallel) {
 
         year = Year.now(clock).getValue();
         numberOfPersonsWithMinimumOneSickNote = sickNotes.stream().map(SickNote::getPerson).distinct().count();
         created = LocalDate.now(clock);
 
         totalNumberOfSickNotes = sickNotes.size();
-        totalNumberOfSickDays = calculateTotalNumberOfSickDays(workDaysCountService, sickNotes);
+        totalNumberOfSickDays = calculateTotalNumberOfSickDays(sickNotes, parallel);
     }
 
     public int getTotalNumberOfSickNotes() {
@@ -66,22 +71,15 @@ public class SickNoteStatistics {
         return BigDecimal.valueOf(averageDuration);
     }
 
-    private BigDecimal calculateTotalNumberOfSickDays(WorkDaysCountService workDaysCountService, List<SickNote> sickNotes) {
+    private BigDecimal calculateTotalNumberOfSickDays(List<SickNote> sickNotes, boolean parallel) {
 
-        BigDecimal numberOfSickDays = ZERO;
-        for (final SickNote sickNote : sickNotes) {
+        final LocalDate firstDayOfYear = Year.of(year).atDay(1);
+        final LocalDate lastDayOfYear = firstDayOfYear.with(lastDayOfYear());
 
-            final LocalDate firstDayOfYear = Year.of(year).atDay(1);
-            final LocalDate lastDayOfYear = firstDayOfYear.with(lastDayOfYear());
-
-            final LocalDate startDate = sickNote.getStartDate().isBefore(firstDayOfYear) ? firstDayOfYear : sickNote.getStartDate();
-            final LocalDate endDate = sickNote.getEndDate().isAfter(lastDayOfYear) ? lastDayOfYear : sickNote.getEndDate();
-
-            final BigDecimal workDays = workDaysCountService.getWorkDaysCount(sickNote.getDayLength(), startDate, endDate, sickNote.getPerson());
-            numberOfSickDays = numberOfSickDays.add(workDays);
-        }
-
-        return numberOfSickDays;
+        final Stream<SickNote> sickNoteStream = parallel ? sickNotes.parallelStream() : sickNotes.stream();
+        return sickNoteStream
+            .map(sickNote -> sickNote.getWorkDays(firstDayOfYear, lastDayOfYear))
+            .reduce(ZERO, BigDecimal::add);
     }
 
     @Override
@@ -6,8 +6,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.synyx.urlaubsverwaltung.department.DepartmentService;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteProperties;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
 import java.time.Clock;
 import java.time.LocalDate;
@@ -32,22 +32,25 @@ import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.ACTIV
 public class SickNoteStatisticsService {
 
     private final SickNoteService sickNoteService;
-    private final WorkDaysCountService workDaysCountService;
     private final DepartmentService departmentService;
+    private final SickNoteProperties sickNoteProperties;
 
     @Autowired
-    SickNoteStatisticsService(SickNoteService sickNoteService, WorkDaysCountService workDaysCountService, DepartmentService departmentService) {
+    SickNoteStatisticsService(SickNoteService sickNoteService, DepartmentService departmentService, SickNoteProperties sickNoteProperties) {
         this.sickNoteService = sickNoteService;
-        this.workDaysCountService = workDaysCountService;
         this.departmentService = departmentService;
+        this.sickNoteProperties = sickNoteProperties;
     }
 
     SickNoteStatistics createStatisticsForPerson(Person person, Clock clock) {
 
         final LocalDate firstDayOfYear = Year.now(clock).atDay(1);
         final LocalDate lastDayOfYear = firstDayOfYear.with(lastDayOfYear());
+        // the sick notes are loaded with the working time calendars of all their persons for the whole year at once,
+        // so the sick days can be summed up without any further lookup per sick note
         final List<SickNote> sickNotes = getSickNotes(person, firstDayOfYear, lastDayOfYear);
-        return new SickNoteStatistics(clock, sickNotes, workDaysCountService);
+        final boolean parallel = sickNotes.size() >= sickNoteProperties.getStatistics().getParallelThreshold();
+        return new SickNoteStatistics(clock, sickNotes, parallel);
     }
 
     private List<SickNote> getSickNotes(Person person, LocalDate from, LocalDate to) {
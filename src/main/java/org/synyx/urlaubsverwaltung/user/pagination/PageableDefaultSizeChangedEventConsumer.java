@@ -1,8 +1,8 @@
 package org.synyx.urlaubsverwaltung.user.pagination;
 
-import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.synyx.urlaubsverwaltung.web.pageable.PageableDefaultSizeChangedEvent;
 
 @Component
@@ -15,7 +15,7 @@ class PageableDefaultSizeChangedEventConsumer {
     }
 
     @Async
-    @EventListener
+    @TransactionalEventListener(fallbackExecution = true)
     public void onPageableDefaultSizeChanged(PageableDefaultSizeChangedEvent event) {
         userPaginationSettingsService.updatePageableDefaultSize(event.getPersonId(), event.getNewPageableDefaultSize());
     }
@@ -0,0 +1,82 @@
+package org.synyx.urlaubsverwaltung.web.jdbc;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Number and time of the JDBC statements executed while handling a request, see {@link JdbcStatementsInterceptor}.
+ * The statements of asynchronously handled requests are recorded by all threads handling the request one after the
+ * other.
+ */
+public final class JdbcStatements {
+
+    /**
+     * Name of the request attribute holding the {@link JdbcStatements} of the handled request.
+     */
+    public static final String REQUEST_ATTRIBUTE = JdbcStatements.class.getName();
+
+    private static final ThreadLocal<JdbcStatements> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger count = new AtomicInteger();
+    private final AtomicLong nanos = new AtomicLong();
+
+    private JdbcStatements() {
+        // created by start
+    }
+
+    /**
+     * @return number of executed JDBC statements
+     */
+    public int count() {
+        return count.get();
+    }
+
+    /**
+     * @return time spent executing JDBC statements
+     */
+    public Duration time() {
+        return Duration.ofNanos(nanos.get());
+    }
+
+    /**
+     * Starts recording the JDBC statements executed by the current thread.
+     *
+     * @return the recording, updated until {@link #stop()}
+     */
+    static JdbcStatements start() {
+        final JdbcStatements statements = new JdbcStatements();
+        resume(statements);
+        return statements;
+    }
+
+    /**
+     * Continues recording the JDBC statements of a request by the current thread, e.g. by the thread of an
+     * asynchronous dispatch.
+     *
+     * @param statements the recording started by {@link #start()}
+     */
+    static void resume(JdbcStatements statements) {
+        CURRENT.set(statements);
+    }
+
+    /**
+     * Stops recording the JDBC statements executed by the current thread.
+     */
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Records an executed JDBC statement, if the current thread is recording.
+     *
+     * @param nanos time the statement has been executed
+     */
+    static void record(long nanos) {
+        final JdbcStatements statements = CURRENT.get();
+        if (statements != null) {
+            statements.count.incrementAndGet();
+            statements.nanos.addAndGet(nanos);
+        }
+    }
+}
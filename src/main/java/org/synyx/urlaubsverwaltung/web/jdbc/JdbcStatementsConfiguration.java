@@ -0,0 +1,48 @@
+package org.synyx.urlaubsverwaltung.web.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Records the JDBC statements executed per request, see {@link JdbcStatementsInterceptor}.
+ */
+@Configuration
+@ConditionalOnProperty(value = "uv.web.jdbc-statements.enabled", havingValue = "true", matchIfMissing = true)
+class JdbcStatementsConfiguration implements WebMvcConfigurer {
+
+    private final JdbcStatementsInterceptor jdbcStatementsInterceptor;
+
+    JdbcStatementsConfiguration(MeterRegistry meterRegistry) {
+        this.jdbcStatementsInterceptor = new JdbcStatementsInterceptor(meterRegistry);
+    }
+
+    @Bean
+    static BeanPostProcessor statementRecordingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof StatementRecordingDataSource)
+                    ? new StatementRecordingDataSource(dataSource)
+                    : bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(jdbcStatementsInterceptor);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(jdbcStatementsInterceptor);
+    }
+}
@@ -0,0 +1,102 @@
+package org.synyx.urlaubsverwaltung.web.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.Callable;
+
+import static jakarta.servlet.DispatcherType.ASYNC;
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+import static org.springframework.web.servlet.HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE;
+
+/**
+ * Records the JDBC statements executed while a request is handled by a controller, including the rendering of the
+ * view, and publishes them by the mapping of the controller, e.g. {@code /web/person/{personId}/overview}.
+ *
+ * <p>
+ * The number of statements per request is recorded as {@code http.server.requests.jdbc.statements} and the time
+ * spent executing them as {@code http.server.requests.jdbc}, both tagged with {@code uri} and {@code method}.
+ * The statements of the handled request are available as request attribute {@link JdbcStatements#REQUEST_ATTRIBUTE}
+ * afterward.
+ *
+ * <p>
+ * Asynchronously handled requests, e.g. streamed csv exports, are recorded as one request: the recording is
+ * suspended when the thread of the initial dispatch is released, continued by the thread executing the
+ * {@link Callable} (as {@link CallableProcessingInterceptor}) and by the thread of the async dispatch, and
+ * published once the async dispatch has been completed. Statements executed by other threads, e.g. by
+ * {@code @Async} methods, are not recorded.
+ */
+class JdbcStatementsInterceptor implements AsyncHandlerInterceptor, CallableProcessingInterceptor {
+
+    private static final String METRIC_STATEMENTS = "http.server.requests.jdbc.statements";
+    private static final String METRIC_TIME = "http.server.requests.jdbc";
+
+    private final MeterRegistry meterRegistry;
+
+    JdbcStatementsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // e.g. static resources are not handled by a controller
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        if (request.getDispatcherType() == ASYNC && request.getAttribute(JdbcStatements.REQUEST_ATTRIBUTE) instanceof JdbcStatements statements) {
+            JdbcStatements.resume(statements);
+        } else {
+            request.setAttribute(JdbcStatements.REQUEST_ATTRIBUTE, JdbcStatements.start());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // the thread is released, afterCompletion is called after the async dispatch
+        JdbcStatements.stop();
+    }
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        if (request.getAttribute(JdbcStatements.REQUEST_ATTRIBUTE, SCOPE_REQUEST) instanceof JdbcStatements statements) {
+            JdbcStatements.resume(statements);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        JdbcStatements.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        JdbcStatements.stop();
+
+        if (!(request.getAttribute(JdbcStatements.REQUEST_ATTRIBUTE) instanceof JdbcStatements statements)) {
+            return;
+        }
+
+        final String uri = request.getAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern ? pattern : "UNKNOWN";
+
+        DistributionSummary.builder(METRIC_STATEMENTS)
+            .description("Number of JDBC statements executed per request")
+            .tags("uri", uri, "method", request.getMethod())
+            .register(meterRegistry)
+            .record(statements.count());
+        Timer.builder(METRIC_TIME)
+            .description("Time spent executing JDBC statements per request")
+            .tags("uri", uri, "method", request.getMethod())
+            .register(meterRegistry)
+            .record(statements.time());
+    }
+}
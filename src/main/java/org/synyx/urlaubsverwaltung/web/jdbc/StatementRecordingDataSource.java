@@ -0,0 +1,95 @@
+package org.synyx.urlaubsverwaltung.web.jdbc;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Records every statement executed by connections of the target {@link DataSource} in {@link JdbcStatements}.
+ */
+class StatementRecordingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    StatementRecordingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return recording(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return recording(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection recording(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(StatementRecordingDataSource.class.getClassLoader(),
+            new Class<?>[]{ConnectionProxy.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record ConnectionHandler(Connection connection) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "getTargetConnection" -> connection;
+                default -> {
+                    final Object result = StatementRecordingDataSource.invoke(connection, method, args);
+                    yield result instanceof Statement statement ? recording(statement, method.getReturnType()) : result;
+                }
+            };
+        }
+
+        private static Object recording(Statement statement, Class<?> type) {
+            final Class<?> statementType = type == CallableStatement.class || type == PreparedStatement.class ? type : Statement.class;
+            return Proxy.newProxyInstance(StatementRecordingDataSource.class.getClassLoader(), new Class<?>[]{statementType}, new StatementHandler(statement));
+        }
+    }
+
+    private record StatementHandler(Statement statement) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> {
+                    if (!EXECUTE_METHODS.contains(method.getName())) {
+                        yield StatementRecordingDataSource.invoke(statement, method, args);
+                    }
+
+                    final long startedAt = System.nanoTime();
+                    try {
+                        yield StatementRecordingDataSource.invoke(statement, method, args);
+                    } finally {
+                        JdbcStatements.record(System.nanoTime() - startedAt);
+                    }
+                }
+            };
+        }
+    }
+}
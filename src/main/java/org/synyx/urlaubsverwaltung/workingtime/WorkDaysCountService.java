@@ -3,6 +3,7 @@ package org.synyx.urlaubsverwaltung.workingtime;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
+import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.publicholiday.PublicHoliday;
@@ -10,12 +11,18 @@ import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysService;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 import static java.math.RoundingMode.UNNECESSARY;
 import static java.time.format.DateTimeFormatter.ofPattern;
+import static java.util.Comparator.naturalOrder;
+import static java.util.stream.Collectors.toSet;
 import static org.synyx.urlaubsverwaltung.util.DateAndTimeFormat.DD_MM_YYYY;
 
 @Service
@@ -52,13 +59,75 @@ public class WorkDaysCountService {
                 + "' in period " + startDate.format(ofPattern(DD_MM_YYYY)) + " - " + endDate.format(ofPattern(DD_MM_YYYY)));
         }
 
-        final Map<LocalDate, WorkingTime> workingTimesByDate = toLocalDateWorkingTime(workingTimes);
+        return getWorkDaysCount(dayLength, startDate, endDate, toLocalDateWorkingTime(workingTimes)::get);
+    }
+
+    /**
+     * Loads the working times of the given person in the given date range at once, to count the workdays of several
+     * periods within that date range the same way as {@link #getWorkDaysCount(DayLength, LocalDate, LocalDate, Person)}.
+     *
+     * @param person    to calculate workdays for
+     * @param dateRange covering all periods that will be counted
+     * @return counter of the workdays of the given person
+     */
+    public WorkDaysCounter getWorkDaysCounter(Person person, DateRange dateRange) {
+
+        final Map<DateRange, WorkingTime> workingTimes = workingTimeService.getWorkingTimesByPersonAndDateRange(person, dateRange);
+
+        return (dayLength, startDate, endDate) -> {
+            if (!hasWorkingTimeAt(workingTimes, startDate)) {
+                throw new WorkDaysCountException("No working times found for user '" + person.getId()
+                    + "' in period " + startDate.format(ofPattern(DD_MM_YYYY)) + " - " + endDate.format(ofPattern(DD_MM_YYYY)));
+            }
+
+            return getWorkDaysCount(dayLength, startDate, endDate, date -> workingTimeAt(workingTimes, date));
+        };
+    }
+
+    /**
+     * Bulk variant of {@link #getWorkDaysCount(DayLength, LocalDate, LocalDate, Person)} that loads the working times
+     * of all persons of the given applications at once instead of once per application.
+     *
+     * @param applications to calculate the workdays for
+     * @return number of workdays of each application, in the order of the given applications
+     */
+    public List<BigDecimal> getWorkDaysCount(List<Application> applications) {
+
+        if (applications.isEmpty()) {
+            return List.of();
+        }
+
+        final LocalDate minStartDate = applications.stream().map(Application::getStartDate).min(naturalOrder()).orElseThrow();
+        final LocalDate maxEndDate = applications.stream().map(Application::getEndDate).max(naturalOrder()).orElseThrow();
+        final Set<Person> persons = applications.stream().map(Application::getPerson).collect(toSet());
+
+        final Map<Person, Map<DateRange, WorkingTime>> workingTimesByPerson =
+            workingTimeService.getWorkingTimesByPersonsAndDateRange(persons, new DateRange(minStartDate, maxEndDate));
+
+        final List<BigDecimal> workDays = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+
+            final Person person = application.getPerson();
+            final Map<DateRange, WorkingTime> workingTimes = workingTimesByPerson.getOrDefault(person, Map.of());
+            if (!hasWorkingTimeAt(workingTimes, application.getStartDate())) {
+                throw new WorkDaysCountException("No working times found for user '" + person.getId()
+                    + "' in period " + application.getStartDate().format(ofPattern(DD_MM_YYYY)) + " - " + application.getEndDate().format(ofPattern(DD_MM_YYYY)));
+            }
+
+            workDays.add(getWorkDaysCount(application.getDayLength(), application.getStartDate(), application.getEndDate(),
+                date -> workingTimeAt(workingTimes, date)));
+        }
+
+        return workDays;
+    }
+
+    private BigDecimal getWorkDaysCount(DayLength dayLength, LocalDate startDate, LocalDate endDate, Function<LocalDate, WorkingTime> workingTimeByDate) {
 
         BigDecimal vacationDays = BigDecimal.ZERO;
         LocalDate day = startDate;
         while (!day.isAfter(endDate)) {
 
-            final WorkingTime workingTime = workingTimesByDate.get(day);
+            final WorkingTime workingTime = workingTimeByDate.apply(day);
 
             // value may be 1 for public holiday, 0 for not public holiday or 0.5 for Christmas Eve or New Year's Eve
             final Optional<PublicHoliday> maybePublicHoliday = publicHolidaysService.getPublicHoliday(day, workingTime.getFederalState());
@@ -86,4 +155,18 @@ public class WorkDaysCountService {
         workingTimes.forEach((key, value) -> key.iterator().forEachRemaining(localDate -> localDateWorkingTimeMap.put(localDate, value)));
         return localDateWorkingTimeMap;
     }
+
+    private static boolean hasWorkingTimeAt(Map<DateRange, WorkingTime> workingTimes, LocalDate date) {
+        return workingTimeAt(workingTimes, date) != null;
+    }
+
+    private static WorkingTime workingTimeAt(Map<DateRange, WorkingTime> workingTimes, LocalDate date) {
+        for (Map.Entry<DateRange, WorkingTime> entry : workingTimes.entrySet()) {
+            final DateRange dateRange = entry.getKey();
+            if (!date.isBefore(dateRange.startDate()) && !date.isAfter(dateRange.endDate())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,26 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import org.synyx.urlaubsverwaltung.period.DayLength;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Counts the workdays of one person with working times loaded once,
+ * see {@link WorkDaysCountService#getWorkDaysCounter(org.synyx.urlaubsverwaltung.person.Person, org.synyx.urlaubsverwaltung.absence.DateRange)}.
+ */
+@FunctionalInterface
+public interface WorkDaysCounter {
+
+    /**
+     * Same as {@link WorkDaysCountService#getWorkDaysCount(DayLength, LocalDate, LocalDate, org.synyx.urlaubsverwaltung.person.Person)}
+     * for the person of this counter.
+     *
+     * @param dayLength personal daily working time
+     * @param startDate start day of the period to calculate the working days, within the loaded date range
+     * @param endDate   last day of the period to calculate the working days, within the loaded date range
+     * @return number of workdays in the given period
+     * @throws WorkDaysCountException if there is no working time at the start date
+     */
+    BigDecimal getWorkDaysCount(DayLength dayLength, LocalDate startDate, LocalDate endDate);
+}
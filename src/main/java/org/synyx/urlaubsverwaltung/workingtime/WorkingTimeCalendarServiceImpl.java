@@ -1,17 +1,14 @@
 package org.synyx.urlaubsverwaltung.workingtime;
 
 import org.springframework.stereotype.Service;
-import org.synyx.urlaubsverwaltung.CachedSupplier;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.publicholiday.PublicHoliday;
 import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysService;
-import org.synyx.urlaubsverwaltung.settings.SettingsService;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.Collection;
@@ -19,10 +16,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Supplier;
 
 import static java.time.temporal.TemporalAdjusters.lastDayOfYear;
-import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toMap;
 import static org.synyx.urlaubsverwaltung.period.DayLength.MORNING;
 import static org.synyx.urlaubsverwaltung.period.DayLength.ZERO;
@@ -32,14 +27,12 @@ import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.Workin
 @Service
 class WorkingTimeCalendarServiceImpl implements WorkingTimeCalendarService {
 
-    private final WorkingTimeRepository workingTimeRepository;
+    private final WorkingTimeHistoryCache workingTimeHistoryCache;
     private final PublicHolidaysService publicHolidaysService;
-    private final SettingsService settingsService;
 
-    WorkingTimeCalendarServiceImpl(WorkingTimeRepository workingTimeRepository, PublicHolidaysService publicHolidaysService, SettingsService settingsService) {
-        this.workingTimeRepository = workingTimeRepository;
+    WorkingTimeCalendarServiceImpl(WorkingTimeHistoryCache workingTimeHistoryCache, PublicHolidaysService publicHolidaysService) {
+        this.workingTimeHistoryCache = workingTimeHistoryCache;
         this.publicHolidaysService = publicHolidaysService;
-        this.settingsService = settingsService;
     }
 
     @Override
@@ -49,12 +42,7 @@ class WorkingTimeCalendarServiceImpl implements WorkingTimeCalendarService {
 
     @Override
     public Map<Person, WorkingTimeCalendar> getWorkingTimesByPersons(Collection<Person> persons, DateRange dateRange) {
-        final CachedSupplier<FederalState> federalStateCachedSupplier = new CachedSupplier<>(this::getSystemDefaultFederalState);
-
-        final Map<Person, List<WorkingTime>> workingTimesByPerson = workingTimeRepository.findByPersonIsInOrderByValidFromDesc(persons)
-            .stream()
-            .map(entity -> toWorkingTime(entity, federalStateCachedSupplier))
-            .collect(groupingBy(WorkingTime::getPerson));
+        final Map<Person, List<WorkingTime>> workingTimesByPerson = workingTimeHistoryCache.getWorkingTimesByPersons(persons);
 
         final LocalDate start = dateRange.startDate();
         final LocalDate end = dateRange.endDate();
@@ -176,35 +164,4 @@ class WorkingTimeCalendarServiceImpl implements WorkingTimeCalendarService {
 
         return new WorkingDayInformation(calculatedDayLength, morningType, noonType);
     }
-
-    private static WorkingTime toWorkingTime(WorkingTimeEntity workingTimeEntity, Supplier<FederalState> defaultFederalStateProvider) {
-
-        final boolean isDefaultFederalState = workingTimeEntity.getFederalStateOverride() == null;
-        final FederalState federalState = isDefaultFederalState ? defaultFederalStateProvider.get() : workingTimeEntity.getFederalStateOverride();
-
-        final WorkingTime workingTime = new WorkingTime(workingTimeEntity.getPerson(), workingTimeEntity.getValidFrom(), federalState, isDefaultFederalState);
-
-        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
-            final DayLength dayLength = dayLengthForDayOfWeek(workingTimeEntity, dayOfWeek);
-            workingTime.setDayLengthForWeekDay(dayOfWeek, dayLength);
-        }
-
-        return workingTime;
-    }
-
-    private static DayLength dayLengthForDayOfWeek(WorkingTimeEntity workingTimeEntity, DayOfWeek dayOfWeek) {
-        return switch (dayOfWeek) {
-            case MONDAY -> workingTimeEntity.getMonday();
-            case TUESDAY -> workingTimeEntity.getTuesday();
-            case WEDNESDAY -> workingTimeEntity.getWednesday();
-            case THURSDAY -> workingTimeEntity.getThursday();
-            case FRIDAY -> workingTimeEntity.getFriday();
-            case SATURDAY -> workingTimeEntity.getSaturday();
-            case SUNDAY -> workingTimeEntity.getSunday();
-        };
-    }
-
-    private FederalState getSystemDefaultFederalState() {
-        return settingsService.getSettings().getWorkingTimeSettings().getFederalState();
-    }
 }
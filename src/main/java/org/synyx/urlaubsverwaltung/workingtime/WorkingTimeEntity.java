@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.workingtime;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
@@ -7,6 +8,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.SequenceGenerator;
+import org.hibernate.annotations.Cache;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 
@@ -15,6 +17,8 @@ import java.util.Objects;
 
 import static jakarta.persistence.EnumType.STRING;
 import static jakarta.persistence.GenerationType.SEQUENCE;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
+import static org.synyx.urlaubsverwaltung.config.SecondLevelCacheRegions.WORKING_TIME;
 import static org.synyx.urlaubsverwaltung.period.DayLength.ZERO;
 
 
@@ -22,6 +26,8 @@ import static org.synyx.urlaubsverwaltung.period.DayLength.ZERO;
  * Entity representing the working time of a person.
  */
 @Entity(name = "working_time")
+@Cacheable
+@Cache(usage = READ_WRITE, region = WORKING_TIME)
 class WorkingTimeEntity {
 
     @Id
@@ -0,0 +1,295 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.synyx.urlaubsverwaltung.CachedSupplier;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.settings.SettingsUpdatedEvent;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Comparator.comparing;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Caches the working time history of persons, the latest working time first and with the federal state resolved.
+ *
+ * <p>
+ * The histories are spread over a fixed number of partitions by the id of the person, each partition
+ * evicts its least recently used histories as soon as it is full. Changes of the working times of a person
+ * evict the history of the person, a change of the default federal state in the settings evicts all histories.
+ * Histories of persons without id are never cached.
+ */
+@Component
+class WorkingTimeHistoryCache {
+
+    private static final Logger LOG = getLogger(lookup().lookupClass());
+
+    private static final String CACHE_NAME = "workingTimeHistory";
+    private static final String METRIC_CACHE_GETS = "cache.gets";
+    private static final String METRIC_CACHE_EVICTIONS = "cache.evictions";
+    private static final String METRIC_CACHE_SIZE = "cache.size";
+
+    private static final int PARTITIONS = 16;
+
+    private final WorkingTimeRepository workingTimeRepository;
+    private final SettingsService settingsService;
+
+    private final Partition[] partitions = new Partition[PARTITIONS];
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<FederalState> cachedDefaultFederalState = new AtomicReference<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    WorkingTimeHistoryCache(WorkingTimeRepository workingTimeRepository, SettingsService settingsService,
+                            WorkingTimeProperties workingTimeProperties, MeterRegistry meterRegistry) {
+        this.workingTimeRepository = workingTimeRepository;
+        this.settingsService = settingsService;
+
+        this.hits = Counter.builder(METRIC_CACHE_GETS)
+            .description("Number of working time history lookups answered from the cache")
+            .tags("cache", CACHE_NAME, "result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder(METRIC_CACHE_GETS)
+            .description("Number of working time history lookups that had to be loaded")
+            .tags("cache", CACHE_NAME, "result", "miss")
+            .register(meterRegistry);
+        this.evictions = Counter.builder(METRIC_CACHE_EVICTIONS)
+            .description("Number of evicted working time histories")
+            .tag("cache", CACHE_NAME)
+            .register(meterRegistry);
+        Gauge.builder(METRIC_CACHE_SIZE, this, WorkingTimeHistoryCache::size)
+            .description("Number of cached working time histories")
+            .tag("cache", CACHE_NAME)
+            .register(meterRegistry);
+
+        final int partitionSize = Math.max(1, workingTimeProperties.getHistoryCacheSize() / PARTITIONS);
+        for (int i = 0; i < PARTITIONS; i++) {
+            partitions[i] = new Partition(partitionSize, evictions);
+        }
+    }
+
+    /**
+     * @param person to get the working times of
+     * @return all working times of the person, the latest first
+     */
+    List<WorkingTime> getWorkingTimes(Person person) {
+        return getWorkingTimesByPersons(List.of(person)).get(person);
+    }
+
+    /**
+     * The histories that are not cached yet are loaded at once.
+     *
+     * @param persons to get the working times of
+     * @return all working times of each person, the latest first. Persons without working times are mapped to an empty list.
+     */
+    Map<Person, List<WorkingTime>> getWorkingTimesByPersons(Collection<Person> persons) {
+
+        final Map<Person, List<WorkingTime>> workingTimesByPerson = new HashMap<>();
+        final List<Person> missingPersons = new ArrayList<>();
+
+        for (Person person : persons) {
+            final History history = person.getId() == null ? null : partitionOf(person.getId()).get(person.getId());
+            if (history == null) {
+                missingPersons.add(person);
+            } else {
+                workingTimesByPerson.put(person, history.toWorkingTimes(person));
+            }
+        }
+
+        hits.increment(workingTimesByPerson.size());
+
+        if (!missingPersons.isEmpty()) {
+            misses.increment(missingPersons.size());
+            load(missingPersons).forEach((person, history) -> workingTimesByPerson.put(person, history.toWorkingTimes(person)));
+        }
+
+        return workingTimesByPerson;
+    }
+
+    /**
+     * Evicts the history of the given person now and, if called within a transaction, again after the
+     * transaction has been completed. So histories loaded by concurrent requests before the changes
+     * have been committed are not kept either.
+     *
+     * @param person whose working times have been changed
+     */
+    void evict(Person person) {
+        evictNow(person);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(person);
+                }
+            });
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(SettingsUpdatedEvent event) {
+        final FederalState federalState = event.updatedSettings().getWorkingTimeSettings().getFederalState();
+        final FederalState previousFederalState = cachedDefaultFederalState.getAndSet(federalState);
+        if (previousFederalState != federalState) {
+            LOG.info("Default federal state has been changed to {}, evicting all working time histories", federalState);
+            generation.incrementAndGet();
+            for (Partition partition : partitions) {
+                partition.clear();
+            }
+        }
+    }
+
+    private void evictNow(Person person) {
+        generation.incrementAndGet();
+        if (person.getId() != null) {
+            partitionOf(person.getId()).remove(person.getId());
+        }
+    }
+
+    private Map<Person, History> load(List<Person> persons) {
+
+        // histories loaded while working times or settings have been changed are handed out once, but never stored
+        final long expectedGeneration = generation.get();
+
+        final CachedSupplier<FederalState> defaultFederalStateSupplier = new CachedSupplier<>(this::getSystemDefaultFederalState);
+        final Map<Long, List<CachedWorkingTime>> workingTimesByPersonId = new HashMap<>();
+        final Map<Person, List<CachedWorkingTime>> workingTimesOfPersonsWithoutId = new HashMap<>();
+
+        for (WorkingTimeEntity entity : workingTimeRepository.findByPersonIsInOrderByValidFromDesc(persons)) {
+            final CachedWorkingTime workingTime = CachedWorkingTime.of(entity, defaultFederalStateSupplier);
+            final Person person = entity.getPerson();
+            if (person.getId() == null) {
+                workingTimesOfPersonsWithoutId.computeIfAbsent(person, key -> new ArrayList<>()).add(workingTime);
+            } else {
+                workingTimesByPersonId.computeIfAbsent(person.getId(), key -> new ArrayList<>()).add(workingTime);
+            }
+        }
+
+        final Map<Person, History> historyByPerson = new HashMap<>();
+        for (Person person : persons) {
+            final List<CachedWorkingTime> workingTimes = person.getId() == null
+                ? workingTimesOfPersonsWithoutId.getOrDefault(person, List.of())
+                : workingTimesByPersonId.getOrDefault(person.getId(), List.of());
+
+            final History history = new History(workingTimes.stream().sorted(comparing(CachedWorkingTime::validFrom).reversed()).toList());
+            historyByPerson.put(person, history);
+
+            if (person.getId() != null && generation.get() == expectedGeneration) {
+                partitionOf(person.getId()).put(person.getId(), history);
+            }
+        }
+
+        LOG.debug("Loaded working time histories of {} persons", persons.size());
+        return historyByPerson;
+    }
+
+    private FederalState getSystemDefaultFederalState() {
+        final FederalState federalState = settingsService.getSettings().getWorkingTimeSettings().getFederalState();
+        cachedDefaultFederalState.set(federalState);
+        return federalState;
+    }
+
+    private Partition partitionOf(Long personId) {
+        return partitions[Math.floorMod(Long.hashCode(personId), PARTITIONS)];
+    }
+
+    private long size() {
+        return Arrays.stream(partitions).mapToLong(Partition::size).sum();
+    }
+
+    /**
+     * Least recently used histories of the persons of one partition.
+     */
+    private static final class Partition {
+
+        private final LinkedHashMap<Long, History> histories;
+
+        Partition(int maximumSize, Counter evictions) {
+            this.histories = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, History> eldest) {
+                    if (size() > maximumSize) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized History get(Long personId) {
+            return histories.get(personId);
+        }
+
+        synchronized void put(Long personId, History history) {
+            histories.put(personId, history);
+        }
+
+        synchronized void remove(Long personId) {
+            histories.remove(personId);
+        }
+
+        synchronized void clear() {
+            histories.clear();
+        }
+
+        synchronized int size() {
+            return histories.size();
+        }
+    }
+
+    /**
+     * Immutable working time history of a person, the latest working time first.
+     */
+    private record History(List<CachedWorkingTime> workingTimes) {
+
+        List<WorkingTime> toWorkingTimes(Person person) {
+            return workingTimes.stream().map(workingTime -> workingTime.toWorkingTime(person)).toList();
+        }
+    }
+
+    private record CachedWorkingTime(LocalDate validFrom, FederalState federalState, boolean defaultFederalState, List<DayLength> dayLengths) {
+
+        static CachedWorkingTime of(WorkingTimeEntity entity, Supplier<FederalState> defaultFederalStateSupplier) {
+
+            final boolean isDefaultFederalState = entity.getFederalStateOverride() == null;
+            final FederalState federalState = isDefaultFederalState ? defaultFederalStateSupplier.get() : entity.getFederalStateOverride();
+
+            final List<DayLength> dayLengths = List.of(entity.getMonday(), entity.getTuesday(), entity.getWednesday(),
+                entity.getThursday(), entity.getFriday(), entity.getSaturday(), entity.getSunday());
+
+            return new CachedWorkingTime(entity.getValidFrom(), federalState, isDefaultFederalState, dayLengths);
+        }
+
+        WorkingTime toWorkingTime(Person person) {
+            final WorkingTime workingTime = new WorkingTime(person, validFrom, federalState, defaultFederalState);
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                workingTime.setDayLengthForWeekDay(dayOfWeek, dayLengths.get(dayOfWeek.ordinal()));
+            }
+            return workingTime;
+        }
+    }
+}
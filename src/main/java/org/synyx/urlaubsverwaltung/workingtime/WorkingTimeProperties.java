@@ -0,0 +1,27 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties("uv.working-time")
+@Validated
+public class WorkingTimeProperties {
+
+    /**
+     * Maximum number of persons whose working time history is cached. The least recently used histories
+     * are evicted first.
+     */
+    @Min(1)
+    private int historyCacheSize = 5000;
+
+    public int getHistoryCacheSize() {
+        return historyCacheSize;
+    }
+
+    public void setHistoryCacheSize(int historyCacheSize) {
+        this.historyCacheSize = historyCacheSize;
+    }
+}
@@ -4,6 +4,7 @@ import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -56,6 +57,18 @@ public interface WorkingTimeService {
      */
     Map<DateRange, WorkingTime> getWorkingTimesByPersonAndDateRange(Person person, DateRange dateRange);
 
+    /**
+     * Returns the date ranges and the associated working times of each of the given persons.
+     * The working times of all persons are loaded at once.
+     *
+     * @param persons   to get the working times
+     * @param dateRange to specify the
+     * @return map of persons and their date ranges and the associated working times,
+     * persons without a working time within the date range are mapped to an empty map
+     * @see #getWorkingTimesByPersonAndDateRange(Person, DateRange)
+     */
+    Map<Person, Map<DateRange, WorkingTime>> getWorkingTimesByPersonsAndDateRange(Collection<Person> persons, DateRange dateRange);
+
     /**
      * Returns a map of date ranges and the associated federal state.
      * <p>
@@ -4,7 +4,6 @@ import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.synyx.urlaubsverwaltung.CachedSupplier;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
@@ -13,16 +12,15 @@ import org.synyx.urlaubsverwaltung.settings.SettingsService;
 import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Supplier;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.time.format.DateTimeFormatter.ofPattern;
 import static java.time.temporal.TemporalAdjusters.firstDayOfYear;
-import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.synyx.urlaubsverwaltung.util.DateAndTimeFormat.DD_MM_YYYY;
@@ -34,13 +32,15 @@ class WorkingTimeServiceImpl implements WorkingTimeService, WorkingTimeWriteServ
     private static final Logger LOG = getLogger(lookup().lookupClass());
 
     private final WorkingTimeRepository workingTimeRepository;
+    private final WorkingTimeHistoryCache workingTimeHistoryCache;
     private final SettingsService settingsService;
     private final Clock clock;
 
     @Autowired
-    public WorkingTimeServiceImpl(WorkingTimeRepository workingTimeRepository,
+    public WorkingTimeServiceImpl(WorkingTimeRepository workingTimeRepository, WorkingTimeHistoryCache workingTimeHistoryCache,
                                   SettingsService settingsService, Clock clock) {
         this.workingTimeRepository = workingTimeRepository;
+        this.workingTimeHistoryCache = workingTimeHistoryCache;
         this.settingsService = settingsService;
         this.clock = clock;
     }
@@ -73,31 +73,62 @@ class WorkingTimeServiceImpl implements WorkingTimeService, WorkingTimeWriteServ
         workingTimeEntity.setFederalStateOverride(federalState);
 
         workingTimeRepository.save(workingTimeEntity);
+        workingTimeHistoryCache.evict(person);
         LOG.info("Created working time {} for person {}", workingTimeEntity, person);
     }
 
     @Override
     public Optional<WorkingTime> getWorkingTime(Person person, LocalDate date) {
-        final CachedSupplier<FederalState> federalStateCachedSupplier = new CachedSupplier<>(this::getSystemDefaultFederalState);
-        return Optional.ofNullable(workingTimeRepository.findByPersonAndValidityDateEqualsOrMinorDate(person, date))
-            .map(entity -> toWorkingTime(entity, federalStateCachedSupplier));
+        return workingTimeHistoryCache.getWorkingTimes(person).stream()
+            .filter(workingTime -> !workingTime.getValidFrom().isAfter(date))
+            .findFirst();
     }
 
     @Override
     public List<WorkingTime> getByPerson(Person person) {
-        return toWorkingTimes(workingTimeRepository.findByPersonOrderByValidFromDesc(person));
+        return workingTimeHistoryCache.getWorkingTimes(person);
     }
 
     @Override
     public List<WorkingTime> getByPersons(List<Person> persons) {
-        return toWorkingTimes(workingTimeRepository.findByPersonIn(persons));
+        final Map<Person, List<WorkingTime>> workingTimesByPerson = workingTimeHistoryCache.getWorkingTimesByPersons(persons);
+        return persons.stream()
+            .distinct()
+            .flatMap(person -> workingTimesByPerson.get(person).stream())
+            .toList();
     }
 
     @Override
     public Map<DateRange, WorkingTime> getWorkingTimesByPersonAndDateRange(Person person, DateRange dateRange) {
+        return toWorkingTimesByDateRange(workingTimeHistoryCache.getWorkingTimes(person), dateRange);
+    }
+
+    @Override
+    public Map<Person, Map<DateRange, WorkingTime>> getWorkingTimesByPersonsAndDateRange(Collection<Person> persons, DateRange dateRange) {
+
+        if (persons.isEmpty()) {
+            return Map.of();
+        }
+
+        final Map<Person, List<WorkingTime>> workingTimesByPerson = workingTimeHistoryCache.getWorkingTimesByPersons(persons);
+
+        final Map<Person, Map<DateRange, WorkingTime>> workingTimesByPersonAndDateRange = new HashMap<>();
+        for (Person person : persons) {
+            final List<WorkingTime> workingTimes = workingTimesByPerson.getOrDefault(person, List.of());
+            workingTimesByPersonAndDateRange.put(person, toWorkingTimesByDateRange(workingTimes, dateRange));
+        }
+
+        return workingTimesByPersonAndDateRange;
+    }
+
+    /**
+     * @param workingTimesOrderedByValidFromDesc working times of one person, the latest first
+     * @param dateRange                          the working times are restricted to
+     * @return map of date ranges and the associated working times
+     */
+    private static Map<DateRange, WorkingTime> toWorkingTimesByDateRange(List<WorkingTime> workingTimesOrderedByValidFromDesc, DateRange dateRange) {
 
-        final List<WorkingTime> workingTimesByPerson = toWorkingTimes(workingTimeRepository.findByPersonOrderByValidFromDesc(person));
-        final List<WorkingTime> workingTimeList = workingTimesByPerson.stream()
+        final List<WorkingTime> workingTimeList = workingTimesOrderedByValidFromDesc.stream()
             .filter(workingTime -> !workingTime.getValidFrom().isAfter(dateRange.endDate()))
             .toList();
 
@@ -133,15 +164,13 @@ class WorkingTimeServiceImpl implements WorkingTimeService, WorkingTimeWriteServ
 
     @Override
     public FederalState getFederalStateForPerson(Person person, LocalDate date) {
-        final CachedSupplier<FederalState> federalStateCachedSupplier = new CachedSupplier<>(this::getSystemDefaultFederalState);
-
         return getWorkingTime(person, date)
             .map(WorkingTime::getFederalState)
             .orElseGet(() -> {
                 LOG.debug("No working time found for user '{}' equals or minor {}, using system federal state as fallback",
                     person.getId(), date.format(ofPattern(DD_MM_YYYY)));
 
-                return federalStateCachedSupplier.get();
+                return getSystemDefaultFederalState();
             });
     }
 
@@ -160,13 +189,7 @@ class WorkingTimeServiceImpl implements WorkingTimeService, WorkingTimeWriteServ
     @Override
     public void deleteAllByPerson(Person person) {
         workingTimeRepository.deleteByPerson(person);
-    }
-
-    private List<WorkingTime> toWorkingTimes(List<WorkingTimeEntity> workingTimeEntities) {
-        final CachedSupplier<FederalState> federalStateCachedSupplier = new CachedSupplier<>(this::getSystemDefaultFederalState);
-        return workingTimeEntities.stream()
-            .map(workingTime -> toWorkingTime(workingTime, federalStateCachedSupplier))
-            .collect(toList());
+        workingTimeHistoryCache.evict(person);
     }
 
     private static void resetWorkDays(WorkingTimeEntity workingTimeEntity) {
@@ -190,31 +213,4 @@ class WorkingTimeServiceImpl implements WorkingTimeService, WorkingTimeWriteServ
             case SUNDAY -> workingTimeEntity.setSunday(dayLength);
         }
     }
-
-    private static WorkingTime toWorkingTime(WorkingTimeEntity workingTimeEntity, Supplier<FederalState> defaultFederalStateProvider) {
-
-        final boolean isDefaultFederalState = workingTimeEntity.getFederalStateOverride() == null;
-        final FederalState federalState = isDefaultFederalState ? defaultFederalStateProvider.get() : workingTimeEntity.getFederalStateOverride();
-
-        final WorkingTime workingTime = new WorkingTime(workingTimeEntity.getPerson(), workingTimeEntity.getValidFrom(), federalState, isDefaultFederalState);
-
-        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
-            final DayLength dayLength = dayLengthForDayOfWeek(workingTimeEntity, dayOfWeek);
-            workingTime.setDayLengthForWeekDay(dayOfWeek, dayLength);
-        }
-
-        return workingTime;
-    }
-
-    private static DayLength dayLengthForDayOfWeek(WorkingTimeEntity workingTimeEntity, DayOfWeek dayOfWeek) {
-        return switch (dayOfWeek) {
-            case MONDAY -> workingTimeEntity.getMonday();
-            case TUESDAY -> workingTimeEntity.getTuesday();
-            case WEDNESDAY -> workingTimeEntity.getWednesday();
-            case THURSDAY -> workingTimeEntity.getThursday();
-            case FRIDAY -> workingTimeEntity.getFriday();
-            case SATURDAY -> workingTimeEntity.getSaturday();
-            case SUNDAY -> workingTimeEntity.getSunday();
-        };
-    }
 }
@@ -0,0 +1,34 @@
+package org.synyx.urlaubsverwaltung;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tracks the time until the application is ready to serve requests, see {@code application.ready.time}.
+ * The budget can be adjusted for slow build agents by the system property {@code uv.test.startup-time-budget},
+ * e.g. {@code -Duv.test.startup-time-budget=PT45S}.
+ */
+@SpringBootTest
+class ApplicationStartupIT extends TestContainersBase {
+
+    private static final Duration STARTUP_TIME_BUDGET = Duration.parse(System.getProperty("uv.test.startup-time-budget", "PT30S"));
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void ensureApplicationIsReadyWithinStartupTimeBudget() {
+
+        final TimeGauge readyTime = meterRegistry.get("application.ready.time").timeGauge();
+
+        assertThat(readyTime.value(MILLISECONDS)).isPositive().isLessThan(STARTUP_TIME_BUDGET.toMillis());
+    }
+}
@@ -0,0 +1,188 @@
+package org.synyx.urlaubsverwaltung;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Explains the prepared queries executed by the current thread with the parameters they are executed with,
+ * e.g. to verify that the SQL hibernate emits for a repository method is answered by an index.
+ *
+ * <p>Usage:</p>
+ * <pre><code>
+ * &#64;SpringBootTest
+ * &#64;Import(QueryPlans.Configuration.class)
+ * class ApplicationPeriodIndexIT extends TestContainersBase {
+ *     &#64;Test
+ *     void ensureUsesIndex() {
+ *         final List&lt;QueryPlan&gt; plans = QueryPlans.of(() -&gt; repository.findBy...(...));
+ *         ...
+ *     }
+ * }
+ * </code>
+ * </pre>
+ */
+public final class QueryPlans {
+
+    private static final ThreadLocal<List<QueryPlan>> CURRENT = new ThreadLocal<>();
+
+    private QueryPlans() {
+    }
+
+    /**
+     * Runs the given queries and explains every query executed by the current thread meanwhile.
+     *
+     * @param queries e.g. the call of a repository method
+     * @return the plans of the executed queries in order of execution
+     */
+    public static List<QueryPlan> of(Runnable queries) {
+        final List<QueryPlan> plans = new ArrayList<>();
+        CURRENT.set(plans);
+        try {
+            queries.run();
+        } finally {
+            CURRENT.remove();
+        }
+        return plans;
+    }
+
+    /**
+     * @param plans the plans of the executed queries
+     * @param table name of the table
+     * @return the plan of the first query selecting from the given table
+     */
+    public static QueryPlan selectingFrom(List<QueryPlan> plans, String table) {
+        final Predicate<QueryPlan> selectingFromTable = plan -> plan.sql().startsWith("select") && plan.sql().contains(" from " + table + " ");
+        return plans.stream()
+            .filter(selectingFromTable)
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("no query selecting from " + table + " in " + plans));
+    }
+
+    public record QueryPlan(String sql, String plan) {
+    }
+
+    /**
+     * Wraps the data source of the application context, so that the queries can be explained.
+     */
+    @TestConfiguration
+    public static class Configuration {
+
+        @Bean
+        static BeanPostProcessor explainingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof ExplainingDataSource)
+                        ? new ExplainingDataSource(dataSource)
+                        : bean;
+                }
+            };
+        }
+    }
+
+    private static class ExplainingDataSource extends DelegatingDataSource {
+
+        ExplainingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return explaining(obtainTargetDataSource().getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return explaining(obtainTargetDataSource().getConnection(username, password));
+        }
+
+        private static Connection explaining(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(QueryPlans.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    } else if (method.getName().equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+
+                    final Object result = invoke(connection, method, args);
+                    if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                        return Proxy.newProxyInstance(QueryPlans.class.getClassLoader(), new Class<?>[]{PreparedStatement.class},
+                            new PreparedStatementHandler(connection, (String) args[0], statement));
+                    }
+                    return result;
+                });
+        }
+    }
+
+    /**
+     * Remembers the parameters set on the prepared statement, to explain the query with the same parameters before
+     * it is executed.
+     */
+    private static class PreparedStatementHandler implements InvocationHandler {
+
+        private final Connection connection;
+        private final String sql;
+        private final PreparedStatement statement;
+        private final List<ParameterCall> parameters = new ArrayList<>();
+
+        PreparedStatementHandler(Connection connection, String sql, PreparedStatement statement) {
+            this.connection = connection;
+            this.sql = sql;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                parameters.add(new ParameterCall(method, args));
+            } else if (method.getName().equals("clearParameters")) {
+                parameters.clear();
+            } else if (method.getName().equals("executeQuery") && CURRENT.get() != null) {
+                CURRENT.get().add(new QueryPlan(sql, explain()));
+            }
+            return QueryPlans.invoke(statement, method, args);
+        }
+
+        private String explain() throws Throwable {
+            try (PreparedStatement explain = connection.prepareStatement("explain " + sql)) {
+                for (ParameterCall parameter : parameters) {
+                    QueryPlans.invoke(explain, parameter.method(), parameter.args());
+                }
+                final List<String> plan = new ArrayList<>();
+                try (ResultSet resultSet = explain.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.add(resultSet.getString(1));
+                    }
+                }
+                return String.join("\n", plan);
+            }
+        }
+
+        private record ParameterCall(Method method, Object[] args) {
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
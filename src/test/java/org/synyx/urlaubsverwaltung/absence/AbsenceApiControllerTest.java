@@ -51,7 +51,7 @@ class AbsenceApiControllerTest {
         final LocalDate startDate = LocalDate.of(2016, JANUARY, 1);
         final LocalDate endDate = LocalDate.of(2016, JANUARY, 7);
 
-        when(absenceService.getOpenAbsences(person, startDate, endDate)).thenReturn(List.of());
+        when(absenceService.getAbsences(AbsenceQuery.open(List.of(person), startDate, endDate))).thenReturn(List.of());
 
         perform(
             get("/api/persons/23/absences")
@@ -82,7 +82,7 @@ class AbsenceApiControllerTest {
         final AbsencePeriod.Record fullDayVacationRecord = new AbsencePeriod.Record(startDate.plusDays(1), person, recordMorningVacation, recordNoonVacation);
         final AbsencePeriod absencePeriod = new AbsencePeriod(List.of(fullDayVacationRecord));
 
-        when(absenceService.getOpenAbsences(person, startDate, endDate)).thenReturn(List.of(absencePeriod));
+        when(absenceService.getAbsences(AbsenceQuery.open(List.of(person), startDate, endDate))).thenReturn(List.of(absencePeriod));
 
         perform(
             get("/api/persons/23/absences")
@@ -123,7 +123,7 @@ class AbsenceApiControllerTest {
         final AbsencePeriod.Record fullDayVacationRecord = new AbsencePeriod.Record(startDate.plusDays(1), person, recordMorningVacation);
         final AbsencePeriod absencePeriod = new AbsencePeriod(List.of(fullDayVacationRecord));
 
-        when(absenceService.getOpenAbsences(person, startDate, endDate)).thenReturn(List.of(absencePeriod));
+        when(absenceService.getAbsences(AbsenceQuery.open(List.of(person), startDate, endDate))).thenReturn(List.of(absencePeriod));
 
         perform(
             get("/api/persons/23/absences")
@@ -164,7 +164,7 @@ class AbsenceApiControllerTest {
         final AbsencePeriod.Record fullDayVacationRecord = new AbsencePeriod.Record(startDate.plusDays(1), person, recordNoonVacation);
         final AbsencePeriod absencePeriod = new AbsencePeriod(List.of(fullDayVacationRecord));
 
-        when(absenceService.getOpenAbsences(person, startDate, endDate)).thenReturn(List.of(absencePeriod));
+        when(absenceService.getAbsences(AbsenceQuery.open(List.of(person), startDate, endDate))).thenReturn(List.of(absencePeriod));
 
         perform(
             get("/api/persons/23/absences")
@@ -207,7 +207,7 @@ class AbsenceApiControllerTest {
         final AbsencePeriod.Record fullDaySickRecord = new AbsencePeriod.Record(startDate.plusDays(1), person, recordMorningSick, recordNoonSick);
         final AbsencePeriod absencePeriod = new AbsencePeriod(List.of(fullDaySickRecord));
 
-        when(absenceService.getOpenAbsences(person, startDate, endDate)).thenReturn(List.of(absencePeriod));
+        when(absenceService.getAbsences(AbsenceQuery.open(List.of(person), startDate, endDate))).thenReturn(List.of(absencePeriod));
 
         perform(
             get("/api/persons/23/absences")
@@ -248,7 +248,7 @@ class AbsenceApiControllerTest {
         final AbsencePeriod.Record morningSickRecord = new AbsencePeriod.Record(startDate.plusDays(1), person, recordMorningSick);
         final AbsencePeriod absencePeriod = new AbsencePeriod(List.of(morningSickRecord));
 
-        when(absenceService.getOpenAbsences(person, startDate, endDate)).thenReturn(List.of(absencePeriod));
+        when(absenceService.getAbsences(AbsenceQuery.open(List.of(person), startDate, endDate))).thenReturn(List.of(absencePeriod));
 
         perform(
             get("/api/persons/23/absences")
@@ -289,7 +289,7 @@ class AbsenceApiControllerTest {
         final AbsencePeriod.Record noonSickRecord = new AbsencePeriod.Record(startDate.plusDays(1), person, recordNoonSick);
         final AbsencePeriod absencePeriod = new AbsencePeriod(List.of(noonSickRecord));
 
-        when(absenceService.getOpenAbsences(person, startDate, endDate)).thenReturn(List.of(absencePeriod));
+        when(absenceService.getAbsences(AbsenceQuery.open(List.of(person), startDate, endDate))).thenReturn(List.of(absencePeriod));
 
         perform(
             get("/api/persons/23/absences")
@@ -332,7 +332,7 @@ class AbsenceApiControllerTest {
         final AbsencePeriod.Record absenceRecord = new AbsencePeriod.Record(startDate.plusDays(1), person, recordMorningVacation, recordNoonSick);
         final AbsencePeriod absencePeriod = new AbsencePeriod(List.of(absenceRecord));
 
-        when(absenceService.getOpenAbsences(person, startDate, endDate)).thenReturn(List.of(absencePeriod));
+        when(absenceService.getAbsences(AbsenceQuery.open(List.of(person), startDate, endDate))).thenReturn(List.of(absencePeriod));
 
         perform(
             get("/api/persons/23/absences")
@@ -385,7 +385,7 @@ class AbsenceApiControllerTest {
         final AbsencePeriod.Record absenceRecord = new AbsencePeriod.Record(startDate.plusDays(1), person, recordMorningSick, recordNoonVacation);
         final AbsencePeriod absencePeriod = new AbsencePeriod(List.of(absenceRecord));
 
-        when(absenceService.getOpenAbsences(person, startDate, endDate)).thenReturn(List.of(absencePeriod));
+        when(absenceService.getAbsences(AbsenceQuery.open(List.of(person), startDate, endDate))).thenReturn(List.of(absencePeriod));
 
         perform(
             get("/api/persons/23/absences")
@@ -439,7 +439,7 @@ class AbsenceApiControllerTest {
         final AbsencePeriod.Record fullDayVacationRecord = new AbsencePeriod.Record(LocalDate.of(2016, DECEMBER, 24), person, recordMorningVacation, recordNoonPublicHoliday);
         final AbsencePeriod absencePeriod = new AbsencePeriod(List.of(fullDayVacationRecord));
 
-        when(absenceService.getOpenAbsences(person, startDate, endDate)).thenReturn(List.of(absencePeriod));
+        when(absenceService.getAbsences(AbsenceQuery.open(List.of(person), startDate, endDate))).thenReturn(List.of(absencePeriod));
 
         perform(
             get("/api/persons/23/absences")
@@ -493,7 +493,7 @@ class AbsenceApiControllerTest {
         final AbsencePeriod.Record sickRecord = anySickRecord(person, LocalDate.of(2016, FEBRUARY, 12));
         final AbsencePeriod absencePeriod = new AbsencePeriod(List.of(vacationRecord, sickRecord));
 
-        when(absenceService.getOpenAbsences(person, startDate, endDate)).thenReturn(List.of(absencePeriod));
+        when(absenceService.getAbsences(AbsenceQuery.open(List.of(person), startDate, endDate).withAbsenceTypes(List.of(AbsencePeriod.AbsenceType.VACATION)))).thenReturn(List.of(absencePeriod));
 
         perform(
             get("/api/persons/23/absences")
@@ -535,7 +535,7 @@ class AbsenceApiControllerTest {
         final AbsencePeriod.Record sickRecord = anySickRecord(person, LocalDate.of(2016, FEBRUARY, 12));
         final AbsencePeriod absencePeriod = new AbsencePeriod(List.of(vacationRecord, sickRecord));
 
-        when(absenceService.getOpenAbsences(person, startDate, endDate)).thenReturn(List.of(absencePeriod));
+        when(absenceService.getAbsences(AbsenceQuery.open(List.of(person), startDate, endDate).withAbsenceTypes(List.of(AbsencePeriod.AbsenceType.SICK)))).thenReturn(List.of(absencePeriod));
 
         perform(
             get("/api/persons/23/absences")
@@ -586,7 +586,7 @@ class AbsenceApiControllerTest {
 
         final AbsencePeriod absencePeriod = new AbsencePeriod(List.of(vacationRecord, sickRecord, publicHoliday, noWorkday));
 
-        when(absenceService.getOpenAbsences(person, startDate, endDate)).thenReturn(List.of(absencePeriod));
+        when(absenceService.getAbsences(AbsenceQuery.open(List.of(person), startDate, endDate).withAbsenceTypes(List.of(AbsencePeriod.AbsenceType.PUBLIC_HOLIDAY, AbsencePeriod.AbsenceType.NO_WORKDAY)))).thenReturn(List.of(absencePeriod));
 
         perform(
             get("/api/persons/23/absences")
@@ -639,7 +639,7 @@ class AbsenceApiControllerTest {
         final AbsencePeriod.Record sickRecord = anySickRecord(person, LocalDate.of(2016, FEBRUARY, 12));
         final AbsencePeriod absencePeriod = new AbsencePeriod(List.of(vacationRecord, sickRecord));
 
-        when(absenceService.getOpenAbsences(person, startDate, endDate)).thenReturn(List.of(absencePeriod));
+        when(absenceService.getAbsences(AbsenceQuery.open(List.of(person), startDate, endDate))).thenReturn(List.of(absencePeriod));
 
         perform(
             get("/api/persons/23/absences")
@@ -693,7 +693,7 @@ class AbsenceApiControllerTest {
         final AbsencePeriod.Record recordNoon = new AbsencePeriod.Record(date, person, noon);
         final AbsencePeriod absencePeriodNoon = new AbsencePeriod(List.of(recordNoon));
 
-        when(absenceService.getOpenAbsences(person, date, date)).thenReturn(List.of(absencePeriodMorning, absencePeriodNoon));
+        when(absenceService.getAbsences(AbsenceQuery.open(List.of(person), date, date))).thenReturn(List.of(absencePeriodMorning, absencePeriodNoon));
 
         perform(get("/api/persons/23/absences")
             .param("from", "2016-01-01")
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static java.time.Month.NOVEMBER;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -15,6 +16,57 @@ import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceStatus.WA
 
 class AbsencePeriodTest {
 
+    @Test
+    void ensureConsecutiveDaysCreatesRecordOfEveryDay() {
+        final Person person = anyPerson();
+        final AbsencePeriod.RecordMorningNoWorkday morning = new AbsencePeriod.RecordMorningNoWorkday(person);
+        final AbsencePeriod.RecordNoonNoWorkday noon = new AbsencePeriod.RecordNoonNoWorkday(person);
+
+        final AbsencePeriod sut = AbsencePeriod.ofConsecutiveDays(new DateRange(LocalDate.of(2022, NOVEMBER, 5), LocalDate.of(2022, NOVEMBER, 6)), person, morning, noon);
+
+        assertThat(sut.getAbsenceRecords()).containsExactly(
+            new AbsencePeriod.Record(LocalDate.of(2022, NOVEMBER, 5), person, morning, noon),
+            new AbsencePeriod.Record(LocalDate.of(2022, NOVEMBER, 6), person, morning, noon)
+        );
+        assertThat(sut.getAbsenceRecords()).allSatisfy(absenceRecord -> {
+            assertThat(absenceRecord.getMorning()).containsSame(morning);
+            assertThat(absenceRecord.getNoon()).containsSame(noon);
+        });
+        assertThat(sut).isEqualTo(new AbsencePeriod(List.of(
+            new AbsencePeriod.Record(LocalDate.of(2022, NOVEMBER, 5), person, morning, noon),
+            new AbsencePeriod.Record(LocalDate.of(2022, NOVEMBER, 6), person, morning, noon)
+        )));
+    }
+
+    @Test
+    void ensureConsecutiveDaysReturnsRecordsOfDate() {
+        final Person person = anyPerson();
+        final AbsencePeriod.RecordNoonPublicHoliday noon = new AbsencePeriod.RecordNoonPublicHoliday(person);
+
+        final AbsencePeriod sut = AbsencePeriod.ofConsecutiveDays(new DateRange(LocalDate.of(2022, NOVEMBER, 5), LocalDate.of(2022, NOVEMBER, 6)), person, null, noon);
+
+        assertThat(sut.getAbsenceRecords(LocalDate.of(2022, NOVEMBER, 4))).isEmpty();
+        assertThat(sut.getAbsenceRecords(LocalDate.of(2022, NOVEMBER, 6))).singleElement().satisfies(absenceRecord -> {
+            assertThat(absenceRecord.getDate()).isEqualTo(LocalDate.of(2022, NOVEMBER, 6));
+            assertThat(absenceRecord.isHalfDayAbsence()).isTrue();
+            assertThat(absenceRecord.getMorning()).isEmpty();
+            assertThat(absenceRecord.getNoon()).containsSame(noon);
+        });
+        assertThat(sut.getAbsenceRecords(LocalDate.of(2022, NOVEMBER, 7))).isEmpty();
+    }
+
+    @Test
+    void ensureReturnsAllRecordsOfDate() {
+        final Person person = anyPerson();
+        final AbsencePeriod.Record morning = new AbsencePeriod.Record(LocalDate.of(2022, NOVEMBER, 5), person, new AbsencePeriod.RecordMorningSick(person, 1L, ACTIVE, "SICK_NOTE", 1L));
+        final AbsencePeriod.Record noon = new AbsencePeriod.Record(LocalDate.of(2022, NOVEMBER, 5), person, new AbsencePeriod.RecordNoonSick(person, 2L, ACTIVE, "SICK_NOTE", 1L));
+        final AbsencePeriod.Record nextDay = new AbsencePeriod.Record(LocalDate.of(2022, NOVEMBER, 6), person, new AbsencePeriod.RecordNoonSick(person, 2L, ACTIVE, "SICK_NOTE", 1L));
+
+        final AbsencePeriod sut = new AbsencePeriod(List.of(morning, noon, nextDay));
+
+        assertThat(sut.getAbsenceRecords(LocalDate.of(2022, NOVEMBER, 5))).containsExactly(morning, noon);
+    }
+
     @Test
     void ensureRecordMorningVacationToStringDoesNotPrintAnyInfo() {
         final Person person = anyPerson();
@@ -30,6 +30,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 
@@ -38,7 +39,9 @@ import static java.time.Month.JUNE;
 import static java.time.Month.MAY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createApplication;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createSickNote;
@@ -1613,6 +1616,143 @@ class AbsenceServiceImplTest {
         });
     }
 
+    @Test
+    void ensureVacationQueryLoadsNeitherSickNotesNorWorkingTimesOfAllPersons() {
+
+        final LocalDate start = LocalDate.of(2021, MAY, 1);
+        final LocalDate end = LocalDate.of(2021, MAY, 31);
+
+        final Person batman = new Person();
+        batman.setId(1L);
+        final Person superman = new Person();
+        superman.setId(2L);
+
+        final Application application = new Application();
+        application.setId(42L);
+        application.setPerson(batman);
+        application.setStartDate(LocalDate.of(2021, MAY, 10));
+        application.setEndDate(LocalDate.of(2021, MAY, 11));
+        application.setDayLength(FULL);
+        application.setStatus(ALLOWED);
+        application.setVacationType(anyVacationType());
+        when(applicationService.getForStatesAndPerson(activeStatuses(), List.of(batman, superman), start, end)).thenReturn(List.of(application));
+
+        final DateRange applicationDateRange = new DateRange(LocalDate.of(2021, MAY, 10), LocalDate.of(2021, MAY, 11));
+        final WorkingTimeCalendar workingTimeCalendar = new WorkingTimeCalendar(buildWorkingTimeByDate(applicationDateRange.startDate(), applicationDateRange.endDate(), date -> fullWorkDay()));
+        when(workingTimeCalendarService.getWorkingTimesByPersons(Set.of(batman), applicationDateRange)).thenReturn(Map.of(batman, workingTimeCalendar));
+
+        final AbsenceQuery query = AbsenceQuery.open(List.of(batman, superman), start, end)
+            .withAbsenceTypes(List.of(AbsencePeriod.AbsenceType.VACATION));
+
+        final List<AbsencePeriod> actualAbsences = sut.getAbsences(query);
+        assertThat(actualAbsences).hasSize(1);
+        assertThat(actualAbsences.get(0).getAbsenceRecords()).hasSize(2);
+        assertThat(actualAbsences.get(0).getAbsenceRecords().get(0).getMorning().map(AbsencePeriod.RecordInfo::getAbsenceType)).hasValue(AbsencePeriod.AbsenceType.VACATION);
+
+        verifyNoInteractions(sickNoteService);
+    }
+
+    @Test
+    void ensureQueryWithoutMatchingAbsencesGeneratesNoWorkingTimes() {
+
+        final LocalDate start = LocalDate.of(2021, MAY, 1);
+        final LocalDate end = LocalDate.of(2021, MAY, 31);
+
+        final Person batman = new Person();
+        batman.setId(1L);
+
+        when(applicationService.getForStatesAndPerson(activeStatuses(), List.of(batman), start, end)).thenReturn(List.of());
+        when(sickNoteService.getForStatesAndPerson(List.of(SUBMITTED, ACTIVE), List.of(batman), start, end)).thenReturn(List.of());
+
+        final AbsenceQuery query = AbsenceQuery.open(List.of(batman), start, end)
+            .withAbsenceTypes(List.of(AbsencePeriod.AbsenceType.VACATION, AbsencePeriod.AbsenceType.SICK));
+
+        assertThat(sut.getAbsences(query)).isEmpty();
+        verifyNoInteractions(workingTimeCalendarService);
+    }
+
+    @Test
+    void ensureNoWorkdayQueryLoadsNeitherApplicationsNorSickNotes() {
+
+        final LocalDate start = LocalDate.of(2021, MAY, 1);
+        final LocalDate end = LocalDate.of(2021, MAY, 2);
+
+        final Person batman = new Person();
+        batman.setId(1L);
+
+        final Map<LocalDate, WorkingDayInformation> workingTimeByDate = buildWorkingTimeByDate(start, end, date -> new WorkingDayInformation(ZERO, WorkingDayInformation.WorkingTimeCalendarEntryType.NO_WORKDAY, WorkingDayInformation.WorkingTimeCalendarEntryType.NO_WORKDAY));
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(batman), new DateRange(start, end))).thenReturn(Map.of(batman, new WorkingTimeCalendar(workingTimeByDate)));
+
+        final AbsenceQuery query = AbsenceQuery.open(List.of(batman), start, end)
+            .withAbsenceTypes(List.of(AbsencePeriod.AbsenceType.NO_WORKDAY));
+
+        final List<AbsencePeriod> actualAbsences = sut.getAbsences(query);
+        assertThat(actualAbsences).hasSize(1);
+        assertThat(actualAbsences.get(0).getAbsenceRecords()).hasSize(2);
+        assertThat(actualAbsences.get(0).getAbsenceRecords().get(0).getMorning().map(AbsencePeriod.RecordInfo::getAbsenceType)).hasValue(AbsencePeriod.AbsenceType.NO_WORKDAY);
+
+        verifyNoInteractions(applicationService, sickNoteService);
+    }
+
+    @Test
+    void ensureSourceIdQueryLoadsOnlyTheGivenApplication() {
+
+        final LocalDate start = LocalDate.of(2021, MAY, 1);
+        final LocalDate end = LocalDate.of(2021, MAY, 31);
+
+        final Person batman = new Person();
+        batman.setId(1L);
+
+        final Application application = new Application();
+        application.setId(42L);
+        application.setPerson(batman);
+        application.setStartDate(LocalDate.of(2021, MAY, 10));
+        application.setEndDate(LocalDate.of(2021, MAY, 10));
+        application.setDayLength(FULL);
+        application.setStatus(ALLOWED);
+        application.setVacationType(anyVacationType());
+        when(applicationService.getApplicationById(42L)).thenReturn(Optional.of(application));
+
+        final DateRange applicationDateRange = new DateRange(LocalDate.of(2021, MAY, 10), LocalDate.of(2021, MAY, 10));
+        final WorkingTimeCalendar workingTimeCalendar = new WorkingTimeCalendar(buildWorkingTimeByDate(applicationDateRange.startDate(), applicationDateRange.endDate(), date -> fullWorkDay()));
+        when(workingTimeCalendarService.getWorkingTimesByPersons(Set.of(batman), applicationDateRange)).thenReturn(Map.of(batman, workingTimeCalendar));
+
+        final AbsenceQuery query = AbsenceQuery.open(List.of(batman), start, end)
+            .withAbsenceTypes(List.of(AbsencePeriod.AbsenceType.VACATION))
+            .withSourceId(42L);
+
+        final List<AbsencePeriod> actualAbsences = sut.getAbsences(query);
+        assertThat(actualAbsences).hasSize(1);
+        assertThat(actualAbsences.get(0).getAbsenceRecords().get(0).getMorning().flatMap(AbsencePeriod.RecordInfo::getId)).hasValue(42L);
+
+        verify(applicationService, never()).getForStatesAndPerson(any(), any(), any(), any());
+    }
+
+    @Test
+    void ensureSourceIdQueryIgnoresApplicationWithOtherStatus() {
+
+        final LocalDate start = LocalDate.of(2021, MAY, 1);
+        final LocalDate end = LocalDate.of(2021, MAY, 31);
+
+        final Person batman = new Person();
+        batman.setId(1L);
+
+        final Application application = new Application();
+        application.setId(42L);
+        application.setPerson(batman);
+        application.setStartDate(LocalDate.of(2021, MAY, 10));
+        application.setEndDate(LocalDate.of(2021, MAY, 10));
+        application.setStatus(CANCELLED);
+        when(applicationService.getApplicationById(42L)).thenReturn(Optional.of(application));
+
+        final AbsenceQuery query = AbsenceQuery.open(List.of(batman), start, end)
+            .withAbsenceTypes(List.of(AbsencePeriod.AbsenceType.VACATION))
+            .withSourceId(42L);
+
+        assertThat(sut.getAbsences(query)).isEmpty();
+        verifyNoInteractions(workingTimeCalendarService);
+    }
+
     private static VacationType<?> anyVacationType() {
         return ProvidedVacationType.builder(new StaticMessageSource())
                 .id(1L)
@@ -0,0 +1,108 @@
+package org.synyx.urlaubsverwaltung.absence;
+
+import org.junit.jupiter.api.Test;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.time.Month.DECEMBER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceType.NO_WORKDAY;
+import static org.synyx.urlaubsverwaltung.absence.AbsencePeriod.AbsenceType.PUBLIC_HOLIDAY;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.period.DayLength.MORNING;
+import static org.synyx.urlaubsverwaltung.period.DayLength.ZERO;
+import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.WORKDAY;
+
+class NoWorkdayAndPublicHolidayPeriodsTest {
+
+    @Test
+    void ensureConsecutiveDaysOfTheSameKindAreOnePeriod() {
+
+        final Person person = new Person();
+        person.setId(1L);
+
+        // 2021-12-24 friday (half public holiday), 25/26 weekend and public holidays, 27 monday
+        final LocalDate start = LocalDate.of(2021, DECEMBER, 20);
+        final LocalDate end = LocalDate.of(2021, DECEMBER, 31);
+        final WorkingTimeCalendar workingTimeCalendar = workingTimeCalendar(start, end, date -> switch (date.getDayOfMonth()) {
+            case 24 -> new WorkingDayInformation(MORNING, WORKDAY, WorkingDayInformation.WorkingTimeCalendarEntryType.PUBLIC_HOLIDAY);
+            case 25, 26 -> new WorkingDayInformation(ZERO, WorkingDayInformation.WorkingTimeCalendarEntryType.PUBLIC_HOLIDAY, WorkingDayInformation.WorkingTimeCalendarEntryType.PUBLIC_HOLIDAY);
+            case 31 -> new WorkingDayInformation(ZERO, WorkingDayInformation.WorkingTimeCalendarEntryType.NO_WORKDAY, WorkingDayInformation.WorkingTimeCalendarEntryType.NO_WORKDAY);
+            default -> new WorkingDayInformation(FULL, WORKDAY, WORKDAY);
+        });
+
+        final List<AbsencePeriod> absencePeriods = NoWorkdayAndPublicHolidayPeriods.of(person, workingTimeCalendar, new DateRange(start, end));
+        assertThat(absencePeriods).hasSize(3);
+
+        assertThat(absencePeriods).anySatisfy(absencePeriod -> {
+            assertThat(absencePeriod.getAbsenceRecords()).extracting(AbsencePeriod.Record::getDate)
+                .containsExactly(LocalDate.of(2021, DECEMBER, 24));
+            assertThat(absencePeriod.getAbsenceRecords().getFirst().getMorning()).isEmpty();
+            assertThat(absencePeriod.getAbsenceRecords().getFirst().getNoon()).map(AbsencePeriod.RecordInfo::getAbsenceType).hasValue(PUBLIC_HOLIDAY);
+        });
+        assertThat(absencePeriods).anySatisfy(absencePeriod -> {
+            assertThat(absencePeriod.getAbsenceRecords()).extracting(AbsencePeriod.Record::getDate)
+                .containsExactly(LocalDate.of(2021, DECEMBER, 25), LocalDate.of(2021, DECEMBER, 26));
+            assertThat(absencePeriod.getAbsenceRecords()).allSatisfy(absenceRecord -> {
+                assertThat(absenceRecord.getMorning()).map(AbsencePeriod.RecordInfo::getAbsenceType).hasValue(PUBLIC_HOLIDAY);
+                assertThat(absenceRecord.getNoon()).map(AbsencePeriod.RecordInfo::getAbsenceType).hasValue(PUBLIC_HOLIDAY);
+            });
+        });
+        assertThat(absencePeriods).anySatisfy(absencePeriod -> {
+            assertThat(absencePeriod.getAbsenceRecords()).extracting(AbsencePeriod.Record::getDate)
+                .containsExactly(LocalDate.of(2021, DECEMBER, 31));
+            assertThat(absencePeriod.getAbsenceRecords().getFirst().getMorning()).map(AbsencePeriod.RecordInfo::getAbsenceType).hasValue(NO_WORKDAY);
+            assertThat(absencePeriod.getAbsenceRecords().getFirst().getNoon()).map(AbsencePeriod.RecordInfo::getAbsenceType).hasValue(NO_WORKDAY);
+        });
+    }
+
+    @Test
+    void ensureRecordInfosAreSharedByAllPeriodsOfAPerson() {
+
+        final Person person = new Person();
+        person.setId(1L);
+
+        final LocalDate start = LocalDate.of(2021, DECEMBER, 1);
+        final LocalDate end = LocalDate.of(2021, DECEMBER, 31);
+        final WorkingTimeCalendar workingTimeCalendar = workingTimeCalendar(start, end, date -> date.getDayOfWeek().getValue() > 5
+            ? new WorkingDayInformation(ZERO, WorkingDayInformation.WorkingTimeCalendarEntryType.NO_WORKDAY, WorkingDayInformation.WorkingTimeCalendarEntryType.NO_WORKDAY)
+            : new WorkingDayInformation(FULL, WORKDAY, WORKDAY));
+
+        final List<AbsencePeriod> absencePeriods = NoWorkdayAndPublicHolidayPeriods.of(person, workingTimeCalendar, new DateRange(start, end));
+        assertThat(absencePeriods).hasSize(4);
+        assertThat(absencePeriods).allSatisfy(absencePeriod -> assertThat(absencePeriod.getAbsenceRecords()).hasSize(2));
+
+        final AbsencePeriod.RecordInfo morning = absencePeriods.getFirst().getAbsenceRecords().getFirst().getMorning().orElseThrow();
+        assertThat(absencePeriods)
+            .flatMap(AbsencePeriod::getAbsenceRecords)
+            .allSatisfy(absenceRecord -> assertThat(absenceRecord.getMorning()).containsSame(morning));
+    }
+
+    @Test
+    void ensureDaysWithoutWorkingTimeAreSkipped() {
+
+        final Person person = new Person();
+        person.setId(1L);
+
+        final LocalDate start = LocalDate.of(2021, DECEMBER, 1);
+        final LocalDate end = LocalDate.of(2021, DECEMBER, 31);
+
+        final List<AbsencePeriod> absencePeriods = NoWorkdayAndPublicHolidayPeriods.of(person, new WorkingTimeCalendar(Map.of()), new DateRange(start, end));
+        assertThat(absencePeriods).isEmpty();
+    }
+
+    private static WorkingTimeCalendar workingTimeCalendar(LocalDate from, LocalDate to, Function<LocalDate, WorkingDayInformation> dayLengthProvider) {
+        final Map<LocalDate, WorkingDayInformation> map = new HashMap<>();
+        for (LocalDate date : new DateRange(from, to)) {
+            map.put(date, dayLengthProvider.apply(date));
+        }
+        return new WorkingTimeCalendar(map);
+    }
+}
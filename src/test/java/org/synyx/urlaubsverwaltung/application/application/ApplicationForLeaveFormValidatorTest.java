@@ -11,6 +11,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.support.StaticMessageSource;
 import org.springframework.validation.Errors;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+import org.synyx.urlaubsverwaltung.account.Account;
+import org.synyx.urlaubsverwaltung.account.AccountInteractionService;
+import org.synyx.urlaubsverwaltung.account.AccountService;
+import org.synyx.urlaubsverwaltung.account.VacationDaysLeft;
+import org.synyx.urlaubsverwaltung.account.VacationDaysService;
 import org.synyx.urlaubsverwaltung.application.settings.ApplicationSettings;
 import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
@@ -20,19 +26,23 @@ import org.synyx.urlaubsverwaltung.overlap.OverlapService;
 import org.synyx.urlaubsverwaltung.overtime.OvertimeService;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysService;
 import org.synyx.urlaubsverwaltung.settings.Settings;
 import org.synyx.urlaubsverwaltung.settings.SettingsService;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTime;
 import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeService;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Year;
 import java.util.ArrayList;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -40,6 +50,7 @@ import java.util.stream.Stream;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static java.math.BigDecimal.ONE;
+import static java.math.BigDecimal.TEN;
 import static java.math.BigDecimal.ZERO;
 import static java.time.ZoneOffset.UTC;
 import static java.util.Collections.emptyList;
@@ -49,6 +60,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -247,7 +259,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
 
         final LocalDate date = LocalDate.now(UTC);
@@ -270,7 +282,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
 
         final LocalDate date = LocalDate.now(UTC);
@@ -293,7 +305,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
 
         final LocalDate date = LocalDate.of(Year.now(UTC).getValue(), 10, 10);
@@ -317,7 +329,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
 
         appForm.setStartTime(null);
@@ -337,7 +349,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
 
         appForm.setStartTime(LocalTime.of(9, 15, 0));
@@ -357,7 +369,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
 
         appForm.setStartTime(null);
@@ -377,7 +389,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
 
         final LocalDate date = LocalDate.now(UTC);
@@ -402,7 +414,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
 
         final LocalDate date = LocalDate.now(UTC);
@@ -448,7 +460,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
 
         final VacationType<?> vacationType = ProvidedVacationType.builder(new StaticMessageSource()).id(1L).category(HOLIDAY).build();
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(vacationType));
@@ -557,7 +569,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
 
         appForm.setAddress(
@@ -614,7 +626,7 @@ class ApplicationForLeaveFormValidatorTest {
 
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(FALSE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(FALSE);
 
         sut.validate(appForm, errors);
 
@@ -646,7 +658,7 @@ class ApplicationForLeaveFormValidatorTest {
             .thenReturn(ONE);
 
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(FALSE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(FALSE);
 
         sut.validate(appForm, errors);
 
@@ -709,7 +721,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
 
         when(vacationTypeService.getById(1L))
             .thenReturn(Optional.of(ProvidedVacationType.builder(new StaticMessageSource()).id(1L).messageKey("message_key_1").category(HOLIDAY).build()));
@@ -847,7 +859,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
 
         appForm.setHours(hours);
@@ -1121,7 +1133,7 @@ class ApplicationForLeaveFormValidatorTest {
 
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
 
         final VacationType<?> vacationType = ProvidedVacationType.builder(new StaticMessageSource()).id(1L).category(HOLIDAY).build();
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(vacationType));
@@ -1152,7 +1164,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
         when(settingsService.getSettings()).thenReturn(createSettingsForChristmasEveWithAbsence(MORNING));
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
 
@@ -1180,7 +1192,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
 
         final int actualYear = Year.now().getValue();
@@ -1205,7 +1217,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
         when(settingsService.getSettings()).thenReturn(createSettingsForChristmasEveWithAbsence(NOON));
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
 
@@ -1232,7 +1244,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
         when(settingsService.getSettings()).thenReturn(createSettingsForChristmasEveWithAbsence(FULL));
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
 
@@ -1259,7 +1271,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
         when(settingsService.getSettings()).thenReturn(createSettingsForNewYearsEveWithAbsence(MORNING));
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
 
@@ -1285,7 +1297,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
         when(settingsService.getSettings()).thenReturn(createSettingsForNewYearsEveWithAbsence(DayLength.ZERO));
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
 
@@ -1310,7 +1322,7 @@ class ApplicationForLeaveFormValidatorTest {
 
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
         when(settingsService.getSettings()).thenReturn(createSettingsForNewYearsEveWithAbsence(NOON));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
@@ -1338,7 +1350,7 @@ class ApplicationForLeaveFormValidatorTest {
         when(workingTimeService.getWorkingTime(any(Person.class), any(LocalDate.class))).thenReturn(Optional.of(createWorkingTime()));
         when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class), any(LocalDate.class), any(Person.class))).thenReturn(ONE);
         when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
-        when(calculationService.checkApplication(any(Application.class))).thenReturn(TRUE);
+        when(calculationService.checkApplication(any(ApplicationValidationContext.class))).thenReturn(TRUE);
         when(settingsService.getSettings()).thenReturn(createSettingsForNewYearsEveWithAbsence(FULL));
         when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
 
@@ -1359,6 +1371,116 @@ class ApplicationForLeaveFormValidatorTest {
         verify(errors).rejectValue("dayLength", "application.error.alreadyAbsentOn.newYearsEve.full");
     }
 
+    @Test
+    void ensureFactsOfOneSubmitAreLookedUpOnlyOnce() {
+
+        final AccountService accountService = mock(AccountService.class);
+        final VacationDaysService vacationDaysService = mock(VacationDaysService.class);
+        final WorkDaysCountService realWorkDaysCountService = new WorkDaysCountService(mock(PublicHolidaysService.class), workingTimeService);
+        final CalculationService realCalculationService = new CalculationService(vacationDaysService, accountService,
+            mock(AccountInteractionService.class), realWorkDaysCountService, overlapService, mock(ApplicationService.class));
+
+        final Clock clock = Clock.fixed(Instant.parse("2024-08-01T08:00:00Z"), UTC);
+        final ApplicationForLeaveFormValidator validator = new ApplicationForLeaveFormValidator(workingTimeService,
+            realWorkDaysCountService, overlapService, realCalculationService, settingsService, overtimeService,
+            vacationTypeService, new ApplicationMapper(vacationTypeService), clock);
+
+        setupOvertimeSettings();
+        when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
+
+        final Person person = appForm.getPerson();
+        final WorkingTime workingTime = createWorkingTime();
+        when(workingTimeService.getWorkingTime(person, LocalDate.of(2024, 8, 19))).thenReturn(Optional.of(workingTime));
+        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class)))
+            .thenAnswer(invocation -> Map.of(invocation.<DateRange>getArgument(1), workingTime));
+        when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
+        when(overlapService.getListOfOverlaps(any(), any(), any(), any())).thenCallRealMethod();
+
+        final Account account = new Account(person, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), false, null, TEN, ZERO, ZERO, null);
+        when(accountService.getHolidaysAccount(2024, person)).thenReturn(Optional.of(account));
+        when(vacationDaysService.getVacationDaysLeft(account, Optional.empty())).thenReturn(VacationDaysLeft.builder()
+            .withAnnualVacation(TEN)
+            .withRemainingVacation(ZERO)
+            .notExpiring(ZERO)
+            .forUsedVacationDaysBeforeExpiry(ZERO)
+            .forUsedVacationDaysAfterExpiry(ZERO)
+            .withVacationDaysUsedNextYear(ZERO)
+            .build());
+
+        appForm.setStartDate(LocalDate.of(2024, 8, 19));
+        appForm.setEndDate(LocalDate.of(2024, 8, 21));
+
+        validator.validate(appForm, errors);
+
+        verify(errors, never()).reject(anyString());
+        // once for the vacation type of the form and once for mapping the form to an application for leave
+        verify(vacationTypeService, times(2)).getById(1L);
+        // the work days of the period are needed for the zero days check, the vacation days and the expiry date
+        verify(workingTimeService).getWorkingTimesByPersonAndDateRange(person, new DateRange(LocalDate.of(2024, 8, 19), LocalDate.of(2024, 8, 21)));
+        verify(overlapService).checkOverlap(any(Application.class));
+        verify(accountService).getHolidaysAccount(2024, person);
+        verify(accountService).getHolidaysAccount(2025, person);
+        verify(vacationDaysService).getVacationDaysLeft(account, Optional.empty());
+        verifyNoMoreInteractions(accountService, vacationDaysService);
+    }
+
+    @Test
+    void ensureHolidaysAccountsCreatedWhileValidatingAreUsedForTheFollowingYear() {
+
+        final AccountService accountService = mock(AccountService.class);
+        final AccountInteractionService accountInteractionService = mock(AccountInteractionService.class);
+        final VacationDaysService vacationDaysService = mock(VacationDaysService.class);
+        final WorkDaysCountService realWorkDaysCountService = new WorkDaysCountService(mock(PublicHolidaysService.class), workingTimeService);
+        final CalculationService realCalculationService = new CalculationService(vacationDaysService, accountService,
+            accountInteractionService, realWorkDaysCountService, overlapService, mock(ApplicationService.class));
+
+        final Clock clock = Clock.fixed(Instant.parse("2026-12-01T08:00:00Z"), UTC);
+        final ApplicationForLeaveFormValidator validator = new ApplicationForLeaveFormValidator(workingTimeService,
+            realWorkDaysCountService, overlapService, realCalculationService, settingsService, overtimeService,
+            vacationTypeService, new ApplicationMapper(vacationTypeService), clock);
+
+        setupOvertimeSettings();
+        when(vacationTypeService.getById(1L)).thenReturn(Optional.of(anyVacationType()));
+
+        final Person person = appForm.getPerson();
+        final WorkingTime workingTime = createWorkingTime();
+        when(workingTimeService.getWorkingTime(person, LocalDate.of(2026, 12, 28))).thenReturn(Optional.of(workingTime));
+        when(workingTimeService.getWorkingTimesByPersonAndDateRange(eq(person), any(DateRange.class)))
+            .thenAnswer(invocation -> Map.of(invocation.<DateRange>getArgument(1), workingTime));
+        when(overlapService.checkOverlap(any(Application.class))).thenReturn(NO_OVERLAPPING);
+        when(overlapService.getListOfOverlaps(any(), any(), any(), any())).thenCallRealMethod();
+
+        // only the account of 2025 exists, the accounts of 2026 and 2027 are created while validating
+        final Account account2025 = new Account(person, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31), false, null, TEN, ZERO, ZERO, null);
+        final Account account2026 = new Account(person, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31), false, null, TEN, ZERO, ZERO, null);
+        final Account account2027 = new Account(person, LocalDate.of(2027, 1, 1), LocalDate.of(2027, 12, 31), false, null, TEN, ZERO, ZERO, null);
+        when(accountService.getHolidaysAccount(2025, person)).thenReturn(Optional.of(account2025));
+        when(accountService.getHolidaysAccount(2026, person)).thenReturn(Optional.empty());
+        when(accountService.getHolidaysAccount(2027, person)).thenReturn(Optional.empty());
+        when(accountService.getHolidaysAccount(2028, person)).thenReturn(Optional.empty());
+        when(accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccount(account2025)).thenReturn(account2026);
+        when(accountInteractionService.autoCreateOrUpdateNextYearsHolidaysAccount(account2026)).thenReturn(account2027);
+        when(vacationDaysService.getVacationDaysLeft(any(Account.class), eq(Optional.empty()))).thenReturn(VacationDaysLeft.builder()
+            .withAnnualVacation(TEN)
+            .withRemainingVacation(ZERO)
+            .notExpiring(ZERO)
+            .forUsedVacationDaysBeforeExpiry(ZERO)
+            .forUsedVacationDaysAfterExpiry(ZERO)
+            .withVacationDaysUsedNextYear(ZERO)
+            .build());
+
+        appForm.setStartDate(LocalDate.of(2026, 12, 28));
+        appForm.setEndDate(LocalDate.of(2027, 1, 3));
+
+        validator.validate(appForm, errors);
+
+        verify(errors, never()).reject(anyString());
+        verify(accountInteractionService).autoCreateOrUpdateNextYearsHolidaysAccount(account2025);
+        verify(accountInteractionService).autoCreateOrUpdateNextYearsHolidaysAccount(account2026);
+        verify(vacationDaysService).getVacationDaysLeft(account2026, Optional.empty());
+        verify(vacationDaysService).getVacationDaysLeft(account2027, Optional.empty());
+    }
+
     private static Settings createSettingsForChristmasEveWithAbsence(DayLength absence) {
         final Settings settings = new Settings();
         settings.getWorkingTimeSettings().setWorkingDurationForChristmasEve(absence.getInverse());
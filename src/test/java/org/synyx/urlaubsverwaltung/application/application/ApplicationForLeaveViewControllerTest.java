@@ -9,6 +9,11 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
@@ -33,6 +38,8 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
+import static java.util.Collections.nCopies;
+
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
@@ -43,6 +50,9 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
@@ -91,6 +101,8 @@ class ApplicationForLeaveViewControllerTest {
     void setUp() {
 
         userIsAllowedToSubmitSickNotes(false);
+        when(workDaysCountService.getWorkDaysCount(anyList()))
+            .thenAnswer(invocation -> nCopies(invocation.<List<?>>getArgument(0).size(), BigDecimal.ONE));
 
         sut = new ApplicationForLeaveViewController(applicationService, sickNoteService, workDaysCountService, departmentService,
             personService, settingsService, clock, messageSource);
@@ -201,8 +213,8 @@ class ApplicationForLeaveViewControllerTest {
             .thenReturn(List.of(applicationOfBoss, applicationCancellationRequest));
 
         // other applications
-        when(applicationService.getForStates(List.of(WAITING, TEMPORARY_ALLOWED)))
-            .thenReturn(List.of(application, applicationOfSecondStage));
+        when(applicationService.getForStatesExceptPerson(List.of(WAITING, TEMPORARY_ALLOWED), bossPerson, firstPage()))
+            .thenReturn(new PageImpl<>(List.of(application, applicationOfSecondStage)));
 
         perform(get("/web/application")).andExpect(status().isOk())
             .andExpect(model().attribute("signedInUser", is(bossPerson)))
@@ -267,9 +279,6 @@ class ApplicationForLeaveViewControllerTest {
         applicationOfSecondStage.setStartDate(LocalDate.MAX);
         applicationOfSecondStage.setEndDate(LocalDate.MAX);
 
-        when(applicationService.getForStates(List.of(WAITING, TEMPORARY_ALLOWED)))
-            .thenReturn(List.of(application, applicationOfSecondStage));
-
         final Application applicationCancellationRequestPerson = new Application();
         applicationCancellationRequestPerson.setId(11L);
         applicationCancellationRequestPerson.setVacationType(anyVacationType());
@@ -287,6 +296,9 @@ class ApplicationForLeaveViewControllerTest {
         bossPerson.setPermissions(List.of(BOSS, APPLICATION_CANCELLATION_REQUESTED));
         when(personService.getSignedInUser()).thenReturn(bossPerson);
 
+        when(applicationService.getForStatesExceptPerson(List.of(WAITING, TEMPORARY_ALLOWED), bossPerson, firstPage()))
+            .thenReturn(new PageImpl<>(List.of(application, applicationOfSecondStage)));
+
         final Application applicationOfBoss = new Application();
         applicationOfBoss.setId(2L);
         applicationOfBoss.setVacationType(anyVacationType());
@@ -403,8 +415,8 @@ class ApplicationForLeaveViewControllerTest {
             .thenReturn(List.of(applicationOfOfficePerson));
 
         // other applications
-        when(applicationService.getForStates(List.of(WAITING, TEMPORARY_ALLOWED)))
-            .thenReturn(List.of(application, applicationOfOfficePerson, applicationOfSecondStage));
+        when(applicationService.getForStatesExceptPerson(List.of(WAITING, TEMPORARY_ALLOWED), officePerson, firstPage()))
+            .thenReturn(new PageImpl<>(List.of(application, applicationOfSecondStage)));
 
         when(applicationService.getForStates(List.of(ALLOWED_CANCELLATION_REQUESTED)))
             .thenReturn(List.of(applicationCancellationRequest));
@@ -539,6 +551,75 @@ class ApplicationForLeaveViewControllerTest {
             .andExpect(view().name("application/application-overview"));
     }
 
+    @Test
+    void ensureOtherApplicationsForBossArePagedWithWorkDaysAndPersonDataOfThePageOnly() throws Exception {
+        when(messageSource.getMessage(any(), any(), any())).thenReturn("");
+
+        final Person bossPerson = new Person();
+        bossPerson.setId(1L);
+        bossPerson.setPermissions(List.of(USER, BOSS));
+        when(personService.getSignedInUser()).thenReturn(bossPerson);
+
+        final Person person = new Person();
+        person.setId(2L);
+        final Application first = waitingApplication(3L, person, LocalDate.of(2024, 3, 4));
+        final Application second = waitingApplication(4L, person, LocalDate.of(2024, 3, 11));
+
+        final PageRequest secondPage = PageRequest.of(1, 2, Sort.by("startDate", "id"));
+        when(applicationService.getForStatesExceptPerson(List.of(WAITING, TEMPORARY_ALLOWED), bossPerson, secondPage))
+            .thenReturn(new PageImpl<>(List.of(first, second), secondPage, 5));
+
+        perform(get("/web/application").param("page", "1").param("size", "2")).andExpect(status().isOk())
+            .andExpect(model().attribute("otherApplications", contains(
+                allOf(hasProperty("id", is(3L)), hasProperty("workDays", is(BigDecimal.ONE)), hasProperty("person", hasProperty("id", is(2L)))),
+                allOf(hasProperty("id", is(4L)), hasProperty("workDays", is(BigDecimal.ONE)), hasProperty("person", hasProperty("id", is(2L))))
+            )))
+            .andExpect(model().attribute("otherApplicationsPagination", hasProperty("page", allOf(
+                hasProperty("number", is(1)),
+                hasProperty("totalElements", is(5L)),
+                hasProperty("totalPages", is(3))
+            ))))
+            .andExpect(model().attribute("paginationPageNumbers", contains(1, 2, 3)));
+
+        verify(workDaysCountService).getWorkDaysCount(List.of(first, second));
+        verify(departmentService, never()).isSignedInUserAllowedToAccessPersonData(any(), any());
+    }
+
+    @Test
+    void ensureOtherApplicationsForDepartmentHeadArePagedByStartDate() throws Exception {
+        when(messageSource.getMessage(any(), any(), any())).thenReturn("");
+
+        final Person headPerson = new Person();
+        headPerson.setId(1L);
+        headPerson.setPermissions(List.of(USER, DEPARTMENT_HEAD));
+        when(personService.getSignedInUser()).thenReturn(headPerson);
+
+        final Person person = new Person();
+        person.setId(2L);
+        when(departmentService.getMembersForDepartmentHead(headPerson)).thenReturn(List.of(headPerson, person));
+
+        final Application latest = waitingApplication(3L, person, LocalDate.of(2024, 3, 18));
+        final Application earliest = waitingApplication(4L, person, LocalDate.of(2024, 3, 4));
+        final Application between = waitingApplication(5L, person, LocalDate.of(2024, 3, 11));
+        when(applicationService.getForStatesAndPerson(List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), List.of(headPerson)))
+            .thenReturn(List.of());
+        when(applicationService.getForStatesAndPerson(List.of(WAITING), List.of(headPerson, person)))
+            .thenReturn(List.of(latest, earliest, between));
+
+        perform(get("/web/application").param("size", "2")).andExpect(status().isOk())
+            .andExpect(model().attribute("otherApplications", contains(
+                allOf(hasProperty("id", is(4L)), hasProperty("person", hasProperty("id", is(2L)))),
+                allOf(hasProperty("id", is(5L)), hasProperty("person", hasProperty("id", is(2L))))
+            )))
+            .andExpect(model().attribute("otherApplicationsPagination", hasProperty("page", allOf(
+                hasProperty("number", is(0)),
+                hasProperty("totalElements", is(3L))
+            ))))
+            .andExpect(model().attribute("paginationPageNumbers", contains(1, 2)));
+
+        verify(workDaysCountService).getWorkDaysCount(List.of(earliest, between));
+    }
+
     @Test
     void getApplicationForDepartmentHeadWithCancellationRequested() throws Exception {
         when(messageSource.getMessage(any(), any(), any())).thenReturn("");
@@ -1226,8 +1307,8 @@ class ApplicationForLeaveViewControllerTest {
             .thenReturn(List.of(applicationOfHeadAndOffice, applicationCancellationRequest));
 
         // other as office
-        when(applicationService.getForStates(List.of(WAITING, TEMPORARY_ALLOWED)))
-            .thenReturn(List.of(application, applicationNotMember));
+        when(applicationService.getForStatesExceptPerson(List.of(WAITING, TEMPORARY_ALLOWED), headAndOfficePerson, firstPage()))
+            .thenReturn(new PageImpl<>(List.of(application, applicationNotMember)));
 
         perform(get("/web/application")).andExpect(status().isOk())
             .andExpect(model().attribute("signedInUser", is(headAndOfficePerson)))
@@ -1307,8 +1388,8 @@ class ApplicationForLeaveViewControllerTest {
             .thenReturn(List.of(applicationOfSsaAndOffice, applicationCancellationRequest));
 
         // other as office
-        when(applicationService.getForStates(List.of(WAITING, TEMPORARY_ALLOWED)))
-            .thenReturn(List.of(application, applicationNotMember));
+        when(applicationService.getForStatesExceptPerson(List.of(WAITING, TEMPORARY_ALLOWED), ssaAndOfficePerson, firstPage()))
+            .thenReturn(new PageImpl<>(List.of(application, applicationNotMember)));
 
         perform(get("/web/application")).andExpect(status().isOk())
             .andExpect(model().attribute("signedInUser", is(ssaAndOfficePerson)))
@@ -1538,11 +1619,11 @@ class ApplicationForLeaveViewControllerTest {
         officePerson.setPermissions(List.of(OFFICE));
 
         when(personService.getSignedInUser()).thenReturn(officePerson);
-        when(personService.getActivePersons()).thenReturn(List.of(person));
+        when(applicationService.getForStatesExceptPerson(List.of(WAITING, TEMPORARY_ALLOWED), officePerson, firstPage())).thenReturn(Page.empty());
 
         // other sicknotes
         userIsAllowedToSubmitSickNotes(true);
-        when(sickNoteService.getForStatesAndPerson(List.of(SUBMITTED), List.of(person))).thenReturn(List.of(sickNote));
+        when(sickNoteService.getForStates(List.of(SUBMITTED))).thenReturn(List.of(sickNote));
 
         perform(get(path)).andExpect(status().isOk())
             .andExpect(model().attribute("signedInUser", is(officePerson)))
@@ -1697,11 +1778,12 @@ class ApplicationForLeaveViewControllerTest {
         boss.setPermissions(List.of(BOSS, SICK_NOTE_EDIT));
 
         when(personService.getSignedInUser()).thenReturn(boss);
-        when(personService.getActivePersons()).thenReturn(List.of(person, boss));
+        when(applicationService.getForStatesExceptPerson(List.of(WAITING, TEMPORARY_ALLOWED), boss, firstPage())).thenReturn(Page.empty());
 
         // other sicknotes
         userIsAllowedToSubmitSickNotes(true);
-        when(sickNoteService.getForStatesAndPerson(List.of(SUBMITTED), List.of(person))).thenReturn(List.of(sickNote));
+        final SickNote sickNoteOfBoss = SickNote.builder(sickNote).id(2L).person(boss).build();
+        when(sickNoteService.getForStates(List.of(SUBMITTED))).thenReturn(List.of(sickNote, sickNoteOfBoss));
 
         perform(get("/web/application")).andExpect(status().isOk())
             .andExpect(model().attribute("signedInUser", is(boss)))
@@ -1722,6 +1804,18 @@ class ApplicationForLeaveViewControllerTest {
             .andExpect(view().name("application/application-overview"));
     }
 
+    private Application waitingApplication(Long id, Person person, LocalDate date) {
+        final Application application = new Application();
+        application.setId(id);
+        application.setVacationType(anyVacationType());
+        application.setPerson(person);
+        application.setStatus(WAITING);
+        application.setStartDate(date);
+        application.setEndDate(date);
+        application.setDayLength(FULL);
+        return application;
+    }
+
     private static SickNoteType anySickNoteType() {
         final SickNoteType sickNoteType = new SickNoteType();
         sickNoteType.setCategory(SICK_NOTE);
@@ -1737,8 +1831,15 @@ class ApplicationForLeaveViewControllerTest {
             .build();
     }
 
+    private static PageRequest firstPage() {
+        return PageRequest.of(0, 20, Sort.by("startDate", "id"));
+    }
+
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
-        return standaloneSetup(sut).build().perform(builder);
+        return standaloneSetup(sut)
+            .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+            .build()
+            .perform(builder);
     }
 
     private void userIsAllowedToSubmitSickNotes(boolean userIsAllowedToSubmit) {
@@ -0,0 +1,92 @@
+package org.synyx.urlaubsverwaltung.application.application;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.synyx.urlaubsverwaltung.QueryPlans;
+import org.synyx.urlaubsverwaltung.TestContainersBase;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.QueryPlans.selectingFrom;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.WAITING;
+
+/**
+ * Verifies with the query plans of a populated database that the period overlap queries of applications
+ * are answered by an index instead of a sequential scan. The queries are explained as emitted by hibernate
+ * for the repository methods, with the parameters they are executed with.
+ */
+@SpringBootTest
+@Import(QueryPlans.Configuration.class)
+class ApplicationPeriodIndexIT extends TestContainersBase {
+
+    private static final int NUMBER_OF_PERSONS = 1_000;
+    private static final int NUMBER_OF_APPLICATIONS = 1_000_000;
+    private static final long ID_OFFSET = 10_000_000L;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @BeforeAll
+    static void setUp(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+            insert into person (id, username, first_name, last_name, email)
+            select ? + i, 'user' || (? + i), 'Marlene', 'Muster', 'user' || (? + i) || '@example.org'
+            from generate_series(1, ?) as i
+            """, ID_OFFSET, ID_OFFSET, ID_OFFSET, NUMBER_OF_PERSONS);
+
+        // applications of 1 to 14 days spread over ~ 27 years, each person has its share of every status
+        jdbcTemplate.update("""
+            insert into application (id, person_id, status, start_date, end_date, day_length, team_informed, two_stage_approval)
+            select ? + i, ? + 1 + i % ?, (array['WAITING', 'ALLOWED', 'CANCELLED', 'REJECTED'])[1 + i % 4],
+                   date '2000-01-01' + (i / 100), date '2000-01-01' + (i / 100) + i % 14, 'FULL', false, false
+            from generate_series(1, ?) as i
+            """, ID_OFFSET, ID_OFFSET, NUMBER_OF_PERSONS, NUMBER_OF_APPLICATIONS);
+
+        jdbcTemplate.execute("analyze application");
+    }
+
+    @AfterAll
+    static void tearDown(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("delete from application where id > ? and id <= ?", ID_OFFSET, ID_OFFSET + NUMBER_OF_APPLICATIONS);
+        jdbcTemplate.update("delete from person where id > ? and id <= ?", ID_OFFSET, ID_OFFSET + NUMBER_OF_PERSONS);
+    }
+
+    @Test
+    void ensureApplicationsOfPersonsWithinPeriodUseIndex() {
+
+        final List<QueryPlans.QueryPlan> plans = QueryPlans.of(() ->
+            applicationRepository.findByStatusInAndPersonInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(
+                List.of(WAITING, ALLOWED), List.of(person(1), person(2)), LocalDate.of(2020, 3, 1), LocalDate.of(2020, 3, 31)));
+
+        assertThat(selectingFrom(plans, "application").plan())
+            .contains("idx_application_person_status_period")
+            .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void ensureApplicationsWithinPeriodUseIndex() {
+
+        final List<QueryPlans.QueryPlan> plans = QueryPlans.of(() ->
+            applicationRepository.findByStatusInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(
+                List.of(WAITING, ALLOWED), LocalDate.of(2020, 3, 1), LocalDate.of(2020, 3, 31)));
+
+        assertThat(selectingFrom(plans, "application").plan())
+            .contains("idx_application_status_period")
+            .doesNotContain("Seq Scan");
+    }
+
+    private static Person person(long number) {
+        final Person person = new Person();
+        person.setId(ID_OFFSET + number);
+        return person;
+    }
+}
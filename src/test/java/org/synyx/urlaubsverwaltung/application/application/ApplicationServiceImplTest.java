@@ -7,6 +7,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeEntity;
@@ -24,6 +27,7 @@ import java.util.Optional;
 import static java.time.Duration.ZERO;
 import static java.util.Locale.JAPANESE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
@@ -314,6 +318,27 @@ class ApplicationServiceImplTest {
         assertThat(result).isEqualTo(List.of(application));
     }
 
+    @Test
+    void getForStatesExceptPerson() {
+
+        final Application application = new Application();
+        application.setId(1L);
+
+        final ApplicationEntity applicationEntity = new ApplicationEntity();
+        applicationEntity.setId(1L);
+        applicationEntity.setVacationType(new VacationTypeEntity());
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        final PageRequest pageRequest = PageRequest.of(1, 1);
+
+        when(applicationRepository.findByStatusInAndPersonNot(List.of(WAITING), person, pageRequest))
+            .thenReturn(new PageImpl<>(List.of(applicationEntity), pageRequest, 3));
+
+        final Page<Application> result = sut.getForStatesExceptPerson(List.of(WAITING), person, pageRequest);
+        assertThat(result.getContent()).isEqualTo(List.of(application));
+        assertThat(result.getTotalElements()).isEqualTo(3);
+    }
+
     @Test
     void ensureReturnsCorrectTotalOvertimeReductionForPerson() {
 
@@ -632,4 +657,50 @@ class ApplicationServiceImplTest {
         assertThat(sut.getTotalOvertimeReductionOfPersonUntil(persons, until))
             .containsEntry(batman, Duration.parse("PT5H27M16S"));
     }
+
+    @Test
+    void ensureGetOvertimeReductionOfPersonByYearSplitsApplicationsAtTheTurnOfTheYear() {
+
+        final Person batman = new Person();
+        batman.setId(1L);
+
+        final VacationTypeEntity vacationTypeEntity = new VacationTypeEntity();
+        vacationTypeEntity.setCategory(OVERTIME);
+
+        final ApplicationEntity turnOfTheYear = new ApplicationEntity();
+        turnOfTheYear.setPerson(batman);
+        turnOfTheYear.setStartDate(LocalDate.of(2022, 12, 30));
+        turnOfTheYear.setEndDate(LocalDate.of(2023, 1, 2));
+        turnOfTheYear.setStatus(ALLOWED);
+        turnOfTheYear.setVacationType(vacationTypeEntity);
+        turnOfTheYear.setHours(Duration.ofHours(8));
+
+        final ApplicationEntity withinYear = new ApplicationEntity();
+        withinYear.setPerson(batman);
+        withinYear.setStartDate(LocalDate.of(2023, 3, 1));
+        withinYear.setEndDate(LocalDate.of(2023, 3, 1));
+        withinYear.setStatus(WAITING);
+        withinYear.setVacationType(vacationTypeEntity);
+        withinYear.setHours(Duration.ofHours(2));
+
+        when(applicationRepository.findByPersonAndVacationTypeCategoryAndStatusIn(batman, OVERTIME, activeStatuses()))
+            .thenReturn(List.of(turnOfTheYear, withinYear));
+
+        assertThat(sut.getOvertimeReductionOfPersonByYear(batman))
+            .containsOnly(
+                entry(2022, Duration.ofHours(4)),
+                entry(2023, Duration.ofHours(6))
+            );
+    }
+
+    @Test
+    void ensureGetPersonsWithOvertimeReduction() {
+
+        final Person batman = new Person();
+        batman.setId(1L);
+
+        when(applicationRepository.findDistinctPersonByVacationTypeCategoryAndStatusIn(OVERTIME, activeStatuses())).thenReturn(List.of(batman));
+
+        assertThat(sut.getPersonsWithOvertimeReduction()).containsExactly(batman);
+    }
 }
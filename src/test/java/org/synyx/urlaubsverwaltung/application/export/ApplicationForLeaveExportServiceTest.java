@@ -28,6 +28,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
+import static java.math.BigDecimal.TEN;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -87,6 +88,7 @@ class ApplicationForLeaveExportServiceTest {
         app.setId(1L);
         app.setPerson(user);
         when(applicationService.getForStatesAndPerson(List.of(ALLOWED, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), personsForExport, from, to)).thenReturn(List.of(app));
+        when(workDaysCountService.getWorkDaysCount(List.of(app))).thenReturn(List.of(TEN));
 
         final PersonBasedata personBasedata = new PersonBasedata(userId, "personnelNumber", "");
         when(personBasedataService.getBasedataByPersonId(List.of(user.getId()))).thenReturn(Map.of(userId, personBasedata));
@@ -103,6 +105,7 @@ class ApplicationForLeaveExportServiceTest {
         assertThat(applicationForLeaveExport.getPersonalNumber()).isEqualTo("personnelNumber");
         assertThat(applicationForLeaveExport.getDepartments()).containsExactly("department");
         assertThat(applicationForLeaveExport.getApplicationForLeaves()).containsExactly(app);
+        assertThat(applicationForLeaveExport.getApplicationForLeaves().get(0).getWorkDays()).isEqualTo(TEN);
     }
 
     @ParameterizedTest
@@ -132,6 +135,7 @@ class ApplicationForLeaveExportServiceTest {
         app.setId(1L);
         app.setPerson(departmentMember);
         when(applicationService.getForStatesAndPerson(List.of(ALLOWED, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), personsForExport, from, to)).thenReturn(List.of(app));
+        when(workDaysCountService.getWorkDaysCount(List.of(app))).thenReturn(List.of(TEN));
 
         final PersonBasedata personBasedata = new PersonBasedata(departmentMemberId, "personnelNumber", "");
         when(personBasedataService.getBasedataByPersonId(List.of(departmentMember.getId()))).thenReturn(Map.of(departmentMemberId, personBasedata));
@@ -197,6 +201,7 @@ class ApplicationForLeaveExportServiceTest {
         app.setId(1L);
         app.setPerson(user);
         when(applicationService.getForStatesAndPerson(List.of(ALLOWED, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), personsForExport, from, to)).thenReturn(List.of(app));
+        when(workDaysCountService.getWorkDaysCount(List.of(app))).thenReturn(List.of(TEN));
 
         final PersonBasedata personBasedata = new PersonBasedata(userId, "personnelNumber", "");
         when(personBasedataService.getBasedataByPersonId(List.of(user.getId()))).thenReturn(Map.of(userId, personBasedata));
@@ -244,6 +249,7 @@ class ApplicationForLeaveExportServiceTest {
         app.setId(1L);
         app.setPerson(user);
         when(applicationService.getForStatesAndPerson(List.of(ALLOWED, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), personsForExport, from, to)).thenReturn(List.of(app));
+        when(workDaysCountService.getWorkDaysCount(List.of(app))).thenReturn(List.of(TEN));
 
         final PersonBasedata personBasedata = new PersonBasedata(userId, "personnelNumber", "");
         when(personBasedataService.getBasedataByPersonId(List.of(user.getId()))).thenReturn(Map.of(userId, personBasedata));
@@ -261,4 +267,110 @@ class ApplicationForLeaveExportServiceTest {
         assertThat(applicationForLeaveExport.getDepartments()).containsExactly("department");
         assertThat(applicationForLeaveExport.getApplicationForLeaves()).containsExactly(app);
     }
+
+    @Test
+    void getAllMembersSortsPersonsOnceByPersonAttributesAndId() {
+
+        final Person office = new Person();
+        office.setId(1L);
+        office.setPermissions(List.of(OFFICE));
+
+        final Person marlene3 = person(3L, "Marlene");
+        final Person bruce = person(2L, "Bruce");
+        final Person marlene1 = person(1L, "Marlene");
+
+        final PageableSearchQuery allPersons = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "firstName")), "");
+        when(personService.getActivePersons(allPersons)).thenReturn(new PageImpl<>(List.of(marlene3, bruce, marlene1)));
+
+        final List<Person> members = sut.getAllMembers(office, Sort.by(Sort.Direction.ASC, "person.firstName"));
+
+        assertThat(members).containsExactly(bruce, marlene1, marlene3);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Role.class, names = {"DEPARTMENT_HEAD", "SECOND_STAGE_AUTHORITY"})
+    void getAllMembersSortsPersonsByIdIfSortedByNonPersonAttribute(Role role) {
+
+        final Person person = new Person();
+        person.setId(1L);
+        person.setPermissions(List.of(role));
+
+        final Person third = person(3L, "Alfred");
+        final Person first = person(1L, "Marlene");
+        final Person second = person(2L, "Bruce");
+
+        final PageableSearchQuery allPersons = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.unsorted()), "");
+        when(departmentService.getManagedMembersOfPerson(person, allPersons)).thenReturn(new PageImpl<>(List.of(third, first, second)));
+
+        final List<Person> members = sut.getAllMembers(person, Sort.by("totalAllowedVacationDays"));
+
+        assertThat(members).containsExactly(first, second, third);
+    }
+
+    @Test
+    void getAllOfChunkExportsOnlyPersonsOfChunkInOrderOfPersons() {
+
+        final Person office = new Person();
+        office.setId(1L);
+        office.setPermissions(List.of(OFFICE));
+
+        final Person alfred = person(2L, "Alfred");
+        final Person bruce = person(3L, "Bruce");
+        final Person marlene = person(4L, "Marlene");
+        final List<Person> members = List.of(alfred, bruce, marlene);
+
+        final LocalDate from = LocalDate.of(2023, 1, 1);
+        final LocalDate to = LocalDate.of(2023, 1, 31);
+
+        final ApplicationForLeave appOfBruce = new ApplicationForLeave(new Application(), workDaysCountService);
+        appOfBruce.setId(1L);
+        appOfBruce.setPerson(bruce);
+        final List<Person> membersOfChunk = List.of(alfred, bruce);
+        when(applicationService.getForStatesAndPerson(List.of(ALLOWED, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), membersOfChunk, from, to)).thenReturn(List.of(appOfBruce));
+        when(workDaysCountService.getWorkDaysCount(List.of(appOfBruce))).thenReturn(List.of(TEN));
+        when(personBasedataService.getBasedataByPersonId(List.of(2L, 3L))).thenReturn(Map.of());
+        when(departmentService.getDepartmentNamesByMembers(membersOfChunk)).thenReturn(Map.of());
+
+        final Page<ApplicationForLeaveExport> chunk = sut.getAll(office, members, from, to, PageRequest.of(0, 2));
+
+        assertThat(chunk.getContent()).extracting(ApplicationForLeaveExport::getFirstName).containsExactly("Alfred", "Bruce");
+        assertThat(chunk.getContent().get(0).getApplicationForLeaves()).isEmpty();
+        assertThat(chunk.getContent().get(1).getApplicationForLeaves()).containsExactly(appOfBruce);
+        assertThat(chunk.getTotalElements()).isEqualTo(3);
+        assertThat(chunk.hasNext()).isTrue();
+    }
+
+    @Test
+    void getAllOfLastChunkExportsRemainingPersons() {
+
+        final Person office = new Person();
+        office.setId(1L);
+        office.setPermissions(List.of(OFFICE));
+
+        final Person alfred = person(2L, "Alfred");
+        final Person bruce = person(3L, "Bruce");
+        final Person marlene = person(4L, "Marlene");
+
+        final LocalDate from = LocalDate.of(2023, 1, 1);
+        final LocalDate to = LocalDate.of(2023, 1, 31);
+
+        when(applicationService.getForStatesAndPerson(List.of(ALLOWED, TEMPORARY_ALLOWED, ALLOWED_CANCELLATION_REQUESTED), List.of(marlene), from, to)).thenReturn(List.of());
+        when(workDaysCountService.getWorkDaysCount(List.of())).thenReturn(List.of());
+        when(personBasedataService.getBasedataByPersonId(List.of(4L))).thenReturn(Map.of());
+        when(departmentService.getDepartmentNamesByMembers(List.of(marlene))).thenReturn(Map.of());
+
+        final Page<ApplicationForLeaveExport> chunk = sut.getAll(office, List.of(alfred, bruce, marlene), from, to, PageRequest.of(1, 2));
+
+        assertThat(chunk.getContent()).extracting(ApplicationForLeaveExport::getFirstName).containsExactly("Marlene");
+        assertThat(chunk.hasNext()).isFalse();
+    }
+
+    private static Person person(Long id, String firstName) {
+        final Person person = new Person();
+        person.setId(id);
+        person.setPermissions(List.of(USER));
+        person.setFirstName(firstName);
+        person.setLastName("Muster");
+        return person;
+    }
 }
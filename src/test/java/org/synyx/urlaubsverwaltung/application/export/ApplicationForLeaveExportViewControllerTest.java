@@ -5,19 +5,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 import org.springframework.context.support.StaticMessageSource;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationForLeave;
 import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
-import org.synyx.urlaubsverwaltung.csv.CSVFile;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
@@ -26,16 +29,26 @@ import org.synyx.urlaubsverwaltung.web.DateFormatAware;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
+import java.io.OutputStream;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.Function;
 
 import static java.math.BigDecimal.TEN;
 import static java.util.Locale.JAPANESE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
@@ -64,11 +77,30 @@ class ApplicationForLeaveExportViewControllerTest {
     }
 
     @Test
-    void ensuresToDownloadCSVIfNotTheSameYearIsABadRequest() throws Exception {
+    void ensuresToExportAbsencesOfSeveralYears() throws Exception {
+
+        final Locale locale = JAPANESE;
+
+        final Person signedInUser = new Person();
+        signedInUser.setId(1L);
+        when(personService.getSignedInUser()).thenReturn(signedInUser);
+
+        final LocalDate startDate = LocalDate.parse("2022-01-01");
+        final LocalDate endDate = LocalDate.parse("2023-01-01");
+        final FilterPeriod filterPeriod = new FilterPeriod(startDate, endDate);
+
+        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
+        when(applicationForLeaveExportService.getAll(signedInUser, startDate, endDate, pageableSearchQuery)).thenReturn(new PageImpl<>(List.of()));
+
+        when(applicationForLeaveCsvExportService.fileName(filterPeriod, locale)).thenReturn("csv-file-name");
+        doAnswer(writeCsv("csv-resource")).when(applicationForLeaveCsvExportService).write(eq(filterPeriod), eq(locale), eq(List.of()), any(OutputStream.class));
+
         perform(get("/web/application/export")
+            .locale(locale)
             .param("from", "01.01.2022")
             .param("to", "01.01.2023"))
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isOk())
+            .andExpect(content().string("csv-resource"));
     }
 
     @Test
@@ -107,8 +139,8 @@ class ApplicationForLeaveExportViewControllerTest {
         final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
         when(applicationForLeaveExportService.getAll(signedInUser, startDate, endDate, pageableSearchQuery)).thenReturn(new PageImpl<>(List.of(applicationForLeaveExport)));
 
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveCsvExportService.generateCSV(filterPeriod, locale, List.of(applicationForLeaveExport))).thenReturn(csvFile);
+        when(applicationForLeaveCsvExportService.fileName(filterPeriod, locale)).thenReturn("csv-file-name");
+        doAnswer(writeCsv("csv-resource")).when(applicationForLeaveCsvExportService).write(eq(filterPeriod), eq(locale), eq(List.of(applicationForLeaveExport)), any(OutputStream.class));
 
         perform(get("/web/application/export")
             .locale(locale)
@@ -154,8 +186,8 @@ class ApplicationForLeaveExportViewControllerTest {
         final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(2, 50, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
         when(applicationForLeaveExportService.getAll(signedInUser, startDate, endDate, pageableSearchQuery)).thenReturn(new PageImpl<>(List.of(applicationForLeaveExport)));
 
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveCsvExportService.generateCSV(filterPeriod, locale, List.of(applicationForLeaveExport))).thenReturn(csvFile);
+        when(applicationForLeaveCsvExportService.fileName(filterPeriod, locale)).thenReturn("csv-file-name");
+        doAnswer(writeCsv("csv-resource")).when(applicationForLeaveCsvExportService).write(eq(filterPeriod), eq(locale), eq(List.of(applicationForLeaveExport)), any(OutputStream.class));
 
         perform(get("/web/application/export")
             .locale(locale)
@@ -200,11 +232,18 @@ class ApplicationForLeaveExportViewControllerTest {
         final ApplicationForLeave applicationForLeave = new ApplicationForLeave(application, workDaysCountService);
 
         final ApplicationForLeaveExport applicationForLeaveExport = new ApplicationForLeaveExport("1", signedInUser.getFirstName(), signedInUser.getLastName(), List.of(applicationForLeave), List.of("departmentA"));
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
-        when(applicationForLeaveExportService.getAll(signedInUser, startDate, endDate, pageableSearchQuery)).thenReturn(new PageImpl<>(List.of(applicationForLeaveExport)));
-
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveCsvExportService.generateCSV(filterPeriod, locale, List.of(applicationForLeaveExport))).thenReturn(csvFile);
+        final PageRequest firstChunk = PageRequest.of(0, 100, Sort.by(Sort.Direction.ASC, "person.firstName"));
+        final List<Person> members = List.of(signedInUser);
+        when(applicationForLeaveExportService.getAllMembers(signedInUser, Sort.by(Sort.Direction.ASC, "person.firstName"))).thenReturn(members);
+        when(applicationForLeaveExportService.getAll(signedInUser, members, startDate, endDate, firstChunk)).thenReturn(new PageImpl<>(List.of(applicationForLeaveExport)));
+
+        when(applicationForLeaveCsvExportService.fileName(filterPeriod, locale)).thenReturn("csv-file-name");
+        doAnswer(invocation -> {
+            final Function<Pageable, Page<ApplicationForLeaveExport>> pageSupplier = invocation.getArgument(3);
+            assertThat(pageSupplier.apply(firstChunk).getContent()).containsExactly(applicationForLeaveExport);
+            invocation.<OutputStream>getArgument(4).write("csv-resource".getBytes());
+            return null;
+        }).when(applicationForLeaveCsvExportService).writeAllPages(eq(filterPeriod), eq(locale), eq(firstChunk), any(), any(OutputStream.class));
 
         perform(get("/web/application/export")
             .locale(locale)
@@ -248,11 +287,18 @@ class ApplicationForLeaveExportViewControllerTest {
         final ApplicationForLeave applicationForLeave = new ApplicationForLeave(application, workDaysCountService);
 
         final ApplicationForLeaveExport applicationForLeaveExport = new ApplicationForLeaveExport("1", signedInUser.getFirstName(), signedInUser.getLastName(), List.of(applicationForLeave), List.of("departmentA"));
-        final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
-        when(applicationForLeaveExportService.getAll(signedInUser, startDate, endDate, pageableSearchQuery)).thenReturn(new PageImpl<>(List.of(applicationForLeaveExport)));
-
-        final CSVFile csvFile = new CSVFile("csv-file-name", new ByteArrayResource("csv-resource".getBytes()));
-        when(applicationForLeaveCsvExportService.generateCSV(filterPeriod, locale, List.of(applicationForLeaveExport))).thenReturn(csvFile);
+        final PageRequest firstChunk = PageRequest.of(0, 100, Sort.by(Sort.Direction.ASC, "person.firstName"));
+        final List<Person> members = List.of(signedInUser);
+        when(applicationForLeaveExportService.getAllMembers(signedInUser, Sort.by(Sort.Direction.ASC, "person.firstName"))).thenReturn(members);
+        when(applicationForLeaveExportService.getAll(signedInUser, members, startDate, endDate, firstChunk)).thenReturn(new PageImpl<>(List.of(applicationForLeaveExport)));
+
+        when(applicationForLeaveCsvExportService.fileName(filterPeriod, locale)).thenReturn("csv-file-name");
+        doAnswer(invocation -> {
+            final Function<Pageable, Page<ApplicationForLeaveExport>> pageSupplier = invocation.getArgument(3);
+            assertThat(pageSupplier.apply(firstChunk).getContent()).containsExactly(applicationForLeaveExport);
+            invocation.<OutputStream>getArgument(4).write("csv-resource".getBytes());
+            return null;
+        }).when(applicationForLeaveCsvExportService).writeAllPages(eq(filterPeriod), eq(locale), eq(firstChunk), any(), any(OutputStream.class));
 
         perform(get("/web/application/export")
             .locale(locale)
@@ -266,10 +312,23 @@ class ApplicationForLeaveExportViewControllerTest {
             .andExpect(content().string("csv-resource"));
     }
 
+    private static Answer<Void> writeCsv(String content) {
+        return invocation -> {
+            invocation.<OutputStream>getArgument(3).write(content.getBytes());
+            return null;
+        };
+    }
+
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
-        return standaloneSetup(sut)
+        final MockMvc mockMvc = standaloneSetup(sut)
             .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
-            .build()
-            .perform(builder);
+            .build();
+
+        final MvcResult mvcResult = mockMvc.perform(builder)
+            .andExpect(request().asyncStarted())
+            .andExpect(header().string("Content-Disposition", startsWith("attachment")))
+            .andReturn();
+
+        return mockMvc.perform(asyncDispatch(mvcResult));
     }
 }
@@ -8,6 +8,7 @@ import org.springframework.context.support.StaticMessageSource;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -44,4 +45,19 @@ class CustomVacationTypeTest {
 
         assertThat(vacationType.getLabel(Locale.GERMAN)).isEqualTo("fallback");
     }
+
+    @Test
+    void ensureLabelIsResolvedOncePerLocale() {
+
+        final AtomicInteger resolved = new AtomicInteger();
+        final CustomVacationType vacationType = new CustomVacationType.Builder((type, locale) -> locale.getLanguage() + resolved.incrementAndGet())
+            .labels(List.of())
+            .build();
+
+        assertThat(vacationType.getLabel(Locale.GERMAN)).isEqualTo("de1");
+        assertThat(vacationType.getLabel(Locale.GERMAN)).isEqualTo("de1");
+        assertThat(vacationType.getLabel(Locale.ENGLISH)).isEqualTo("en2");
+        assertThat(vacationType.getLabel(Locale.ENGLISH)).isEqualTo("en2");
+        assertThat(resolved).hasValue(2);
+    }
 }
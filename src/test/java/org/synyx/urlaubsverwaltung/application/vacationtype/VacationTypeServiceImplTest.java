@@ -24,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.HOLIDAY;
 import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.OTHER;
@@ -69,7 +70,7 @@ class VacationTypeServiceImplTest {
         overtimeActive.setCategory(OVERTIME);
         overtimeActive.setActive(true);
 
-        when(vacationTypeRepository.findByActiveIsTrueOrderById()).thenReturn(List.of(holiday, overtimeActive, overtime));
+        when(vacationTypeRepository.findAll(Sort.by("id"))).thenReturn(List.of(holiday, overtimeActive, overtime));
 
         final List<VacationType<?>> typesWithoutCategory = sut.getActiveVacationTypesWithoutCategory(OVERTIME);
         assertThat(typesWithoutCategory).hasSize(1);
@@ -89,7 +90,7 @@ class VacationTypeServiceImplTest {
         overtimeActive.setCategory(OVERTIME);
         overtimeActive.setActive(true);
 
-        when(vacationTypeRepository.findByActiveIsTrueOrderById()).thenReturn(List.of(holiday, overtimeActive));
+        when(vacationTypeRepository.findAll(Sort.by("id"))).thenReturn(List.of(holiday, overtimeActive));
 
         final List<VacationType<?>> activeVacationTypes = sut.getActiveVacationTypes();
         assertThat(activeVacationTypes).hasSize(2);
@@ -150,6 +151,115 @@ class VacationTypeServiceImplTest {
         });
     }
 
+    @Test
+    void getByIdReturnsEmptyForUnknownId() {
+
+        final VacationTypeEntity holiday = new VacationTypeEntity();
+        holiday.setId(1L);
+        holiday.setCategory(HOLIDAY);
+        holiday.setActive(true);
+
+        when(vacationTypeRepository.findAll(Sort.by("id"))).thenReturn(List.of(holiday));
+
+        assertThat(sut.getById(1L)).hasValueSatisfying(vacationType -> assertThat(vacationType.getId()).isEqualTo(1L));
+        assertThat(sut.getById(2L)).isEmpty();
+    }
+
+    @Test
+    void ensureRenderingPagesDoesNotTouchTheRepositoryAfterVacationTypesHaveBeenLoaded() {
+
+        final VacationTypeEntity holiday = new VacationTypeEntity();
+        holiday.setId(1L);
+        holiday.setCategory(HOLIDAY);
+        holiday.setActive(true);
+        holiday.setMessageKey("application.data.vacationType.holiday");
+
+        final VacationTypeEntity overtime = new VacationTypeEntity();
+        overtime.setId(2L);
+        overtime.setCategory(OVERTIME);
+        overtime.setActive(true);
+        overtime.setCustom(true);
+        overtime.setLabelByLocale(Map.of(GERMAN, "Überstunden"));
+
+        final VacationTypeEntity specialLeave = new VacationTypeEntity();
+        specialLeave.setId(3L);
+        specialLeave.setCategory(SPECIALLEAVE);
+        specialLeave.setActive(false);
+
+        when(vacationTypeRepository.findAll(Sort.by("id"))).thenReturn(List.of(holiday, overtime, specialLeave));
+        when(messageSource.getMessage("application.data.vacationType.holiday", new Object[]{}, GERMAN)).thenReturn("Erholungsurlaub");
+
+        for (int page = 0; page < 3; page++) {
+            assertThat(sut.getActiveVacationTypes())
+                .extracting(vacationType -> vacationType.getLabel(GERMAN))
+                .containsExactly("Erholungsurlaub", "Überstunden");
+            assertThat(sut.getActiveVacationTypesWithoutCategory(OVERTIME))
+                .extracting(VacationType::getId)
+                .containsExactly(1L);
+            assertThat(sut.getAllVacationTypes())
+                .extracting(VacationType::getId)
+                .containsExactly(1L, 2L, 3L);
+            assertThat(sut.getById(1L)).hasValueSatisfying(vacationType -> assertThat(vacationType.getLabel(GERMAN)).isEqualTo("Erholungsurlaub"));
+        }
+
+        verify(vacationTypeRepository).findAll(Sort.by("id"));
+        verifyNoMoreInteractions(vacationTypeRepository);
+        verify(messageSource).getMessage("application.data.vacationType.holiday", new Object[]{}, GERMAN);
+    }
+
+    @Test
+    void ensureVacationTypesAreLoadedAgainAfterVacationTypeUpdatedEvent() {
+
+        final VacationTypeEntity holiday = new VacationTypeEntity();
+        holiday.setId(1L);
+        holiday.setCategory(HOLIDAY);
+        holiday.setActive(true);
+
+        final VacationTypeEntity inactiveHoliday = new VacationTypeEntity();
+        inactiveHoliday.setId(1L);
+        inactiveHoliday.setCategory(HOLIDAY);
+        inactiveHoliday.setActive(false);
+
+        when(vacationTypeRepository.findAll(Sort.by("id"))).thenReturn(List.of(holiday), List.of(inactiveHoliday));
+
+        assertThat(sut.getActiveVacationTypes()).hasSize(1);
+
+        sut.on(VacationTypeUpdatedEvent.of(convert(inactiveHoliday)));
+
+        assertThat(sut.getActiveVacationTypes()).isEmpty();
+        verify(vacationTypeRepository, times(2)).findAll(Sort.by("id"));
+    }
+
+    @Test
+    void ensureVacationTypesAreLoadedAgainAfterCreatingVacationTypes() {
+
+        final VacationTypeEntity holiday = new VacationTypeEntity();
+        holiday.setId(1L);
+        holiday.setCategory(HOLIDAY);
+        holiday.setActive(true);
+
+        final VacationTypeEntity custom = new VacationTypeEntity();
+        custom.setId(2L);
+        custom.setCategory(OTHER);
+        custom.setActive(true);
+        custom.setCustom(true);
+        custom.setLabelByLocale(Map.of(GERMAN, "Jokertag"));
+
+        when(vacationTypeRepository.findAll(Sort.by("id"))).thenReturn(List.of(holiday), List.of(holiday, custom));
+        when(vacationTypeRepository.saveAll(anyList())).thenReturn(List.of(custom));
+
+        assertThat(sut.getAllVacationTypes()).hasSize(1);
+
+        sut.createVacationTypes(List.of(CustomVacationType.builder(messageSource).labels(List.of(new VacationTypeLabel(GERMAN, "Jokertag"))).build()));
+
+        assertThat(sut.getAllVacationTypes()).extracting(VacationType::getId).containsExactly(1L, 2L);
+        verify(vacationTypeRepository, times(2)).findAll(Sort.by("id"));
+    }
+
+    private VacationType<?> convert(VacationTypeEntity entity) {
+        return VacationTypeServiceImpl.convert(entity, messageSource);
+    }
+
     @Test
     void ensureUpdateVacationTypesUpdatesTheGivenVacationTypes() {
         final VacationTypeEntity holidayEntity = new VacationTypeEntity();
@@ -0,0 +1,292 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.period.DayLength;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.settings.Settings;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.calendarintegration.AbsenceMappingType.VACATION;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncOperation.ADD;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncOperation.DELETE;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncOperation.UPDATE;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarSyncQueueProcessorTest {
+
+    private CalendarSyncQueueProcessor sut;
+
+    @Mock
+    private AbsenceMappingRepository absenceMappingRepository;
+    @Mock
+    private CalendarProviderService calendarProviderService;
+    @Mock
+    private CalendarSettingsService calendarSettingsService;
+    @Mock
+    private SettingsService settingsService;
+    @Mock
+    private ApplicationService applicationService;
+    @Mock
+    private SickNoteService sickNoteService;
+    @Mock
+    private CalendarProvider calendarProvider;
+
+    private final CalendarSyncProperties calendarSyncProperties = new CalendarSyncProperties();
+    private final Instant now = Instant.parse("2022-12-10T10:00:00Z");
+    private final CalendarSettings calendarSettings = new CalendarSettings();
+
+    @BeforeEach
+    void setUp() {
+        sut = new CalendarSyncQueueProcessor(absenceMappingRepository, calendarProviderService, calendarSettingsService, settingsService,
+            applicationService, sickNoteService, calendarSyncProperties, TransactionOperations.withoutTransaction(), Clock.fixed(now, UTC));
+    }
+
+    @Test
+    void ensureNothingHappensWithoutCalendarProvider() {
+
+        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.empty());
+
+        sut.processQueue();
+
+        verifyNoInteractions(absenceMappingRepository);
+    }
+
+    @Test
+    void ensureDueMappingsAreLoadedDebouncedAndLimitedToBatchSize() {
+
+        calendarSyncProperties.setDebounce(Duration.ofSeconds(30));
+        calendarSyncProperties.setBatchSize(20);
+
+        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.of(calendarProvider));
+        when(absenceMappingRepository.findDueForSync(now.minusSeconds(30), now, PageRequest.of(0, 20))).thenReturn(List.of());
+
+        sut.processQueue();
+
+        verify(calendarProvider, never()).sync(anyList(), any());
+    }
+
+    @Test
+    void ensureAllDueChangesAreSentAsOneBatch() {
+
+        final AbsenceMapping added = absenceMapping(11L, AbsenceMapping.pending(1L, VACATION, now.minusSeconds(60)));
+        final AbsenceMapping updated = absenceMapping(12L, new AbsenceMapping(2L, VACATION, "updatedEventId"));
+        updated.enqueue(UPDATE, now.minusSeconds(60));
+        final AbsenceMapping deleted = absenceMapping(13L, new AbsenceMapping(3L, VACATION, "deletedEventId"));
+        deleted.enqueue(DELETE, now.minusSeconds(60));
+
+        prepareDueMappings(List.of(added, updated, deleted));
+        when(settingsService.getSettings()).thenReturn(new Settings());
+        when(applicationService.getApplicationById(1L)).thenReturn(Optional.of(application(1L)));
+        when(applicationService.getApplicationById(2L)).thenReturn(Optional.of(application(2L)));
+
+        when(calendarProvider.sync(anyList(), any())).thenAnswer(invocation -> {
+            final List<CalendarSyncRequest> requests = invocation.getArgument(0);
+            assertThat(requests).extracting(CalendarSyncRequest::operation, CalendarSyncRequest::eventId)
+                .containsExactly(
+                    tuple(ADD, null),
+                    tuple(UPDATE, "updatedEventId"),
+                    tuple(DELETE, "deletedEventId")
+                );
+            return List.of(CalendarSyncResult.success("addedEventId"), CalendarSyncResult.success("updatedEventId"), CalendarSyncResult.success("deletedEventId"));
+        });
+
+        sut.processQueue();
+
+        assertThat(added.getEventId()).isEqualTo("addedEventId");
+        assertThat(added.getPendingOperation()).isNull();
+        assertThat(added.getNextAttemptAt()).isNull();
+        assertThat(updated.getPendingOperation()).isNull();
+        assertThat(updated.getNextAttemptAt()).isNull();
+        verify(absenceMappingRepository).delete(deleted);
+    }
+
+    @Test
+    void ensureFailedChangeIsRetriedWithExponentialBackoff() {
+
+        calendarSyncProperties.setRetryBackoff(Duration.ofMinutes(1));
+
+        final AbsenceMapping updated = absenceMapping(12L, new AbsenceMapping(2L, VACATION, "eventId"));
+        updated.enqueue(UPDATE, now.minusSeconds(60));
+        updated.failed(now.minusSeconds(1));
+
+        prepareDueMappings(List.of(updated));
+        when(settingsService.getSettings()).thenReturn(new Settings());
+        when(applicationService.getApplicationById(2L)).thenReturn(Optional.of(application(2L)));
+        when(calendarProvider.sync(anyList(), any())).thenReturn(List.of(CalendarSyncResult.failure()));
+
+        sut.processQueue();
+
+        assertThat(updated.getPendingOperation()).isEqualTo(UPDATE);
+        assertThat(updated.getFailedAttempts()).isEqualTo(2);
+        assertThat(updated.getNextAttemptAt()).isEqualTo(now.plus(Duration.ofMinutes(2)));
+    }
+
+    @Test
+    void ensureFailedAddIsGivenUpAfterMaxAttempts() {
+
+        calendarSyncProperties.setMaxAttempts(1);
+
+        final AbsenceMapping added = absenceMapping(11L, AbsenceMapping.pending(1L, VACATION, now.minusSeconds(60)));
+
+        prepareDueMappings(List.of(added));
+        when(settingsService.getSettings()).thenReturn(new Settings());
+        when(applicationService.getApplicationById(1L)).thenReturn(Optional.of(application(1L)));
+        when(calendarProvider.sync(anyList(), any())).thenReturn(List.of(CalendarSyncResult.failure()));
+
+        sut.processQueue();
+
+        verify(absenceMappingRepository).delete(added);
+    }
+
+    @Test
+    void ensureUpdateOfDeletedApplicationDeletesEvent() {
+
+        final AbsenceMapping updated = absenceMapping(12L, new AbsenceMapping(2L, VACATION, "eventId"));
+        updated.enqueue(UPDATE, now.minusSeconds(60));
+
+        prepareDueMappings(List.of(updated));
+        when(settingsService.getSettings()).thenReturn(new Settings());
+        when(applicationService.getApplicationById(2L)).thenReturn(Optional.empty());
+        when(calendarProvider.sync(List.of(CalendarSyncRequest.delete("eventId")), calendarSettings))
+            .thenReturn(List.of(CalendarSyncResult.success("eventId")));
+
+        sut.processQueue();
+
+        verify(absenceMappingRepository).delete(updated);
+    }
+
+    @Test
+    void ensureChangesAreClaimedBeforeTheyAreSent() {
+
+        final AbsenceMapping updated = absenceMapping(12L, new AbsenceMapping(2L, VACATION, "eventId"));
+        updated.enqueue(UPDATE, now.minusSeconds(60));
+
+        prepareDueMappings(List.of(updated));
+        when(settingsService.getSettings()).thenReturn(new Settings());
+        when(applicationService.getApplicationById(2L)).thenReturn(Optional.of(application(2L)));
+        when(calendarProvider.sync(anyList(), any())).thenAnswer(invocation -> {
+            assertThat(updated.getNextAttemptAt()).isEqualTo(now.plus(CalendarSyncQueueProcessor.CLAIM_TIMEOUT));
+            assertThat(updated.getPendingOperation()).isEqualTo(UPDATE);
+            return List.of(CalendarSyncResult.success("eventId"));
+        });
+
+        sut.processQueue();
+
+        assertThat(updated.getPendingOperation()).isNull();
+        assertThat(updated.getNextAttemptAt()).isNull();
+    }
+
+    @Test
+    void ensureChangeQueuedWhileAddIsSentIsKept() {
+
+        final AbsenceMapping added = absenceMapping(11L, AbsenceMapping.pending(1L, VACATION, now.minusSeconds(60)));
+
+        prepareDueMappings(List.of(added));
+        when(settingsService.getSettings()).thenReturn(new Settings());
+        when(applicationService.getApplicationById(1L)).thenReturn(Optional.of(application(1L)));
+        when(calendarProvider.sync(anyList(), any())).thenAnswer(invocation -> {
+            added.enqueue(ADD, now.minusSeconds(5));
+            return List.of(CalendarSyncResult.success("addedEventId"));
+        });
+
+        sut.processQueue();
+
+        assertThat(added.getEventId()).isEqualTo("addedEventId");
+        assertThat(added.getPendingOperation()).isEqualTo(UPDATE);
+        assertThat(added.getQueuedAt()).isEqualTo(now.minusSeconds(5));
+        verify(absenceMappingRepository, never()).delete(added);
+    }
+
+    @Test
+    void ensureFailureOfChangeQueuedAgainWhileSentIsNotCounted() {
+
+        final AbsenceMapping updated = absenceMapping(12L, new AbsenceMapping(2L, VACATION, "eventId"));
+        updated.enqueue(UPDATE, now.minusSeconds(60));
+
+        prepareDueMappings(List.of(updated));
+        when(settingsService.getSettings()).thenReturn(new Settings());
+        when(applicationService.getApplicationById(2L)).thenReturn(Optional.of(application(2L)));
+        when(calendarProvider.sync(anyList(), any())).thenAnswer(invocation -> {
+            updated.enqueue(DELETE, now.minusSeconds(5));
+            return List.of(CalendarSyncResult.failure());
+        });
+
+        sut.processQueue();
+
+        assertThat(updated.getPendingOperation()).isEqualTo(DELETE);
+        assertThat(updated.getFailedAttempts()).isZero();
+        assertThat(updated.getNextAttemptAt()).isNull();
+    }
+
+    @Test
+    void ensureEventAddedForMappingDeletedWhileSentIsDeletedAgain() {
+
+        final AbsenceMapping added = absenceMapping(11L, AbsenceMapping.pending(1L, VACATION, now.minusSeconds(60)));
+
+        prepareDueMappings(List.of(added));
+        when(settingsService.getSettings()).thenReturn(new Settings());
+        when(applicationService.getApplicationById(1L)).thenReturn(Optional.of(application(1L)));
+        when(calendarProvider.sync(anyList(), any())).thenAnswer(invocation -> {
+            when(absenceMappingRepository.findById(11L)).thenReturn(Optional.empty());
+            return List.of(CalendarSyncResult.success("addedEventId"));
+        });
+
+        sut.processQueue();
+
+        verify(absenceMappingRepository).save(argThat(absenceMapping ->
+            absenceMapping.getId() == null
+                && absenceMapping.getAbsenceId().equals(1L)
+                && "addedEventId".equals(absenceMapping.getEventId())
+                && absenceMapping.getPendingOperation() == DELETE
+                && now.equals(absenceMapping.getQueuedAt())));
+    }
+
+    private void prepareDueMappings(List<AbsenceMapping> absenceMappings) {
+        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.of(calendarProvider));
+        when(calendarSettingsService.getCalendarSettings()).thenReturn(calendarSettings);
+        when(absenceMappingRepository.findDueForSync(any(), any(), any())).thenReturn(absenceMappings);
+        absenceMappings.forEach(absenceMapping -> lenient().when(absenceMappingRepository.findById(absenceMapping.getId())).thenReturn(Optional.of(absenceMapping)));
+    }
+
+    private static AbsenceMapping absenceMapping(Long id, AbsenceMapping absenceMapping) {
+        absenceMapping.setId(id);
+        return absenceMapping;
+    }
+
+    private static Application application(Long id) {
+        final Application application = new Application();
+        application.setId(id);
+        application.setPerson(new Person("muster", "Muster", "Marlene", "muster@example.org"));
+        application.setStartDate(LocalDate.of(2022, 12, 12));
+        application.setEndDate(LocalDate.of(2022, 12, 14));
+        application.setDayLength(DayLength.FULL);
+        return application;
+    }
+}
@@ -6,37 +6,39 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.synyx.urlaubsverwaltung.absence.Absence;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationAppliedEvent;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationRejectedEvent;
 import org.synyx.urlaubsverwaltung.application.application.ApplicationUpdatedEvent;
-import org.synyx.urlaubsverwaltung.period.DayLength;
-import org.synyx.urlaubsverwaltung.person.Person;
-import org.synyx.urlaubsverwaltung.settings.Settings;
-import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteToApplicationConvertedEvent;
+import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteUpdatedEvent;
 
+import java.time.Clock;
 import java.time.Instant;
-import java.time.LocalDate;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
+import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.calendarintegration.AbsenceMappingType.SICKNOTE;
 import static org.synyx.urlaubsverwaltung.calendarintegration.AbsenceMappingType.VACATION;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncOperation.ADD;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncOperation.DELETE;
+import static org.synyx.urlaubsverwaltung.calendarintegration.CalendarSyncOperation.UPDATE;
 
 @ExtendWith(MockitoExtension.class)
 class CalendarSyncServiceTest {
 
-    @Mock
-    private SettingsService settingsService;
     @Mock
     private CalendarSettingsService calendarSettingsService;
     @Mock
@@ -44,108 +46,149 @@ class CalendarSyncServiceTest {
     @Mock
     private AbsenceMappingRepository absenceMappingRepository;
 
+    private final Instant now = Instant.parse("2022-12-10T10:00:00Z");
+    private final Clock clock = Clock.fixed(now, UTC);
+
     private CalendarSyncService sut;
 
     @BeforeEach
     void setUp() {
-        sut = new CalendarSyncService(settingsService, calendarSettingsService, calendarProviderService, absenceMappingRepository);
+        sut = new CalendarSyncService(calendarSettingsService, calendarProviderService, absenceMappingRepository, clock);
     }
 
     @Test
-    void ensureToCreateCalendarEventOnApplicationAppliedEvent() {
-
-        final LocalDate now = LocalDate.now();
-
-        final Application application = new Application();
-        application.setId(1L);
-        application.setStartDate(now);
-        application.setEndDate(now.plusDays(2));
-        application.setDayLength(DayLength.FULL);
-        application.setPerson(new Person());
-
-        final ApplicationAppliedEvent event = new ApplicationAppliedEvent(UUID.randomUUID(), Instant.now(), application);
+    void ensureToQueueAddOnApplicationAppliedEvent() {
 
-        final GoogleCalendarSyncProvider googleCalendarSyncProvider = mock(GoogleCalendarSyncProvider.class);
-        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.of(googleCalendarSyncProvider));
-        when(googleCalendarSyncProvider.add(any(Absence.class), any(CalendarSettings.class))).thenReturn(Optional.of("eventId"));
-        when(settingsService.getSettings()).thenReturn(new Settings());
-        when(calendarSettingsService.getCalendarSettings()).thenReturn(new CalendarSettings());
+        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.of(mock(CalendarProvider.class)));
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.empty());
 
-        sut.consumeApplicationAppliedEvent(event);
+        sut.consumeApplicationAppliedEvent(new ApplicationAppliedEvent(UUID.randomUUID(), Instant.now(), application(1L)));
 
         final ArgumentCaptor<AbsenceMapping> absenceMappingArgumentCaptor = forClass(AbsenceMapping.class);
         verify(absenceMappingRepository).save(absenceMappingArgumentCaptor.capture());
         final AbsenceMapping absenceMapping = absenceMappingArgumentCaptor.getValue();
-        assertThat(absenceMapping.getEventId()).isEqualTo("eventId");
         assertThat(absenceMapping.getAbsenceId()).isEqualTo(1L);
         assertThat(absenceMapping.getAbsenceMappingType()).isEqualTo(VACATION);
+        assertThat(absenceMapping.getEventId()).isNull();
+        assertThat(absenceMapping.getPendingOperation()).isEqualTo(ADD);
+        assertThat(absenceMapping.getQueuedAt()).isEqualTo(now);
     }
 
     @Test
-    void ensureToCreateCalendarEventOnApplicationUpdatedEvent() {
+    void ensureNothingIsQueuedWithoutCalendarProvider() {
 
-        final LocalDate now = LocalDate.of(2022, 12, 10);
+        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.empty());
 
-        final Application application = new Application();
-        application.setId(1L);
-        application.setStartDate(now);
-        application.setEndDate(now.plusDays(2));
-        application.setDayLength(DayLength.FULL);
-
-        final Person person = new Person();
-        person.setFirstName("first");
-        person.setLastName("last");
-        application.setPerson(person);
-
-        final ApplicationUpdatedEvent event = new ApplicationUpdatedEvent(UUID.randomUUID(), Instant.now(), application);
-
-        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.of(new AbsenceMapping(1L, VACATION, "eventId")));
-        final GoogleCalendarSyncProvider googleCalendarSyncProvider = mock(GoogleCalendarSyncProvider.class);
-        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.of(googleCalendarSyncProvider));
-        when(settingsService.getSettings()).thenReturn(new Settings());
-        final CalendarSettings calendarSettings = new CalendarSettings();
-        when(calendarSettingsService.getCalendarSettings()).thenReturn(calendarSettings);
-
-        sut.consumeApplicationUpdatedEvent(event);
-
-        final ArgumentCaptor<Absence> absenceArgumentCaptor = forClass(Absence.class);
-        verify(googleCalendarSyncProvider).update(absenceArgumentCaptor.capture(), eq("eventId"), eq(calendarSettings));
-        final Absence absence = absenceArgumentCaptor.getValue();
-        assertThat(absence.getPerson()).isEqualTo(person);
-        assertThat(absence.getEventSubject()).isEqualTo("first last abwesend");
-        assertThat(absence.getStartDate()).isEqualTo(ZonedDateTime.of(2022, 12, 10, 0, 0, 0, 0, ZoneId.of("Europe/Berlin")));
-        assertThat(absence.getEndDate()).isEqualTo(ZonedDateTime.of(2022, 12, 13, 0, 0, 0, 0, ZoneId.of("Europe/Berlin")));
+        sut.consumeApplicationAppliedEvent(new ApplicationAppliedEvent(UUID.randomUUID(), Instant.now(), application(1L)));
+
+        verifyNoInteractions(absenceMappingRepository);
     }
 
     @Test
-    void ensureToCreateCalendarEventOnApplicationRejectedEvent() {
+    void ensureToQueueUpdateOnApplicationUpdatedEvent() {
 
-        final LocalDate now = LocalDate.of(2022, 12, 10);
+        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.of(mock(CalendarProvider.class)));
+        final AbsenceMapping absenceMapping = new AbsenceMapping(1L, VACATION, "eventId");
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.of(absenceMapping));
 
-        final Application application = new Application();
-        application.setId(1L);
-        application.setStartDate(now);
-        application.setEndDate(now.plusDays(2));
-        application.setDayLength(DayLength.FULL);
+        sut.consumeApplicationUpdatedEvent(new ApplicationUpdatedEvent(UUID.randomUUID(), Instant.now(), application(1L)));
 
-        final Person person = new Person();
-        person.setFirstName("first");
-        person.setLastName("last");
-        application.setPerson(person);
+        verify(absenceMappingRepository).save(absenceMapping);
+        assertThat(absenceMapping.getPendingOperation()).isEqualTo(UPDATE);
+        assertThat(absenceMapping.getQueuedAt()).isEqualTo(now);
+    }
 
-        final ApplicationRejectedEvent event = new ApplicationRejectedEvent(UUID.randomUUID(), Instant.now(), application);
+    @Test
+    void ensureUpdateOfNotYetAddedApplicationIsCoalescedToAdd() {
 
-        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.of(new AbsenceMapping(1L, VACATION, "eventId")));
+        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.of(mock(CalendarProvider.class)));
+        final AbsenceMapping absenceMapping = AbsenceMapping.pending(1L, VACATION, now.minusSeconds(5));
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.of(absenceMapping));
 
-        final CalendarSettings calendarSettings = new CalendarSettings();
-        when(calendarSettingsService.getCalendarSettings()).thenReturn(calendarSettings);
+        sut.consumeApplicationUpdatedEvent(new ApplicationUpdatedEvent(UUID.randomUUID(), Instant.now(), application(1L)));
 
-        final GoogleCalendarSyncProvider googleCalendarSyncProvider = mock(GoogleCalendarSyncProvider.class);
-        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.of(googleCalendarSyncProvider));
-        when(googleCalendarSyncProvider.delete("eventId", calendarSettings)).thenReturn(Optional.of("eventId"));
+        verify(absenceMappingRepository).save(absenceMapping);
+        assertThat(absenceMapping.getPendingOperation()).isEqualTo(ADD);
+        assertThat(absenceMapping.getQueuedAt()).isEqualTo(now);
+    }
 
-        sut.consumeApplicationRejectedEvent(event);
+    @Test
+    void ensureUpdateOfUnknownApplicationIsIgnored() {
+
+        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.of(mock(CalendarProvider.class)));
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.empty());
+
+        sut.consumeApplicationUpdatedEvent(new ApplicationUpdatedEvent(UUID.randomUUID(), Instant.now(), application(1L)));
+
+        verify(absenceMappingRepository, never()).save(any());
+    }
+
+    @Test
+    void ensureToQueueDeleteOnApplicationRejectedEvent() {
+
+        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.of(mock(CalendarProvider.class)));
+        final AbsenceMapping absenceMapping = new AbsenceMapping(1L, VACATION, "eventId");
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.of(absenceMapping));
+
+        sut.consumeApplicationRejectedEvent(new ApplicationRejectedEvent(UUID.randomUUID(), Instant.now(), application(1L)));
+
+        verify(absenceMappingRepository).save(absenceMapping);
+        assertThat(absenceMapping.getPendingOperation()).isEqualTo(DELETE);
+    }
+
+    @Test
+    void ensureDeleteOfNotYetAddedApplicationRemovesMapping() {
+
+        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.of(mock(CalendarProvider.class)));
+        final AbsenceMapping absenceMapping = AbsenceMapping.pending(1L, VACATION, now.minusSeconds(5));
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.of(absenceMapping));
+
+        sut.consumeApplicationRejectedEvent(new ApplicationRejectedEvent(UUID.randomUUID(), Instant.now(), application(1L)));
+
+        verify(absenceMappingRepository).delete(absenceMapping);
+        verify(absenceMappingRepository, never()).save(any());
+    }
+
+    @Test
+    void ensureSickNoteUpdateUsesSickNoteMapping() {
+
+        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.of(mock(CalendarProvider.class)));
+        final AbsenceMapping absenceMapping = new AbsenceMapping(2L, SICKNOTE, "eventId");
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(2L, SICKNOTE)).thenReturn(Optional.of(absenceMapping));
+
+        sut.consumeSickNoteUpdatedEvent(SickNoteUpdatedEvent.of(sickNote(2L)));
+
+        verify(absenceMappingRepository).save(absenceMapping);
+        assertThat(absenceMapping.getPendingOperation()).isEqualTo(UPDATE);
+    }
+
+    @Test
+    void ensureSickNoteToApplicationConversionQueuesDeleteAndAdd() {
+
+        when(calendarProviderService.getCalendarProvider()).thenReturn(Optional.of(mock(CalendarProvider.class)));
+        final AbsenceMapping sickNoteMapping = new AbsenceMapping(2L, SICKNOTE, "eventId");
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(2L, SICKNOTE)).thenReturn(Optional.of(sickNoteMapping));
+        when(absenceMappingRepository.findAbsenceMappingByAbsenceIdAndAbsenceMappingType(1L, VACATION)).thenReturn(Optional.empty());
+
+        sut.consumeSickNoteToApplicationConvertedEvent(SickNoteToApplicationConvertedEvent.of(sickNote(2L), application(1L)));
+
+        final ArgumentCaptor<AbsenceMapping> absenceMappingArgumentCaptor = forClass(AbsenceMapping.class);
+        verify(absenceMappingRepository, times(2)).save(absenceMappingArgumentCaptor.capture());
+        assertThat(absenceMappingArgumentCaptor.getAllValues())
+            .extracting(AbsenceMapping::getAbsenceMappingType, AbsenceMapping::getPendingOperation)
+            .containsExactly(
+                tuple(SICKNOTE, DELETE),
+                tuple(VACATION, ADD)
+            );
+    }
+
+    private static Application application(Long id) {
+        final Application application = new Application();
+        application.setId(id);
+        return application;
+    }
 
-        verify(absenceMappingRepository).deleteByEventId("eventId");
+    private static SickNote sickNote(Long id) {
+        return SickNote.builder().id(id).build();
     }
 }
@@ -1,5 +1,9 @@
 package org.synyx.urlaubsverwaltung.calendarintegration;
 
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.http.HttpHeaders;
 import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.model.Event;
 import org.junit.jupiter.api.Test;
@@ -16,11 +20,14 @@ import org.synyx.urlaubsverwaltung.person.Person;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -92,7 +99,7 @@ class GoogleCalendarSyncProviderServiceTest {
 
         final Period updatedPeriod = new Period(LocalDate.parse("2022-08-26"), LocalDate.parse("2022-08-27"), FULL);
         final Absence absenceUpdate = new Absence(person, updatedPeriod, config);
-        sut.update(absenceUpdate, "eventId", calendarSettings);
+        assertThat(sut.update(absenceUpdate, "eventId", calendarSettings)).hasValue("eventId");
 
         verify(events).patch(eq("CALENDAR_ID"), eq("eventId"), eventArgumentCaptor.capture());
         final Event capturedEvent = eventArgumentCaptor.getValue();
@@ -121,6 +128,94 @@ class GoogleCalendarSyncProviderServiceTest {
         verify(events).delete("CALENDAR_ID", "eventId");
     }
 
+    @Test
+    void ensureSyncSendsAllRequestsAsOneBatch() throws IOException {
+
+        final CalendarSettings calendarSettings = prepareCalendarSettings();
+        final GoogleCalendarSyncProvider sut = new GoogleCalendarSyncProvider(googleCalendarClientProvider);
+
+        final Person person = new Person("testUser", "Hans", "Wurst", "testUser@mail.test");
+        final Period period = new Period(LocalDate.parse("2022-08-25"), LocalDate.parse("2022-08-26"), FULL);
+        final Absence absence = new Absence(person, period, new AbsenceTimeConfiguration(new TimeSettings()));
+
+        final Calendar calendarClient = mock(Calendar.class);
+        when(googleCalendarClientProvider.getCalendarClient(calendarSettings.getGoogleCalendarSettings())).thenReturn(Optional.of(calendarClient));
+        final Calendar.Events events = mock(Calendar.Events.class);
+        when(calendarClient.events()).thenReturn(events);
+        final BatchRequest batch = mock(BatchRequest.class);
+        when(calendarClient.batch()).thenReturn(batch);
+
+        final Calendar.Events.Insert insert = mock(Calendar.Events.Insert.class);
+        when(events.insert(eq("CALENDAR_ID"), any())).thenReturn(insert);
+        final Calendar.Events.Patch patch = mock(Calendar.Events.Patch.class);
+        when(events.patch(eq("CALENDAR_ID"), eq("updatedEventId"), any())).thenReturn(patch);
+        final Calendar.Events.Delete delete = mock(Calendar.Events.Delete.class);
+        when(events.delete("CALENDAR_ID", "deletedEventId")).thenReturn(delete);
+        final Calendar.Events.Delete deleteOfMissingEvent = mock(Calendar.Events.Delete.class);
+        when(events.delete("CALENDAR_ID", "missingEventId")).thenReturn(deleteOfMissingEvent);
+
+        final List<Runnable> responses = new ArrayList<>();
+        doAnswer(invocation -> {
+            final JsonBatchCallback<Event> callback = invocation.getArgument(1);
+            final Event event = new Event();
+            event.setId("addedEventId");
+            responses.add(() -> onSuccess(callback, event));
+            return null;
+        }).when(insert).queue(eq(batch), any());
+        doAnswer(invocation -> {
+            final JsonBatchCallback<Event> callback = invocation.getArgument(1);
+            responses.add(() -> onFailure(callback, 500));
+            return null;
+        }).when(patch).queue(eq(batch), any());
+        doAnswer(invocation -> {
+            final JsonBatchCallback<Void> callback = invocation.getArgument(1);
+            responses.add(() -> onSuccess(callback, null));
+            return null;
+        }).when(delete).queue(eq(batch), any());
+        doAnswer(invocation -> {
+            final JsonBatchCallback<Void> callback = invocation.getArgument(1);
+            responses.add(() -> onFailure(callback, 404));
+            return null;
+        }).when(deleteOfMissingEvent).queue(eq(batch), any());
+        doAnswer(invocation -> {
+            responses.forEach(Runnable::run);
+            return null;
+        }).when(batch).execute();
+
+        final List<CalendarSyncResult> results = sut.sync(List.of(
+            CalendarSyncRequest.add(absence),
+            CalendarSyncRequest.update("updatedEventId", absence),
+            CalendarSyncRequest.delete("deletedEventId"),
+            CalendarSyncRequest.delete("missingEventId")
+        ), calendarSettings);
+
+        assertThat(results).containsExactly(
+            CalendarSyncResult.success("addedEventId"),
+            CalendarSyncResult.failure(),
+            CalendarSyncResult.success("deletedEventId"),
+            CalendarSyncResult.success("missingEventId")
+        );
+        verify(batch).execute();
+    }
+
+    private static <T> void onSuccess(JsonBatchCallback<T> callback, T result) {
+        try {
+            callback.onSuccess(result, new HttpHeaders());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void onFailure(JsonBatchCallback<?> callback, int code) {
+        final GoogleJsonError error = new GoogleJsonError();
+        error.setCode(code);
+        try {
+            callback.onFailure(error, new HttpHeaders());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private CalendarSettings prepareCalendarSettings() {
 
         final GoogleCalendarSettings googleCalendarSettings = new GoogleCalendarSettings();
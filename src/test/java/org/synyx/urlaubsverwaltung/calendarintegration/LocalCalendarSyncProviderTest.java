@@ -0,0 +1,63 @@
+package org.synyx.urlaubsverwaltung.calendarintegration;
+
+import org.junit.jupiter.api.Test;
+import org.synyx.urlaubsverwaltung.absence.Absence;
+import org.synyx.urlaubsverwaltung.absence.AbsenceTimeConfiguration;
+import org.synyx.urlaubsverwaltung.absence.TimeSettings;
+import org.synyx.urlaubsverwaltung.period.Period;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+
+class LocalCalendarSyncProviderTest {
+
+    private final LocalCalendarSyncProvider sut = new LocalCalendarSyncProvider();
+
+    @Test
+    void ensureBatchIsAppliedToLocalCalendar() {
+
+        final CalendarSettings calendarSettings = new CalendarSettings();
+        final Absence absence = absence(LocalDate.parse("2022-08-25"));
+        final Absence updatedAbsence = absence(LocalDate.parse("2022-08-26"));
+
+        final String eventId = sut.add(absence, calendarSettings).orElseThrow();
+        final String eventIdToDelete = sut.add(absence, calendarSettings).orElseThrow();
+
+        final List<CalendarSyncResult> results = sut.sync(List.of(
+            CalendarSyncRequest.add(absence),
+            CalendarSyncRequest.update(eventId, updatedAbsence),
+            CalendarSyncRequest.delete(eventIdToDelete)
+        ), calendarSettings);
+
+        assertThat(results).allMatch(CalendarSyncResult::isSuccessful);
+        assertThat(results.get(1).eventId()).hasValue(eventId);
+        assertThat(results.get(2).eventId()).hasValue(eventIdToDelete);
+
+        assertThat(sut.getEvents())
+            .hasSize(2)
+            .containsEntry(eventId, updatedAbsence)
+            .containsEntry(results.get(0).eventId().orElseThrow(), absence);
+        assertThat(sut.getNumberOfBatches()).isOne();
+    }
+
+    @Test
+    void ensureUpdateOfUnknownEventIsReportedAsFailure() {
+
+        final CalendarSettings calendarSettings = new CalendarSettings();
+        final Absence absence = absence(LocalDate.parse("2022-08-25"));
+
+        final List<CalendarSyncResult> results = sut.sync(List.of(CalendarSyncRequest.update("unknownEventId", absence)), calendarSettings);
+
+        assertThat(results).containsExactly(CalendarSyncResult.failure());
+        assertThat(sut.getEvents()).isEmpty();
+    }
+
+    private static Absence absence(LocalDate date) {
+        final Person person = new Person("testUser", "Hans", "Wurst", "testUser@mail.test");
+        return new Absence(person, new Period(date, date, FULL), new AbsenceTimeConfiguration(new TimeSettings()));
+    }
+}
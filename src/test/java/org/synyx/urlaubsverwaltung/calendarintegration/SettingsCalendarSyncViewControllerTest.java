@@ -219,7 +219,7 @@ class SettingsCalendarSyncViewControllerTest {
         }
 
         @Override
-        public void update(Absence absence, String eventId, CalendarSettings calendarSettings) {
+        public Optional<String> update(Absence absence, String eventId, CalendarSettings calendarSettings) {
             throw new UnsupportedOperationException("This is just a mock to have some named CalendarProvider impl.");
         }
 
@@ -242,7 +242,7 @@ class SettingsCalendarSyncViewControllerTest {
         }
 
         @Override
-        public void update(Absence absence, String eventId, CalendarSettings calendarSettings) {
+        public Optional<String> update(Absence absence, String eventId, CalendarSettings calendarSettings) {
             throw new UnsupportedOperationException("This is just a mock to have some named CalendarProvider impl.");
         }
 
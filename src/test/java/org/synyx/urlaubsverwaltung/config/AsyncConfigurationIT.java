@@ -0,0 +1,84 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.synyx.urlaubsverwaltung.TestContainersBase;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.synyx.urlaubsverwaltung.person.MailNotification.NOTIFICATION_EMAIL_PERSON_NEW_MANAGEMENT_ALL;
+import static org.synyx.urlaubsverwaltung.person.Role.OFFICE;
+import static org.synyx.urlaubsverwaltung.person.Role.USER;
+
+/**
+ * Executes {@code @Async} methods asynchronously as in production, all other tests execute them synchronously.
+ */
+@SpringBootTest(properties = {"uv.async.enabled=true", "spring.mail.port=3025", "spring.mail.host=localhost"})
+class AsyncConfigurationIT extends TestContainersBase {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP_IMAP);
+
+    @Autowired
+    private PersonService personService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Person> createdPersons = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        createdPersons.forEach(person -> personService.delete(person, person));
+    }
+
+    @Test
+    void ensurePersonCreationNotificationIsSentAfterCommitAndSeesCommittedPerson() {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            createdPersons.add(createOffice("async-office", "async-office@example.org"));
+
+            // the notification is neither sent nor queued before the person has been committed
+            assertThat(greenMail.waitForIncomingEmail(500, 1)).isFalse();
+        });
+
+        // the notification reads the recipients itself, so it is only sent to the office if the office has been committed
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            final MimeMessage[] inbox = greenMail.getReceivedMessagesForDomain("async-office@example.org");
+            assertThat(inbox).hasSize(1);
+            assertThat(inbox[0].getSubject()).isEqualTo("Ein neuer Benutzer wurde erstellt");
+        });
+    }
+
+    @Test
+    void ensurePersonCreationNotificationIsNotSentIfTransactionIsRolledBack() {
+
+        final Person office = transactionTemplate.execute(status -> createOffice("async-office", "async-office@example.org"));
+        createdPersons.add(office);
+        await().atMost(Duration.ofSeconds(10)).until(() -> greenMail.getReceivedMessages().length == 1);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            personService.create("async-user", "Lieschen", "Müller", "async-user@example.org", List.of(), List.of(USER));
+            status.setRollbackOnly();
+        });
+
+        assertThat(greenMail.waitForIncomingEmail(1000, 2)).isFalse();
+        assertThat(greenMail.getReceivedMessagesForDomain("async-office@example.org")).hasSize(1);
+    }
+
+    private Person createOffice(String username, String email) {
+        return personService.create(username, "Marlene", "Muster", email, List.of(NOTIFICATION_EMAIL_PERSON_NEW_MANAGEMENT_ALL), List.of(USER, OFFICE));
+    }
+}
@@ -0,0 +1,192 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_COMMITTED;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_ROLLED_BACK;
+
+class BoundedVirtualThreadTaskExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedVirtualThreadTaskExecutor sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sut != null) {
+            sut.shutdown();
+        }
+    }
+
+    @Test
+    void ensureExecutesTasksOnNamedVirtualThreads() throws InterruptedException {
+
+        sut = executor(1, 10, Duration.ofSeconds(5));
+
+        final CountDownLatch executed = new CountDownLatch(1);
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        sut.execute(() -> {
+            threads.add(Thread.currentThread());
+            executed.countDown();
+        });
+
+        assertThat(executed.await(5, SECONDS)).isTrue();
+        assertThat(threads).singleElement().satisfies(thread -> {
+            assertThat(thread.isVirtual()).isTrue();
+            assertThat(thread.getName()).isEqualTo("mailTaskExecutor-0");
+        });
+    }
+
+    @Test
+    void ensureExecutesTaskBySubmittingThreadIfQueueIsFull() throws InterruptedException {
+
+        sut = executor(1, 1, Duration.ofSeconds(5));
+
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        sut.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, SECONDS)).isTrue();
+
+        // queued
+        sut.execute(() -> {
+        });
+
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        sut.execute(() -> threads.add(Thread.currentThread()));
+        release.countDown();
+
+        assertThat(threads).containsExactly(Thread.currentThread());
+        assertThat(meterRegistry.get("executor.caller.runs").tag("name", "mailTaskExecutor").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void ensureRecordsQueueDepthAndTimes() throws InterruptedException {
+
+        sut = executor(1, 10, Duration.ofSeconds(5));
+
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        sut.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, SECONDS)).isTrue();
+
+        final CountDownLatch executed = new CountDownLatch(1);
+        sut.execute(executed::countDown);
+
+        assertThat(meterRegistry.get("executor.queued").tag("name", "mailTaskExecutor").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("executor.active").tag("name", "mailTaskExecutor").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(executed.await(5, SECONDS)).isTrue();
+
+        sut.shutdown();
+        assertThat(meterRegistry.get("executor.idle").tag("name", "mailTaskExecutor").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("executor").tag("name", "mailTaskExecutor").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void ensureShutdownDrainsQueuedTasks() {
+
+        sut = executor(1, 10, Duration.ofSeconds(5));
+
+        final AtomicBoolean lastTaskExecuted = new AtomicBoolean();
+        sut.execute(() -> sleep(Duration.ofMillis(100)));
+        sut.execute(() -> sleep(Duration.ofMillis(100)));
+        sut.execute(() -> lastTaskExecuted.set(true));
+
+        sut.shutdown();
+
+        assertThat(lastTaskExecuted).isTrue();
+    }
+
+    @Test
+    void ensureExecutesTaskSubmittedWithinTransactionAfterCommit() throws InterruptedException {
+
+        sut = executor(1, 10, Duration.ofSeconds(5));
+
+        final CountDownLatch executed = new CountDownLatch(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.submit(executed::countDown);
+
+            assertThat(executed.await(200, MILLISECONDS)).isFalse();
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(), STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(executed.await(5, SECONDS)).isTrue();
+    }
+
+    @Test
+    void ensureDiscardsTaskSubmittedWithinTransactionOnRollback() throws InterruptedException {
+
+        sut = executor(1, 10, Duration.ofSeconds(5));
+
+        final CountDownLatch executed = new CountDownLatch(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.execute(executed::countDown);
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(), STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(executed.await(200, MILLISECONDS)).isFalse();
+        assertThat(meterRegistry.get("executor").tag("name", "mailTaskExecutor").timer().count()).isZero();
+    }
+
+    private BoundedVirtualThreadTaskExecutor executor(int concurrency, int queueCapacity, Duration shutdownTimeout) {
+        final AsyncProperties.Executor properties = new AsyncProperties.Executor();
+        properties.setConcurrency(concurrency);
+        properties.setQueueCapacity(queueCapacity);
+
+        final BoundedVirtualThreadTaskExecutor executor = new BoundedVirtualThreadTaskExecutor("mailTaskExecutor", properties, shutdownTimeout, meterRegistry);
+        executor.initialize();
+        return executor;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.synyx.urlaubsverwaltung.department.DepartmentChangedEvent;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
+import org.synyx.urlaubsverwaltung.person.PersonUpdatedEvent;
+import org.synyx.urlaubsverwaltung.settings.Settings;
+import org.synyx.urlaubsverwaltung.settings.SettingsUpdatedEvent;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.config.SecondLevelCacheRegions.DEPARTMENT;
+import static org.synyx.urlaubsverwaltung.config.SecondLevelCacheRegions.PERSON;
+import static org.synyx.urlaubsverwaltung.config.SecondLevelCacheRegions.SETTINGS;
+import static org.synyx.urlaubsverwaltung.config.SecondLevelCacheRegions.WORKING_TIME;
+
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheEvictionTest {
+
+    private SecondLevelCacheEviction sut;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private jakarta.persistence.Cache jpaCache;
+    @Mock
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.getCache()).thenReturn(jpaCache);
+        when(jpaCache.unwrap(Cache.class)).thenReturn(cache);
+        sut = new SecondLevelCacheEviction(entityManagerFactory);
+    }
+
+    @Test
+    void ensureEvictsSettingsOnSettingsUpdated() {
+        sut.on(SettingsUpdatedEvent.of(new Settings()));
+
+        verify(cache).evictRegion(SETTINGS);
+        verifyNoMoreInteractions(cache);
+    }
+
+    @Test
+    void ensureEvictsPersonsOnPersonUpdated() {
+        sut.on(new PersonUpdatedEvent(this, 1L, "Marlene Muster", "muster", "muster@example.org", true));
+
+        verify(cache).evictRegion(PERSON);
+        verifyNoMoreInteractions(cache);
+    }
+
+    @Test
+    void ensureEvictsPersonsDepartmentsAndWorkingTimesOnPersonDeleted() {
+        sut.on(new PersonDeletedEvent(new Person("muster", "Muster", "Marlene", "muster@example.org")));
+
+        verify(cache).evictRegion(PERSON);
+        verify(cache).evictRegion(DEPARTMENT);
+        verify(cache).evictRegion(WORKING_TIME);
+        verifyNoMoreInteractions(cache);
+    }
+
+    @Test
+    void ensureEvictsDepartmentsOnDepartmentChanged() {
+        sut.on(new DepartmentChangedEvent(1L));
+
+        verify(cache).evictRegion(DEPARTMENT);
+        verifyNoMoreInteractions(cache);
+    }
+}
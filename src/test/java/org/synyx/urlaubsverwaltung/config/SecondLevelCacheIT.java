@@ -0,0 +1,81 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.synyx.urlaubsverwaltung.TestContainersBase;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.settings.Settings;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.config.SecondLevelCacheRegions.PERSON;
+import static org.synyx.urlaubsverwaltung.config.SecondLevelCacheRegions.SETTINGS;
+import static org.synyx.urlaubsverwaltung.person.Role.USER;
+
+@SpringBootTest(properties = "uv.cache.second-level.enabled=true")
+class SecondLevelCacheIT extends TestContainersBase {
+
+    @Autowired
+    private SettingsService settingsService;
+    @Autowired
+    private PersonService personService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void ensureSettingsAreReadFromCacheAndUpdatedSettingsAreReadAfterUpdate() {
+
+        final Integer maximumMonthsInAdvance = settingsService.getSettings().getApplicationSettings().getMaximumMonthsToApplyForLeaveInAdvance();
+
+        final double hits = hits(SETTINGS);
+        settingsService.getSettings();
+        assertThat(hits(SETTINGS)).isGreaterThan(hits);
+
+        try {
+            final Settings settings = settingsService.getSettings();
+            settings.getApplicationSettings().setMaximumMonthsToApplyForLeaveInAdvance(maximumMonthsInAdvance + 1);
+            settingsService.save(settings);
+
+            assertThat(settingsService.getSettings().getApplicationSettings().getMaximumMonthsToApplyForLeaveInAdvance())
+                .isEqualTo(maximumMonthsInAdvance + 1);
+        } finally {
+            final Settings settings = settingsService.getSettings();
+            settings.getApplicationSettings().setMaximumMonthsToApplyForLeaveInAdvance(maximumMonthsInAdvance);
+            settingsService.save(settings);
+        }
+    }
+
+    @Test
+    void ensurePersonIsReadFromCacheAndUpdatedPersonIsReadAfterUpdate() {
+
+        final Person person = personService.create("second-level-cache", "Marlene", "Muster", "muster@example.org", List.of(), List.of(USER));
+        try {
+            assertThat(personService.getPersonByID(person.getId())).isPresent();
+
+            final double hits = hits(PERSON);
+            final Person cachedPerson = personService.getPersonByID(person.getId()).orElseThrow();
+            assertThat(hits(PERSON)).isGreaterThan(hits);
+            assertThat(cachedPerson.getFirstName()).isEqualTo("Marlene");
+            assertThat(cachedPerson.getPermissions()).containsExactly(USER);
+
+            cachedPerson.setFirstName("Martha");
+            personService.update(cachedPerson);
+
+            assertThat(personService.getPersonByID(person.getId()))
+                .hasValueSatisfying(updatedPerson -> assertThat(updatedPerson.getFirstName()).isEqualTo("Martha"));
+        } finally {
+            personService.delete(person, person);
+        }
+
+        assertThat(personService.getPersonByID(person.getId())).isEmpty();
+    }
+
+    private double hits(String regionName) {
+        return meterRegistry.get("cache.gets").tags("cache", regionName, "result", "hit").functionCounter().count();
+    }
+}
@@ -0,0 +1,101 @@
+package org.synyx.urlaubsverwaltung.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.synyx.urlaubsverwaltung.config.SecondLevelCacheRegions.PERSON;
+
+class SecondLevelCacheManagerFactoryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        final SecondLevelCacheProperties properties = new SecondLevelCacheProperties();
+        properties.setMaximumSize(10);
+        properties.setTimeToLive(Duration.ofMinutes(5));
+        cacheManager = new SecondLevelCacheManagerFactory(properties, meterRegistry).create();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    void ensureCreatesACacheForEveryRegion() {
+        assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrderElementsOf(SecondLevelCacheRegions.all());
+    }
+
+    @Test
+    void ensureCreatesCacheManagersIndependentOfEachOther() {
+
+        final CacheManager otherCacheManager = new SecondLevelCacheManagerFactory(new SecondLevelCacheProperties(), new SimpleMeterRegistry()).create();
+        try {
+            otherCacheManager.getCache(PERSON).put(1L, "other");
+            assertThat(cacheManager.getCache(PERSON).get(1L)).isNull();
+        } finally {
+            otherCacheManager.close();
+        }
+    }
+
+    @Test
+    void ensureRecordsHitsAndMisses() {
+
+        final Cache<Object, Object> cache = cacheManager.getCache(PERSON);
+        assertThat(cache.get(1L)).isNull();
+
+        cache.put(1L, "entry");
+        assertThat(cache.get(1L)).isEqualTo("entry");
+        assertThat(cache.get(1L)).isEqualTo("entry");
+
+        assertThat(meterRegistry.get("cache.gets").tags("cache", PERSON, "result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", PERSON, "result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.size").tag("cache", PERSON).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void ensureRecordsEvictions() {
+
+        final Cache<Object, Object> cache = cacheManager.getCache(PERSON);
+        cache.put(1L, "first");
+        cache.put(2L, "second");
+        cache.put(3L, "third");
+
+        cache.remove(1L);
+        cache.remove(4L);
+        assertThat(cache.containsKey(1L)).isFalse();
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", PERSON).counter().count()).isEqualTo(1);
+
+        cache.removeAll();
+        assertThat(cache.containsKey(2L)).isFalse();
+        assertThat(cache.containsKey(3L)).isFalse();
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", PERSON).counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("cache.size").tag("cache", PERSON).gauge().value()).isZero();
+    }
+
+    @Test
+    void ensureNumberOfEntriesIsBounded() {
+
+        final Cache<Object, Object> cache = cacheManager.getCache(PERSON);
+        for (long key = 0; key < 100; key++) {
+            cache.put(key, "entry");
+        }
+
+        await().untilAsserted(() -> {
+            assertThat(meterRegistry.get("cache.size").tag("cache", PERSON).gauge().value()).isLessThanOrEqualTo(10);
+            assertThat(meterRegistry.get("cache.evictions").tag("cache", PERSON).counter().count()).isGreaterThanOrEqualTo(90);
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package org.synyx.urlaubsverwaltung.csv;
+
+import com.opencsv.CSVWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.synyx.urlaubsverwaltung.web.FilterPeriod;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Locale.JAPANESE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingCsvExportServiceTest {
+
+    private final StreamingCsvExportService<String> sut = new StreamingCsvExportService<>() {
+        @Override
+        public void writeHeader(FilterPeriod period, Locale locale, CSVWriter csvWriter) {
+            csvWriter.writeNext(new String[]{"header", "column"});
+        }
+
+        @Override
+        public void writeRows(FilterPeriod period, Locale locale, List<String> data, CSVWriter csvWriter) {
+            data.forEach(value -> csvWriter.writeNext(new String[]{value, value}));
+        }
+
+        @Override
+        public String fileName(FilterPeriod period, Locale locale) {
+            return "someFileName.csv";
+        }
+    };
+
+    private final FilterPeriod period = new FilterPeriod(LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 3));
+
+    @Test
+    void ensureWritesBomHeaderAndRowsIntoOutputStream() {
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        sut.write(period, JAPANESE, List.of("A", "B"), outputStream);
+
+        assertThat(outputStream.toByteArray()).startsWith((byte) 239, (byte) 187, (byte) 191);
+        assertThat(new String(outputStream.toByteArray(), UTF_8)).isEqualTo("﻿header;column\nA;A\nB;B\n");
+    }
+
+    @Test
+    void ensureWritesAllPagesWithOneHeader() {
+
+        final List<Pageable> requestedPages = new ArrayList<>();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        sut.writeAllPages(period, JAPANESE, PageRequest.of(0, 2), pageable -> {
+            requestedPages.add(pageable);
+            final List<String> content = pageable.getPageNumber() == 0 ? List.of("A", "B") : List.of("C");
+            return new PageImpl<>(content, pageable, 3);
+        }, outputStream);
+
+        assertThat(requestedPages).containsExactly(PageRequest.of(0, 2), PageRequest.of(1, 2));
+        assertThat(new String(outputStream.toByteArray(), UTF_8)).isEqualTo("﻿header;column\nA;A\nB;B\nC;C\n");
+    }
+
+    @Test
+    void ensureWritesOnlyHeaderWithoutData() {
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        sut.writeAllPages(period, JAPANESE, PageRequest.of(0, 2), Page::empty, outputStream);
+
+        assertThat(new String(outputStream.toByteArray(), UTF_8)).isEqualTo("﻿header;column\n");
+    }
+}
@@ -0,0 +1,270 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.activeStatuses;
+
+@ExtendWith(MockitoExtension.class)
+class ColleagueAbsenceCacheTest {
+
+    private ColleagueAbsenceCache sut;
+
+    @Mock
+    private ApplicationService applicationService;
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    private DepartmentMembershipIndex departmentMembershipIndex;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        departmentMembershipIndex = new DepartmentMembershipIndex(departmentRepository, TransactionOperations.withoutTransaction(), meterRegistry);
+        sut = new ColleagueAbsenceCache(applicationService, departmentMembershipIndex, meterRegistry);
+    }
+
+    @Test
+    void ensureReturnsEmptyListIfPersonIsNotAssignedToAnyDepartment() {
+
+        final Person person = person(1);
+        final Person other = person(2);
+        when(departmentRepository.findAll()).thenReturn(List.of(department(1L, other)));
+
+        final LocalDate date = LocalDate.of(2022, 10, 2);
+
+        final List<Application> applications = sut.getApplicationsFromColleaguesOf(person, date, date);
+        assertThat(applications).isEmpty();
+
+        verifyNoInteractions(applicationService);
+    }
+
+    @Test
+    void ensureReturnsApplicationsOfAllDepartmentsOfPersonWithinPeriodSortedByStartDate() {
+
+        final Person person = person(1);
+        final Person admin = person(2);
+        final Person marketing = person(3);
+        when(departmentRepository.findAll()).thenReturn(List.of(department(1L, admin, person), department(2L, marketing, person)));
+
+        final Application adminApplication = application(1L, admin, LocalDate.of(2022, 10, 12), LocalDate.of(2022, 10, 13));
+        final Application marketingApplication = application(2L, marketing, LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 3));
+        final Application marketingApplicationOutsidePeriod = application(3L, marketing, LocalDate.of(2022, 10, 28), LocalDate.of(2022, 10, 29));
+        final Application ownApplication = application(4L, person, LocalDate.of(2022, 10, 5), LocalDate.of(2022, 10, 5));
+
+        when(applicationService.getForStatesAndPerson(activeStatuses(), List.of(admin, person), LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31)))
+            .thenReturn(List.of(adminApplication, ownApplication));
+        when(applicationService.getForStatesAndPerson(activeStatuses(), List.of(marketing, person), LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31)))
+            .thenReturn(List.of(marketingApplicationOutsidePeriod, marketingApplication, ownApplication));
+
+        final List<Application> applications = sut.getApplicationsFromColleaguesOf(person, LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 20));
+        assertThat(applications).containsExactly(marketingApplication, adminApplication);
+    }
+
+    @Test
+    void ensureApplicationSpanningSeveralMonthsIsReturnedOnce() {
+
+        final Person person = person(1);
+        final Person colleague = person(2);
+        when(departmentRepository.findAll()).thenReturn(List.of(department(1L, colleague, person)));
+
+        final Application application = application(1L, colleague, LocalDate.of(2022, 10, 28), LocalDate.of(2022, 11, 4));
+        when(applicationService.getForStatesAndPerson(activeStatuses(), List.of(colleague, person), LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31)))
+            .thenReturn(List.of(application));
+        when(applicationService.getForStatesAndPerson(activeStatuses(), List.of(colleague, person), LocalDate.of(2022, 11, 1), LocalDate.of(2022, 11, 30)))
+            .thenReturn(List.of(application));
+
+        final List<Application> applications = sut.getApplicationsFromColleaguesOf(person, LocalDate.of(2022, 10, 1), LocalDate.of(2022, 11, 30));
+        assertThat(applications).containsExactly(application);
+    }
+
+    @Test
+    void ensureReturnsApplicationsOfAllOtherPersonsIfThereAreNoDepartments() {
+
+        final Person person = person(1);
+        final Person colleague = person(2);
+        when(departmentRepository.findAll()).thenReturn(List.of());
+
+        final Application colleagueApplication = application(1L, colleague, LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 2));
+        final Application ownApplication = application(2L, person, LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 1));
+        when(applicationService.getForStates(activeStatuses(), LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31)))
+            .thenReturn(List.of(colleagueApplication, ownApplication));
+
+        final List<Application> applications = sut.getApplicationsFromColleaguesOf(person, LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31));
+        assertThat(applications).containsExactly(colleagueApplication);
+    }
+
+    @Test
+    void ensureSecondLookupIsServedFromCache() {
+
+        final Person person = person(1);
+        final Person colleague = person(2);
+        when(departmentRepository.findAll()).thenReturn(List.of(department(1L, colleague, person)));
+
+        final Application application = application(1L, colleague, LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 2));
+        when(applicationService.getForStatesAndPerson(activeStatuses(), List.of(colleague, person), LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31)))
+            .thenReturn(List.of(application));
+
+        sut.getApplicationsFromColleaguesOf(person, LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31));
+        final List<Application> applications = sut.getApplicationsFromColleaguesOf(colleague, LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31));
+        assertThat(applications).isEmpty();
+
+        verify(applicationService).getForStatesAndPerson(activeStatuses(), List.of(colleague, person), LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31));
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").counter().count()).isOne();
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").counter().count()).isOne();
+        assertThat(meterRegistry.get("cache.size").gauge().value()).isOne();
+    }
+
+    @Test
+    void ensureApplicationEventEvictsBucketsOfDepartmentsOfApplicant() {
+
+        final Person person = person(1);
+        final Person colleague = person(2);
+        final Person other = person(3);
+        when(departmentRepository.findAll()).thenReturn(List.of(department(1L, colleague, person), department(2L, other, person)));
+
+        final Application application = application(1L, colleague, LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 2));
+        when(applicationService.getForStatesAndPerson(activeStatuses(), List.of(colleague, person), LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31)))
+            .thenReturn(List.of(application));
+        when(applicationService.getForStatesAndPerson(activeStatuses(), List.of(other, person), LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31)))
+            .thenReturn(List.of());
+
+        sut.getApplicationsFromColleaguesOf(person, LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31));
+        sut.on(ApplicationAllowedEvent.of(application));
+        sut.getApplicationsFromColleaguesOf(person, LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31));
+
+        verify(applicationService, times(2)).getForStatesAndPerson(activeStatuses(), List.of(colleague, person), LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31));
+        verify(applicationService).getForStatesAndPerson(activeStatuses(), List.of(other, person), LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31));
+        assertThat(meterRegistry.get("cache.evictions").counter().count()).isOne();
+    }
+
+    @Test
+    void ensureBucketsAreDroppedWhenDepartmentsChanged() {
+
+        final Person person = person(1);
+        final Person colleague = person(2);
+        final Person newColleague = person(3);
+        when(departmentRepository.findAll())
+            .thenReturn(List.of(department(1L, colleague, person)))
+            .thenReturn(List.of(department(1L, colleague, newColleague, person)));
+
+        final Application application = application(1L, newColleague, LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 2));
+        when(applicationService.getForStatesAndPerson(activeStatuses(), List.of(colleague, person), LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31)))
+            .thenReturn(List.of());
+        when(applicationService.getForStatesAndPerson(activeStatuses(), List.of(colleague, newColleague, person), LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31)))
+            .thenReturn(List.of(application));
+
+        assertThat(sut.getApplicationsFromColleaguesOf(person, LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31))).isEmpty();
+
+        departmentMembershipIndex.on(new DepartmentChangedEvent(1L));
+
+        assertThat(sut.getApplicationsFromColleaguesOf(person, LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31))).containsExactly(application);
+    }
+
+    @Test
+    void ensureHandsOutCopiesOfCachedApplications() {
+
+        final Person person = person(1);
+        final Person colleague = person(2);
+        when(departmentRepository.findAll()).thenReturn(List.of(department(1L, colleague, person)));
+
+        final Application application = application(1L, colleague, LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 2));
+        when(applicationService.getForStatesAndPerson(activeStatuses(), List.of(colleague, person), LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31)))
+            .thenReturn(List.of(application));
+
+        final Application first = sut.getApplicationsFromColleaguesOf(person, LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31)).get(0);
+        assertThat(first).isNotSameAs(application);
+        assertThat(first.getPerson()).isNotSameAs(colleague);
+
+        application.setStartDate(LocalDate.of(2022, 10, 30));
+        application.setEndDate(LocalDate.of(2022, 10, 30));
+        first.setStartDate(LocalDate.of(2022, 10, 20));
+        first.getPerson().setFirstName("Changed");
+
+        final Application second = sut.getApplicationsFromColleaguesOf(person, LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31)).get(0);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getStartDate()).isEqualTo(LocalDate.of(2022, 10, 2));
+        assertThat(second.getEndDate()).isEqualTo(LocalDate.of(2022, 10, 2));
+        assertThat(second.getPerson().getFirstName()).isNull();
+    }
+
+    @Test
+    void ensureApplicationsLoadedWhileAnApplicationChangedAreNotCached() {
+
+        final Person person = person(1);
+        final Person colleague = person(2);
+        when(departmentRepository.findAll()).thenReturn(List.of(department(1L, colleague, person)));
+
+        final Application application = application(1L, colleague, LocalDate.of(2022, 10, 2), LocalDate.of(2022, 10, 2));
+        when(applicationService.getForStatesAndPerson(activeStatuses(), List.of(colleague, person), LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31)))
+            .thenAnswer(invocation -> {
+                sut.on(ApplicationAllowedEvent.of(application));
+                return List.of(application);
+            });
+
+        assertThat(sut.getApplicationsFromColleaguesOf(person, LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31))).containsExactly(application);
+        assertThat(meterRegistry.get("cache.size").gauge().value()).isZero();
+
+        sut.getApplicationsFromColleaguesOf(person, LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31));
+        verify(applicationService, times(2)).getForStatesAndPerson(activeStatuses(), List.of(colleague, person), LocalDate.of(2022, 10, 1), LocalDate.of(2022, 10, 31));
+    }
+
+    @Test
+    void ensureNumberOfCachedBucketsIsBounded() {
+
+        final Person person = person(1);
+        final Person colleague = person(2);
+        when(departmentRepository.findAll()).thenReturn(List.of(department(1L, colleague, person)));
+
+        final LocalDate startDate = LocalDate.of(1900, 1, 1);
+        final LocalDate endDate = startDate.plusMonths(ColleagueAbsenceCache.MAXIMUM_BUCKETS + 99);
+        sut.getApplicationsFromColleaguesOf(person, startDate, endDate);
+
+        assertThat(meterRegistry.get("cache.size").gauge().value()).isLessThanOrEqualTo(ColleagueAbsenceCache.MAXIMUM_BUCKETS);
+        assertThat(meterRegistry.get("cache.evictions").counter().count()).isPositive();
+    }
+
+    private static Person person(long id) {
+        final Person person = new Person();
+        person.setId(id);
+        return person;
+    }
+
+    private static DepartmentEntity department(Long id, Person... members) {
+        final DepartmentEntity department = new DepartmentEntity();
+        department.setId(id);
+        department.setMembers(List.of(members).stream().map(member -> {
+            final DepartmentMemberEmbeddable departmentMember = new DepartmentMemberEmbeddable();
+            departmentMember.setPerson(member);
+            return departmentMember;
+        }).toList());
+        return department;
+    }
+
+    private static Application application(Long id, Person person, LocalDate startDate, LocalDate endDate) {
+        final Application application = new Application();
+        application.setId(id);
+        application.setPerson(person);
+        application.setStartDate(startDate);
+        application.setEndDate(endDate);
+        return application;
+    }
+}
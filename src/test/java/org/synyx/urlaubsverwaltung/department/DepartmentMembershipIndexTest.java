@@ -0,0 +1,160 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
+import org.synyx.urlaubsverwaltung.person.PersonUpdatedEvent;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DepartmentMembershipIndexTest {
+
+    private DepartmentMembershipIndex sut;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new DepartmentMembershipIndex(departmentRepository, TransactionOperations.withoutTransaction(), meterRegistry);
+    }
+
+    @Test
+    void ensureGraphIsBuiltOnceAndShared() {
+
+        when(departmentRepository.findAll()).thenReturn(List.of());
+
+        final DepartmentGraph first = sut.graph();
+        final DepartmentGraph second = sut.graph();
+
+        assertThat(first).isSameAs(second);
+        verify(departmentRepository).findAll();
+        assertThat(meterRegistry.get("departments.graph.rebuilds").counter().count()).isOne();
+    }
+
+    @Test
+    void ensureGraphIsRebuiltAfterDepartmentChanged() {
+
+        final Person departmentHead = person(1);
+        final Person member = person(2);
+
+        final DepartmentEntity department = new DepartmentEntity();
+        department.setId(1L);
+        department.setDepartmentHeads(List.of(departmentHead));
+
+        final DepartmentEntity updatedDepartment = new DepartmentEntity();
+        updatedDepartment.setId(1L);
+        updatedDepartment.setDepartmentHeads(List.of(departmentHead));
+        updatedDepartment.setMembers(List.of(member(member)));
+
+        when(departmentRepository.findAll()).thenReturn(List.of(department), List.of(updatedDepartment));
+
+        assertThat(sut.graph().getMembersOfDepartmentHead(departmentHead)).isEmpty();
+
+        sut.on(new DepartmentChangedEvent(1L));
+
+        assertThat(sut.graph().getMembersOfDepartmentHead(departmentHead)).containsExactly(member);
+        verify(departmentRepository, times(2)).findAll();
+    }
+
+    @Test
+    void ensureGraphIsRebuiltAfterPersonUpdated() {
+
+        when(departmentRepository.findAll()).thenReturn(List.of());
+
+        sut.graph();
+        sut.on(new PersonUpdatedEvent(this, 1L, "Marlene Muster", "muster", "muster@example.org", true));
+        sut.graph();
+
+        verify(departmentRepository, times(2)).findAll();
+    }
+
+    @Test
+    void ensureGraphIsRebuiltAfterPersonDeleted() {
+
+        when(departmentRepository.findAll()).thenReturn(List.of());
+
+        sut.graph();
+        sut.on(new PersonDeletedEvent(person(1)));
+        sut.graph();
+
+        verify(departmentRepository, times(2)).findAll();
+    }
+
+    @Test
+    void ensureManagedMembersExcludeSecondStageAuthoritiesOfSameDepartment() {
+
+        final Person departmentHead = person(1);
+        final Person secondStageAuthority = person(2);
+        final Person member = person(3);
+
+        final DepartmentEntity department = new DepartmentEntity();
+        department.setId(1L);
+        department.setDepartmentHeads(List.of(departmentHead));
+        department.setSecondStageAuthorities(List.of(secondStageAuthority));
+        department.setMembers(List.of(member(member), member(secondStageAuthority)));
+
+        when(departmentRepository.findAll()).thenReturn(List.of(department));
+
+        final DepartmentGraph graph = sut.graph();
+        assertThat(graph.getMembersOfDepartmentHead(departmentHead)).containsExactly(member, secondStageAuthority);
+        assertThat(graph.getManagedMembersOfDepartmentHead(departmentHead)).containsExactly(member);
+        assertThat(graph.getManagedMembersOfSecondStageAuthority(secondStageAuthority)).containsExactly(member);
+        assertThat(graph.getDepartments(departmentHead, false).isEmpty()).isTrue();
+        assertThat(graph.getDepartments(departmentHead, true).intersects(graph.getDepartments(member, false))).isTrue();
+    }
+
+    @Test
+    void ensureGraphHandsOutCopiesOfThePersons() {
+
+        final Person departmentHead = person(1);
+        final Person member = person(2);
+        member.setFirstName("Marlene");
+
+        final DepartmentEntity department = new DepartmentEntity();
+        department.setId(1L);
+        department.setDepartmentHeads(List.of(departmentHead));
+        department.setMembers(List.of(member(member)));
+
+        when(departmentRepository.findAll()).thenReturn(List.of(department));
+
+        final DepartmentGraph graph = sut.graph();
+        final Person handedOut = graph.getMembersOfDepartmentHead(departmentHead).getFirst();
+        assertThat(handedOut).isEqualTo(member).isNotSameAs(member);
+
+        handedOut.setFirstName("Hans");
+        member.setFirstName("Dampf");
+
+        final Person handedOutAgain = graph.getMembersOfDepartmentHead(departmentHead).getFirst();
+        assertThat(handedOutAgain).isNotSameAs(handedOut);
+        assertThat(handedOutAgain.getFirstName()).isEqualTo("Marlene");
+        assertThat(graph.isMemberOfDepartmentHead(departmentHead, member)).isTrue();
+    }
+
+    private static Person person(long id) {
+        final Person person = new Person();
+        person.setId(id);
+        return person;
+    }
+
+    private static DepartmentMemberEmbeddable member(Person person) {
+        final DepartmentMemberEmbeddable member = new DepartmentMemberEmbeddable();
+        member.setPerson(person);
+        return member;
+    }
+}
@@ -60,4 +60,64 @@ class DepartmentRepositoryIT extends TestContainersBase {
         final List<DepartmentEntity> departments = sut.findByDepartmentHeadsOrSecondStageAuthorities(savedPerson, savedPerson);
         assertThat(departments).containsOnly(savedDepartmentA, savedDepartmentB);
     }
+
+    @Test
+    void ensureDepartmentsPersonHasAccessToContainsMemberAndManagedDepartments() {
+
+        final Person savedPerson = personService.create("muster", "Marlene", "Muster", "muster@example.org", List.of(), List.of(USER, DEPARTMENT_HEAD));
+        final Person savedOther = personService.create("other", "other", "other", "other@example.org", List.of(), List.of(USER));
+
+        final DepartmentMemberEmbeddable personMember = new DepartmentMemberEmbeddable();
+        personMember.setAccessionDate(Instant.now());
+        personMember.setPerson(savedPerson);
+
+        final DepartmentMemberEmbeddable otherMember = new DepartmentMemberEmbeddable();
+        otherMember.setAccessionDate(Instant.now());
+        otherMember.setPerson(savedOther);
+
+        final DepartmentEntity memberDepartment = new DepartmentEntity();
+        memberDepartment.setName("memberDepartment");
+        memberDepartment.setCreatedAt(LocalDate.of(2022, 10, 2));
+        memberDepartment.setMembers(List.of(personMember));
+        final DepartmentEntity savedMemberDepartment = sut.save(memberDepartment);
+
+        final DepartmentEntity headDepartment = new DepartmentEntity();
+        headDepartment.setName("headDepartment");
+        headDepartment.setCreatedAt(LocalDate.of(2022, 10, 2));
+        headDepartment.setDepartmentHeads(List.of(savedPerson));
+        final DepartmentEntity savedHeadDepartment = sut.save(headDepartment);
+
+        final DepartmentEntity otherDepartment = new DepartmentEntity();
+        otherDepartment.setName("otherDepartment");
+        otherDepartment.setCreatedAt(LocalDate.of(2022, 10, 2));
+        otherDepartment.setMembers(List.of(otherMember));
+        sut.save(otherDepartment);
+
+        assertThat(sut.findDepartmentsPersonHasAccessTo(savedPerson, true, false)).containsOnly(savedMemberDepartment, savedHeadDepartment);
+        assertThat(sut.findDepartmentsPersonHasAccessTo(savedPerson, false, false)).containsOnly(savedMemberDepartment);
+    }
+
+    @Test
+    void ensureMembershipsOfPersonsAreFound() {
+
+        final Person savedMemberA = personService.create("memberA", "memberA", "memberA", "memberA@example.org", List.of(), List.of(USER));
+        final Person savedMemberB = personService.create("memberB", "memberB", "memberB", "memberB@example.org", List.of(), List.of(USER));
+
+        final DepartmentMemberEmbeddable memberA = new DepartmentMemberEmbeddable();
+        memberA.setAccessionDate(Instant.now());
+        memberA.setPerson(savedMemberA);
+
+        final DepartmentMemberEmbeddable memberB = new DepartmentMemberEmbeddable();
+        memberB.setAccessionDate(Instant.now());
+        memberB.setPerson(savedMemberB);
+
+        final DepartmentEntity department = new DepartmentEntity();
+        department.setName("department");
+        department.setCreatedAt(LocalDate.of(2022, 10, 2));
+        department.setMembers(List.of(memberA, memberB));
+        sut.save(department);
+
+        assertThat(sut.findMembershipsOfPersons(List.of(savedMemberA)))
+            .containsExactly(new DepartmentMembership(savedMemberA.getId(), "department"));
+    }
 }
@@ -0,0 +1,166 @@
+package org.synyx.urlaubsverwaltung.department;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.synyx.urlaubsverwaltung.TestContainersBase;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.person.Role;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
+import static org.synyx.urlaubsverwaltung.person.Role.SECOND_STAGE_AUTHORITY;
+import static org.synyx.urlaubsverwaltung.person.Role.USER;
+
+/**
+ * Verifies that reading departments does not issue one statement per department (N+1) and that the read departments
+ * can be used after the transaction has been closed, like the callers of the service do.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class DepartmentServiceImplStatementsIT extends TestContainersBase {
+
+    @Autowired
+    private DepartmentService sut;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    @Autowired
+    private PersonService personService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private final List<Person> createdPersons = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        departmentRepository.deleteAll();
+        createdPersons.forEach(person -> personService.delete(person, person));
+        createdPersons.clear();
+    }
+
+    @Test
+    void ensureDepartmentsCanBeUsedAfterTheTransaction() {
+
+        final Person departmentHead = createPerson(List.of(USER, DEPARTMENT_HEAD));
+        final Person secondStageAuthority = createPerson(List.of(USER, SECOND_STAGE_AUTHORITY));
+        final List<Person> members = createDepartments(1, departmentHead);
+
+        final DepartmentEntity departmentEntity = departmentRepository.findAll().get(0);
+        departmentEntity.setSecondStageAuthorities(List.of(secondStageAuthority));
+        departmentRepository.save(departmentEntity);
+
+        final Department department = sut.getAllDepartments().get(0);
+        assertThat(department.getDepartmentHeads()).containsExactly(departmentHead);
+        assertThat(department.getDepartmentHeads().get(0).getPermissions()).containsExactlyInAnyOrder(USER, DEPARTMENT_HEAD);
+        assertThat(department.getSecondStageAuthorities()).containsExactly(secondStageAuthority);
+        assertThat(department.getSecondStageAuthorities().get(0).getNotifications()).isNotNull();
+        assertThat(department.getMembers()).containsExactlyElementsOf(members);
+        assertThat(department.getMembers().get(0).getPermissions()).containsExactly(USER);
+    }
+
+    @Test
+    void ensureNumberOfDepartmentsIsCountedWithOneStatement() {
+
+        final Person departmentHead = createPerson(List.of(USER, DEPARTMENT_HEAD));
+        createDepartments(5, departmentHead);
+
+        final long statements = countStatements(() -> sut.getNumberOfDepartments());
+        assertThat(statements).isOne();
+    }
+
+    @Test
+    void ensureDepartmentNamesByMembersAreLoadedWithOneStatement() {
+
+        final Person departmentHead = createPerson(List.of(USER, DEPARTMENT_HEAD));
+        final List<Person> members = createDepartments(5, departmentHead);
+
+        final long statements = countStatements(() -> sut.getDepartmentNamesByMembers(members));
+        assertThat(statements).isOne();
+    }
+
+    @Test
+    void ensureStatementsOfAllDepartmentsDoNotDependOnNumberOfDepartments() {
+
+        final Person departmentHead = createPerson(List.of(USER, DEPARTMENT_HEAD));
+
+        createDepartments(2, departmentHead);
+        final long statementsForTwoDepartments = countStatements(() -> sut.getAllDepartments());
+
+        createDepartments(8, departmentHead);
+        final long statementsForTenDepartments = countStatements(() -> sut.getAllDepartments());
+
+        assertThat(statementsForTenDepartments).isEqualTo(statementsForTwoDepartments);
+    }
+
+    @Test
+    void ensureStatementsOfDepartmentsPersonHasAccessToDoNotDependOnNumberOfDepartments() {
+
+        final Person departmentHead = createPerson(List.of(USER, DEPARTMENT_HEAD));
+
+        createDepartments(2, departmentHead);
+        final long statementsForTwoDepartments = countStatements(() -> sut.getDepartmentsPersonHasAccessTo(departmentHead));
+
+        createDepartments(8, departmentHead);
+        final long statementsForTenDepartments = countStatements(() -> sut.getDepartmentsPersonHasAccessTo(departmentHead));
+
+        assertThat(statementsForTenDepartments).isEqualTo(statementsForTwoDepartments);
+    }
+
+    private long countStatements(Supplier<?> supplier) {
+        statistics.clear();
+
+        supplier.get();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Person> createDepartments(int numberOfDepartments, Person departmentHead) {
+
+        final long offset = departmentRepository.count();
+        final List<Person> members = new ArrayList<>();
+
+        for (long i = offset; i < offset + numberOfDepartments; i++) {
+            final Person member = createPerson(List.of(USER));
+            members.add(member);
+
+            final DepartmentMemberEmbeddable departmentMember = new DepartmentMemberEmbeddable();
+            departmentMember.setAccessionDate(Instant.now());
+            departmentMember.setPerson(member);
+
+            final DepartmentEntity department = new DepartmentEntity();
+            department.setName("department" + i);
+            department.setCreatedAt(LocalDate.of(2022, 10, 2));
+            department.setMembers(List.of(departmentMember));
+            department.setDepartmentHeads(List.of(departmentHead));
+            departmentRepository.save(department);
+        }
+
+        return members;
+    }
+
+    private Person createPerson(List<Role> permissions) {
+        final String username = UUID.randomUUID().toString();
+        final Person person = personService.create(username, "Marlene", "Muster", username + "@example.org", List.of(), permissions);
+        createdPersons.add(person);
+        return person;
+    }
+}
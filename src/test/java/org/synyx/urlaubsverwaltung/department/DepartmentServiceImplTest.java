@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.department;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,9 +13,8 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionOperations;
 import org.synyx.urlaubsverwaltung.application.application.Application;
-import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
-import org.synyx.urlaubsverwaltung.application.application.ApplicationStatus;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
 import org.synyx.urlaubsverwaltung.person.PersonId;
@@ -34,7 +34,6 @@ import java.util.stream.IntStream;
 import static java.time.Month.DECEMBER;
 import static java.time.ZoneOffset.UTC;
 import static java.time.temporal.ChronoUnit.DAYS;
-import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
@@ -46,9 +45,6 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createDepartment;
-import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
-import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED_CANCELLATION_REQUESTED;
-import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.WAITING;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
 import static org.synyx.urlaubsverwaltung.person.Role.INACTIVE;
@@ -64,7 +60,7 @@ class DepartmentServiceImplTest {
     @Mock
     private DepartmentRepository departmentRepository;
     @Mock
-    private ApplicationService applicationService;
+    private ColleagueAbsenceCache colleagueAbsenceCache;
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
@@ -72,7 +68,8 @@ class DepartmentServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        sut = new DepartmentServiceImpl(departmentRepository, applicationService, applicationEventPublisher, clock);
+        final DepartmentMembershipIndex departmentMembershipIndex = new DepartmentMembershipIndex(departmentRepository, TransactionOperations.withoutTransaction(), new SimpleMeterRegistry());
+        sut = new DepartmentServiceImpl(departmentRepository, departmentMembershipIndex, colleagueAbsenceCache, applicationEventPublisher, clock);
     }
 
     @Test
@@ -104,7 +101,9 @@ class DepartmentServiceImplTest {
         developers.setName("developers");
         developers.setMembers(List.of(janeMember));
 
-        when(departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person)).thenReturn(List.of(admins, developers));
+        admins.setDepartmentHeads(List.of(person));
+        developers.setDepartmentHeads(List.of(person));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins, developers));
 
         final Page<Person> actual = sut.getManagedMembersOfPerson(person, defaultPersonSearchQuery());
 
@@ -140,7 +139,9 @@ class DepartmentServiceImplTest {
         developers.setName("developers");
         developers.setMembers(List.of(janeMember));
 
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(admins, developers));
+        admins.setDepartmentHeads(List.of(person));
+        developers.setDepartmentHeads(List.of(person));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins, developers));
 
         final Page<Person> actual = sut.getManagedMembersOfPerson(person, defaultPersonSearchQuery());
 
@@ -176,7 +177,9 @@ class DepartmentServiceImplTest {
         developers.setName("developers");
         developers.setMembers(List.of(janeMember));
 
-        when(departmentRepository.findBySecondStageAuthorities(person)).thenReturn(List.of(admins, developers));
+        admins.setSecondStageAuthorities(List.of(person));
+        developers.setSecondStageAuthorities(List.of(person));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins, developers));
 
         final Page<Person> actual = sut.getManagedMembersOfPerson(person, defaultPersonSearchQuery());
 
@@ -226,7 +229,9 @@ class DepartmentServiceImplTest {
         developers.setName("developers");
         developers.setMembers(List.of(janeMember));
 
-        when(departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person)).thenReturn(List.of(admins, developers));
+        admins.setDepartmentHeads(List.of(person));
+        developers.setDepartmentHeads(List.of(person));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins, developers));
 
         final List<Person> actual = sut.getManagedActiveMembersOfPerson(person);
 
@@ -262,7 +267,9 @@ class DepartmentServiceImplTest {
         developers.setName("developers");
         developers.setMembers(List.of(janeMember));
 
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(admins, developers));
+        admins.setDepartmentHeads(List.of(person));
+        developers.setDepartmentHeads(List.of(person));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins, developers));
 
         final List<Person> actual = sut.getManagedActiveMembersOfPerson(person);
 
@@ -298,7 +305,9 @@ class DepartmentServiceImplTest {
         developers.setName("developers");
         developers.setMembers(List.of(janeMember));
 
-        when(departmentRepository.findBySecondStageAuthorities(person)).thenReturn(List.of(admins, developers));
+        admins.setSecondStageAuthorities(List.of(person));
+        developers.setSecondStageAuthorities(List.of(person));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins, developers));
 
         final List<Person> actual = sut.getManagedActiveMembersOfPerson(person);
 
@@ -356,7 +365,9 @@ class DepartmentServiceImplTest {
         developers.setName("developers");
         developers.setMembers(List.of(janeMember, johnMember));
 
-        when(departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person)).thenReturn(List.of(admins, developers));
+        admins.setDepartmentHeads(List.of(person));
+        developers.setDepartmentHeads(List.of(person));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins, developers));
 
         final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, defaultPersonSearchQuery());
 
@@ -401,7 +412,9 @@ class DepartmentServiceImplTest {
         developers.setName("developers");
         developers.setMembers(List.of(janeMember, johnMember));
 
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(admins, developers));
+        admins.setDepartmentHeads(List.of(person));
+        developers.setDepartmentHeads(List.of(person));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins, developers));
 
         final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, defaultPersonSearchQuery());
 
@@ -446,7 +459,9 @@ class DepartmentServiceImplTest {
         developers.setName("developers");
         developers.setMembers(List.of(janeMember, johnMember));
 
-        when(departmentRepository.findBySecondStageAuthorities(person)).thenReturn(List.of(admins, developers));
+        admins.setSecondStageAuthorities(List.of(person));
+        developers.setSecondStageAuthorities(List.of(person));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins, developers));
 
         final Page<Person> actual = sut.getManagedInactiveMembersOfPerson(person, defaultPersonSearchQuery());
 
@@ -480,7 +495,8 @@ class DepartmentServiceImplTest {
         departmentEntity.setId(1L);
         departmentEntity.setMembers(activeMembers);
 
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(departmentEntity));
+        departmentEntity.setDepartmentHeads(List.of(person));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         final PageRequest pageRequest = PageRequest.of(1, 10);
         final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
@@ -506,7 +522,8 @@ class DepartmentServiceImplTest {
         departmentEntity.setId(1L);
         departmentEntity.setMembers(inactiveMembers);
 
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(departmentEntity));
+        departmentEntity.setDepartmentHeads(List.of(person));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         final PageRequest pageRequest = PageRequest.of(1, 10);
         final PageableSearchQuery pageableSearchQuery = new PageableSearchQuery(pageRequest, "");
@@ -1315,8 +1332,11 @@ class DepartmentServiceImplTest {
         departmentTwo.setMembers(List.of(tomMember));
 
         final Person departmentHead = new Person();
+        departmentHead.setId(1L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
-        when(departmentRepository.findByDepartmentHeads(departmentHead)).thenReturn(List.of(departmentOne, departmentTwo));
+        departmentOne.setDepartmentHeads(List.of(departmentHead));
+        departmentTwo.setDepartmentHeads(List.of(departmentHead));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentOne, departmentTwo));
 
         final List<Person> members = sut.getMembersForDepartmentHead(departmentHead);
         assertThat(members).containsOnly(marleneMember.getPerson(), tomMember.getPerson(), departmentHeadMember.getPerson(), maxMember.getPerson());
@@ -1336,8 +1356,11 @@ class DepartmentServiceImplTest {
         departmentTwo.setMembers(List.of(member));
 
         final Person departmentHead = new Person();
+        departmentHead.setId(1L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
-        when(departmentRepository.findByDepartmentHeads(departmentHead)).thenReturn(List.of(departmentOne, departmentTwo));
+        departmentOne.setDepartmentHeads(List.of(departmentHead));
+        departmentTwo.setDepartmentHeads(List.of(departmentHead));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentOne, departmentTwo));
 
         final List<Person> members = sut.getMembersForDepartmentHead(departmentHead);
         assertThat(members).containsOnly(member.getPerson());
@@ -1360,8 +1383,11 @@ class DepartmentServiceImplTest {
         departmentTwo.setMembers(List.of(tomMember));
 
         final Person secondStageAuthority = new Person();
+        secondStageAuthority.setId(1L);
         secondStageAuthority.setPermissions(List.of(USER, SECOND_STAGE_AUTHORITY));
-        when(departmentRepository.findBySecondStageAuthorities(secondStageAuthority)).thenReturn(List.of(departmentOne, departmentTwo));
+        departmentOne.setSecondStageAuthorities(List.of(secondStageAuthority));
+        departmentTwo.setSecondStageAuthorities(List.of(secondStageAuthority));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentOne, departmentTwo));
 
         final List<Person> members = sut.getMembersForSecondStageAuthority(secondStageAuthority);
         assertThat(members).containsOnly(marleneMember.getPerson(), tomMember.getPerson(), departmentHeadMember.getPerson(), maxMember.getPerson());
@@ -1381,8 +1407,11 @@ class DepartmentServiceImplTest {
         departmentTwo.setMembers(List.of(member));
 
         final Person secondStageAuthority = new Person();
+        secondStageAuthority.setId(1L);
         secondStageAuthority.setPermissions(List.of(USER, SECOND_STAGE_AUTHORITY));
-        when(departmentRepository.findBySecondStageAuthorities(secondStageAuthority)).thenReturn(List.of(departmentOne, departmentTwo));
+        departmentOne.setSecondStageAuthorities(List.of(secondStageAuthority));
+        departmentTwo.setSecondStageAuthorities(List.of(secondStageAuthority));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentOne, departmentTwo));
 
         final List<Person> members = sut.getMembersForSecondStageAuthority(secondStageAuthority);
         assertThat(members).containsOnly(member.getPerson());
@@ -1404,7 +1433,8 @@ class DepartmentServiceImplTest {
         admins.setName("admins");
         admins.setMembers(List.of(marleneMember, maxMember, departmentHeadMember));
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead)).thenReturn(List.of(admins));
+        admins.setDepartmentHeads(List.of(departmentHead));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins));
 
         boolean isDepartmentHead = sut.isDepartmentHeadAllowedToManagePerson(departmentHead, marlenePerson);
         assertThat(isDepartmentHead).isTrue();
@@ -1414,6 +1444,7 @@ class DepartmentServiceImplTest {
     void ensureReturnsFalseIfIsNotDepartmentHeadOfTheGivenPerson() {
 
         final Person departmentHead = new Person();
+        departmentHead.setId(1L);
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
         final DepartmentMemberEmbeddable departmentHeadMember = departmentMemberEmbeddable(departmentHead);
 
@@ -1426,8 +1457,8 @@ class DepartmentServiceImplTest {
 
         Person marketing1 = new Person("muster", "Muster", "Marlene", "muster@example.org");
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead))
-            .thenReturn(List.of(admins));
+        admins.setDepartmentHeads(List.of(departmentHead));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins));
 
         boolean isDepartmentHead = sut.isDepartmentHeadAllowedToManagePerson(departmentHead, marketing1);
         assertThat(isDepartmentHead).isFalse();
@@ -1450,183 +1481,94 @@ class DepartmentServiceImplTest {
     }
 
     @Test
-    void ensureReturnsEmptyListOfDepartmentApplicationsIfPersonIsNotAssignedToAnyDepartment() {
-
-        when(departmentRepository.count()).thenReturn(1L);
-
-        final Person person = new Person();
-        person.setPermissions(List.of(USER));
-
-        final LocalDate date = LocalDate.now(UTC);
-
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(emptyList());
-
-        final List<Application> applications = sut.getApplicationsFromColleaguesOf(person, date, date);
-        assertThat(applications).isEmpty();
-
-        verify(applicationService).getForStatesAndPerson(ApplicationStatus.activeStatuses(), List.of(), date, date);
-    }
-
-    @Test
-    void ensureReturnsEmptyListOfDepartmentApplicationsIfNoMatchingApplicationsForLeave() {
-
-        when(departmentRepository.count()).thenReturn(1L);
-
-        final Person person = new Person();
-        person.setPermissions(List.of(USER));
-
-        final DepartmentMemberEmbeddable personMember = departmentMemberEmbeddable(person);
-
-        final LocalDate date = LocalDate.now(UTC);
-
-        final Person admin1 = new Person("muster", "Muster", "Marlene", "muster@example.org");
-        final Person admin2 = new Person("muster", "Muster", "Marlene", "muster@example.org");
-
-        final DepartmentMemberEmbeddable admin1Member = departmentMemberEmbeddable(admin1);
-        final DepartmentMemberEmbeddable admin2Member = departmentMemberEmbeddable(admin2);
-
-        final Person marketing1Person = new Person("muster", "Muster", "Marlene", "muster@example.org");
-        final Person marketing2Person = new Person("muster", "Muster", "Marlene", "muster@example.org");
-        final Person marketing3Person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+    void ensureGetDepartmentHeadsAllowedToManagePersonReturnsActiveDepartmentHeadsOrderedByName() {
 
-        final DepartmentMemberEmbeddable marketing1Member = departmentMemberEmbeddable(marketing1Person);
-        final DepartmentMemberEmbeddable marketing2Member = departmentMemberEmbeddable(marketing2Person);
-        final DepartmentMemberEmbeddable marketing3Member = departmentMemberEmbeddable(marketing3Person);
+        final Person member = person(1L, "Marlene", "Muster", USER);
+        final Person secondStageAuthorityMember = person(2L, "Max", "Muster", USER, SECOND_STAGE_AUTHORITY);
+        final Person zoe = person(3L, "Zoe", "Head", USER, DEPARTMENT_HEAD);
+        final Person anna = person(4L, "Anna", "Head", USER, DEPARTMENT_HEAD);
+        final Person inactive = person(5L, "Ina", "Active", INACTIVE, DEPARTMENT_HEAD);
+        final Person withoutRole = person(6L, "Willi", "Ohnerolle", USER);
 
         final DepartmentEntity admins = new DepartmentEntity();
-        admins.setName("admins");
-        admins.setMembers(List.of(admin1Member, admin2Member, personMember));
+        admins.setMembers(List.of(departmentMemberEmbeddable(member), departmentMemberEmbeddable(secondStageAuthorityMember)));
+        admins.setDepartmentHeads(List.of(zoe, inactive, withoutRole));
+        admins.setSecondStageAuthorities(List.of(secondStageAuthorityMember));
 
         final DepartmentEntity marketing = new DepartmentEntity();
-        marketing.setName("marketing");
-        marketing.setMembers(List.of(marketing1Member, marketing2Member, marketing3Member, personMember));
+        marketing.setMembers(List.of(departmentMemberEmbeddable(member)));
+        marketing.setDepartmentHeads(List.of(anna, zoe));
 
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(admins, marketing));
-        when(applicationService.getForStatesAndPerson(ApplicationStatus.activeStatuses(), List.of(admin1, admin2, marketing1Person, marketing2Person, marketing3Person), date, date))
-            .thenReturn(emptyList());
+        when(departmentRepository.findAll()).thenReturn(List.of(admins, marketing));
 
-        final List<Application> applications = sut.getApplicationsFromColleaguesOf(person, date, date);
-        assertThat(applications).isEmpty();
+        assertThat(sut.getDepartmentHeadsAllowedToManagePerson(member)).containsExactly(anna, zoe);
+        assertThat(sut.getDepartmentHeadsAllowedToManagePerson(secondStageAuthorityMember)).isEmpty();
+        assertThat(sut.getDepartmentHeadsAllowedToManagePerson(person(7L, "Nobody", "Nowhere", USER))).isEmpty();
     }
 
-
     @Test
-    void ensureReturnsOnlyWaitingAndAllowedAndCancellationRequestDepartmentApplicationsForLeave() {
+    void ensureGetSecondStageAuthoritiesAllowedToManagePersonReturnsActiveSecondStageAuthoritiesOrderedByName() {
 
-        when(departmentRepository.count()).thenReturn(1L);
-
-        final Person person = new Person();
-        person.setPermissions(List.of(USER));
-
-        final DepartmentMemberEmbeddable personMember = departmentMemberEmbeddable(person);
-
-        final LocalDate date = LocalDate.now(UTC);
-
-        final Person admin1 = new Person("shane", "shane", "shane", "shane@example.org");
-        final Person marketing1 = new Person("carl", "carl", "carl", "carl@example.org");
-
-        final DepartmentMemberEmbeddable admin1Member = departmentMemberEmbeddable(admin1);
-        final DepartmentMemberEmbeddable marketing1Member = departmentMemberEmbeddable(marketing1);
+        final Person member = person(1L, "Marlene", "Muster", USER);
+        final Person otherSecondStageAuthority = person(2L, "Max", "Muster", USER, SECOND_STAGE_AUTHORITY);
+        final Person zoe = person(3L, "Zoe", "Second", USER, SECOND_STAGE_AUTHORITY);
+        final Person anna = person(4L, "Anna", "Second", USER, SECOND_STAGE_AUTHORITY);
+        final Person inactive = person(5L, "Ina", "Active", INACTIVE, SECOND_STAGE_AUTHORITY);
 
         final DepartmentEntity admins = new DepartmentEntity();
-        admins.setName("admins");
-        admins.setMembers(List.of(admin1Member, personMember));
-
-        final DepartmentEntity marketing = new DepartmentEntity();
-        marketing.setName("marketing");
-        marketing.setMembers(List.of(marketing1Member, personMember));
-
-        final Application waitingApplication = new Application();
-        waitingApplication.setStatus(WAITING);
-        waitingApplication.setStartDate(LocalDate.of(2022, 10, 2));
-
-        final Application allowedApplication = new Application();
-        allowedApplication.setStatus(ALLOWED);
-        allowedApplication.setStartDate(LocalDate.of(2022, 11, 2));
+        admins.setMembers(List.of(departmentMemberEmbeddable(member), departmentMemberEmbeddable(otherSecondStageAuthority)));
+        admins.setSecondStageAuthorities(List.of(zoe, anna, inactive, otherSecondStageAuthority));
 
-        final Application cancellationRequestApplication = new Application();
-        cancellationRequestApplication.setStatus(ALLOWED_CANCELLATION_REQUESTED);
-        cancellationRequestApplication.setStartDate(LocalDate.of(2022, 9, 12));
+        when(departmentRepository.findAll()).thenReturn(List.of(admins));
 
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(admins, marketing));
-        when(applicationService.getForStatesAndPerson(ApplicationStatus.activeStatuses(), List.of(admin1, marketing1), date, date))
-            .thenReturn(List.of(waitingApplication, allowedApplication, cancellationRequestApplication));
-
-        final List<Application> applications = sut.getApplicationsFromColleaguesOf(person, date, date);
-        assertThat(applications).containsExactly(cancellationRequestApplication, waitingApplication, allowedApplication);
+        assertThat(sut.getSecondStageAuthoritiesAllowedToManagePerson(member)).containsExactly(anna, otherSecondStageAuthority, zoe);
+        assertThat(sut.getSecondStageAuthoritiesAllowedToManagePerson(otherSecondStageAuthority)).isEmpty();
     }
 
     @Test
-    void ensuresApplicationsFromOthersInDepartmentAreSortedByStartDate() {
-
-        when(departmentRepository.count()).thenReturn(1L);
-
-        final Person person = new Person();
-        person.setPermissions(List.of(USER));
-
-        final LocalDate date = LocalDate.now(UTC);
+    void ensureResponsibleManagersOfManyPersonsAreResolvedFromOneDepartmentGraph() {
 
-        final Person marketingPerson = new Person("carl", "carl", "carl", "carl@example.org");
-        final DepartmentMemberEmbeddable memberEmbeddable = departmentMemberEmbeddable(marketingPerson);
+        // 2,000 employees in 100 departments with 2 department heads each, so 200 managers
+        final List<Person> employees = IntStream.range(0, 2000)
+            .mapToObj(index -> person((long) index, "Employee" + index, "Muster", USER))
+            .toList();
+        final List<Person> departmentHeads = IntStream.range(0, 200)
+            .mapToObj(index -> person(10_000L + index, "Head" + index, "Muster", USER, DEPARTMENT_HEAD))
+            .toList();
 
-        final DepartmentEntity marketing = new DepartmentEntity();
-        marketing.setName("marketing");
-        marketing.setMembers(List.of(memberEmbeddable, departmentMemberEmbeddable(person)));
-
-        final Application waitingApplication = new Application();
-        waitingApplication.setStatus(WAITING);
-        waitingApplication.setStartDate(LocalDate.of(2022, 10, 2));
-
-        final Application allowedApplication = new Application();
-        allowedApplication.setStatus(ALLOWED);
-        allowedApplication.setStartDate(LocalDate.of(2022, 11, 2));
-
-        final Application cancellationRequestApplication = new Application();
-        cancellationRequestApplication.setStatus(ALLOWED_CANCELLATION_REQUESTED);
-        cancellationRequestApplication.setStartDate(LocalDate.of(2022, 9, 12));
+        final List<DepartmentEntity> departments = IntStream.range(0, 100)
+            .mapToObj(index -> {
+                final DepartmentEntity department = new DepartmentEntity();
+                department.setId((long) index);
+                department.setMembers(employees.subList(index * 20, (index + 1) * 20).stream().map(this::departmentMemberEmbeddable).toList());
+                department.setDepartmentHeads(departmentHeads.subList(index * 2, (index + 1) * 2));
+                return department;
+            })
+            .toList();
+        when(departmentRepository.findAll()).thenReturn(departments);
 
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(marketing));
-        when(applicationService.getForStatesAndPerson(ApplicationStatus.activeStatuses(), List.of(marketingPerson), date, date))
-            .thenReturn(List.of(waitingApplication, allowedApplication, cancellationRequestApplication));
+        for (int index = 0; index < employees.size(); index++) {
+            final int department = index / 20;
+            assertThat(sut.getDepartmentHeadsAllowedToManagePerson(employees.get(index)))
+                .containsExactlyInAnyOrder(departmentHeads.get(department * 2), departmentHeads.get(department * 2 + 1));
+        }
 
-        final List<Application> applications = sut.getApplicationsFromColleaguesOf(person, date, date);
-        assertThat(applications).containsExactly(cancellationRequestApplication, waitingApplication, allowedApplication);
+        verify(departmentRepository).findAll();
     }
 
     @Test
-    void ensuresApplicationsFromOthersIfNoDepartmentIsAllApplicationsWithoutApplicationFromRequestedPerson() {
-
-        when(departmentRepository.count()).thenReturn(0L);
+    void ensureApplicationsFromColleaguesAreServedByColleagueAbsenceCache() {
 
         final Person person = new Person();
         person.setId(1L);
-        person.setPermissions(List.of(USER));
-
-        final Person colleague = new Person();
-        colleague.setId(2L);
 
         final LocalDate date = LocalDate.now(UTC);
 
-        final Application waitingApplication = new Application();
-        waitingApplication.setPerson(colleague);
-        waitingApplication.setStatus(WAITING);
-        waitingApplication.setStartDate(LocalDate.of(2022, 10, 2));
-
-        final Application allowedApplication = new Application();
-        allowedApplication.setPerson(person);
-        allowedApplication.setStatus(ALLOWED);
-        allowedApplication.setStartDate(LocalDate.of(2022, 11, 2));
-
-        final Application cancellationRequestApplication = new Application();
-        cancellationRequestApplication.setPerson(colleague);
-        cancellationRequestApplication.setStatus(ALLOWED_CANCELLATION_REQUESTED);
-        cancellationRequestApplication.setStartDate(LocalDate.of(2022, 9, 12));
-
-        when(applicationService.getForStates(ApplicationStatus.activeStatuses(), date, date))
-            .thenReturn(List.of(waitingApplication, allowedApplication, cancellationRequestApplication));
+        final Application application = new Application();
+        when(colleagueAbsenceCache.getApplicationsFromColleaguesOf(person, date, date)).thenReturn(List.of(application));
 
         final List<Application> applications = sut.getApplicationsFromColleaguesOf(person, date, date);
-        assertThat(applications).containsExactly(cancellationRequestApplication, waitingApplication);
+        assertThat(applications).containsExactly(application);
     }
 
     @Test
@@ -1767,8 +1709,8 @@ class DepartmentServiceImplTest {
         departmentEntity.setName("dep");
         departmentEntity.setMembers(List.of(personMember, departmentHeadMember));
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead))
-            .thenReturn(List.of(departmentEntity));
+        departmentEntity.setDepartmentHeads(List.of(departmentHead));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(departmentHead, person);
         assertThat(isAllowed).isTrue();
@@ -1791,8 +1733,8 @@ class DepartmentServiceImplTest {
         departmentEntity.setName("dep");
         departmentEntity.setMembers(List.of(departmentHeadMember));
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead))
-            .thenReturn(List.of(departmentEntity));
+        departmentEntity.setDepartmentHeads(List.of(departmentHead));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(departmentHead, person);
         assertThat(isAllowed).isFalse();
@@ -1818,7 +1760,8 @@ class DepartmentServiceImplTest {
         departmentEntity.setMembers(List.of(secondStageAuthorityMember, departmentHeadMember));
         departmentEntity.setSecondStageAuthorities(List.of(secondStageAuthority));
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead)).thenReturn(List.of(departmentEntity));
+        departmentEntity.setDepartmentHeads(List.of(departmentHead));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(departmentHead, secondStageAuthority);
         assertThat(isAllowed).isTrue();
@@ -1845,8 +1788,8 @@ class DepartmentServiceImplTest {
         dep.setSecondStageAuthorities(List.of(secondStageAuthority));
         dep.setDepartmentHeads(List.of(departmentHead));
 
-        when(departmentRepository.findBySecondStageAuthorities(secondStageAuthority))
-            .thenReturn(List.of(dep));
+        dep.setSecondStageAuthorities(List.of(secondStageAuthority));
+        when(departmentRepository.findAll()).thenReturn(List.of(dep));
 
         boolean isAllowed = sut.isSignedInUserAllowedToAccessPersonData(secondStageAuthority, departmentHead);
         assertThat(isAllowed).isTrue();
@@ -1922,8 +1865,7 @@ class DepartmentServiceImplTest {
         departmentEntityWithMemberRole.setName("Department B");
         departmentEntityWithMemberRole.setId(2L);
 
-        when(departmentRepository.findBySecondStageAuthorities(secondStageAuthority)).thenReturn(List.of(departmentEntityWithSecondStageRole));
-        when(departmentRepository.findByMembersPerson(secondStageAuthority)).thenReturn(List.of(departmentEntityWithMemberRole));
+        when(departmentRepository.findDepartmentsPersonHasAccessTo(secondStageAuthority, false, true)).thenReturn(List.of(departmentEntityWithSecondStageRole, departmentEntityWithMemberRole));
 
         final Department expectedDepartmentWithSecondStageRole = new Department();
         expectedDepartmentWithSecondStageRole.setId(1L);
@@ -1946,8 +1888,7 @@ class DepartmentServiceImplTest {
         departmentEntityWithMemberRole.setName("Department B");
         departmentEntityWithMemberRole.setId(2L);
 
-        when(departmentRepository.findByDepartmentHeads(departmentHead)).thenReturn(List.of(departmentEntityWithDepartmentHeadRole));
-        when(departmentRepository.findByMembersPerson(departmentHead)).thenReturn(List.of(departmentEntityWithMemberRole));
+        when(departmentRepository.findDepartmentsPersonHasAccessTo(departmentHead, true, false)).thenReturn(List.of(departmentEntityWithDepartmentHeadRole, departmentEntityWithMemberRole));
 
         final Department expectedDepartmentWithDepartmentHeadRole = new Department();
         expectedDepartmentWithDepartmentHeadRole.setId(1L);
@@ -1973,9 +1914,7 @@ class DepartmentServiceImplTest {
         departmentEntityWithMemberRole.setName("Department C");
         departmentEntityWithMemberRole.setId(2L);
 
-        when(departmentRepository.findBySecondStageAuthorities(person)).thenReturn(List.of(departmentEntityWithSecondStageRole));
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(departmentEntityWithDepartmentHeadRole));
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(departmentEntityWithMemberRole));
+        when(departmentRepository.findDepartmentsPersonHasAccessTo(person, true, true)).thenReturn(List.of(departmentEntityWithSecondStageRole, departmentEntityWithDepartmentHeadRole, departmentEntityWithMemberRole));
 
         final Department expectedDepartmentWithSecondStageRole = new Department();
         expectedDepartmentWithSecondStageRole.setId(3L);
@@ -1995,7 +1934,7 @@ class DepartmentServiceImplTest {
 
         final DepartmentEntity dep = new DepartmentEntity();
         dep.setName("dep");
-        when(departmentRepository.findByMembersPerson(user)).thenReturn(List.of(dep));
+        when(departmentRepository.findDepartmentsPersonHasAccessTo(user, false, false)).thenReturn(List.of(dep));
 
         final Department expectedDepartment = new Department();
         expectedDepartment.setName("dep");
@@ -2019,9 +1958,7 @@ class DepartmentServiceImplTest {
         departmentEntityWithMemberRole.setName("department B");
         departmentEntityWithMemberRole.setId(2L);
 
-        when(departmentRepository.findBySecondStageAuthorities(person)).thenReturn(List.of(departmentEntityWithSecondStageRole));
-        when(departmentRepository.findByDepartmentHeads(person)).thenReturn(List.of(departmentEntityWithDepartmentHeadRole));
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(departmentEntityWithMemberRole));
+        when(departmentRepository.findDepartmentsPersonHasAccessTo(person, true, true)).thenReturn(List.of(departmentEntityWithSecondStageRole, departmentEntityWithDepartmentHeadRole, departmentEntityWithMemberRole));
 
         final Department expectedDepartmentWithSecondStageRole = new Department();
         expectedDepartmentWithSecondStageRole.setId(1L);
@@ -2049,20 +1986,10 @@ class DepartmentServiceImplTest {
         final Person person = new Person();
         person.setId(42L);
 
-        final DepartmentMemberEmbeddable existingPersonMember = new DepartmentMemberEmbeddable();
-        existingPersonMember.setPerson(person);
-
-        final DepartmentEntity departmentEntityA = new DepartmentEntity();
-        departmentEntityA.setName("Department A");
-        departmentEntityA.setId(1L);
-        departmentEntityA.setMembers(List.of(existingPersonMember));
-
-        final DepartmentEntity departmentEntityB = new DepartmentEntity();
-        departmentEntityB.setName("Department B");
-        departmentEntityB.setId(2L);
-        departmentEntityB.setMembers(List.of(existingPersonMember));
-
-        when(departmentRepository.findDistinctByMembersPersonIn(List.of(person))).thenReturn(List.of(departmentEntityA, departmentEntityB));
+        when(departmentRepository.findMembershipsOfPersons(List.of(person))).thenReturn(List.of(
+            new DepartmentMembership(42L, "Department A"),
+            new DepartmentMembership(42L, "Department B")
+        ));
 
         final Map<PersonId, List<String>> departmentsByMembers = sut.getDepartmentNamesByMembers(List.of(person));
         assertThat(departmentsByMembers).containsEntry(new PersonId(42L), List.of("Department A", "Department B"));
@@ -2077,23 +2004,10 @@ class DepartmentServiceImplTest {
         final Person personTwo = new Person();
         personTwo.setId(1337L);
 
-        final DepartmentMemberEmbeddable existingPersonMember = new DepartmentMemberEmbeddable();
-        existingPersonMember.setPerson(person);
-
-        final DepartmentMemberEmbeddable existingPersonMemberTwo = new DepartmentMemberEmbeddable();
-        existingPersonMemberTwo.setPerson(personTwo);
-
-        final DepartmentEntity departmentEntityA = new DepartmentEntity();
-        departmentEntityA.setName("Department A");
-        departmentEntityA.setId(1L);
-        departmentEntityA.setMembers(List.of(existingPersonMember));
-
-        final DepartmentEntity departmentEntityB = new DepartmentEntity();
-        departmentEntityB.setName("Department B");
-        departmentEntityB.setId(2L);
-        departmentEntityB.setMembers(List.of(existingPersonMemberTwo));
-
-        when(departmentRepository.findDistinctByMembersPersonIn(List.of(person, personTwo))).thenReturn(List.of(departmentEntityA, departmentEntityB));
+        when(departmentRepository.findMembershipsOfPersons(List.of(person, personTwo))).thenReturn(List.of(
+            new DepartmentMembership(42L, "Department A"),
+            new DepartmentMembership(1337L, "Department B")
+        ));
 
         final Map<PersonId, List<String>> departmentsByMembers = sut.getDepartmentNamesByMembers(List.of(person, personTwo));
 
@@ -2103,29 +2017,14 @@ class DepartmentServiceImplTest {
     }
 
     @Test
-    void getDepartmentsByMembersReturnsOnlyRequestedPersons() {
+    void getDepartmentsByMembersWithoutMemberships() {
 
         final Person personOne = anyPerson(1);
-        final Person personTwo = anyPerson(2);
-
-        final DepartmentMemberEmbeddable departmentMemberOne = new DepartmentMemberEmbeddable();
-        departmentMemberOne.setPerson(personOne);
 
-        final DepartmentMemberEmbeddable departmentMemberTwo = new DepartmentMemberEmbeddable();
-        departmentMemberTwo.setPerson(personTwo);
-
-        final DepartmentEntity departmentEntityA = new DepartmentEntity();
-        departmentEntityA.setName("Department A");
-        departmentEntityA.setId(1L);
-        departmentEntityA.setMembers(List.of(departmentMemberOne, departmentMemberTwo));
-
-        when(departmentRepository.findDistinctByMembersPersonIn(List.of(personOne))).thenReturn(List.of(departmentEntityA));
+        when(departmentRepository.findMembershipsOfPersons(List.of(personOne))).thenReturn(List.of());
 
         final Map<PersonId, List<String>> departmentsByMembers = sut.getDepartmentNamesByMembers(List.of(personOne));
-
-        assertThat(departmentsByMembers)
-            .hasSize(1)
-            .containsEntry(new PersonId(1L), List.of("Department A"));
+        assertThat(departmentsByMembers).isEmpty();
     }
 
     @Test
@@ -2135,36 +2034,19 @@ class DepartmentServiceImplTest {
         final Person personTwo = anyPerson(2);
         final Person personThree = anyPerson(3);
 
-        final DepartmentMemberEmbeddable departmentMemberOne = new DepartmentMemberEmbeddable();
-        departmentMemberOne.setPerson(personOne);
-
-        final DepartmentMemberEmbeddable departmentMemberTwo = new DepartmentMemberEmbeddable();
-        departmentMemberTwo.setPerson(personTwo);
-
-        final DepartmentMemberEmbeddable departmentMemberThree = new DepartmentMemberEmbeddable();
-        departmentMemberThree.setPerson(personThree);
-
-        final DepartmentEntity departmentEntityA = new DepartmentEntity();
-        departmentEntityA.setId(1L);
-        departmentEntityA.setName("Department A");
-        departmentEntityA.setMembers(List.of(departmentMemberOne, departmentMemberTwo));
-
-        final DepartmentEntity departmentEntityB = new DepartmentEntity();
-        departmentEntityB.setId(2L);
-        departmentEntityB.setName("Department B");
-        departmentEntityB.setMembers(List.of(departmentMemberOne, departmentMemberTwo));
-
-        final DepartmentEntity departmentEntityC = new DepartmentEntity();
-        departmentEntityC.setId(3L);
-        departmentEntityC.setName("Department C");
-        departmentEntityC.setMembers(List.of(departmentMemberTwo, departmentMemberThree));
-
-        when(departmentRepository.findDistinctByMembersPersonIn(List.of(personOne, personTwo, personThree))).thenReturn(List.of(departmentEntityA, departmentEntityB, departmentEntityC));
+        when(departmentRepository.findMembershipsOfPersons(List.of(personOne, personTwo, personThree))).thenReturn(List.of(
+            new DepartmentMembership(1L, "Department A"),
+            new DepartmentMembership(2L, "Department A"),
+            new DepartmentMembership(1L, "Department B"),
+            new DepartmentMembership(2L, "Department B"),
+            new DepartmentMembership(2L, "Department C"),
+            new DepartmentMembership(3L, "Department C")
+        ));
 
         final Map<PersonId, List<String>> departmentsByMembers = sut.getDepartmentNamesByMembers(List.of(personOne, personTwo, personThree));
         assertThat(departmentsByMembers)
             .containsEntry(new PersonId(1L), List.of("Department A", "Department B"))
-            .containsEntry(new PersonId(2L), List.of("Department C", "Department A", "Department B"))
+            .containsEntry(new PersonId(2L), List.of("Department A", "Department B", "Department C"))
             .containsEntry(new PersonId(3L), List.of("Department C"));
     }
 
@@ -2267,8 +2149,7 @@ class DepartmentServiceImplTest {
         otherDepartmentEntity.setId(2L);
         otherDepartmentEntity.setMembers(List.of(otherMemberEmbeddable));
 
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(departmentEntity));
-        when(departmentRepository.findByMembersPerson(otherPerson)).thenReturn(List.of(otherDepartmentEntity));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity, otherDepartmentEntity));
 
         final boolean actual = sut.hasDepartmentMatch(person, otherPerson);
         assertThat(actual).isFalse();
@@ -2295,8 +2176,7 @@ class DepartmentServiceImplTest {
         departmentEntity.setId(1L);
         departmentEntity.setMembers(List.of(memberEmbeddable, otherMemberEmbeddable));
 
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(departmentEntity));
-        when(departmentRepository.findByMembersPerson(otherPerson)).thenReturn(List.of(departmentEntity));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         final boolean actual = sut.hasDepartmentMatch(person, otherPerson);
         assertThat(actual).isTrue();
@@ -2321,11 +2201,7 @@ class DepartmentServiceImplTest {
         departmentEntity.setMembers(List.of(otherMemberEmbeddable));
         departmentEntity.setDepartmentHeads(List.of(person));
 
-        when(departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person))
-            .thenReturn(List.of(departmentEntity));
-
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of());
-        when(departmentRepository.findByMembersPerson(otherPerson)).thenReturn(List.of(departmentEntity));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         final boolean actual = sut.hasDepartmentMatch(person, otherPerson);
         assertThat(actual).isTrue();
@@ -2350,11 +2226,7 @@ class DepartmentServiceImplTest {
         departmentEntity.setMembers(List.of(otherMemberEmbeddable));
         departmentEntity.setSecondStageAuthorities(List.of(person));
 
-        when(departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(person, person))
-            .thenReturn(List.of(departmentEntity));
-
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of());
-        when(departmentRepository.findByMembersPerson(otherPerson)).thenReturn(List.of(departmentEntity));
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         final boolean actual = sut.hasDepartmentMatch(person, otherPerson);
         assertThat(actual).isTrue();
@@ -2379,11 +2251,7 @@ class DepartmentServiceImplTest {
         departmentEntity.setMembers(List.of(memberEmbeddable));
         departmentEntity.setDepartmentHeads(List.of(otherPerson));
 
-        when(departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(otherPerson, otherPerson))
-            .thenReturn(List.of(departmentEntity));
-
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(departmentEntity));
-        when(departmentRepository.findByMembersPerson(otherPerson)).thenReturn(List.of());
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         final boolean actual = sut.hasDepartmentMatch(person, otherPerson);
         assertThat(actual).isTrue();
@@ -2408,11 +2276,7 @@ class DepartmentServiceImplTest {
         departmentEntity.setMembers(List.of(memberEmbeddable));
         departmentEntity.setSecondStageAuthorities(List.of(otherPerson));
 
-        when(departmentRepository.findByDepartmentHeadsOrSecondStageAuthorities(otherPerson, otherPerson))
-            .thenReturn(List.of(departmentEntity));
-
-        when(departmentRepository.findByMembersPerson(person)).thenReturn(List.of(departmentEntity));
-        when(departmentRepository.findByMembersPerson(otherPerson)).thenReturn(List.of());
+        when(departmentRepository.findAll()).thenReturn(List.of(departmentEntity));
 
         final boolean actual = sut.hasDepartmentMatch(person, otherPerson);
         assertThat(actual).isTrue();
@@ -2450,8 +2314,11 @@ class DepartmentServiceImplTest {
         return departmentMember;
     }
 
+    private long nextPersonId = 1000;
+
     private DepartmentMemberEmbeddable departmentMemberEmbeddable(String username, String firstname, String lastname, String email) {
         final Person person = new Person(username, firstname, lastname, email);
+        person.setId(nextPersonId++);
 
         final DepartmentMemberEmbeddable departmentMemberEmbeddable = new DepartmentMemberEmbeddable();
         departmentMemberEmbeddable.setPerson(person);
@@ -2466,4 +2333,11 @@ class DepartmentServiceImplTest {
 
         return departmentMemberEmbeddable;
     }
+
+    private static Person person(Long id, String firstName, String lastName, Role... permissions) {
+        final Person person = new Person(firstName.toLowerCase(), lastName, firstName, firstName.toLowerCase() + "@example.org");
+        person.setId(id);
+        person.setPermissions(List.of(permissions));
+        return person;
+    }
 }
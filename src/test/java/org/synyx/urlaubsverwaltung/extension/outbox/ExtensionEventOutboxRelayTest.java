@@ -0,0 +1,235 @@
+package org.synyx.urlaubsverwaltung.extension.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import de.focus_shift.urlaubsverwaltung.extension.api.person.PersonCreatedEventDTO;
+import de.focus_shift.urlaubsverwaltung.extension.api.person.PersonDeletedEventDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExtensionEventOutboxRelayTest {
+
+    private ExtensionEventOutboxRelay sut;
+
+    @Mock
+    private ExtensionEventOutboxRepository extensionEventOutboxRepository;
+
+    private final InMemoryExtensionEventBus extensionEventBus = new InMemoryExtensionEventBus();
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final ExtensionEventOutboxProperties extensionEventOutboxProperties = new ExtensionEventOutboxProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Instant now = Instant.parse("2024-03-01T10:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        sut = new ExtensionEventOutboxRelay(extensionEventOutboxRepository, extensionEventBus, objectMapper,
+            extensionEventOutboxProperties, TransactionOperations.withoutTransaction(), meterRegistry, Clock.fixed(now, UTC));
+    }
+
+    @Test
+    void ensureDeliversPendingEventsAsOneBatchInOrderAndMarksThemDelivered() throws Exception {
+
+        extensionEventOutboxProperties.setBatchSize(2);
+
+        final PersonCreatedEventDTO created = PersonCreatedEventDTO.create("tenant", 1L, "muster", "Muster", "Marlene", "muster@example.org", true);
+        final PersonDeletedEventDTO deleted = PersonDeletedEventDTO.create("tenant", 1L, "muster", "Muster", "Marlene", "muster@example.org", false);
+        final ExtensionEventOutboxEntry first = entry(1L, created);
+        final ExtensionEventOutboxEntry second = entry(2L, deleted);
+        when(extensionEventOutboxRepository.findByDeliveredAtIsNullAndFailedAtIsNullOrderById(PageRequest.of(0, 2))).thenReturn(List.of(first, second));
+
+        sut.relay();
+
+        assertThat(extensionEventBus.getBatches()).containsExactly(List.of(created, deleted));
+        assertThat(first.getDeliveredAt()).isEqualTo(now);
+        assertThat(second.getDeliveredAt()).isEqualTo(now);
+        verify(extensionEventOutboxRepository).saveAll(List.of(first, second));
+
+        assertThat(meterRegistry.get("extensions.outbox.events.delivered").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("extensions.outbox.relay").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void ensureDeliversNothingWithoutPendingEvents() {
+
+        when(extensionEventOutboxRepository.findByDeliveredAtIsNullAndFailedAtIsNullOrderById(any())).thenReturn(List.of());
+
+        sut.relay();
+
+        assertThat(extensionEventBus.getBatches()).isEmpty();
+        verify(extensionEventOutboxRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void ensureEventsStayPendingIfDeliveryFails() throws Exception {
+
+        final PersonCreatedEventDTO created = PersonCreatedEventDTO.create("tenant", 1L, "muster", "Muster", "Marlene", "muster@example.org", true);
+        final ExtensionEventOutboxEntry entry = entry(1L, created);
+        when(extensionEventOutboxRepository.findByDeliveredAtIsNullAndFailedAtIsNullOrderById(any())).thenReturn(List.of(entry));
+        when(extensionEventOutboxRepository.findById(1L)).thenReturn(Optional.of(entry));
+
+        extensionEventBus.failWith(new IllegalStateException("broker unavailable"));
+        sut.relay();
+
+        assertThat(entry.getDeliveredAt()).isNull();
+        assertThat(entry.getFailedAttempts()).isOne();
+        assertThat(entry.getFailedAt()).isNull();
+        verify(extensionEventOutboxRepository, never()).saveAll(any());
+        verify(extensionEventOutboxRepository).save(entry);
+
+        extensionEventBus.recover();
+        sut.relay();
+
+        assertThat(extensionEventBus.getEvents()).containsExactly(created);
+        assertThat(entry.getDeliveredAt()).isEqualTo(now);
+    }
+
+    @Test
+    void ensureDeliversEventsBeforeAFailingEventOneByOneAndKeepsTheFollowingPending() throws Exception {
+
+        final PersonCreatedEventDTO created = PersonCreatedEventDTO.create("tenant", 1L, "muster", "Muster", "Marlene", "muster@example.org", true);
+        final PersonCreatedEventDTO failing = PersonCreatedEventDTO.create("tenant", 2L, "dampf", "Dampf", "Hans", "dampf@example.org", true);
+        final PersonDeletedEventDTO deleted = PersonDeletedEventDTO.create("tenant", 1L, "muster", "Muster", "Marlene", "muster@example.org", false);
+        final ExtensionEventOutboxEntry first = entry(1L, created);
+        final ExtensionEventOutboxEntry second = entry(2L, failing);
+        final ExtensionEventOutboxEntry third = entry(3L, deleted);
+        when(extensionEventOutboxRepository.findByDeliveredAtIsNullAndFailedAtIsNullOrderById(any())).thenReturn(List.of(first, second, third));
+        when(extensionEventOutboxRepository.findById(2L)).thenReturn(Optional.of(second));
+
+        extensionEventBus.failOn(failing, new IllegalStateException("extension failed"));
+        sut.relay();
+
+        assertThat(extensionEventBus.getBatches()).containsExactly(List.of(created));
+        assertThat(first.getDeliveredAt()).isEqualTo(now);
+        assertThat(second.getDeliveredAt()).isNull();
+        assertThat(second.getFailedAttempts()).isOne();
+        assertThat(third.getDeliveredAt()).isNull();
+        assertThat(meterRegistry.get("extensions.outbox.events.delivered").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("extensions.outbox.events.failed").counter().count()).isZero();
+    }
+
+    @Test
+    void ensureGivesUpAFailingEventAfterMaxAttempts() throws Exception {
+
+        extensionEventOutboxProperties.setMaxAttempts(2);
+
+        final PersonCreatedEventDTO failing = PersonCreatedEventDTO.create("tenant", 1L, "muster", "Muster", "Marlene", "muster@example.org", true);
+        final PersonDeletedEventDTO deleted = PersonDeletedEventDTO.create("tenant", 1L, "muster", "Muster", "Marlene", "muster@example.org", false);
+        final ExtensionEventOutboxEntry first = entry(1L, failing);
+        final ExtensionEventOutboxEntry second = entry(2L, deleted);
+        when(extensionEventOutboxRepository.findByDeliveredAtIsNullAndFailedAtIsNullOrderById(any()))
+            .thenReturn(List.of(first, second))
+            .thenReturn(List.of(first, second))
+            .thenReturn(List.of(second));
+        when(extensionEventOutboxRepository.findById(1L)).thenReturn(Optional.of(first));
+
+        extensionEventBus.failOn(failing, new IllegalStateException("extension failed"));
+        sut.relay();
+        assertThat(first.getFailedAt()).isNull();
+
+        sut.relay();
+        assertThat(first.getFailedAttempts()).isEqualTo(2);
+        assertThat(first.getFailedAt()).isEqualTo(now);
+        assertThat(first.getFailure()).isEqualTo("java.lang.IllegalStateException: extension failed");
+        assertThat(first.getDeliveredAt()).isNull();
+        assertThat(meterRegistry.get("extensions.outbox.events.failed").counter().count()).isEqualTo(1);
+
+        sut.relay();
+        assertThat(extensionEventBus.getEvents()).containsExactly(deleted);
+        assertThat(second.getDeliveredAt()).isEqualTo(now);
+    }
+
+    @Test
+    void ensureGivesUpEventsThatCannotBeRead() throws Exception {
+
+        final PersonCreatedEventDTO created = PersonCreatedEventDTO.create("tenant", 1L, "muster", "Muster", "Marlene", "muster@example.org", true);
+        final ExtensionEventOutboxEntry unsupported = new ExtensionEventOutboxEntry("java.lang.ProcessBuilder", "{}", now);
+        unsupported.setId(1L);
+        final ExtensionEventOutboxEntry broken = new ExtensionEventOutboxEntry(PersonCreatedEventDTO.class.getName(), "{", now);
+        broken.setId(2L);
+        final ExtensionEventOutboxEntry valid = entry(3L, created);
+        when(extensionEventOutboxRepository.findByDeliveredAtIsNullAndFailedAtIsNullOrderById(any())).thenReturn(List.of(unsupported, broken, valid));
+
+        sut.relay();
+
+        assertThat(extensionEventBus.getEvents()).containsExactly(created);
+        assertThat(unsupported.getDeliveredAt()).isNull();
+        assertThat(unsupported.getFailedAt()).isEqualTo(now);
+        assertThat(unsupported.getFailure()).isEqualTo("unsupported type java.lang.ProcessBuilder");
+        assertThat(broken.getDeliveredAt()).isNull();
+        assertThat(broken.getFailedAt()).isEqualTo(now);
+        assertThat(broken.getFailure()).startsWith("could not be read");
+        verify(extensionEventOutboxRepository).saveAll(List.of(unsupported, broken));
+        assertThat(meterRegistry.get("extensions.outbox.events.failed").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("extensions.outbox.events.delivered").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void ensureReplayFromOffsetMarksEventsUndelivered() {
+
+        sut.replayFrom(42L);
+
+        verify(extensionEventOutboxRepository).markUndeliveredFrom(42L);
+    }
+
+    @Test
+    void ensureReplaysOnStartupIfConfigured() {
+
+        extensionEventOutboxProperties.setReplayFrom(7L);
+
+        sut.replayOnStartup();
+
+        verify(extensionEventOutboxRepository).markUndeliveredFrom(7L);
+    }
+
+    @Test
+    void ensureReplaysNothingOnStartupByDefault() {
+
+        sut.replayOnStartup();
+
+        verify(extensionEventOutboxRepository, never()).markUndeliveredFrom(any(Long.class));
+    }
+
+    @Test
+    void ensureDeletesEventsDeliveredBeforeRetention() {
+
+        extensionEventOutboxProperties.setRetention(Duration.ofDays(3));
+
+        sut.deleteDeliveredEvents();
+
+        verify(extensionEventOutboxRepository).deleteDeliveredBefore(Instant.parse("2024-02-27T10:00:00Z"));
+    }
+
+    @Test
+    void ensureReportsPendingEvents() {
+
+        when(extensionEventOutboxRepository.countByDeliveredAtIsNullAndFailedAtIsNull()).thenReturn(5L);
+
+        assertThat(meterRegistry.get("extensions.outbox.events.pending").gauge().value()).isEqualTo(5);
+    }
+
+    private ExtensionEventOutboxEntry entry(long id, Object event) throws Exception {
+        final ExtensionEventOutboxEntry entry = new ExtensionEventOutboxEntry(event.getClass().getName(), objectMapper.writeValueAsString(event), now);
+        entry.setId(id);
+        return entry;
+    }
+}
@@ -0,0 +1,70 @@
+package org.synyx.urlaubsverwaltung.extension.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import de.focus_shift.urlaubsverwaltung.extension.api.person.PersonCreatedEventDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ExtensionEventOutboxTest {
+
+    private ExtensionEventOutbox sut;
+
+    @Mock
+    private ExtensionEventOutboxRepository extensionEventOutboxRepository;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Instant now = Instant.parse("2024-03-01T10:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        sut = new ExtensionEventOutbox(extensionEventOutboxRepository, objectMapper, meterRegistry, Clock.fixed(now, UTC));
+    }
+
+    @Test
+    void ensureStoresEventAsJson() throws Exception {
+
+        final PersonCreatedEventDTO event = PersonCreatedEventDTO.create("tenant", 42L, "muster", "Muster", "Marlene", "muster@example.org", true);
+
+        sut.add(event);
+
+        final ArgumentCaptor<ExtensionEventOutboxEntry> captor = ArgumentCaptor.forClass(ExtensionEventOutboxEntry.class);
+        verify(extensionEventOutboxRepository).save(captor.capture());
+
+        final ExtensionEventOutboxEntry entry = captor.getValue();
+        assertThat(entry.getEventType()).isEqualTo(PersonCreatedEventDTO.class.getName());
+        assertThat(entry.getCreatedAt()).isEqualTo(now);
+        assertThat(entry.getDeliveredAt()).isNull();
+        assertThat(objectMapper.readValue(entry.getPayload(), PersonCreatedEventDTO.class)).isEqualTo(event);
+
+        assertThat(meterRegistry.get("extensions.outbox.events.written").tag("type", "PersonCreatedEventDTO").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void ensureThrowsIfEventCannotBeSerialized() {
+
+        final Object event = new Object();
+
+        assertThatThrownBy(() -> sut.add(event))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("java.lang.Object");
+
+        verifyNoInteractions(extensionEventOutboxRepository);
+    }
+}
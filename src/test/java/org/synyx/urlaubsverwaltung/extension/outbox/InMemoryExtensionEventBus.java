@@ -0,0 +1,55 @@
+package org.synyx.urlaubsverwaltung.extension.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Stand-in for the broker of the extensions that keeps the delivered events in memory.
+ */
+class InMemoryExtensionEventBus implements ExtensionEventBus {
+
+    private final List<List<Object>> batches = new CopyOnWriteArrayList<>();
+    private RuntimeException failure;
+    private Object failingEvent;
+
+    @Override
+    public void publish(List<Object> events) {
+        if (failure != null && (failingEvent == null || events.contains(failingEvent))) {
+            throw failure;
+        }
+        batches.add(List.copyOf(events));
+    }
+
+    /**
+     * @param failure thrown on every delivery until {@link #recover()} is called
+     */
+    void failWith(RuntimeException failure) {
+        this.failure = failure;
+        this.failingEvent = null;
+    }
+
+    /**
+     * @param event   every delivery containing this event fails until {@link #recover()} is called
+     * @param failure thrown on these deliveries
+     */
+    void failOn(Object event, RuntimeException failure) {
+        this.failure = failure;
+        this.failingEvent = event;
+    }
+
+    void recover() {
+        this.failure = null;
+        this.failingEvent = null;
+    }
+
+    List<List<Object>> getBatches() {
+        return batches;
+    }
+
+    List<Object> getEvents() {
+        final List<Object> events = new ArrayList<>();
+        batches.forEach(events::addAll);
+        return events;
+    }
+}
@@ -10,7 +10,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.support.StaticMessageSource;
 import org.synyx.urlaubsverwaltung.application.vacationtype.CustomVacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
@@ -19,6 +18,7 @@ import org.synyx.urlaubsverwaltung.application.vacationtype.VacationType;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeColor;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeLabel;
 import org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeUpdatedEvent;
+import org.synyx.urlaubsverwaltung.extension.outbox.ExtensionEventOutbox;
 
 import java.util.List;
 import java.util.Locale;
@@ -40,7 +40,7 @@ class VacationTypeEventHandlerExtensionTest {
     private TenantSupplier tenantSupplier;
 
     @Mock
-    private ApplicationEventPublisher applicationEventPublisher;
+    private ExtensionEventOutbox extensionEventOutbox;
 
     @Captor
     private ArgumentCaptor<VacationTypeUpdatedEventDTO> eventCaptor;
@@ -49,7 +49,7 @@ class VacationTypeEventHandlerExtensionTest {
 
     @BeforeEach
     void setUp() {
-        vacationTypeEventHandlerExtension = new VacationTypeEventHandlerExtension(tenantSupplier, applicationEventPublisher);
+        vacationTypeEventHandlerExtension = new VacationTypeEventHandlerExtension(tenantSupplier, extensionEventOutbox);
     }
 
     @Test
@@ -74,7 +74,7 @@ class VacationTypeEventHandlerExtensionTest {
 
         vacationTypeEventHandlerExtension.onVacationTypeUpdated(VacationTypeUpdatedEvent.of(vacationType));
 
-        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+        verify(extensionEventOutbox).add(eventCaptor.capture());
         final VacationTypeUpdatedEventDTO actualEvent = eventCaptor.getValue();
 
         assertThat(actualEvent.getId()).isNotNull();
@@ -106,7 +106,7 @@ class VacationTypeEventHandlerExtensionTest {
 
         vacationTypeEventHandlerExtension.onVacationTypeUpdated(event);
 
-        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+        verify(extensionEventOutbox).add(eventCaptor.capture());
         VacationTypeUpdatedEventDTO capturedEvent = eventCaptor.getValue();
         assertThat(capturedEvent.getId()).isNotNull();
         assertThat(capturedEvent.getTenantId()).isEqualTo(tenant);
@@ -142,7 +142,7 @@ class VacationTypeEventHandlerExtensionTest {
 
         vacationTypeEventHandlerExtension.onVacationTypeUpdated(event);
 
-        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+        verify(extensionEventOutbox).add(eventCaptor.capture());
         VacationTypeUpdatedEventDTO capturedEvent = eventCaptor.getValue();
         assertThat(capturedEvent.getId()).isNotNull();
         assertThat(capturedEvent.getTenantId()).isEqualTo(tenant);
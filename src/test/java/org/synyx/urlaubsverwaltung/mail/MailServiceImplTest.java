@@ -1,5 +1,7 @@
 package org.synyx.urlaubsverwaltung.mail;
 
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,12 +19,19 @@ import org.thymeleaf.context.Context;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.Arrays.asList;
+import static java.util.Locale.ENGLISH;
+import static java.util.Locale.GERMAN;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.mail.MailRenderingMode.PER_LOCALE;
+import static org.synyx.urlaubsverwaltung.mail.MailRenderingMode.PER_RECIPIENT;
 
 @ExtendWith(MockitoExtension.class)
 class MailServiceImplTest {
@@ -40,6 +49,8 @@ class MailServiceImplTest {
     @Mock
     private UserSettingsService userSettingsService;
 
+    private SimpleMeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
         when(messageSource.getMessage(any(), any(), any())).thenReturn("subject");
@@ -49,7 +60,9 @@ class MailServiceImplTest {
         when(mailProperties.getReplyTo()).thenReturn("no-reply@example.org");
         when(mailProperties.getReplyToDisplayName()).thenReturn("Urlaubsverwaltung");
         when(mailProperties.getApplicationUrl()).thenReturn("http://localhost:8080");
-        sut = new MailServiceImpl(messageSource, emailTemplateEngine, mailSenderService, mailProperties, userSettingsService);
+        when(mailProperties.getRenderingMode()).thenReturn(PER_RECIPIENT);
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new MailServiceImpl(messageSource, emailTemplateEngine, mailSenderService, mailProperties, userSettingsService, meterRegistry);
     }
 
     @Test
@@ -184,6 +197,57 @@ class MailServiceImplTest {
         verifyNoMoreInteractions(mailSenderService);
     }
 
+    @Test
+    void ensureTemplateIsProcessedOncePerLocale() {
+
+        when(mailProperties.getRenderingMode()).thenReturn(PER_LOCALE);
+
+        final Person hans = new Person("hans", "Dampf", "Hans", "hans@example.org");
+        hans.setId(1L);
+        final Person franz = new Person("franz", "Schmidt", "Franz", "franz@example.org");
+        franz.setId(2L);
+        final Person john = new Person("john", "Doe", "John", "john@example.org");
+        john.setId(3L);
+        when(userSettingsService.getEffectiveLocale(List.of(hans, franz, john)))
+            .thenReturn(Map.of(hans, GERMAN, franz, GERMAN, john, ENGLISH));
+
+        final Mail mail = Mail.builder()
+            .withRecipient(List.of(hans, franz, john))
+            .withSubject("subject.overtime.created")
+            .withTemplate("overtime_office", locale -> new HashMap<>())
+            .build();
+
+        sut.send(mail);
+
+        verify(emailTemplateEngine, times(2)).process(any(String.class), any(Context.class));
+        verify(mailSenderService).sendEmail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "hans@example.org", "subject", "emailBody");
+        verify(mailSenderService).sendEmail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "franz@example.org", "subject", "emailBody");
+        verify(mailSenderService).sendEmail("Urlaubsverwaltung <from@example.org>", "Urlaubsverwaltung <no-reply@example.org>", "john@example.org", "subject", "emailBody");
+
+        final Timer timer = meterRegistry.get("mail.template.rendering").tag("template", "overtime_office").tag("mode", "per_locale").timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    void ensureTemplateIsProcessedPerRecipient() {
+
+        final Person hans = new Person("hans", "Dampf", "Hans", "hans@example.org");
+        final Person franz = new Person("franz", "Schmidt", "Franz", "franz@example.org");
+
+        final Mail mail = Mail.builder()
+            .withRecipient(List.of(hans, franz))
+            .withSubject("subject.overtime.created")
+            .withTemplate("overtime_office", locale -> new HashMap<>())
+            .build();
+
+        sut.send(mail);
+
+        verify(emailTemplateEngine, times(2)).process(any(String.class), any(Context.class));
+
+        final Timer timer = meterRegistry.get("mail.template.rendering").tag("template", "overtime_office").tag("mode", "per_recipient").timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
     private void setupMockServletRequest() {
         final MockHttpServletRequest request = new MockHttpServletRequest();
         RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
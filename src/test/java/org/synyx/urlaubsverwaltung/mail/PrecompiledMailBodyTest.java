@@ -0,0 +1,37 @@
+package org.synyx.urlaubsverwaltung.mail;
+
+import org.junit.jupiter.api.Test;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.mail.PrecompiledMailBody.placeholderRecipient;
+
+class PrecompiledMailBodyTest {
+
+    @Test
+    void ensureFillsRecipientSlots() {
+
+        final Person placeholder = placeholderRecipient();
+        final String rendered = "Hallo " + placeholder.getNiceName() + ",\n\nweb/person/" + placeholder.getId() + "/notifications\n" + placeholder.getNiceName();
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(42L);
+
+        final PrecompiledMailBody body = PrecompiledMailBody.compile(rendered);
+        assertThat(body.fill(person)).isEqualTo("Hallo Marlene Muster,\n\nweb/person/42/notifications\nMarlene Muster");
+    }
+
+    @Test
+    void ensureBodyWithoutSlotsIsReturnedAsIs() {
+
+        final PrecompiledMailBody body = PrecompiledMailBody.compile("no recipient specific content");
+        assertThat(body.fill(new Person())).isEqualTo("no recipient specific content");
+    }
+
+    @Test
+    void ensureRecipientWithoutIdFillsEmptyIdSlot() {
+
+        final PrecompiledMailBody body = PrecompiledMailBody.compile("web/person/" + placeholderRecipient().getId() + "/notifications");
+        assertThat(body.fill(new Person())).isEqualTo("web/person//notifications");
+    }
+}
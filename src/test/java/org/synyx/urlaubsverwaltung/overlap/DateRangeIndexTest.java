@@ -0,0 +1,100 @@
+package org.synyx.urlaubsverwaltung.overlap;
+
+import org.junit.jupiter.api.Test;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.FULLY_OVERLAPPING;
+import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.NO_OVERLAPPING;
+import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.PARTLY_OVERLAPPING;
+
+class DateRangeIndexTest {
+
+    @Test
+    void ensureNoOverlappingWithoutDateRanges() {
+        final DateRangeIndex sut = DateRangeIndex.of(List.of());
+        assertThat(sut.overlapCase(range("2024-03-01", "2024-03-31"))).isEqualTo(NO_OVERLAPPING);
+    }
+
+    @Test
+    void ensureNoOverlappingIfPeriodIsBetweenDateRanges() {
+        final DateRangeIndex sut = DateRangeIndex.of(List.of(range("2024-03-01", "2024-03-05"), range("2024-03-20", "2024-03-25")));
+        assertThat(sut.overlapCase(range("2024-03-10", "2024-03-15"))).isEqualTo(NO_OVERLAPPING);
+        assertThat(sut.overlapCase(range("2024-02-01", "2024-02-29"))).isEqualTo(NO_OVERLAPPING);
+        assertThat(sut.overlapCase(range("2024-03-26", "2024-03-31"))).isEqualTo(NO_OVERLAPPING);
+    }
+
+    @Test
+    void ensureFullyOverlappingIfAbuttingDateRangesCoverThePeriod() {
+        // given in no particular order
+        final DateRangeIndex sut = DateRangeIndex.of(List.of(range("2024-03-19", "2024-03-20"), range("2024-03-16", "2024-03-18")));
+        assertThat(sut.overlapCase(range("2024-03-16", "2024-03-20"))).isEqualTo(FULLY_OVERLAPPING);
+    }
+
+    @Test
+    void ensureFullyOverlappingIfNestedDateRangesCoverThePeriod() {
+        final DateRangeIndex sut = DateRangeIndex.of(List.of(range("2024-03-01", "2024-03-31"), range("2024-03-10", "2024-03-12")));
+        assertThat(sut.overlapCase(range("2024-03-11", "2024-03-20"))).isEqualTo(FULLY_OVERLAPPING);
+    }
+
+    @Test
+    void ensurePartlyOverlappingIfThereIsAGapBetweenDateRanges() {
+        final DateRangeIndex sut = DateRangeIndex.of(List.of(range("2024-03-16", "2024-03-18"), range("2024-03-20", "2024-03-22")));
+        assertThat(sut.overlapCase(range("2024-03-16", "2024-03-22"))).isEqualTo(PARTLY_OVERLAPPING);
+    }
+
+    @Test
+    void ensurePartlyOverlappingIfOnlyStartOrEndOfPeriodIsCovered() {
+        final DateRangeIndex sut = DateRangeIndex.of(List.of(range("2024-03-10", "2024-03-20")));
+        assertThat(sut.overlapCase(range("2024-03-05", "2024-03-12"))).isEqualTo(PARTLY_OVERLAPPING);
+        assertThat(sut.overlapCase(range("2024-03-18", "2024-03-25"))).isEqualTo(PARTLY_OVERLAPPING);
+        assertThat(sut.overlapCase(range("2024-03-01", "2024-03-31"))).isEqualTo(PARTLY_OVERLAPPING);
+    }
+
+    @Test
+    void ensureSameResultAsCheckingEveryDayForLongAbsenceHistories() {
+
+        // twenty years of absences of one up to ten days with random distances
+        final Random random = new Random(42);
+        final List<DateRange> dateRanges = new ArrayList<>();
+        LocalDate startDate = LocalDate.parse("2004-01-01");
+        while (startDate.getYear() < 2024) {
+            final LocalDate endDate = startDate.plusDays(random.nextInt(10));
+            dateRanges.add(new DateRange(startDate, endDate));
+            startDate = endDate.plusDays(random.nextInt(10));
+        }
+
+        final DateRangeIndex sut = DateRangeIndex.of(dateRanges);
+
+        for (int i = 0; i < 10_000; i++) {
+            final LocalDate from = LocalDate.parse("2003-12-01").plusDays(random.nextInt(7400));
+            final DateRange period = new DateRange(from, from.plusDays(random.nextInt(30)));
+            assertThat(sut.overlapCase(period)).as("overlap case of %s", period).isEqualTo(overlapCaseCheckingEveryDay(dateRanges, period));
+        }
+    }
+
+    private static OverlapCase overlapCaseCheckingEveryDay(List<DateRange> dateRanges, DateRange period) {
+        int coveredDays = 0;
+        int days = 0;
+        for (LocalDate date : period) {
+            days++;
+            if (dateRanges.stream().anyMatch(dateRange -> !date.isBefore(dateRange.startDate()) && !date.isAfter(dateRange.endDate()))) {
+                coveredDays++;
+            }
+        }
+
+        if (coveredDays == 0) {
+            return NO_OVERLAPPING;
+        }
+        return coveredDays == days ? FULLY_OVERLAPPING : PARTLY_OVERLAPPING;
+    }
+
+    private static DateRange range(String startDate, String endDate) {
+        return new DateRange(LocalDate.parse(startDate), LocalDate.parse(endDate));
+    }
+}
@@ -24,11 +24,13 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.anyApplication;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.ALLOWED_CANCELLATION_REQUESTED;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.TEMPORARY_ALLOWED;
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.WAITING;
 import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.FULLY_OVERLAPPING;
 import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.NO_OVERLAPPING;
@@ -36,6 +38,7 @@ import static org.synyx.urlaubsverwaltung.overlap.OverlapCase.PARTLY_OVERLAPPING
 import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 import static org.synyx.urlaubsverwaltung.period.DayLength.MORNING;
 import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.ACTIVE;
+import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.activeStatuses;
 
 @ExtendWith(MockitoExtension.class)
 class OverlapServiceTest {
@@ -47,29 +50,19 @@ class OverlapServiceTest {
     @Mock
     private SickNoteService sickNoteService;
 
+    private static final List<ApplicationStatus> CONFLICTING_STATUSES = List.of(WAITING, TEMPORARY_ALLOWED, ALLOWED, ALLOWED_CANCELLATION_REQUESTED);
+
     @BeforeEach
     void setup() {
         sut = new OverlapService(applicationService, sickNoteService);
     }
 
     @Test
-    void ensureNoOverlappingIfOnlyInactiveApplicationsForLeaveInThePeriod() {
+    void ensureOnlyActiveApplicationsForLeaveAreConsidered() {
 
         final LocalDate startDate = LocalDate.of(2012, JANUARY, 16);
         final LocalDate endDate = LocalDate.of(2012, JANUARY, 18);
 
-        final Application cancelledApplication = new Application();
-        cancelledApplication.setDayLength(FULL);
-        cancelledApplication.setStartDate(startDate);
-        cancelledApplication.setEndDate(endDate);
-        cancelledApplication.setStatus(ApplicationStatus.CANCELLED);
-
-        final Application rejectedApplication = new Application();
-        rejectedApplication.setDayLength(MORNING);
-        rejectedApplication.setStartDate(startDate);
-        rejectedApplication.setEndDate(endDate);
-        rejectedApplication.setStatus(ApplicationStatus.REJECTED);
-
         final Person person = new Person();
 
         final Application applicationToBeChecked = new Application();
@@ -78,8 +71,8 @@ class OverlapServiceTest {
         applicationToBeChecked.setStartDate(startDate);
         applicationToBeChecked.setEndDate(endDate);
 
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(startDate, endDate, person))
-            .thenReturn(asList(cancelledApplication, rejectedApplication));
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(startDate, endDate, List.of(person), CONFLICTING_STATUSES))
+            .thenReturn(List.of());
 
         final OverlapCase overlapCase = sut.checkOverlap(applicationToBeChecked);
         assertThat(overlapCase).isEqualTo(NO_OVERLAPPING);
@@ -100,7 +93,7 @@ class OverlapServiceTest {
         applicationToCheck.setEndDate(endDate);
 
 
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(startDate, endDate, person))
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(startDate, endDate, List.of(person), CONFLICTING_STATUSES))
             .thenReturn(new ArrayList<>());
 
         final OverlapCase overlapCase = sut.checkOverlap(applicationToCheck);
@@ -124,8 +117,7 @@ class OverlapServiceTest {
         allowedApplication.setEndDate(LocalDate.of(2012, JANUARY, 20));
         allowedApplication.setStatus(ALLOWED);
 
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(any(LocalDate.class),
-            any(LocalDate.class), any(Person.class)))
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(any(LocalDate.class), any(LocalDate.class), anyList(), anyList()))
             .thenReturn(asList(waitingApplication, allowedApplication));
 
         // application for leave to check: 18.01. - 19.01.
@@ -148,8 +140,7 @@ class OverlapServiceTest {
         waitingApplication.setEndDate(LocalDate.of(2012, JANUARY, 18));
         waitingApplication.setStatus(WAITING);
 
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(any(LocalDate.class),
-            any(LocalDate.class), any(Person.class)))
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(any(LocalDate.class), any(LocalDate.class), anyList(), anyList()))
             .thenReturn(singletonList(waitingApplication));
 
         // application for leave to check: 14.01. - 16.01.
@@ -172,8 +163,7 @@ class OverlapServiceTest {
         allowedApplication.setEndDate(LocalDate.of(2012, JANUARY, 18));
         allowedApplication.setStatus(ALLOWED);
 
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(any(LocalDate.class),
-            any(LocalDate.class), any(Person.class)))
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(any(LocalDate.class), any(LocalDate.class), anyList(), anyList()))
             .thenReturn(singletonList(allowedApplication));
 
         // application for leave to check: 18.01. - 20.01.
@@ -188,18 +178,11 @@ class OverlapServiceTest {
 
 
     @Test
-    void ensureNoOverlappingIfOnlyInactiveSickNotesInThePeriod() {
+    void ensureOnlyActiveSickNotesAreConsidered() {
 
         LocalDate startDate = LocalDate.of(2012, JANUARY, 16);
         LocalDate endDate = LocalDate.of(2012, JANUARY, 18);
 
-        final SickNote inactiveSickNote = SickNote.builder()
-            .dayLength(FULL)
-            .startDate(startDate)
-            .endDate(endDate)
-            .status(SickNoteStatus.CANCELLED)
-            .build();
-
         final Person person = new Person();
 
         // sick note to be checked: 16.01. - 18.01.
@@ -210,7 +193,7 @@ class OverlapServiceTest {
             .endDate(LocalDate.of(2012, JANUARY, 18))
             .build();
 
-        when(sickNoteService.getByPersonAndPeriod(person, startDate, endDate)).thenReturn(singletonList(inactiveSickNote));
+        when(sickNoteService.getForStatesAndPerson(activeStatuses(), List.of(person), startDate, endDate)).thenReturn(List.of());
 
         final OverlapCase overlapCase = sut.checkOverlap(sickNote);
         assertThat(overlapCase).isEqualTo(NO_OVERLAPPING);
@@ -231,7 +214,7 @@ class OverlapServiceTest {
             .endDate(endDate)
             .build();
 
-        when(sickNoteService.getByPersonAndPeriod(person, startDate, endDate)).thenReturn(List.of());
+        when(sickNoteService.getForStatesAndPerson(activeStatuses(), List.of(person), startDate, endDate)).thenReturn(List.of());
 
         final OverlapCase overlapCase = sut.checkOverlap(sickNote);
         assertThat(overlapCase).isEqualTo(NO_OVERLAPPING);
@@ -249,7 +232,7 @@ class OverlapServiceTest {
             .status(ACTIVE)
             .build();
 
-        when(sickNoteService.getByPersonAndPeriod(any(Person.class), any(LocalDate.class), any(LocalDate.class)))
+        when(sickNoteService.getForStatesAndPerson(anyList(), anyList(), any(LocalDate.class), any(LocalDate.class)))
             .thenReturn(singletonList(sickNote));
 
         // application for leave to check: 18.01. - 19.01.
@@ -274,7 +257,7 @@ class OverlapServiceTest {
             .status(ACTIVE)
             .build();
 
-        when(sickNoteService.getByPersonAndPeriod(any(Person.class), any(LocalDate.class), any(LocalDate.class)))
+        when(sickNoteService.getForStatesAndPerson(anyList(), anyList(), any(LocalDate.class), any(LocalDate.class)))
             .thenReturn(singletonList(sickNote));
 
         // application for leave to check: 14.01. - 16.01.
@@ -317,7 +300,7 @@ class OverlapServiceTest {
             .status(ACTIVE)
             .build();
 
-        when(sickNoteService.getByPersonAndPeriod(person, startDate, endDate)).thenReturn(singletonList(existentSickNote));
+        when(sickNoteService.getForStatesAndPerson(activeStatuses(), List.of(person), startDate, endDate)).thenReturn(singletonList(existentSickNote));
 
         // edit sick note to: 16.03. - 17.03.
         final OverlapCase overlapCase = sut.checkOverlap(sickNote);
@@ -343,7 +326,7 @@ class OverlapServiceTest {
         noonVacation.setStartDate(vacationDate);
         noonVacation.setEndDate(vacationDate);
 
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(vacationDate, vacationDate, person))
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(vacationDate, vacationDate, List.of(person), CONFLICTING_STATUSES))
             .thenReturn(singletonList(morningVacation));
 
         final OverlapCase overlapCase = sut.checkOverlap(noonVacation);
@@ -362,7 +345,7 @@ class OverlapServiceTest {
         morningVacation.setEndDate(vacationDate);
         morningVacation.setStatus(WAITING);
 
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(any(LocalDate.class), any(LocalDate.class), any(Person.class)))
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(any(LocalDate.class), any(LocalDate.class), anyList(), anyList()))
             .thenReturn(singletonList(morningVacation));
 
         Application otherMorningVacation = anyApplication();
@@ -386,7 +369,7 @@ class OverlapServiceTest {
         morningVacation.setEndDate(vacationDate);
         morningVacation.setStatus(WAITING);
 
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(any(LocalDate.class), any(LocalDate.class), any(Person.class)))
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(any(LocalDate.class), any(LocalDate.class), anyList(), anyList()))
             .thenReturn(singletonList(morningVacation));
 
         Application fullDayVacation = anyApplication();
@@ -409,7 +392,7 @@ class OverlapServiceTest {
         fullDayVacation.setEndDate(vacationDate);
         fullDayVacation.setStatus(WAITING);
 
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(any(LocalDate.class), any(LocalDate.class), any(Person.class)))
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(any(LocalDate.class), any(LocalDate.class), anyList(), anyList()))
             .thenReturn(singletonList(fullDayVacation));
 
         Application morningVacation = anyApplication();
@@ -436,7 +419,7 @@ class OverlapServiceTest {
         final Person person = new Person("username", "last name", "first name", "email@example.org");
         person.setId(1L);
 
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(any(LocalDate.class), any(LocalDate.class), eq(person)))
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(any(LocalDate.class), any(LocalDate.class), eq(List.of(person)), anyList()))
             .thenReturn(singletonList(morningVacation));
 
         final SickNote sickNote = SickNote.builder()
@@ -465,7 +448,7 @@ class OverlapServiceTest {
         final Person person = new Person("username", "last name", "first name", "email@example.org");
         person.setId(1L);
 
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(any(LocalDate.class), any(LocalDate.class), eq(person)))
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(any(LocalDate.class), any(LocalDate.class), eq(List.of(person)), anyList()))
             .thenReturn(singletonList(morningVacation));
 
         final SickNote sickNote = SickNote.builder()
@@ -494,7 +477,7 @@ class OverlapServiceTest {
         final Person person = new Person("username", "last name", "first name", "email@example.org");
         person.setId(1L);
 
-        when(applicationService.getApplicationsForACertainPeriodAndPerson(any(LocalDate.class), any(LocalDate.class), eq(person)))
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(any(LocalDate.class), any(LocalDate.class), eq(List.of(person)), anyList()))
             .thenReturn(singletonList(morningCancellationRequest));
 
         final SickNote sickNote = SickNote.builder()
@@ -508,4 +491,41 @@ class OverlapServiceTest {
         final OverlapCase overlapCase = sut.checkOverlap(sickNote);
         assertThat(overlapCase).isEqualTo(FULLY_OVERLAPPING);
     }
+
+    @Test
+    void ensureFullyOverlappingIfApplicationsForLeaveAndSickNotesTogetherCoverThePeriod() {
+
+        final Person person = new Person("username", "last name", "first name", "email@example.org");
+        person.setId(1L);
+
+        // sick note: 16.01. - 17.01.
+        final SickNote sickNote = SickNote.builder()
+            .person(person)
+            .dayLength(FULL)
+            .startDate(LocalDate.of(2012, JANUARY, 16))
+            .endDate(LocalDate.of(2012, JANUARY, 17))
+            .status(ACTIVE)
+            .build();
+        when(sickNoteService.getForStatesAndPerson(anyList(), anyList(), any(LocalDate.class), any(LocalDate.class)))
+            .thenReturn(List.of(sickNote));
+
+        // application for leave: 18.01. - 20.01.
+        final Application application = new Application();
+        application.setDayLength(FULL);
+        application.setStartDate(LocalDate.of(2012, JANUARY, 18));
+        application.setEndDate(LocalDate.of(2012, JANUARY, 20));
+        application.setStatus(ALLOWED);
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(any(LocalDate.class), any(LocalDate.class), anyList(), anyList()))
+            .thenReturn(List.of(application));
+
+        // application for leave to check: 16.01. - 20.01.
+        final Application applicationToCheck = new Application();
+        applicationToCheck.setPerson(person);
+        applicationToCheck.setDayLength(FULL);
+        applicationToCheck.setStartDate(LocalDate.of(2012, JANUARY, 16));
+        applicationToCheck.setEndDate(LocalDate.of(2012, JANUARY, 20));
+
+        final OverlapCase overlapCase = sut.checkOverlap(applicationToCheck);
+        assertThat(overlapCase).isEqualTo(FULLY_OVERLAPPING);
+    }
 }
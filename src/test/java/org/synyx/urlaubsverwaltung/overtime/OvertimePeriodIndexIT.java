@@ -0,0 +1,77 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.synyx.urlaubsverwaltung.QueryPlans;
+import org.synyx.urlaubsverwaltung.TestContainersBase;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.QueryPlans.selectingFrom;
+
+/**
+ * Verifies with the query plans of a populated database that the period overlap queries of overtime
+ * are answered by an index instead of a sequential scan. The queries are explained as emitted by hibernate
+ * for the repository methods, with the parameters they are executed with.
+ */
+@SpringBootTest
+@Import(QueryPlans.Configuration.class)
+class OvertimePeriodIndexIT extends TestContainersBase {
+
+    private static final int NUMBER_OF_PERSONS = 1_000;
+    private static final int NUMBER_OF_OVERTIMES = 1_000_000;
+    private static final long ID_OFFSET = 30_000_000L;
+
+    @Autowired
+    private OvertimeRepository overtimeRepository;
+
+    @BeforeAll
+    static void setUp(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+            insert into person (id, username, first_name, last_name, email)
+            select ? + i, 'user' || (? + i), 'Marlene', 'Muster', 'user' || (? + i) || '@example.org'
+            from generate_series(1, ?) as i
+            """, ID_OFFSET, ID_OFFSET, ID_OFFSET, NUMBER_OF_PERSONS);
+
+        // overtime of one day spread over ~ 27 years
+        jdbcTemplate.update("""
+            insert into overtime (id, person_id, start_date, end_date, duration, last_modification_date)
+            select ? + i, ? + 1 + i % ?, date '2000-01-01' + (i / 100), date '2000-01-01' + (i / 100), 1, date '2000-01-01'
+            from generate_series(1, ?) as i
+            """, ID_OFFSET, ID_OFFSET, NUMBER_OF_PERSONS, NUMBER_OF_OVERTIMES);
+
+        jdbcTemplate.execute("analyze overtime");
+    }
+
+    @AfterAll
+    static void tearDown(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("delete from overtime where id > ? and id <= ?", ID_OFFSET, ID_OFFSET + NUMBER_OF_OVERTIMES);
+        jdbcTemplate.update("delete from person where id > ? and id <= ?", ID_OFFSET, ID_OFFSET + NUMBER_OF_PERSONS);
+    }
+
+    @Test
+    void ensureOvertimeOfPersonsWithinPeriodUseIndex() {
+
+        final List<QueryPlans.QueryPlan> plans = QueryPlans.of(() ->
+            overtimeRepository.findByPersonIsInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(
+                List.of(person(1), person(2)), LocalDate.of(2020, 3, 1), LocalDate.of(2020, 3, 31)));
+
+        assertThat(selectingFrom(plans, "overtime").plan())
+            .contains("idx_overtime_person_period")
+            .doesNotContain("Seq Scan");
+    }
+
+    private static Person person(long number) {
+        final Person person = new Person();
+        person.setId(ID_OFFSET + number);
+        return person;
+    }
+}
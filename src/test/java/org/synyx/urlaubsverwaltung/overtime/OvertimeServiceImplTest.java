@@ -56,6 +56,8 @@ class OvertimeServiceImplTest {
     @Mock
     private OvertimeCommentRepository overtimeCommentRepository;
     @Mock
+    private OvertimeYearBalanceService overtimeYearBalanceService;
+    @Mock
     private ApplicationService applicationService;
     @Mock
     private OvertimeMailService overtimeMailService;
@@ -66,7 +68,7 @@ class OvertimeServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        sut = new OvertimeServiceImpl(overtimeRepository, overtimeCommentRepository, applicationService, overtimeMailService, settingsService, clock);
+        sut = new OvertimeServiceImpl(overtimeRepository, overtimeCommentRepository, overtimeYearBalanceService, applicationService, overtimeMailService, settingsService, clock);
     }
 
     // Record overtime -------------------------------------------------------------------------------------------------
@@ -82,6 +84,19 @@ class OvertimeServiceImplTest {
         verify(overtimeCommentRepository).save(any(OvertimeComment.class));
     }
 
+    @Test
+    void ensureRecordingUpdatesOvertimeYearBalancesAfterSavingOvertime() {
+
+        final Overtime overtime = new Overtime();
+        final Person author = new Person();
+
+        sut.record(overtime, Optional.empty(), author);
+
+        final InOrder inOrder = inOrder(overtimeRepository, overtimeYearBalanceService);
+        inOrder.verify(overtimeRepository).save(overtime);
+        inOrder.verify(overtimeYearBalanceService).updateOvertime(overtime);
+    }
+
     @Test
     void ensureRecordingUpdatesLastModificationDate() {
 
@@ -267,13 +282,7 @@ class OvertimeServiceImplTest {
 
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
 
-        final Overtime overtime = new Overtime(person, LocalDate.of(2016, 1, 5), LocalDate.of(2016, 1, 5), Duration.ofHours(10));
-        final Overtime overtime2 = new Overtime(person, LocalDate.of(2016, 2, 5), LocalDate.of(2016, 2, 5), Duration.ofHours(4));
-
-        final LocalDate firstDayOfYear = LocalDate.of(2017, 1, 1);
-        final LocalDate lastDayOfBeforeYear = firstDayOfYear.minusYears(1).with(lastDayOfYear());
-        when(overtimeRepository.findByPersonAndStartDateIsBefore(person, firstDayOfYear)).thenReturn(List.of(overtime, overtime2));
-        when(applicationService.getTotalOvertimeReductionOfPersonUntil(person, lastDayOfBeforeYear)).thenReturn(Duration.ofHours(1));
+        when(overtimeYearBalanceService.getLeftOvertimeBefore(person, 2017)).thenReturn(Duration.ofHours(13));
 
         final Duration totalHours = sut.getTotalOvertimeForPersonBeforeYear(person, 2017);
         assertThat(totalHours).isEqualTo(Duration.ofHours(13));
@@ -285,14 +294,12 @@ class OvertimeServiceImplTest {
 
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
 
-        when(overtimeRepository.calculateTotalHoursForPerson(person)).thenReturn(Optional.empty());
-        when(applicationService.getTotalOvertimeReductionOfPerson(person)).thenReturn(Duration.ZERO);
+        when(overtimeYearBalanceService.getLeftOvertime(person)).thenReturn(Duration.ZERO);
 
         final Duration totalHours = sut.getLeftOvertimeForPerson(person);
         assertThat(totalHours).isEqualTo(Duration.ZERO);
 
-        verify(overtimeRepository).calculateTotalHoursForPerson(person);
-        verify(applicationService).getTotalOvertimeReductionOfPerson(person);
+        verify(overtimeYearBalanceService).getLeftOvertime(person);
     }
 
     @Test
@@ -300,14 +307,12 @@ class OvertimeServiceImplTest {
 
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
 
-        when(overtimeRepository.calculateTotalHoursForPerson(person)).thenReturn(Optional.of((double) Duration.ofHours(10L).toMinutes() / 60));
-        when(applicationService.getTotalOvertimeReductionOfPerson(person)).thenReturn(Duration.ofHours(1));
+        when(overtimeYearBalanceService.getLeftOvertime(person)).thenReturn(Duration.ofHours(9));
 
         final Duration leftOvertime = sut.getLeftOvertimeForPerson(person);
         assertThat(leftOvertime).isEqualTo(Duration.ofHours(9));
 
-        verify(overtimeRepository).calculateTotalHoursForPerson(person);
-        verify(applicationService).getTotalOvertimeReductionOfPerson(person);
+        verify(overtimeYearBalanceService).getLeftOvertime(person);
     }
 
     @Test
@@ -315,8 +320,7 @@ class OvertimeServiceImplTest {
 
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
 
-        when(overtimeRepository.calculateTotalHoursForPerson(person)).thenReturn(Optional.empty());
-        when(applicationService.getTotalOvertimeReductionOfPerson(person)).thenReturn(Duration.ZERO);
+        when(overtimeYearBalanceService.getLeftOvertime(person)).thenReturn(Duration.ZERO);
 
         final Duration leftOvertime = sut.getLeftOvertimeForPerson(person);
         assertThat(leftOvertime).isEqualTo(Duration.ZERO);
@@ -327,8 +331,7 @@ class OvertimeServiceImplTest {
 
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
 
-        when(overtimeRepository.calculateTotalHoursForPerson(person)).thenReturn(Optional.of((double) Duration.ofHours(10L).toMinutes() / 60));
-        when(applicationService.getTotalOvertimeReductionOfPerson(person)).thenReturn(Duration.ofHours(5));
+        when(overtimeYearBalanceService.getLeftOvertime(person)).thenReturn(Duration.ofHours(5));
 
         final VacationType<?> overtimeVacationType = ProvidedVacationType.builder(new StaticMessageSource()).id(1L).category(OVERTIME).build();
         final Application applicationToEdit = new Application();
@@ -584,8 +587,9 @@ class OvertimeServiceImplTest {
 
         sut.deleteAll(new PersonDeletedEvent(person));
 
-        final InOrder inOrder = inOrder(overtimeCommentRepository, overtimeRepository);
+        final InOrder inOrder = inOrder(overtimeCommentRepository, overtimeYearBalanceService, overtimeRepository);
         inOrder.verify(overtimeCommentRepository).deleteByOvertimePerson(person);
+        inOrder.verify(overtimeYearBalanceService).deleteAll(person);
         inOrder.verify(overtimeRepository).deleteByPerson(person);
     }
 
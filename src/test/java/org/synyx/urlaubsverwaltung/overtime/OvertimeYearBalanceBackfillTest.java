@@ -0,0 +1,112 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.synyx.urlaubsverwaltung.config.ScheduleLocking;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OvertimeYearBalanceBackfillTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T10:00:00Z");
+
+    private OvertimeYearBalanceBackfill sut;
+
+    @Mock
+    private OvertimeYearBalanceService overtimeYearBalanceService;
+    @Mock
+    private OvertimeYearBalanceBackfillCompletionRepository completionRepository;
+    @Mock
+    private ScheduleLocking scheduleLocking;
+
+    @BeforeEach
+    void setUp() {
+        sut = new OvertimeYearBalanceBackfill(overtimeYearBalanceService, completionRepository, scheduleLocking, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void ensureCalculatesMissingBalancesUnderLockOnStartup() {
+
+        final Runnable locked = () -> {
+        };
+        when(scheduleLocking.withLock(eq("OvertimeYearBalanceBackfill"), any(), eq(Duration.ofHours(1)), eq(Duration.ZERO))).thenReturn(locked);
+
+        sut.onStartup();
+
+        verify(scheduleLocking).withLock(eq("OvertimeYearBalanceBackfill"), any(), eq(Duration.ofHours(1)), eq(Duration.ZERO));
+        verifyNoInteractions(overtimeYearBalanceService, completionRepository);
+    }
+
+    @Test
+    void ensureCalculatesBalancesOfAllPersonsAndMarksBackfillAsCompleted() {
+
+        final Person batman = person(1L);
+        final Person robin = person(2L);
+        when(completionRepository.existsById(1L)).thenReturn(false);
+        when(overtimeYearBalanceService.getPersonsWithOvertime()).thenReturn(new LinkedHashSet<>(List.of(batman, robin)));
+
+        sut.calculateMissingBalances();
+
+        final InOrder inOrder = inOrder(overtimeYearBalanceService, completionRepository);
+        inOrder.verify(overtimeYearBalanceService).recalculateAll(batman);
+        inOrder.verify(overtimeYearBalanceService).recalculateAll(robin);
+
+        final ArgumentCaptor<OvertimeYearBalanceBackfillCompletion> captor = ArgumentCaptor.forClass(OvertimeYearBalanceBackfillCompletion.class);
+        inOrder.verify(completionRepository).save(captor.capture());
+        assertThat(captor.getValue().getId()).isEqualTo(1L);
+        assertThat(captor.getValue().getCompletedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    void ensureDoesNotCalculateBalancesIfBackfillIsCompleted() {
+
+        when(completionRepository.existsById(1L)).thenReturn(true);
+
+        sut.calculateMissingBalances();
+
+        verifyNoInteractions(overtimeYearBalanceService);
+        verify(completionRepository, never()).save(any());
+    }
+
+    @Test
+    void ensureAbortedBackfillIsNotMarkedAsCompleted() {
+
+        final Person batman = person(1L);
+        when(completionRepository.existsById(1L)).thenReturn(false);
+        when(overtimeYearBalanceService.getPersonsWithOvertime()).thenReturn(new LinkedHashSet<>(List.of(batman)));
+        doThrow(new IllegalStateException("connection lost")).when(overtimeYearBalanceService).recalculateAll(batman);
+
+        assertThatThrownBy(sut::calculateMissingBalances).isInstanceOf(IllegalStateException.class);
+
+        verify(completionRepository, never()).save(any());
+    }
+
+    private static Person person(Long id) {
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(id);
+        return person;
+    }
+}
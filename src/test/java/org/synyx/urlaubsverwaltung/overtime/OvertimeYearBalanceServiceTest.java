@@ -0,0 +1,277 @@
+package org.synyx.urlaubsverwaltung.overtime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.support.StaticMessageSource;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAllowedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationAppliedEvent;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationUpdatedEvent;
+import org.synyx.urlaubsverwaltung.application.vacationtype.ProvidedVacationType;
+import org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.HOLIDAY;
+import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.OVERTIME;
+
+@ExtendWith(MockitoExtension.class)
+class OvertimeYearBalanceServiceTest {
+
+    private OvertimeYearBalanceService sut;
+
+    @Mock
+    private OvertimeYearBalanceRepository overtimeYearBalanceRepository;
+    @Mock
+    private OvertimeRepository overtimeRepository;
+    @Mock
+    private ApplicationService applicationService;
+
+    @Captor
+    private ArgumentCaptor<List<OvertimeYearBalance>> balancesCaptor;
+
+    @BeforeEach
+    void setUp() {
+        sut = new OvertimeYearBalanceService(overtimeYearBalanceRepository, overtimeRepository, applicationService);
+    }
+
+    @Test
+    void ensureLeftOvertimeIsClosingBalanceOfLatestYear() {
+
+        final Person person = person(1L);
+        when(overtimeYearBalanceRepository.findFirstByPersonOrderByYearDesc(person)).thenReturn(Optional.of(balance(person, 2023, 10)));
+
+        assertThat(sut.getLeftOvertime(person)).isEqualTo(Duration.ofHours(10));
+    }
+
+    @Test
+    void ensureLeftOvertimeIsZeroWithoutBalances() {
+
+        final Person person = person(1L);
+        when(overtimeYearBalanceRepository.findFirstByPersonOrderByYearDesc(person)).thenReturn(Optional.empty());
+
+        assertThat(sut.getLeftOvertime(person)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void ensureLeftOvertimeBeforeYearIsClosingBalanceOfLatestYearBefore() {
+
+        final Person person = person(1L);
+        when(overtimeYearBalanceRepository.findFirstByPersonAndYearLessThanOrderByYearDesc(person, 2024)).thenReturn(Optional.of(balance(person, 2022, 3)));
+
+        assertThat(sut.getLeftOvertimeBefore(person, 2024)).isEqualTo(Duration.ofHours(3));
+    }
+
+    @Test
+    void ensureLeftOvertimeBeforeYearOfPersonsContainsPersonsWithoutBalance() {
+
+        final Person batman = person(1L);
+        final Person robin = person(2L);
+        when(overtimeYearBalanceRepository.findLatestByPersonIsInAndYearLessThan(List.of(batman, robin), 2024)).thenReturn(List.of(balance(batman, 2022, 3)));
+
+        assertThat(sut.getLeftOvertimeBefore(List.of(batman, robin), 2024))
+            .containsOnly(Map.entry(batman, Duration.ofHours(3)), Map.entry(robin, Duration.ZERO));
+    }
+
+    @Test
+    void ensureLeftOvertimeBeforeYearOfNoPersonsDoesNotQuery() {
+
+        assertThat(sut.getLeftOvertimeBefore(List.of(), 2024)).isEmpty();
+
+        verifyNoInteractions(overtimeYearBalanceRepository);
+    }
+
+    @Test
+    void ensureUpdateOvertimeSumsUpOvertimeFromStartYearAndKeepsEarlierYears() {
+
+        final Person person = person(1L);
+
+        final OvertimeYearBalance balance2022 = balance(person, 2022, 5);
+        balance2022.setOvertime(Duration.ofHours(5));
+        final OvertimeYearBalance balance2023 = balance(person, 2023, 6);
+        balance2023.setOvertime(Duration.ofHours(1));
+        when(overtimeYearBalanceRepository.findByPersonOrderByYear(person)).thenReturn(List.of(balance2022, balance2023));
+
+        final Overtime overtime = new Overtime(person, LocalDate.of(2023, 12, 31), LocalDate.of(2024, 1, 1), Duration.ofHours(4));
+        final Overtime otherOvertime = new Overtime(person, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 1), Duration.ofHours(1));
+        when(overtimeRepository.findByPersonAndEndDateIsGreaterThanEqual(person, LocalDate.of(2023, 1, 1))).thenReturn(List.of(overtime, otherOvertime));
+        when(applicationService.getOvertimeReductionOfPersonByYear(person)).thenReturn(Map.of(2024, Duration.ofHours(2)));
+
+        sut.updateOvertime(overtime);
+
+        verify(overtimeYearBalanceRepository).saveAll(balancesCaptor.capture());
+        assertThat(balancesCaptor.getValue())
+            .extracting(OvertimeYearBalance::getYear, OvertimeYearBalance::getOvertime, OvertimeYearBalance::getOvertimeReduction, OvertimeYearBalance::getClosingBalance)
+            .containsExactly(
+                tuple(2022, Duration.ofHours(5), Duration.ZERO, Duration.ofHours(5)),
+                tuple(2023, Duration.ofHours(2), Duration.ZERO, Duration.ofHours(7)),
+                tuple(2024, Duration.ofHours(3), Duration.ofHours(2), Duration.ofHours(8))
+            );
+    }
+
+    @Test
+    void ensureUpdateOvertimeStartsWithFormerStartYearIfStartDateHasBeenMovedToALaterYear() {
+
+        final Person person = person(1L);
+
+        final Overtime overtime = new Overtime(person, LocalDate.of(2022, 5, 1), LocalDate.of(2022, 5, 1), Duration.ofHours(4));
+        overtime.rememberPersistedStartDate();
+        overtime.setStartDate(LocalDate.of(2024, 5, 1));
+        overtime.setEndDate(LocalDate.of(2024, 5, 1));
+
+        final OvertimeYearBalance balance2022 = balance(person, 2022, 4);
+        balance2022.setOvertime(Duration.ofHours(4));
+        when(overtimeYearBalanceRepository.findByPersonOrderByYear(person)).thenReturn(List.of(balance2022));
+        when(overtimeRepository.findByPersonAndEndDateIsGreaterThanEqual(person, LocalDate.of(2022, 1, 1))).thenReturn(List.of(overtime));
+        when(applicationService.getOvertimeReductionOfPersonByYear(person)).thenReturn(Map.of());
+
+        sut.updateOvertime(overtime);
+
+        verify(overtimeYearBalanceRepository).deleteAll(List.of(balance2022));
+        verify(overtimeYearBalanceRepository).saveAll(balancesCaptor.capture());
+        assertThat(balancesCaptor.getValue())
+            .extracting(OvertimeYearBalance::getYear, OvertimeYearBalance::getClosingBalance)
+            .containsExactly(tuple(2024, Duration.ofHours(4)));
+    }
+
+    @Test
+    void ensureOvertimeReductionOfHolidayApplicationDoesNotUpdateBalances() {
+
+        sut.on(ApplicationAppliedEvent.of(application(person(1L), HOLIDAY)));
+
+        verifyNoInteractions(overtimeYearBalanceRepository, applicationService);
+    }
+
+    @Test
+    void ensureOvertimeReductionRecalculatesReductionsAndKeepsOvertime() {
+
+        final Person person = person(1L);
+
+        final OvertimeYearBalance balance2023 = balance(person, 2023, 8);
+        balance2023.setOvertime(Duration.ofHours(10));
+        balance2023.setOvertimeReduction(Duration.ofHours(2));
+        when(overtimeYearBalanceRepository.findByPersonOrderByYear(person)).thenReturn(List.of(balance2023));
+        when(applicationService.getOvertimeReductionOfPersonByYear(person)).thenReturn(Map.of(2023, Duration.ofHours(3)));
+
+        sut.on(ApplicationAppliedEvent.of(application(person, OVERTIME)));
+
+        verify(overtimeRepository, never()).findByPersonAndEndDateIsGreaterThanEqual(any(), any());
+        verify(overtimeYearBalanceRepository).saveAll(balancesCaptor.capture());
+        assertThat(balancesCaptor.getValue())
+            .extracting(OvertimeYearBalance::getYear, OvertimeYearBalance::getOvertime, OvertimeYearBalance::getClosingBalance)
+            .containsExactly(tuple(2023, Duration.ofHours(10), Duration.ofHours(7)));
+    }
+
+    @Test
+    void ensureUpdatedApplicationUpdatesBalancesRegardlessOfVacationType() {
+
+        final Person person = person(1L);
+        when(overtimeYearBalanceRepository.findByPersonOrderByYear(person)).thenReturn(List.of());
+        when(applicationService.getOvertimeReductionOfPersonByYear(person)).thenReturn(Map.of());
+
+        sut.on(ApplicationUpdatedEvent.of(application(person, HOLIDAY)));
+
+        verify(applicationService).getOvertimeReductionOfPersonByYear(person);
+    }
+
+    @Test
+    void ensureDirectlyAllowedOvertimeReductionUpdatesBalances() {
+
+        final Person person = person(1L);
+        when(overtimeYearBalanceRepository.findByPersonOrderByYear(person)).thenReturn(List.of());
+        when(applicationService.getOvertimeReductionOfPersonByYear(person)).thenReturn(Map.of(2023, Duration.ofHours(3)));
+
+        sut.on(ApplicationAllowedEvent.of(application(person, OVERTIME)));
+
+        verify(overtimeYearBalanceRepository).saveAll(balancesCaptor.capture());
+        assertThat(balancesCaptor.getValue())
+            .extracting(OvertimeYearBalance::getYear, OvertimeYearBalance::getOvertimeReduction, OvertimeYearBalance::getClosingBalance)
+            .containsExactly(tuple(2023, Duration.ofHours(3), Duration.ofHours(-3)));
+    }
+
+    @Test
+    void ensureAllowedHolidayApplicationDoesNotUpdateBalances() {
+
+        sut.on(ApplicationAllowedEvent.of(application(person(1L), HOLIDAY)));
+
+        verifyNoInteractions(overtimeYearBalanceRepository, applicationService);
+    }
+
+    @Test
+    void ensurePersonsWithOvertimeContainPersonsWithOvertimeReductionOnce() {
+
+        final Person batman = person(1L);
+        final Person robin = person(2L);
+        when(overtimeRepository.findDistinctPersons()).thenReturn(List.of(batman));
+        when(applicationService.getPersonsWithOvertimeReduction()).thenReturn(List.of(batman, robin));
+
+        assertThat(sut.getPersonsWithOvertime()).containsExactly(batman, robin);
+    }
+
+    @Test
+    void ensureRecalculateAllSumsUpAllOvertimeOfPerson() {
+
+        final Person person = person(1L);
+
+        final OvertimeYearBalance balance2022 = balance(person, 2022, 5);
+        balance2022.setOvertime(Duration.ofHours(5));
+        when(overtimeYearBalanceRepository.findByPersonOrderByYear(person)).thenReturn(List.of(balance2022));
+        when(overtimeRepository.findByPerson(person)).thenReturn(List.of(new Overtime(person, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 1), Duration.ofHours(1))));
+        when(applicationService.getOvertimeReductionOfPersonByYear(person)).thenReturn(Map.of());
+
+        sut.recalculateAll(person);
+
+        verify(overtimeYearBalanceRepository).deleteAll(List.of(balance2022));
+        verify(overtimeYearBalanceRepository).saveAll(balancesCaptor.capture());
+        assertThat(balancesCaptor.getValue())
+            .extracting(OvertimeYearBalance::getYear, OvertimeYearBalance::getClosingBalance)
+            .containsExactly(tuple(2023, Duration.ofHours(1)));
+    }
+
+    @Test
+    void ensureDeleteAllDeletesBalancesOfPerson() {
+
+        final Person person = person(1L);
+
+        sut.deleteAll(person);
+
+        verify(overtimeYearBalanceRepository).deleteByPerson(person);
+    }
+
+    private static Person person(Long id) {
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(id);
+        return person;
+    }
+
+    private static OvertimeYearBalance balance(Person person, int year, long closingBalanceHours) {
+        final OvertimeYearBalance balance = new OvertimeYearBalance(person, year);
+        balance.setClosingBalance(Duration.ofHours(closingBalanceHours));
+        return balance;
+    }
+
+    private static Application application(Person person, VacationCategory category) {
+        final Application application = new Application();
+        application.setPerson(person);
+        application.setVacationType(ProvidedVacationType.builder(new StaticMessageSource()).id(1L).category(category).build());
+        return application;
+    }
+}
@@ -0,0 +1,74 @@
+package org.synyx.urlaubsverwaltung.overtime.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.synyx.urlaubsverwaltung.TestContainersBase;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.oidcLogin;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class OvertimeBalanceApiControllerSecurityIT extends TestContainersBase {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @MockBean
+    private PersonService personService;
+
+    @Test
+    void getOvertimeBalancesWithoutBasicAuthIsUnauthorized() throws Exception {
+        perform(
+            get("/api/overtime/balances")
+        )
+            .andExpect(status().is4xxClientError());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"USER", "DEPARTMENT_HEAD", "SECOND_STAGE_AUTHORITY"})
+    void getOvertimeBalancesWithoutBossOrOfficeIsForbidden(final String role) throws Exception {
+        perform(
+            get("/api/overtime/balances")
+                .param("personIds", "1")
+                .param("from", "2024-03-01")
+                .param("to", "2024-03-31")
+                .with(oidcLogin().authorities(new SimpleGrantedAuthority("USER"), new SimpleGrantedAuthority(role)))
+        )
+            .andExpect(status().isForbidden());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"BOSS", "OFFICE"})
+    void getOvertimeBalancesAsBossOrOfficeIsOk(final String role) throws Exception {
+
+        when(personService.getAllPersonsByIds(List.of(1L))).thenReturn(List.of());
+
+        perform(
+            get("/api/overtime/balances")
+                .param("personIds", "1")
+                .param("from", "2024-03-01")
+                .param("to", "2024-03-31")
+                .with(oidcLogin().authorities(new SimpleGrantedAuthority("USER"), new SimpleGrantedAuthority(role)))
+        )
+            .andExpect(status().isOk());
+    }
+
+    private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
+        return MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build().perform(builder);
+    }
+}
@@ -0,0 +1,178 @@
+package org.synyx.urlaubsverwaltung.overtime.api;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.synyx.urlaubsverwaltung.api.RestControllerAdviceExceptionHandler;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.application.application.ApplicationService;
+import org.synyx.urlaubsverwaltung.overtime.LeftOvertime;
+import org.synyx.urlaubsverwaltung.overtime.OvertimeService;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.person.PersonService;
+import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
+import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.activeStatuses;
+
+@ExtendWith(MockitoExtension.class)
+class OvertimeBalanceApiControllerTest {
+
+    private OvertimeBalanceApiController sut;
+
+    @Mock
+    private PersonService personService;
+    @Mock
+    private ApplicationService applicationService;
+    @Mock
+    private OvertimeService overtimeService;
+
+    @BeforeEach
+    void setUp() {
+        sut = new OvertimeBalanceApiController(personService, applicationService, overtimeService);
+    }
+
+    @Test
+    void ensureReturnsBalancesOfActivePersonsPageByPage() throws Exception {
+
+        final Person batman = person(1L, "Bruce");
+        final Person robin = person(2L, "Dick");
+        final PageRequest pageRequest = PageRequest.of(1, 2, ASC, "id");
+        when(personService.getActivePersons(new PageableSearchQuery(pageRequest))).thenReturn(new PageImpl<>(List.of(batman, robin), pageRequest, 5));
+
+        final List<Application> applications = List.of(new Application());
+        when(applicationService.getApplicationsForACertainPeriodAndStatus(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), List.of(batman, robin), activeStatuses()))
+            .thenReturn(applications);
+        when(overtimeService.getLeftOvertimeTotalAndDateRangeForPersons(List.of(batman, robin), applications, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)))
+            .thenReturn(Map.of(batman, new LeftOvertime(Duration.ofHours(10), Duration.ofMinutes(90))));
+
+        perform(get("/api/overtime/balances")
+            .param("from", "2024-03-01")
+            .param("to", "2024-03-31")
+            .param("page", "1")
+            .param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.balances", hasSize(2)))
+            .andExpect(jsonPath("$.balances[0].person.id", is(1)))
+            .andExpect(jsonPath("$.balances[0].person.firstName", is("Bruce")))
+            .andExpect(jsonPath("$.balances[0].leftOvertime", is("PT10H")))
+            .andExpect(jsonPath("$.balances[0].leftOvertimeForPeriod", is("PT1H30M")))
+            .andExpect(jsonPath("$.balances[1].person.id", is(2)))
+            .andExpect(jsonPath("$.balances[1].leftOvertime", is("PT0S")))
+            .andExpect(jsonPath("$.balances[1].leftOvertimeForPeriod", is("PT0S")))
+            .andExpect(jsonPath("$.page", is(1)))
+            .andExpect(jsonPath("$.size", is(2)))
+            .andExpect(jsonPath("$.totalElements", is(5)))
+            .andExpect(jsonPath("$.totalPages", is(3)));
+    }
+
+    @Test
+    void ensureReturnsBalancesOfRequestedPersonsOrderedById() throws Exception {
+
+        final Person batman = person(1L, "Bruce");
+        final Person robin = person(2L, "Dick");
+        when(personService.getAllPersonsByIds(List.of(1L, 2L))).thenReturn(List.of(robin, batman));
+        when(overtimeService.getLeftOvertimeTotalAndDateRangeForPersons(any(), any(), any(), any())).thenReturn(Map.of());
+
+        perform(get("/api/overtime/balances")
+            .param("personIds", "3", "2", "1", "2")
+            .param("from", "2024-03-01")
+            .param("to", "2024-03-31")
+            .param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.balances", hasSize(2)))
+            .andExpect(jsonPath("$.balances[0].person.id", is(1)))
+            .andExpect(jsonPath("$.balances[1].person.id", is(2)))
+            .andExpect(jsonPath("$.totalElements", is(3)))
+            .andExpect(jsonPath("$.totalPages", is(2)));
+
+        verify(applicationService).getApplicationsForACertainPeriodAndStatus(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), List.of(batman, robin), activeStatuses());
+    }
+
+    @Test
+    void ensureReturnsEmptyPageBehindLastPageWithoutCalculating() throws Exception {
+
+        perform(get("/api/overtime/balances")
+            .param("personIds", "1")
+            .param("from", "2024-03-01")
+            .param("to", "2024-03-31")
+            .param("page", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.balances", hasSize(0)))
+            .andExpect(jsonPath("$.totalElements", is(1)));
+
+        verifyNoInteractions(personService, applicationService, overtimeService);
+    }
+
+    @Test
+    void ensureBadRequestIfStartDateIsAfterEndDate() throws Exception {
+        perform(get("/api/overtime/balances")
+            .param("from", "2024-03-31")
+            .param("to", "2024-03-01"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void ensureBadRequestIfPeriodSpansMoreThanOneYear() throws Exception {
+        perform(get("/api/overtime/balances")
+            .param("from", "2023-12-01")
+            .param("to", "2024-01-31"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void ensureBadRequestIfPageSizeIsTooLarge() throws Exception {
+        perform(get("/api/overtime/balances")
+            .param("from", "2024-03-01")
+            .param("to", "2024-03-31")
+            .param("size", "501"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void ensureBadRequestIfPageIsNegative() throws Exception {
+        perform(get("/api/overtime/balances")
+            .param("from", "2024-03-01")
+            .param("to", "2024-03-31")
+            .param("page", "-1"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void ensureBadRequestWithoutStartDate() throws Exception {
+        perform(get("/api/overtime/balances")
+            .param("to", "2024-03-31"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private static Person person(Long id, String firstName) {
+        final Person person = new Person("muster", "Muster", firstName, "muster@example.org");
+        person.setId(id);
+        return person;
+    }
+
+    private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
+        return standaloneSetup(sut).setControllerAdvice(new RestControllerAdviceExceptionHandler()).build().perform(builder);
+    }
+}
@@ -11,6 +11,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
 import org.synyx.urlaubsverwaltung.account.Account;
 import org.synyx.urlaubsverwaltung.account.AccountService;
 import org.synyx.urlaubsverwaltung.account.VacationDaysLeft;
@@ -35,9 +36,11 @@ import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus;
 import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
 import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
+import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.Year;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -71,6 +74,7 @@ import static org.synyx.urlaubsverwaltung.application.application.ApplicationSta
 import static org.synyx.urlaubsverwaltung.application.application.ApplicationStatus.WAITING;
 import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCategory.HOLIDAY;
 import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationTypeColor.ORANGE;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 import static org.synyx.urlaubsverwaltung.person.Role.APPLICATION_ADD;
 import static org.synyx.urlaubsverwaltung.person.Role.BOSS;
 import static org.synyx.urlaubsverwaltung.person.Role.DEPARTMENT_HEAD;
@@ -530,7 +534,7 @@ class OverviewViewControllerTest {
         when(personService.getPersonByID(1L)).thenReturn(Optional.of(person));
         when(departmentService.isSignedInUserAllowedToAccessPersonData(person, person)).thenReturn(true);
         when(overtimeService.isUserIsAllowedToWriteOvertime(person, person)).thenReturn(true);
-        when(workDaysCountService.getWorkDaysCount(any(), any(), any(), eq(person))).thenReturn(ONE);
+        when(workDaysCountService.getWorkDaysCounter(eq(person), any(DateRange.class))).thenReturn((dayLength, startDate, endDate) -> ONE);
 
         when(vacationTypeViewModelService.getVacationTypeColors()).thenReturn(List.of(new VacationTypeDto(1L, ORANGE)));
 
@@ -622,6 +626,55 @@ class OverviewViewControllerTest {
         resultActions.andExpect(model().attribute("userIsAllowedToWriteOvertime", false));
     }
 
+    @Test
+    void ensureWorkingTimesAreLoadedOnceForAllApplications() throws Exception {
+
+        final Person person = new Person();
+        person.setId(1L);
+        person.setPermissions(List.of(USER));
+        when(personService.getSignedInUser()).thenReturn(person);
+        when(personService.getPersonByID(1L)).thenReturn(Optional.of(person));
+        when(departmentService.isSignedInUserAllowedToAccessPersonData(person, person)).thenReturn(true);
+
+        final Locale locale = GERMAN;
+        final MessageSource messageSource = messageSourceForVacationType("message-key", "label", locale);
+        final VacationType<?> vacationType = ProvidedVacationType.builder(messageSource)
+            .id(1L)
+            .category(HOLIDAY)
+            .messageKey("message-key")
+            .build();
+
+        // the first application starts in the previous year, the last one ends in the next year
+        final List<Application> applications = new ArrayList<>();
+        for (LocalDate startDate = LocalDate.parse("2020-12-30"); startDate.getYear() < 2022; startDate = startDate.plusWeeks(1)) {
+            final Application application = new Application();
+            application.setVacationType(vacationType);
+            application.setDayLength(FULL);
+            application.setPerson(person);
+            application.setStatus(ALLOWED);
+            application.setStartDate(startDate);
+            application.setEndDate(startDate.plusDays(4));
+            applications.add(application);
+        }
+        when(applicationService.getApplicationsForACertainPeriodAndPerson(LocalDate.parse("2021-01-01"), LocalDate.parse("2021-12-31"), person))
+            .thenReturn(applications);
+
+        final DateRange dateRange = new DateRange(LocalDate.parse("2020-12-30"), LocalDate.parse("2022-01-02"));
+        when(workDaysCountService.getWorkDaysCounter(person, dateRange)).thenReturn((dayLength, startDate, endDate) -> ONE);
+
+        perform(get("/web/person/1/overview").param("year", "2021").locale(locale))
+            .andExpect(status().isOk())
+            .andExpect(model().attribute("applications", hasSize(applications.size())))
+            .andExpect(model().attribute("usedDaysOverview",
+                hasProperty("holidayDays",
+                    hasProperty("sum", equalTo(BigDecimal.valueOf(applications.size())))
+                )
+            ));
+
+        verify(workDaysCountService).getWorkDaysCounter(person, dateRange);
+        verifyNoMoreInteractions(workDaysCountService);
+    }
+
     private Person somePerson() {
         return new Person();
     }
@@ -5,7 +5,7 @@ import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.sicknote.sickdays.SickDays;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
 import org.synyx.urlaubsverwaltung.sicknote.sicknotetype.SickNoteType;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCounter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -37,7 +37,7 @@ class SickDaysOverviewTest {
         sickNoteTypeChild.setCategory(SICK_NOTE_CHILD);
         sickNoteTypeChild.setMessageKey("Kind-Krankmeldung");
 
-        final WorkDaysCountService workDaysCountService = mock(WorkDaysCountService.class);
+        final WorkDaysCounter workDaysCounter = mock(WorkDaysCounter.class);
 
         final SickNote sickNoteWithoutAUB = SickNote.builder()
             .person(person)
@@ -47,7 +47,7 @@ class SickDaysOverviewTest {
             .startDate(LocalDate.of(2014, 10, 13))
             .endDate(LocalDate.of(2014, 10, 13))
             .build();
-        when(workDaysCountService.getWorkDaysCount(FULL, LocalDate.of(2014, 10, 13), LocalDate.of(2014, 10, 13), person))
+        when(workDaysCounter.getWorkDaysCount(FULL, LocalDate.of(2014, 10, 13), LocalDate.of(2014, 10, 13)))
             .thenReturn(ONE);
 
         final SickNote sickNoteWithAUB = SickNote.builder()
@@ -60,9 +60,9 @@ class SickDaysOverviewTest {
             .aubStartDate(LocalDate.of(2014, 10, 15))
             .aubEndDate(LocalDate.of(2014, 10, 15))
             .build();
-        when(workDaysCountService.getWorkDaysCount(FULL, LocalDate.of(2014, 10, 14), LocalDate.of(2014, 10, 16), person))
+        when(workDaysCounter.getWorkDaysCount(FULL, LocalDate.of(2014, 10, 14), LocalDate.of(2014, 10, 16)))
             .thenReturn(BigDecimal.valueOf(3));
-        when(workDaysCountService.getWorkDaysCount(FULL, LocalDate.of(2014, 10, 15), LocalDate.of(2014, 10, 15), person))
+        when(workDaysCounter.getWorkDaysCount(FULL, LocalDate.of(2014, 10, 15), LocalDate.of(2014, 10, 15)))
             .thenReturn(ONE);
 
         final SickNote childSickNoteWithoutAUB = SickNote.builder()
@@ -73,7 +73,7 @@ class SickDaysOverviewTest {
             .startDate(LocalDate.of(2014, 10, 15))
             .endDate(LocalDate.of(2014, 10, 15))
             .build();
-        when(workDaysCountService.getWorkDaysCount(FULL, LocalDate.of(2014, 10, 15), LocalDate.of(2014, 10, 15), person))
+        when(workDaysCounter.getWorkDaysCount(FULL, LocalDate.of(2014, 10, 15), LocalDate.of(2014, 10, 15)))
             .thenReturn(ONE);
 
         final SickNote childSickNoteWithAUB = SickNote.builder()
@@ -86,9 +86,9 @@ class SickDaysOverviewTest {
             .aubStartDate(LocalDate.of(2014, 10, 16))
             .aubEndDate(LocalDate.of(2014, 10, 17))
             .build();
-        when(workDaysCountService.getWorkDaysCount(FULL, LocalDate.of(2014, 10, 16), LocalDate.of(2014, 10, 18), person))
+        when(workDaysCounter.getWorkDaysCount(FULL, LocalDate.of(2014, 10, 16), LocalDate.of(2014, 10, 18)))
             .thenReturn(BigDecimal.valueOf(3));
-        when(workDaysCountService.getWorkDaysCount(FULL, LocalDate.of(2014, 10, 16), LocalDate.of(2014, 10, 17), person))
+        when(workDaysCounter.getWorkDaysCount(FULL, LocalDate.of(2014, 10, 16), LocalDate.of(2014, 10, 17)))
             .thenReturn(BigDecimal.valueOf(2));
 
         final SickNote inactiveSickNote = SickNote.builder()
@@ -99,7 +99,7 @@ class SickDaysOverviewTest {
             .startDate(LocalDate.of(2014, 10, 17))
             .endDate(LocalDate.of(2014, 10, 17))
             .build();
-        when(workDaysCountService.getWorkDaysCount(FULL, LocalDate.of(2014, 10, 17), LocalDate.of(2014, 10, 17), person))
+        when(workDaysCounter.getWorkDaysCount(FULL, LocalDate.of(2014, 10, 17), LocalDate.of(2014, 10, 17)))
             .thenReturn(ONE);
 
         final SickNote inactiveChildSickNote = SickNote.builder()
@@ -109,13 +109,13 @@ class SickDaysOverviewTest {
             .startDate(LocalDate.of(2014, 10, 18))
             .endDate(LocalDate.of(2014, 10, 18))
             .build();
-        when(workDaysCountService.getWorkDaysCount(FULL, LocalDate.of(2014, 10, 18), LocalDate.of(2014, 10, 18), person))
+        when(workDaysCounter.getWorkDaysCount(FULL, LocalDate.of(2014, 10, 18), LocalDate.of(2014, 10, 18)))
             .thenReturn(ONE);
 
         final List<SickNote> sickNotes = List.of(sickNoteWithoutAUB, sickNoteWithAUB, childSickNoteWithoutAUB,
             childSickNoteWithAUB, inactiveSickNote, inactiveChildSickNote);
 
-        final SickDaysOverview sickDaysOverview = new SickDaysOverview(sickNotes, workDaysCountService,
+        final SickDaysOverview sickDaysOverview = new SickDaysOverview(sickNotes, workDaysCounter,
             LocalDate.of(2014, 10, 10), LocalDate.of(2014, 10, 18));
 
         final SickDays sickDays = sickDaysOverview.getSickDays();
@@ -130,4 +130,37 @@ class SickDaysOverviewTest {
             .containsEntry("TOTAL", new BigDecimal("4"))
             .containsEntry("WITH_AUB", new BigDecimal("2"));
     }
+
+    @Test
+    void ensureCountsOnlySickDaysOfTheGivenPeriod() {
+
+        final Person person = new Person("username", "last name", "first name", "email@example.org");
+        person.setId(1L);
+
+        final SickNoteType sickNoteType = new SickNoteType();
+        sickNoteType.setCategory(SICK_NOTE);
+        sickNoteType.setMessageKey("Krankmeldung");
+
+        final WorkDaysCounter workDaysCounter = mock(WorkDaysCounter.class);
+
+        final SickNote sickNote = SickNote.builder()
+            .person(person)
+            .dayLength(FULL)
+            .sickNoteType(sickNoteType)
+            .status(ACTIVE)
+            .startDate(LocalDate.of(2014, 12, 29))
+            .endDate(LocalDate.of(2015, 1, 2))
+            .aubStartDate(LocalDate.of(2014, 12, 31))
+            .aubEndDate(LocalDate.of(2015, 1, 2))
+            .build();
+        when(workDaysCounter.getWorkDaysCount(FULL, LocalDate.of(2015, 1, 1), LocalDate.of(2015, 1, 2)))
+            .thenReturn(BigDecimal.valueOf(2));
+
+        final SickDaysOverview sickDaysOverview = new SickDaysOverview(List.of(sickNote), workDaysCounter,
+            LocalDate.of(2015, 1, 1), LocalDate.of(2015, 12, 31));
+
+        assertThat(sickDaysOverview.getSickDays().getDays())
+            .containsEntry("TOTAL", new BigDecimal("2"))
+            .containsEntry("WITH_AUB", new BigDecimal("2"));
+    }
 }
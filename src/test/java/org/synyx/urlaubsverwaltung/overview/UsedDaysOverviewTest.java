@@ -8,7 +8,7 @@ import org.springframework.context.support.StaticMessageSource;
 import org.synyx.urlaubsverwaltung.application.application.Application;
 import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCounter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -39,7 +39,7 @@ import static org.synyx.urlaubsverwaltung.application.vacationtype.VacationCateg
 class UsedDaysOverviewTest {
 
     @Mock
-    private WorkDaysCountService workDaysCountService;
+    private WorkDaysCounter workDaysCounter;
 
     @Test
     void ensureThrowsIfOneOfTheGivenApplicationsDoesNotMatchTheGivenYear() {
@@ -51,7 +51,7 @@ class UsedDaysOverviewTest {
         application.setStatus(WAITING);
 
         assertThatIllegalArgumentException()
-            .isThrownBy(() -> new UsedDaysOverview(singletonList(application), 2015, workDaysCountService));
+            .isThrownBy(() -> new UsedDaysOverview(singletonList(application), 2015, workDaysCounter));
     }
 
     @Test
@@ -122,11 +122,11 @@ class UsedDaysOverviewTest {
             overtimeLeaveRequestCancellation);
 
         // just return 1 day for each application for leave
-        when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class),
-            any(LocalDate.class), any(Person.class)))
+        when(workDaysCounter.getWorkDaysCount(any(DayLength.class), any(LocalDate.class),
+            any(LocalDate.class)))
             .thenReturn(ONE);
 
-        final UsedDaysOverview usedDaysOverview = new UsedDaysOverview(applications, 2014, workDaysCountService);
+        final UsedDaysOverview usedDaysOverview = new UsedDaysOverview(applications, 2014, workDaysCounter);
 
         final UsedDays holidayDays = usedDaysOverview.getHolidayDays();
         assertThat(holidayDays.getDays())
@@ -161,10 +161,10 @@ class UsedDaysOverviewTest {
         // 3 days in 2013, 2 days in 2014
         Application holiday = createApplication(person, createVacationType(1L, HOLIDAY, new StaticMessageSource()), startDate, endDate, DayLength.FULL);
 
-        when(workDaysCountService.getWorkDaysCount(DayLength.FULL, LocalDate.of(2014, 1, 1), endDate, person))
+        when(workDaysCounter.getWorkDaysCount(DayLength.FULL, LocalDate.of(2014, 1, 1), endDate))
             .thenReturn(BigDecimal.valueOf(2));
 
-        final UsedDaysOverview usedDaysOverview = new UsedDaysOverview(singletonList(holiday), 2014, workDaysCountService);
+        final UsedDaysOverview usedDaysOverview = new UsedDaysOverview(singletonList(holiday), 2014, workDaysCounter);
 
         final UsedDays holidayDays = usedDaysOverview.getHolidayDays();
         assertThat(holidayDays.getDays())
@@ -201,10 +201,10 @@ class UsedDaysOverviewTest {
         List<Application> applications = Arrays.asList(holiday, holidayTemporaryAllowed, holidayAllowed);
 
         // just return 1 day for each application for leave
-        when(workDaysCountService.getWorkDaysCount(any(DayLength.class), any(LocalDate.class),
-            any(LocalDate.class), any(Person.class))).thenReturn(ONE);
+        when(workDaysCounter.getWorkDaysCount(any(DayLength.class), any(LocalDate.class),
+            any(LocalDate.class))).thenReturn(ONE);
 
-        final UsedDaysOverview usedDaysOverview = new UsedDaysOverview(applications, 2014, workDaysCountService);
+        final UsedDaysOverview usedDaysOverview = new UsedDaysOverview(applications, 2014, workDaysCounter);
         assertThat(usedDaysOverview.getHolidayDays().getDays())
             .containsEntry("WAITING", ONE)
             .containsEntry("TEMPORARY_ALLOWED", ONE)
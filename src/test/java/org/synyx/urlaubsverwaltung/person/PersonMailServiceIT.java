@@ -54,11 +54,10 @@ class PersonMailServiceIT extends TestContainersBase {
 
         // was email sent to office?
         final MimeMessage[] inboxOffice = greenMail.getReceivedMessagesForDomain(office.getEmail());
-        assertThat(inboxOffice).hasSize(2);
-        assertThat(inboxOffice[0].getSubject()).isEqualTo("Ein neuer Benutzer wurde erstellt");
+        assertThat(inboxOffice).hasSize(1);
 
         // check attributes
-        final Message msg = inboxOffice[1];
+        final Message msg = inboxOffice[0];
         assertThat(msg.getSubject()).contains("Ein neuer Benutzer wurde erstellt");
         assertThat(new InternetAddress(office.getEmail())).isEqualTo(msg.getAllRecipients()[0]);
 
@@ -263,6 +263,16 @@ class PersonServiceImplTest {
         verify(personRepository).findById(123L);
     }
 
+    @Test
+    void ensureGetAllPersonsByIds() {
+
+        final Person person = new Person();
+        person.setId(123L);
+        when(personRepository.findAllById(List.of(123L, 456L))).thenReturn(List.of(person));
+
+        assertThat(sut.getAllPersonsByIds(List.of(123L, 456L))).containsExactly(person);
+    }
+
     @Test
     void ensureGetPersonByLoginCallsCorrectDaoMethod() {
         final String username = "foo";
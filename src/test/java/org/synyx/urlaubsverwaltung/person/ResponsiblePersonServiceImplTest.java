@@ -42,21 +42,17 @@ class ResponsiblePersonServiceImplTest {
         // given department head
         final Person departmentHead = new Person("departmentHead", "departmentHead", "departmentHead", "departmentHead@example.org");
         departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD));
-        when(personService.getActivePersonsByRole(DEPARTMENT_HEAD)).thenReturn(List.of(departmentHead));
-        when(departmentService.isDepartmentHeadAllowedToManagePerson(departmentHead, person)).thenReturn(true);
+        when(departmentService.getDepartmentHeadsAllowedToManagePerson(person)).thenReturn(List.of(departmentHead));
 
         // given second stage
         final Person secondStage = new Person("secondStage", "secondStage", "secondStage", "secondStage@example.org");
         secondStage.setPermissions(List.of(USER, SECOND_STAGE_AUTHORITY));
-        when(personService.getActivePersonsByRole(SECOND_STAGE_AUTHORITY)).thenReturn(List.of(secondStage));
-        when(departmentService.isSecondStageAuthorityAllowedToManagePerson(secondStage, person)).thenReturn(true);
+        when(departmentService.getSecondStageAuthoritiesAllowedToManagePerson(person)).thenReturn(List.of(secondStage));
 
         final Person boss = new Person("boss", "boss", "senior", "boss@example.org");
         boss.setPermissions(List.of(USER, BOSS));
         when(personService.getActivePersonsByRole(BOSS)).thenReturn(List.of(boss));
 
-        when(departmentService.getNumberOfDepartments()).thenReturn(1L);
-
         final List<Person> responsibleManagersOf = sut.getResponsibleManagersOf(person);
         assertThat(responsibleManagersOf)
             .containsExactly(departmentHead, secondStage, boss);
@@ -72,13 +68,25 @@ class ResponsiblePersonServiceImplTest {
         boss.setPermissions(List.of(USER, BOSS));
         when(personService.getActivePersonsByRole(BOSS)).thenReturn(List.of(boss));
 
-        when(departmentService.getNumberOfDepartments()).thenReturn(0L);
-
         final List<Person> responsibleManagersOf = sut.getResponsibleManagersOf(person);
         assertThat(responsibleManagersOf)
             .containsExactly(boss);
+    }
+
+    @Test
+    void ensureResponsibleManagersDoNotContainThePersonOfInterest() {
+
+        final Person departmentHead = new Person("departmentHead", "departmentHead", "departmentHead", "departmentHead@example.org");
+        departmentHead.setId(1L);
+        departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD, SECOND_STAGE_AUTHORITY, BOSS));
+
+        when(departmentService.getDepartmentHeadsAllowedToManagePerson(departmentHead)).thenReturn(List.of(departmentHead));
+        when(departmentService.getSecondStageAuthoritiesAllowedToManagePerson(departmentHead)).thenReturn(List.of(departmentHead));
+
+        assertThat(sut.getResponsibleDepartmentHeads(departmentHead)).isEmpty();
+        assertThat(sut.getResponsibleSecondStageAuthorities(departmentHead)).isEmpty();
 
-        verify(personService, never()).getActivePersonsByRole(SECOND_STAGE_AUTHORITY);
         verify(personService, never()).getActivePersonsByRole(DEPARTMENT_HEAD);
+        verify(personService, never()).getActivePersonsByRole(SECOND_STAGE_AUTHORITY);
     }
 }
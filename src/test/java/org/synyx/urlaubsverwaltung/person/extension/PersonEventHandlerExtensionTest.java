@@ -14,7 +14,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
+import org.synyx.urlaubsverwaltung.extension.outbox.ExtensionEventOutbox;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonCreatedEvent;
 import org.synyx.urlaubsverwaltung.person.PersonDeletedEvent;
@@ -44,7 +44,7 @@ class PersonEventHandlerExtensionTest {
     private PersonService personService;
 
     @Mock
-    private ApplicationEventPublisher applicationEventPublisher;
+    private ExtensionEventOutbox extensionEventOutbox;
 
     @InjectMocks
     private PersonEventHandlerExtension sut;
@@ -61,7 +61,7 @@ class PersonEventHandlerExtensionTest {
     void setup() {
         clearInvocations(tenantSupplier);
         clearInvocations(personService);
-        clearInvocations(applicationEventPublisher);
+        clearInvocations(extensionEventOutbox);
     }
 
     @Nested
@@ -82,7 +82,7 @@ class PersonEventHandlerExtensionTest {
             sut.on(event);
 
             verify(personService).getPersonByUsername(person.getUsername());
-            verify(applicationEventPublisher).publishEvent(argumentCaptor.capture());
+            verify(extensionEventOutbox).add(argumentCaptor.capture());
             verify(tenantSupplier).get();
 
             final PersonCreatedEventDTO result = argumentCaptor.getValue();
@@ -107,7 +107,7 @@ class PersonEventHandlerExtensionTest {
             sut.on(event);
 
             verify(personService).getPersonByUsername("muster");
-            verifyNoInteractions(applicationEventPublisher);
+            verifyNoInteractions(extensionEventOutbox);
             verifyNoInteractions(tenantSupplier);
         }
     }
@@ -131,7 +131,7 @@ class PersonEventHandlerExtensionTest {
 
             verify(personService).getPersonByUsername(person.getUsername());
             verify(tenantSupplier).get();
-            verify(applicationEventPublisher).publishEvent(argumentCaptor.capture());
+            verify(extensionEventOutbox).add(argumentCaptor.capture());
 
             final PersonUpdatedEventDTO result = argumentCaptor.getValue();
 
@@ -155,7 +155,7 @@ class PersonEventHandlerExtensionTest {
             sut.on(event);
 
             verify(personService).getPersonByUsername("muster");
-            verifyNoInteractions(applicationEventPublisher);
+            verifyNoInteractions(extensionEventOutbox);
             verifyNoInteractions(tenantSupplier);
         }
     }
@@ -179,7 +179,7 @@ class PersonEventHandlerExtensionTest {
 
             verify(personService).getPersonByUsername(person.getUsername());
             verify(tenantSupplier).get();
-            verify(applicationEventPublisher).publishEvent(argumentCaptor.capture());
+            verify(extensionEventOutbox).add(argumentCaptor.capture());
 
             final PersonDisabledEventDTO result = argumentCaptor.getValue();
 
@@ -203,7 +203,7 @@ class PersonEventHandlerExtensionTest {
             sut.on(event);
 
             verify(personService).getPersonByUsername("muster");
-            verifyNoInteractions(applicationEventPublisher);
+            verifyNoInteractions(extensionEventOutbox);
             verifyNoInteractions(tenantSupplier);
         }
     }
@@ -226,7 +226,7 @@ class PersonEventHandlerExtensionTest {
 
             verifyNoInteractions(personService);
             verify(tenantSupplier).get();
-            verify(applicationEventPublisher).publishEvent(argumentCaptor.capture());
+            verify(extensionEventOutbox).add(argumentCaptor.capture());
 
             final PersonDeletedEventDTO result = argumentCaptor.getValue();
 
@@ -0,0 +1,63 @@
+package org.synyx.urlaubsverwaltung.publicholiday;
+
+import de.focus_shift.jollyday.core.HolidayManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class LazyHolidayManagerMapTest {
+
+    private final List<String> createdHolidayManagers = new ArrayList<>();
+
+    private final Function<String, HolidayManager> holidayManagerFactory = country -> {
+        createdHolidayManagers.add(country);
+        return mock(HolidayManager.class);
+    };
+
+    @Test
+    void ensureNoHolidayManagerIsCreatedUntilItIsUsed() {
+
+        final LazyHolidayManagerMap sut = new LazyHolidayManagerMap(List.of("de", "at"), holidayManagerFactory);
+
+        assertThat(sut.containsKey("de")).isTrue();
+        assertThat(sut.containsKey("ch")).isFalse();
+        assertThat(sut).hasSize(2);
+        assertThat(createdHolidayManagers).isEmpty();
+    }
+
+    @Test
+    void ensureHolidayManagerIsCreatedOnceOnFirstUse() {
+
+        final LazyHolidayManagerMap sut = new LazyHolidayManagerMap(List.of("de", "at"), holidayManagerFactory);
+
+        final HolidayManager holidayManager = sut.get("de");
+        assertThat(holidayManager).isNotNull();
+        assertThat(sut.get("de")).isSameAs(holidayManager);
+        assertThat(createdHolidayManagers).containsExactly("de");
+    }
+
+    @Test
+    void ensureReturnsNullForUnknownCountry() {
+
+        final LazyHolidayManagerMap sut = new LazyHolidayManagerMap(List.of("de"), holidayManagerFactory);
+
+        assertThat(sut.get("ch")).isNull();
+        assertThat(sut.get(null)).isNull();
+        assertThat(createdHolidayManagers).isEmpty();
+    }
+
+    @Test
+    void ensureIteratingCreatesAllHolidayManagers() {
+
+        final LazyHolidayManagerMap sut = new LazyHolidayManagerMap(List.of("de", "at"), holidayManagerFactory);
+
+        assertThat(sut.keySet()).containsExactlyInAnyOrder("de", "at");
+        assertThat(sut.values()).doesNotContainNull();
+        assertThat(createdHolidayManagers).containsExactlyInAnyOrder("de", "at");
+    }
+}
@@ -0,0 +1,31 @@
+package org.synyx.urlaubsverwaltung.publicholiday;
+
+import de.focus_shift.jollyday.core.HolidayManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicHolidayConfigurationTest {
+
+    @Test
+    void ensureHolidayManagersOfAllCountriesCanBeCreated() {
+
+        final Map<String, HolidayManager> holidayManagers = new PublicHolidayConfiguration().holidayManagerMap();
+
+        assertThat(holidayManagers.values()).allSatisfy(holidayManager -> assertThat(holidayManager.getHolidays(2024)).isNotEmpty());
+    }
+
+    @Test
+    void ensureRegistersHolidaysResourcesOfAllCountries() {
+
+        final RuntimeHints hints = new RuntimeHints();
+        new PublicHolidayConfiguration.HolidaysRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.resource().forResource("Holidays_de.xml")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("Holidays_nl.xml")).accepts(hints);
+    }
+}
@@ -4,8 +4,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Random;
+import java.util.stream.IntStream;
 
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -177,6 +181,162 @@ class SortComparatorTest {
         );
     }
 
+    @Test
+    void ensureNullValuesOnNestedPropertyPathAreBasedAtTheEnd() {
+        final Sort sort = Sort.by(Sort.Direction.DESC, "innerClass.bigDecimal");
+        final SortComparator<SomeClassToSort> sut = new SortComparator<>(SomeClassToSort.class, sort);
+        final List<SomeClassToSort> list = List.of(
+            new SomeClassToSort(1, "aaa"),
+            new SomeClassToSort(2, "aaa", new InnerClass(null)),
+            new SomeClassToSort(3, "aaa", new InnerClass(BigDecimal.ONE))
+        );
+
+        final List<SomeClassToSort> sorted = list.stream().sorted(sut).collect(toList());
+        assertThat(sorted).containsExactly(
+            new SomeClassToSort(3, "aaa", new InnerClass(BigDecimal.ONE)),
+            new SomeClassToSort(1, "aaa"),
+            new SomeClassToSort(2, "aaa", new InnerClass(null))
+        );
+    }
+
+    @Test
+    void ensureSortingByStringUsesOrderOfLocale() {
+        final SortComparator<StringBox> sut = new SortComparator<>(StringBox.class, Sort.by("value"), Locale.GERMAN);
+
+        final List<StringBox> list = List.of(
+            new StringBox("Zimmermann"),
+            new StringBox("Özdemir"),
+            new StringBox("Ober"),
+            new StringBox("ozturk")
+        );
+
+        final List<StringBox> actual = list.stream().sorted(sut).collect(toList());
+
+        assertThat(actual).containsExactly(
+            new StringBox("Ober"),
+            new StringBox("Özdemir"),
+            new StringBox("ozturk"),
+            new StringBox("Zimmermann")
+        );
+    }
+
+    @Test
+    void ensureSortingManyRowsEqualsSortingByHandWrittenComparator() {
+        final Sort sort = Sort.by(Sort.Direction.DESC, "innerClass.bigDecimal").and(Sort.by(Sort.Direction.ASC, "string"));
+        final SortComparator<SomeClassToSort> sut = new SortComparator<>(SomeClassToSort.class, sort, Locale.ENGLISH);
+
+        final Random random = new Random(42);
+        final List<SomeClassToSort> list = IntStream.range(0, 10_000)
+            .mapToObj(i -> new SomeClassToSort(i, "name" + random.nextInt(1_000), new InnerClass(BigDecimal.valueOf(random.nextInt(100)))))
+            .toList();
+
+        final Comparator<SomeClassToSort> expected = Comparator.<SomeClassToSort, BigDecimal>comparing(someClassToSort -> someClassToSort.getInnerClass().getBigDecimal()).reversed()
+            .thenComparing(SomeClassToSort::getString);
+
+        assertThat(list.stream().sorted(sut).toList()).containsExactlyElementsOf(list.stream().sorted(expected).toList());
+    }
+
+    @Test
+    void ensureSortEqualsSortingWithTheComparator() {
+        final Sort sort = Sort.by(Sort.Direction.DESC, "innerClass.bigDecimal").and(Sort.by(Sort.Direction.ASC, "string"));
+        final SortComparator<SomeClassToSort> sut = new SortComparator<>(SomeClassToSort.class, sort, Locale.GERMAN);
+
+        final Random random = new Random(42);
+        final List<SomeClassToSort> list = IntStream.range(0, 1_000)
+            .mapToObj(i -> new SomeClassToSort(i, random.nextInt(10) == 0 ? null : "Näme" + random.nextInt(100),
+                random.nextInt(10) == 0 ? null : new InnerClass(BigDecimal.valueOf(random.nextInt(10)))))
+            .toList();
+
+        assertThat(sut.sort(list)).containsExactlyElementsOf(list.stream().sorted(sut).toList());
+    }
+
+    @Test
+    void ensureSortPlacesNullValuesAtTheEnd() {
+        final SortComparator<SomeClassToSort> sut = new SortComparator<>(SomeClassToSort.class, Sort.by(Sort.Direction.DESC, "string"));
+        final List<SomeClassToSort> list = List.of(
+            new SomeClassToSort(2, null),
+            new SomeClassToSort(1, "aaa"),
+            new SomeClassToSort(3, "bbb")
+        );
+
+        assertThat(sut.sort(list)).containsExactly(
+            new SomeClassToSort(3, "bbb"),
+            new SomeClassToSort(1, "aaa"),
+            new SomeClassToSort(2, null)
+        );
+    }
+
+    @Test
+    void ensureSortUsesTieBreakerForEqualElements() {
+        final SortComparator<SomeClassToSort> sut = new SortComparator<>(SomeClassToSort.class, Sort.by("string"));
+        final List<SomeClassToSort> list = List.of(
+            new SomeClassToSort(3, "aaa"),
+            new SomeClassToSort(2, "bbb"),
+            new SomeClassToSort(1, "AAA")
+        );
+
+        assertThat(sut.sort(list, Comparator.comparing(SomeClassToSort::getInteger))).containsExactly(
+            new SomeClassToSort(1, "AAA"),
+            new SomeClassToSort(3, "aaa"),
+            new SomeClassToSort(2, "bbb")
+        );
+    }
+
+    @Test
+    void ensureSortKeepsOrderOfEqualElementsWithoutTieBreaker() {
+        final SortComparator<SomeClassToSort> sut = new SortComparator<>(SomeClassToSort.class, Sort.by("string"));
+        final List<SomeClassToSort> list = List.of(
+            new SomeClassToSort(3, "aaa"),
+            new SomeClassToSort(1, "AAA"),
+            new SomeClassToSort(2, "aaa")
+        );
+
+        assertThat(sut.sort(list)).containsExactlyElementsOf(list);
+    }
+
+    @Test
+    void ensureUnknownPropertiesAreNotCached() {
+        final int cachedPropertyPaths = SortComparator.cachedPropertyPaths(StringBox.class);
+        final List<StringBox> list = List.of(new StringBox("b"), new StringBox("a"));
+
+        final List<StringBox> sorted = list.stream().sorted(new SortComparator<>(StringBox.class, Sort.by("unknown"))).toList();
+
+        assertThat(sorted).containsExactlyElementsOf(list);
+        assertThat(SortComparator.cachedPropertyPaths(StringBox.class)).isEqualTo(cachedPropertyPaths);
+    }
+
+    @Test
+    void ensureNumberOfCachedPropertyPathsIsBounded() {
+        final Node node = new Node(1, new Node(2, null));
+
+        String property = "value";
+        for (int i = 0; i < 2 * SortComparator.MAX_PROPERTY_PATHS_PER_TYPE; i++) {
+            final SortComparator<Node> sut = new SortComparator<>(Node.class, Sort.by(property));
+            assertThat(sut.compare(node, node)).isZero();
+            property = "next." + property;
+        }
+
+        assertThat(SortComparator.cachedPropertyPaths(Node.class)).isEqualTo(SortComparator.MAX_PROPERTY_PATHS_PER_TYPE);
+    }
+
+    static class Node {
+        private final int value;
+        private final Node next;
+
+        Node(int value, Node next) {
+            this.value = value;
+            this.next = next;
+        }
+
+        public int getValue() {
+            return value;
+        }
+
+        public Node getNext() {
+            return next;
+        }
+    }
+
     static class StringBox {
         private final String value;
 
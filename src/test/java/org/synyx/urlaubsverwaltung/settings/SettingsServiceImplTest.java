@@ -3,12 +3,16 @@ package org.synyx.urlaubsverwaltung.settings;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentCaptor.forClass;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -18,10 +22,12 @@ class SettingsServiceImplTest {
 
     @Mock
     private SettingsRepository settingsRepository;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @BeforeEach
     void setUp() {
-        sut = new SettingsServiceImpl(settingsRepository);
+        sut = new SettingsServiceImpl(settingsRepository, applicationEventPublisher);
     }
 
     @Test
@@ -33,4 +39,18 @@ class SettingsServiceImplTest {
         final Settings actualSettings = sut.getSettings();
         assertThat(actualSettings).isEqualTo(settings);
     }
+
+    @Test
+    void ensureSavePublishesSettingsUpdatedEvent() {
+        final Settings settings = new Settings();
+        settings.setId(1L);
+        when(settingsRepository.save(settings)).thenReturn(settings);
+
+        final Settings savedSettings = sut.save(settings);
+        assertThat(savedSettings).isEqualTo(settings);
+
+        final ArgumentCaptor<SettingsUpdatedEvent> eventCaptor = forClass(SettingsUpdatedEvent.class);
+        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().updatedSettings()).isSameAs(settings);
+    }
 }
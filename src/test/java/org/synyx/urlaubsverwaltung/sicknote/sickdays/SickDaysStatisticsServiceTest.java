@@ -533,4 +533,97 @@ class SickDaysStatisticsServiceTest {
             assertThat(actual.getSickNotes()).isEmpty();
         });
     }
+
+    @Test
+    void getAllMembersSortsPersonsOnceByPersonAttributesAndId() {
+
+        final Person office = new Person();
+        office.setId(1L);
+        office.setPermissions(List.of(USER, OFFICE));
+
+        final Person marlene3 = person(3L, "Marlene");
+        final Person bruce = person(2L, "Bruce");
+        final Person marlene1 = person(1L, "Marlene");
+
+        final PageableSearchQuery allPersons = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "firstName")), "");
+        when(personService.getActivePersons(allPersons)).thenReturn(new PageImpl<>(List.of(marlene3, bruce, marlene1)));
+
+        final List<Person> members = sut.getAllMembers(office, Sort.by(Sort.Direction.ASC, "person.firstName"));
+
+        assertThat(members).containsExactly(bruce, marlene1, marlene3);
+    }
+
+    @Test
+    void getAllMembersSortsPersonsByIdIfSortedByNonPersonAttribute() {
+
+        final Person departmentHead = new Person();
+        departmentHead.setId(1L);
+        departmentHead.setPermissions(List.of(USER, DEPARTMENT_HEAD, SICK_NOTE_VIEW));
+
+        final Person third = person(3L, "Alfred");
+        final Person first = person(1L, "Marlene");
+        final Person second = person(2L, "Bruce");
+
+        final PageableSearchQuery allPersons = new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.unsorted()), "");
+        when(departmentService.getManagedMembersOfPerson(departmentHead, allPersons)).thenReturn(new PageImpl<>(List.of(third, first, second)));
+
+        final List<Person> members = sut.getAllMembers(departmentHead, Sort.by("amountSickDays"));
+
+        assertThat(members).containsExactly(first, second, third);
+    }
+
+    @Test
+    void getAllOfChunkCreatesStatisticsOnlyForPersonsOfChunkInOrderOfPersons() {
+
+        final LocalDate startDate = LocalDate.parse("2022-01-01");
+        final LocalDate endDate = LocalDate.parse("2022-12-31");
+
+        final Person office = new Person();
+        office.setId(1L);
+        office.setPermissions(List.of(USER, OFFICE));
+
+        final Person alfred = person(2L, "Alfred");
+        final Person bruce = person(3L, "Bruce");
+        final Person marlene = person(4L, "Marlene");
+
+        final SickNote sickNoteOfBruce = SickNote.builder()
+            .person(bruce)
+            .startDate(startDate.plusDays(5))
+            .endDate(startDate.plusDays(6))
+            .build();
+
+        when(sickNoteService.getForStatesAndPerson(List.of(ACTIVE), List.of(alfred, bruce), startDate, endDate)).thenReturn(List.of(sickNoteOfBruce));
+        when(personBasedataService.getBasedataByPersonId(List.of(2L, 3L))).thenReturn(Map.of());
+        when(departmentService.getDepartmentNamesByMembers(List.of(alfred, bruce))).thenReturn(Map.of());
+
+        final Page<SickDaysDetailedStatistics> chunk = sut.getAll(office, List.of(alfred, bruce, marlene), startDate, endDate, PageRequest.of(0, 2));
+
+        assertThat(chunk.getContent()).extracting(SickDaysDetailedStatistics::getPerson).containsExactly(alfred, bruce);
+        assertThat(chunk.getContent().get(0).getSickNotes()).isEmpty();
+        assertThat(chunk.getContent().get(1).getSickNotes()).containsExactly(sickNoteOfBruce);
+        assertThat(chunk.getTotalElements()).isEqualTo(3);
+        assertThat(chunk.hasNext()).isTrue();
+    }
+
+    @Test
+    void getAllOfChunkAfterLastPersonIsEmpty() {
+
+        final Person office = new Person();
+        office.setId(1L);
+        office.setPermissions(List.of(USER, OFFICE));
+
+        final Page<SickDaysDetailedStatistics> chunk = sut.getAll(office, List.of(person(2L, "Alfred")), LocalDate.parse("2022-01-01"), LocalDate.parse("2022-12-31"), PageRequest.of(1, 2));
+
+        assertThat(chunk.getContent()).isEmpty();
+        assertThat(chunk.hasNext()).isFalse();
+    }
+
+    private static Person person(Long id, String firstName) {
+        final Person person = new Person();
+        person.setId(id);
+        person.setPermissions(List.of(USER));
+        person.setFirstName(firstName);
+        person.setLastName("Muster");
+        return person;
+    }
 }
@@ -5,30 +5,41 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
-import org.synyx.urlaubsverwaltung.csv.CSVFile;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
 import org.synyx.urlaubsverwaltung.search.PageableSearchQuery;
 import org.synyx.urlaubsverwaltung.web.DateFormatAware;
 import org.synyx.urlaubsverwaltung.web.FilterPeriod;
 
+import java.io.OutputStream;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static java.util.Locale.JAPANESE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 
@@ -55,23 +66,37 @@ class SickDaysStatisticsViewControllerTest {
     }
 
     @Test
-    void ensureThatDownloadCSVReturnsBadRequestIfPeriodNotTheSameYear() throws Exception {
+    void ensureThatDownloadCSVWritesCSVOfSeveralYears() throws Exception {
 
         final Locale locale = JAPANESE;
 
-        final LocalDate startDate = LocalDate.parse("2019-01-01");
-        final LocalDate endDate = LocalDate.parse("2018-08-01");
+        final Person signedInUser = new Person();
+        signedInUser.setId(1L);
+        when(personService.getSignedInUser()).thenReturn(signedInUser);
 
-        final String fromString = "01.01.2019";
+        final LocalDate startDate = LocalDate.parse("2018-08-01");
+        final LocalDate endDate = LocalDate.parse("2019-01-01");
+        final FilterPeriod filterPeriod = new FilterPeriod(startDate, endDate);
+
+        final String fromString = "01.08.2018";
         when(dateFormatAware.parse(fromString, locale)).thenReturn(Optional.of(startDate));
-        final String endString = "01.08.2018";
+        final String endString = "01.01.2019";
         when(dateFormatAware.parse(endString, locale)).thenReturn(Optional.of(endDate));
 
+        final PageableSearchQuery pageableSearchQuery =
+            new PageableSearchQuery(PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
+        when(sickDaysStatisticsService.getAll(signedInUser, startDate, endDate, pageableSearchQuery))
+            .thenReturn(new PageImpl<>(List.of()));
+
+        when(sickDaysDetailedStatisticsCsvExportService.fileName(filterPeriod, locale)).thenReturn("filename.csv");
+
         perform(get("/web/sickdays/statistics/download")
             .locale(locale)
             .param("from", fromString)
             .param("to", endString))
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isOk());
+
+        verify(sickDaysDetailedStatisticsCsvExportService).write(eq(filterPeriod), eq(locale), eq(List.of()), any(OutputStream.class));
     }
 
     @Test
@@ -96,8 +121,7 @@ class SickDaysStatisticsViewControllerTest {
         when(sickDaysStatisticsService.getAll(signedInUser, date, date, pageableSearchQuery))
             .thenReturn(new PageImpl<>(List.of()));
 
-        when(sickDaysDetailedStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of()))
-            .thenReturn(new CSVFile("filename.csv", new ByteArrayResource(new byte[]{})));
+        when(sickDaysDetailedStatisticsCsvExportService.fileName(filterPeriod, locale)).thenReturn("filename.csv");
 
         perform(get("/web/sickdays/statistics/download")
             .locale(locale)
@@ -135,8 +159,7 @@ class SickDaysStatisticsViewControllerTest {
         when(sickDaysStatisticsService.getAll(signedInUser, startDate, endDate, pageableSearchQuery))
             .thenReturn(new PageImpl<>(List.of()));
 
-        when(sickDaysDetailedStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of()))
-            .thenReturn(new CSVFile("filename.csv", new ByteArrayResource(new byte[]{})));
+        when(sickDaysDetailedStatisticsCsvExportService.fileName(filterPeriod, locale)).thenReturn("filename.csv");
 
         perform(get("/web/sickdays/statistics/download")
             .locale(locale)
@@ -146,6 +169,8 @@ class SickDaysStatisticsViewControllerTest {
             .param("size", "50")
         )
             .andExpect(status().isOk());
+
+        verify(sickDaysDetailedStatisticsCsvExportService).write(eq(filterPeriod), eq(locale), eq(List.of()), any(OutputStream.class));
     }
 
     @Test
@@ -166,13 +191,19 @@ class SickDaysStatisticsViewControllerTest {
         final String endString = "01.08.2019";
         when(dateFormatAware.parse(endString, locale)).thenReturn(Optional.of(endDate));
 
-        final PageableSearchQuery pageableSearchQuery =
-            new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
-        when(sickDaysStatisticsService.getAll(signedInUser, startDate, endDate, pageableSearchQuery))
-            .thenReturn(new PageImpl<>(List.of()));
+        final PageRequest firstChunk = PageRequest.of(0, 100, Sort.by(Sort.Direction.ASC, "person.firstName"));
+        final SickDaysDetailedStatistics statistics = new SickDaysDetailedStatistics("1", signedInUser, List.of(), List.of());
+        final List<Person> members = List.of(signedInUser);
+        when(sickDaysStatisticsService.getAllMembers(signedInUser, Sort.by(Sort.Direction.ASC, "person.firstName"))).thenReturn(members);
+        when(sickDaysStatisticsService.getAll(signedInUser, members, startDate, endDate, firstChunk))
+            .thenReturn(new PageImpl<>(List.of(statistics)));
 
-        when(sickDaysDetailedStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of()))
-            .thenReturn(new CSVFile("filename.csv", new ByteArrayResource(new byte[]{})));
+        when(sickDaysDetailedStatisticsCsvExportService.fileName(filterPeriod, locale)).thenReturn("filename.csv");
+        doAnswer(invocation -> {
+            final Function<Pageable, Page<SickDaysDetailedStatistics>> pageSupplier = invocation.getArgument(3);
+            assertThat(pageSupplier.apply(firstChunk).getContent()).containsExactly(statistics);
+            return null;
+        }).when(sickDaysDetailedStatisticsCsvExportService).writeAllPages(eq(filterPeriod), eq(locale), eq(firstChunk), any(), any(OutputStream.class));
 
         perform(get("/web/sickdays/statistics/download")
             .locale(locale)
@@ -201,13 +232,19 @@ class SickDaysStatisticsViewControllerTest {
         final String endString = "01.08.2019";
         when(dateFormatAware.parse(endString, locale)).thenReturn(Optional.of(endDate));
 
-        final PageableSearchQuery pageableSearchQuery =
-            new PageableSearchQuery(PageRequest.of(0, Integer.MAX_VALUE, Sort.by(Sort.Direction.ASC, "person.firstName")), "");
-        when(sickDaysStatisticsService.getAll(signedInUser, startDate, endDate, pageableSearchQuery))
-            .thenReturn(new PageImpl<>(List.of()));
+        final PageRequest firstChunk = PageRequest.of(0, 100, Sort.by(Sort.Direction.ASC, "person.firstName"));
+        final SickDaysDetailedStatistics statistics = new SickDaysDetailedStatistics("1", signedInUser, List.of(), List.of());
+        final List<Person> members = List.of(signedInUser);
+        when(sickDaysStatisticsService.getAllMembers(signedInUser, Sort.by(Sort.Direction.ASC, "person.firstName"))).thenReturn(members);
+        when(sickDaysStatisticsService.getAll(signedInUser, members, startDate, endDate, firstChunk))
+            .thenReturn(new PageImpl<>(List.of(statistics)));
 
-        when(sickDaysDetailedStatisticsCsvExportService.generateCSV(filterPeriod, locale, List.of()))
-            .thenReturn(new CSVFile("filename.csv", new ByteArrayResource(new byte[]{})));
+        when(sickDaysDetailedStatisticsCsvExportService.fileName(filterPeriod, locale)).thenReturn("filename.csv");
+        doAnswer(invocation -> {
+            final Function<Pageable, Page<SickDaysDetailedStatistics>> pageSupplier = invocation.getArgument(3);
+            assertThat(pageSupplier.apply(firstChunk).getContent()).containsExactly(statistics);
+            return null;
+        }).when(sickDaysDetailedStatisticsCsvExportService).writeAllPages(eq(filterPeriod), eq(locale), eq(firstChunk), any(), any(OutputStream.class));
 
         perform(get("/web/sickdays/statistics/download")
             .locale(locale)
@@ -222,9 +259,14 @@ class SickDaysStatisticsViewControllerTest {
     }
 
     private ResultActions perform(MockHttpServletRequestBuilder builder) throws Exception {
-        return standaloneSetup(sut)
+        final MockMvc mockMvc = standaloneSetup(sut)
             .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
-            .build()
-            .perform(builder);
+            .build();
+
+        final MvcResult mvcResult = mockMvc.perform(builder)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        return mockMvc.perform(asyncDispatch(mvcResult));
     }
 }
@@ -0,0 +1,79 @@
+package org.synyx.urlaubsverwaltung.sicknote.sicknote;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.synyx.urlaubsverwaltung.QueryPlans;
+import org.synyx.urlaubsverwaltung.TestContainersBase;
+import org.synyx.urlaubsverwaltung.person.Person;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.synyx.urlaubsverwaltung.QueryPlans.selectingFrom;
+import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.ACTIVE;
+
+/**
+ * Verifies with the query plans of a populated database that the period overlap queries of sick notes
+ * are answered by an index instead of a sequential scan. The queries are explained as emitted by hibernate
+ * for the repository methods, with the parameters they are executed with.
+ */
+@SpringBootTest
+@Import(QueryPlans.Configuration.class)
+class SickNotePeriodIndexIT extends TestContainersBase {
+
+    private static final int NUMBER_OF_PERSONS = 1_000;
+    private static final int NUMBER_OF_SICK_NOTES = 1_000_000;
+    private static final long ID_OFFSET = 20_000_000L;
+
+    @Autowired
+    private SickNoteRepository sickNoteRepository;
+
+    @BeforeAll
+    static void setUp(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+            insert into person (id, username, first_name, last_name, email)
+            select ? + i, 'user' || (? + i), 'Marlene', 'Muster', 'user' || (? + i) || '@example.org'
+            from generate_series(1, ?) as i
+            """, ID_OFFSET, ID_OFFSET, ID_OFFSET, NUMBER_OF_PERSONS);
+
+        // sick notes of 1 to 14 days spread over ~ 27 years, each person has its share of every status
+        jdbcTemplate.update("""
+            insert into sick_note (id, person_id, status, start_date, end_date, day_length)
+            select ? + i, ? + 1 + i % ?, (array['ACTIVE', 'CANCELLED'])[1 + i % 2],
+                   date '2000-01-01' + (i / 100), date '2000-01-01' + (i / 100) + i % 14, 'FULL'
+            from generate_series(1, ?) as i
+            """, ID_OFFSET, ID_OFFSET, NUMBER_OF_PERSONS, NUMBER_OF_SICK_NOTES);
+
+        jdbcTemplate.execute("analyze sick_note");
+    }
+
+    @AfterAll
+    static void tearDown(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("delete from sick_note where id > ? and id <= ?", ID_OFFSET, ID_OFFSET + NUMBER_OF_SICK_NOTES);
+        jdbcTemplate.update("delete from person where id > ? and id <= ?", ID_OFFSET, ID_OFFSET + NUMBER_OF_PERSONS);
+    }
+
+    @Test
+    void ensureSickNotesOfPersonsWithinPeriodUseIndex() {
+
+        final List<QueryPlans.QueryPlan> plans = QueryPlans.of(() ->
+            sickNoteRepository.findByStatusInAndPersonInAndEndDateIsGreaterThanEqualAndStartDateIsLessThanEqual(
+                List.of(ACTIVE), List.of(person(1), person(2)), LocalDate.of(2020, 3, 1), LocalDate.of(2020, 3, 31)));
+
+        assertThat(selectingFrom(plans, "sick_note").plan())
+            .contains("idx_sick_note_person_status_period")
+            .doesNotContain("Seq Scan");
+    }
+
+    private static Person person(long number) {
+        final Person person = new Person();
+        person.setId(ID_OFFSET + number);
+        return person;
+    }
+}
@@ -36,6 +36,7 @@ import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 import static org.synyx.urlaubsverwaltung.person.Role.USER;
 import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.ACTIVE;
+import static org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNoteStatus.SUBMITTED;
 import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.WORKDAY;
 
 @ExtendWith(MockitoExtension.class)
@@ -413,6 +414,32 @@ class SickNoteServiceImplTest {
         assertThat(actual.getWorkDays()).isEqualTo(BigDecimal.valueOf(5));
     }
 
+    @Test
+    void getForStates() {
+        final Person person = new Person();
+        final LocalDate startDate = LocalDate.now(fixedClock).minusDays(10);
+        final LocalDate endDate = startDate.plusDays(4);
+
+        final SickNoteEntity entity = new SickNoteEntity();
+        entity.setId(1L);
+        entity.setPerson(person);
+        entity.setStartDate(startDate);
+        entity.setEndDate(endDate);
+        entity.setDayLength(DayLength.FULL);
+        entity.setStatus(SUBMITTED);
+
+        when(sickNoteRepository.findByStatusIn(List.of(SUBMITTED))).thenReturn(List.of(entity));
+
+        final Map<LocalDate, WorkingDayInformation> personWorkingTimeByDate = buildWorkingTimeByDate(startDate, endDate, date -> fullWorkingDayInformation());
+        when(workingTimeCalendarService.getWorkingTimesByPersons(List.of(person), new DateRange(startDate, endDate)))
+            .thenReturn(Map.of(person, new WorkingTimeCalendar(personWorkingTimeByDate)));
+
+        final List<SickNote> sickNotes = sut.getForStates(List.of(SUBMITTED));
+        assertThat(sickNotes).hasSize(1);
+        assertThat(sickNotes.getFirst().getId()).isEqualTo(1);
+        assertThat(sickNotes.getFirst().getWorkDays()).isEqualTo(BigDecimal.valueOf(5));
+    }
+
     @Test
     void getForStatesAndPersonWithEmptyResult() {
         final Person person = new Person();
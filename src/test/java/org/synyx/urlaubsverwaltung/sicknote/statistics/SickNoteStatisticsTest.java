@@ -1,19 +1,24 @@
 package org.synyx.urlaubsverwaltung.sicknote.statistics;
 
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.synyx.urlaubsverwaltung.absence.DateRange;
+import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.sicknote.sicknote.SickNote;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar;
+import org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation;
 
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 import static java.math.BigDecimal.ZERO;
 import static java.time.LocalDate.of;
@@ -21,85 +26,101 @@ import static java.time.Month.DECEMBER;
 import static java.time.Month.JANUARY;
 import static java.time.Month.OCTOBER;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.TestDataCreator.createSickNote;
 import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.period.DayLength.MORNING;
+import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.NO_WORKDAY;
+import static org.synyx.urlaubsverwaltung.workingtime.WorkingTimeCalendar.WorkingDayInformation.WorkingTimeCalendarEntryType.WORKDAY;
 
 /**
  * Unit test for {@link SickNoteStatistics}.
  */
-@ExtendWith(MockitoExtension.class)
 class SickNoteStatisticsTest {
 
-    @Mock
-    private WorkDaysCountService workDaysCountService;
-
     @Test
     void testGetTotalNumberOfSickNotes() {
 
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
-        final LocalDate sickNote1from = of(2022, OCTOBER, 7);
-        final LocalDate sickNote1To = of(2022, OCTOBER, 11);
-        final SickNote sickNote1 = createSickNote(person, sickNote1from, sickNote1To, FULL);
-        when(workDaysCountService.getWorkDaysCount(FULL, sickNote1from, sickNote1To, person)).thenReturn(new BigDecimal("5"));
-
-        final LocalDate sickNote2From = of(2022, DECEMBER, 18);
-        final SickNote sickNote2 = createSickNote(person, sickNote2From, of(2023, JANUARY, 3), FULL);
-        when(workDaysCountService.getWorkDaysCount(FULL, sickNote2From, of(2022, DECEMBER, 31), person)).thenReturn(new BigDecimal("9"));
+        final SickNote sickNote1 = sickNote(person, of(2022, OCTOBER, 7), of(2022, OCTOBER, 11));
+        final SickNote sickNote2 = sickNote(person, of(2022, DECEMBER, 18), of(2023, JANUARY, 3));
 
         final Clock fixedClock = Clock.fixed(Instant.parse("2022-10-17T00:00:00.00Z"), ZoneId.systemDefault());
-        final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(sickNote1, sickNote2), workDaysCountService);
+        final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(sickNote1, sickNote2), false);
 
         assertThat(sut.getTotalNumberOfSickNotes()).isEqualTo(2);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testGetTotalNumberOfSickDays(boolean parallel) {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        // friday to tuesday: 3 workdays
+        final SickNote sickNote1 = sickNote(person, of(2022, OCTOBER, 7), of(2022, OCTOBER, 11));
+        // sunday 18th to saturday 31st of december: 10 workdays in 2022
+        final SickNote sickNote2 = sickNote(person, of(2022, DECEMBER, 18), of(2023, JANUARY, 3));
+
+        final Clock fixedClock = Clock.fixed(Instant.parse("2022-10-17T00:00:00.00Z"), ZoneId.systemDefault());
+        final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(sickNote1, sickNote2), parallel);
+
+        assertThat(sut.getTotalNumberOfSickDays()).isEqualByComparingTo(new BigDecimal("13"));
+    }
+
     @Test
-    void testGetTotalNumberOfSickDays() {
+    void ensureParallelAndSequentialSumOfManySickNotesAreEqual() {
 
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
-        final LocalDate sickNote1from = of(2022, OCTOBER, 7);
-        final LocalDate sickNote1To = of(2022, OCTOBER, 11);
-        final SickNote sickNote1 = createSickNote(person, sickNote1from, sickNote1To, FULL);
-        when(workDaysCountService.getWorkDaysCount(FULL, sickNote1from, sickNote1To, person)).thenReturn(new BigDecimal("5"));
+        final List<SickNote> sickNotes = IntStream.range(0, 1000)
+            .mapToObj(day -> {
+                final LocalDate date = of(2022, JANUARY, 1).plusDays(day % 365);
+                return SickNote.builder(createSickNote(person, date, date, day % 3 == 0 ? MORNING : FULL))
+                    .workingTimeCalendar(workingTimeCalendar(of(2022, JANUARY, 1), of(2022, DECEMBER, 31)))
+                    .build();
+            })
+            .toList();
 
-        final LocalDate sickNote2From = of(2022, DECEMBER, 18);
-        final SickNote sickNote2 = createSickNote(person, sickNote2From, of(2023, JANUARY, 3), FULL);
-        when(workDaysCountService.getWorkDaysCount(FULL, sickNote2From, of(2022, DECEMBER, 31), person)).thenReturn(new BigDecimal("9"));
+        final Clock fixedClock = Clock.fixed(Instant.parse("2022-10-17T00:00:00.00Z"), ZoneId.systemDefault());
+        final BigDecimal sequential = new SickNoteStatistics(fixedClock, sickNotes, false).getTotalNumberOfSickDays();
+        final BigDecimal parallel = new SickNoteStatistics(fixedClock, sickNotes, true).getTotalNumberOfSickDays();
+
+        assertThat(parallel).isEqualByComparingTo(sequential);
+    }
+
+    @Test
+    void ensureSickNoteWithoutWorkingTimeCalendarHasNoSickDays() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        final SickNote sickNote = createSickNote(person, of(2022, OCTOBER, 7), of(2022, OCTOBER, 11), FULL);
 
         final Clock fixedClock = Clock.fixed(Instant.parse("2022-10-17T00:00:00.00Z"), ZoneId.systemDefault());
-        final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(sickNote1, sickNote2), workDaysCountService);
+        final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(sickNote), false);
 
-        assertThat(sut.getTotalNumberOfSickDays()).isEqualTo(new BigDecimal("14"));
+        assertThat(sut.getTotalNumberOfSickDays()).isEqualByComparingTo(ZERO);
     }
 
     @Test
     void testGetAverageDurationOfDiseasePerPerson() {
 
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
-        final LocalDate sickNote1from = of(2022, OCTOBER, 7);
-        final LocalDate sickNote1To = of(2022, OCTOBER, 11);
-        final SickNote sickNote1 = createSickNote(person, sickNote1from, sickNote1To, FULL);
-        when(workDaysCountService.getWorkDaysCount(FULL, sickNote1from, sickNote1To, person)).thenReturn(new BigDecimal("5"));
+        final SickNote sickNote1 = sickNote(person, of(2022, OCTOBER, 7), of(2022, OCTOBER, 11));
 
         final Person person2 = new Person("muster", "Muster", "Marlene", "muster@example.org");
-        final LocalDate sickNote2From = of(2022, DECEMBER, 18);
-        final SickNote sickNote2 = createSickNote(person2, sickNote2From, of(2023, JANUARY, 3), FULL);
-        when(workDaysCountService.getWorkDaysCount(FULL, sickNote2From, of(2022, DECEMBER, 31), person2)).thenReturn(new BigDecimal("9"));
+        final SickNote sickNote2 = sickNote(person2, of(2022, DECEMBER, 18), of(2023, JANUARY, 3));
 
         final Clock fixedClock = Clock.fixed(Instant.parse("2022-10-17T00:00:00.00Z"), ZoneId.systemDefault());
-        final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(sickNote1, sickNote2), workDaysCountService);
+        final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(sickNote1, sickNote2), false);
 
-        // 2 sick notes: 1st with 5 workdays and 2nd with 9 workdays --> sum = 14 workdays
-        // 14 workdays / 2 persons = 7 workdays per person
+        // 2 sick notes: 1st with 3 workdays and 2nd with 10 workdays --> sum = 13 workdays
+        // 13 workdays / 2 persons = 6.5 workdays per person
         final BigDecimal averageDurationOfDiseasePerPerson = sut.getAverageDurationOfDiseasePerPerson();
-        assertThat(averageDurationOfDiseasePerPerson).isEqualByComparingTo(BigDecimal.valueOf(7));
+        assertThat(averageDurationOfDiseasePerPerson).isEqualByComparingTo(BigDecimal.valueOf(6.5));
     }
 
     @Test
     void testGetAverageDurationOfDiseasePerPersonDivisionByZero() {
         final Clock fixedClock = Clock.fixed(Instant.parse("2022-10-17T00:00:00.00Z"), ZoneId.systemDefault());
 
-        final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(), workDaysCountService);
+        final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(), false);
         final BigDecimal averageDurationOfDiseasePerPerson = sut.getAverageDurationOfDiseasePerPerson();
         assertThat(averageDurationOfDiseasePerPerson).isEqualByComparingTo(ZERO);
     }
@@ -109,13 +130,27 @@ class SickNoteStatisticsTest {
         final Clock fixedClock = Clock.fixed(Instant.parse("2015-10-17T00:00:00.00Z"), ZoneId.systemDefault());
 
         final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
-        final LocalDate from = of(2014, DECEMBER, 7);
-        final LocalDate to = of(2016, JANUARY, 11);
-        final SickNote sickNote = createSickNote(person, from, to, FULL);
-        final BigDecimal sickDays = new BigDecimal("9");
-        when(workDaysCountService.getWorkDaysCount(FULL, of(2015, JANUARY, 1), of(2015, DECEMBER, 31), person)).thenReturn(sickDays);
-
-        final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(sickNote), workDaysCountService);
-        assertThat(sut.getAverageDurationOfDiseasePerPerson()).isEqualByComparingTo(sickDays);
+        final SickNote sickNote = sickNote(person, of(2014, DECEMBER, 7), of(2016, JANUARY, 11));
+
+        final SickNoteStatistics sut = new SickNoteStatistics(fixedClock, List.of(sickNote), false);
+        // 2015 has 261 days from monday to friday
+        assertThat(sut.getAverageDurationOfDiseasePerPerson()).isEqualByComparingTo(BigDecimal.valueOf(261));
+    }
+
+    private static SickNote sickNote(Person person, LocalDate from, LocalDate to) {
+        return SickNote.builder(createSickNote(person, from, to, FULL))
+            .workingTimeCalendar(workingTimeCalendar(from, to))
+            .build();
+    }
+
+    private static WorkingTimeCalendar workingTimeCalendar(LocalDate from, LocalDate to) {
+        final Map<LocalDate, WorkingDayInformation> workingDays = new HashMap<>();
+        for (LocalDate date : new DateRange(from, to)) {
+            final boolean weekend = date.getDayOfWeek().getValue() > 5;
+            workingDays.put(date, weekend
+                ? new WorkingDayInformation(DayLength.ZERO, NO_WORKDAY, NO_WORKDAY)
+                : new WorkingDayInformation(FULL, WORKDAY, WORKDAY));
+        }
+        return new WorkingTimeCalendar(workingDays);
     }
 }
@@ -9,7 +9,6 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.person.PersonService;
-import org.synyx.urlaubsverwaltung.workingtime.WorkDaysCountService;
 
 import java.time.Clock;
 import java.time.Year;
@@ -32,8 +31,6 @@ class SickNoteStatisticsViewControllerTest {
     @Mock
     private SickNoteStatisticsService statisticsService;
     @Mock
-    private WorkDaysCountService workDaysCountService;
-    @Mock
     private PersonService personService;
 
     private final Clock clock = Clock.systemUTC();
@@ -49,7 +46,7 @@ class SickNoteStatisticsViewControllerTest {
         final Person person = new Person();
         when(personService.getSignedInUser()).thenReturn(person);
 
-        final SickNoteStatistics sickNoteStatistics = new SickNoteStatistics(clock, List.of(), workDaysCountService);
+        final SickNoteStatistics sickNoteStatistics = new SickNoteStatistics(clock, List.of(), false);
         when(statisticsService.createStatisticsForPerson(eq(person), any(Clock.class))).thenReturn(sickNoteStatistics);
 
         final int currentYear = Year.now(clock).getValue();
@@ -68,7 +65,7 @@ class SickNoteStatisticsViewControllerTest {
         final Person person = new Person();
         when(personService.getSignedInUser()).thenReturn(person);
 
-        final SickNoteStatistics sickNoteStatistics = new SickNoteStatistics(clock, List.of(), workDaysCountService);
+        final SickNoteStatistics sickNoteStatistics = new SickNoteStatistics(clock, List.of(), false);
         when(statisticsService.createStatisticsForPerson(eq(person), any(Clock.class))).thenReturn(sickNoteStatistics);
 
         final int currentYear = Year.now(clock).getValue();
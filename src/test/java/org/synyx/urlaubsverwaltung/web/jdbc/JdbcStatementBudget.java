@@ -0,0 +1,38 @@
+package org.synyx.urlaubsverwaltung.web.jdbc;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Asserts the number of JDBC statements executed while a request has been handled by a controller,
+ * e.g. {@code perform(get("/web/overview")).andExpect(atMostJdbcStatements(30))}.
+ *
+ * <p>Requires the {@link JdbcStatementsInterceptor} to be registered, which is the case for a
+ * {@code webAppContextSetup} of a {@code @SpringBootTest}.</p>
+ */
+public final class JdbcStatementBudget {
+
+    private JdbcStatementBudget() {
+    }
+
+    /**
+     * @param budget maximum number of JDBC statements the request may execute
+     * @return matcher failing if the request executed more statements than the given budget
+     */
+    public static ResultMatcher atMostJdbcStatements(int budget) {
+        return result -> {
+            final Object statements = result.getRequest().getAttribute(JdbcStatements.REQUEST_ATTRIBUTE);
+            assertThat(statements)
+                .withFailMessage("JDBC statements of %s %s have not been recorded, is the JdbcStatementsInterceptor registered?",
+                    result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isInstanceOf(JdbcStatements.class);
+
+            final int count = ((JdbcStatements) statements).count();
+            assertThat(count)
+                .withFailMessage("%s %s executed %d JDBC statements, but the budget is %d",
+                    result.getRequest().getMethod(), result.getRequest().getRequestURI(), count, budget)
+                .isLessThanOrEqualTo(budget);
+        };
+    }
+}
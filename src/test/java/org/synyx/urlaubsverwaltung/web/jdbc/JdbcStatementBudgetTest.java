@@ -0,0 +1,64 @@
+package org.synyx.urlaubsverwaltung.web.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
+import static org.synyx.urlaubsverwaltung.web.jdbc.JdbcStatementBudget.atMostJdbcStatements;
+
+class JdbcStatementBudgetTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = standaloneSetup(new StatementsController())
+            .addInterceptors(new JdbcStatementsInterceptor(new SimpleMeterRegistry()))
+            .build();
+    }
+
+    @Test
+    void ensurePassesWithinBudget() throws Exception {
+        mockMvc.perform(get("/statements/3"))
+            .andExpect(status().isOk())
+            .andExpect(atMostJdbcStatements(3));
+    }
+
+    @Test
+    void ensureFailsIfBudgetIsExceeded() {
+        assertThatThrownBy(() -> mockMvc.perform(get("/statements/4")).andExpect(atMostJdbcStatements(3)))
+            .isInstanceOf(AssertionError.class)
+            .hasMessage("GET /statements/4 executed 4 JDBC statements, but the budget is 3");
+    }
+
+    @Test
+    void ensureFailsIfStatementsHaveNotBeenRecorded() {
+        final MockMvc mockMvcWithoutInterceptor = standaloneSetup(new StatementsController()).build();
+
+        assertThatThrownBy(() -> mockMvcWithoutInterceptor.perform(get("/statements/1")).andExpect(atMostJdbcStatements(3)))
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("have not been recorded");
+    }
+
+    @RestController
+    static class StatementsController {
+
+        @GetMapping("/statements/{count}")
+        @ResponseBody
+        String execute(@PathVariable("count") int count) {
+            for (int i = 0; i < count; i++) {
+                JdbcStatements.record(1_000);
+            }
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.synyx.urlaubsverwaltung.web.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+import static jakarta.servlet.DispatcherType.ASYNC;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.web.servlet.HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE;
+
+class JdbcStatementsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcStatementsInterceptor sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new JdbcStatementsInterceptor(meterRegistry);
+    }
+
+    @Test
+    void ensureRecordsStatementsByMapping() {
+
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/web/person/1/overview");
+        request.setAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE, "/web/person/{personId}/overview");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        sut.preHandle(request, response, handler());
+        JdbcStatements.record(2_000_000);
+        JdbcStatements.record(3_000_000);
+        sut.afterCompletion(request, response, handler(), null);
+
+        // statements after completion of the request are not recorded anymore
+        JdbcStatements.record(1_000_000);
+
+        assertThat(request.getAttribute(JdbcStatements.REQUEST_ATTRIBUTE)).isInstanceOfSatisfying(JdbcStatements.class,
+            statements -> assertThat(statements.count()).isEqualTo(2));
+        assertThat(meterRegistry.get("http.server.requests.jdbc.statements")
+            .tags("uri", "/web/person/{personId}/overview", "method", "GET").summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get("http.server.requests.jdbc")
+            .tags("uri", "/web/person/{personId}/overview", "method", "GET").timer().totalTime(MILLISECONDS)).isEqualTo(5);
+    }
+
+    @Test
+    void ensureRecordsStatementsOfRequestsWithoutMapping() {
+
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/web/unknown");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        sut.preHandle(request, response, handler());
+        JdbcStatements.record(1_000_000);
+        sut.afterCompletion(request, response, handler(), null);
+
+        assertThat(meterRegistry.get("http.server.requests.jdbc.statements")
+            .tags("uri", "UNKNOWN", "method", "POST").summary().count()).isOne();
+    }
+
+    @Test
+    void ensureRecordsNothingForRequestsNotHandledByController() {
+
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/css/common.css");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final ResourceHttpRequestHandler handler = new ResourceHttpRequestHandler();
+
+        sut.preHandle(request, response, handler);
+        JdbcStatements.record(1_000_000);
+        sut.afterCompletion(request, response, handler, null);
+
+        assertThat(request.getAttribute(JdbcStatements.REQUEST_ATTRIBUTE)).isNull();
+        assertThat(meterRegistry.find("http.server.requests.jdbc.statements").summary()).isNull();
+    }
+
+    @Test
+    void ensureRecordsStatementsOfAsyncRequestAsOneRequest() throws Exception {
+
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/web/sicknote/statistics/download");
+        request.setAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE, "/web/sicknote/statistics/download");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        sut.preHandle(request, response, handler());
+        JdbcStatements.record(1_000_000);
+        sut.afterConcurrentHandlingStarted(request, response, handler());
+
+        // the released thread handles other requests
+        JdbcStatements.record(1_000_000);
+
+        final Callable<Void> task = () -> null;
+        final ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        CompletableFuture.runAsync(() -> {
+            sut.preProcess(webRequest, task);
+            JdbcStatements.record(2_000_000);
+            JdbcStatements.record(2_000_000);
+            sut.postProcess(webRequest, task, null);
+            JdbcStatements.record(2_000_000);
+        }).get();
+
+        request.setDispatcherType(ASYNC);
+        sut.preHandle(request, response, handler());
+        JdbcStatements.record(1_000_000);
+        sut.afterCompletion(request, response, handler(), null);
+
+        assertThat(request.getAttribute(JdbcStatements.REQUEST_ATTRIBUTE)).isInstanceOfSatisfying(JdbcStatements.class,
+            statements -> assertThat(statements.count()).isEqualTo(4));
+        assertThat(meterRegistry.get("http.server.requests.jdbc.statements")
+            .tags("uri", "/web/sicknote/statistics/download", "method", "GET").summary().count()).isOne();
+        assertThat(meterRegistry.get("http.server.requests.jdbc")
+            .tags("uri", "/web/sicknote/statistics/download", "method", "GET").timer().totalTime(MILLISECONDS)).isEqualTo(6);
+    }
+
+    private static HandlerMethod handler() {
+        try {
+            return new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
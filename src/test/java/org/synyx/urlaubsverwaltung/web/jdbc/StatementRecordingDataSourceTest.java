@@ -0,0 +1,109 @@
+package org.synyx.urlaubsverwaltung.web.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatementRecordingDataSourceTest {
+
+    private StatementRecordingDataSource sut;
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement preparedStatement;
+    @Mock
+    private Statement statement;
+    @Mock
+    private ResultSet resultSet;
+
+    @BeforeEach
+    void setUp() {
+        sut = new StatementRecordingDataSource(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        JdbcStatements.stop();
+    }
+
+    @Test
+    void ensureRecordsExecutedStatements() throws SQLException {
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("select * from person where id = ?")).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeUpdate("delete from person")).thenReturn(1);
+
+        final JdbcStatements statements = JdbcStatements.start();
+
+        final Connection recordingConnection = sut.getConnection();
+        final PreparedStatement recordingPreparedStatement = recordingConnection.prepareStatement("select * from person where id = ?");
+        recordingPreparedStatement.setLong(1, 42L);
+        assertThat(recordingPreparedStatement.executeQuery()).isSameAs(resultSet);
+        assertThat(recordingPreparedStatement.executeQuery()).isSameAs(resultSet);
+        assertThat(recordingConnection.createStatement().executeUpdate("delete from person")).isOne();
+
+        verify(preparedStatement).setLong(1, 42L);
+        assertThat(statements.count()).isEqualTo(3);
+        assertThat(statements.time()).isPositive();
+    }
+
+    @Test
+    void ensureRecordsFailedStatementsAndThrowsTheirException() throws SQLException {
+
+        final SQLException exception = new SQLException("relation does not exist");
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("select * from unknown")).thenReturn(preparedStatement);
+        when(preparedStatement.execute()).thenThrow(exception);
+
+        final JdbcStatements statements = JdbcStatements.start();
+
+        final PreparedStatement recordingPreparedStatement = sut.getConnection().prepareStatement("select * from unknown");
+        assertThatThrownBy(recordingPreparedStatement::execute).isSameAs(exception);
+        assertThat(statements.count()).isOne();
+    }
+
+    @Test
+    void ensureRecordsNothingIfNotStarted() throws SQLException {
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("select 1")).thenReturn(preparedStatement);
+
+        sut.getConnection().prepareStatement("select 1").execute();
+
+        final JdbcStatements statements = JdbcStatements.start();
+        assertThat(statements.count()).isZero();
+    }
+
+    @Test
+    void ensureProvidesTargetConnection() throws SQLException {
+
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        final Connection recordingConnection = sut.getConnection();
+        assertThat(recordingConnection).isInstanceOf(ConnectionProxy.class);
+        assertThat(((ConnectionProxy) recordingConnection).getTargetConnection()).isSameAs(connection);
+        assertThat(recordingConnection).isEqualTo(recordingConnection).isNotEqualTo(connection);
+    }
+}
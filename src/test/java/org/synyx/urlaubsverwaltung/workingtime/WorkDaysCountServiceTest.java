@@ -8,6 +8,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.synyx.urlaubsverwaltung.absence.DateRange;
+import org.synyx.urlaubsverwaltung.application.application.Application;
+import org.synyx.urlaubsverwaltung.period.DayLength;
 import org.synyx.urlaubsverwaltung.person.Person;
 import org.synyx.urlaubsverwaltung.publicholiday.PublicHolidaysServiceImpl;
 import org.synyx.urlaubsverwaltung.settings.Settings;
@@ -19,6 +21,7 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static java.math.BigDecimal.TEN;
 import static java.time.DayOfWeek.FRIDAY;
@@ -31,8 +34,10 @@ import static java.time.Month.DECEMBER;
 import static java.time.Month.JANUARY;
 import static java.time.Month.NOVEMBER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
 import static org.synyx.urlaubsverwaltung.period.DayLength.MORNING;
@@ -121,6 +126,52 @@ class WorkDaysCountServiceTest {
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(8));
     }
 
+    @Test
+    void getWorkDaysOfApplicationsWithOneLookupOfWorkingTimes() {
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+        final Person otherPerson = new Person("other", "Other", "Olaf", "other@example.org");
+        otherPerson.setId(2L);
+
+        final LocalDate startDate = LocalDate.of(2022, 1, 10);
+        final LocalDate midDate = LocalDate.of(2022, 1, 17);
+        final LocalDate endDate = LocalDate.of(2022, 1, 23);
+
+        final WorkingTime workingTimeFullWeek = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        final WorkingTime workingTimeHalfWeek = createWorkingTime(person, midDate, MONDAY, TUESDAY, WEDNESDAY);
+        final WorkingTime workingTimeOfOtherPerson = createWorkingTime(otherPerson, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(Set.of(person, otherPerson), new DateRange(startDate, endDate)))
+            .thenReturn(Map.of(
+                person, Map.of(
+                    new DateRange(startDate, midDate.minusDays(1)), workingTimeFullWeek,
+                    new DateRange(midDate, endDate), workingTimeHalfWeek),
+                otherPerson, Map.of(new DateRange(startDate, endDate), workingTimeOfOtherPerson)
+            ));
+
+        final List<BigDecimal> workDaysCount = sut.getWorkDaysCount(List.of(
+            application(person, startDate, endDate, FULL),
+            application(otherPerson, midDate, midDate, MORNING),
+            application(person, midDate, endDate, FULL)
+        ));
+        assertThat(workDaysCount).containsExactly(BigDecimal.valueOf(80, 1), BigDecimal.valueOf(5, 1), BigDecimal.valueOf(30, 1));
+    }
+
+    @Test
+    void getWorkDaysOfApplicationsWithoutWorkingTimeThrows() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+        final LocalDate date = LocalDate.of(2022, 1, 10);
+
+        when(workingTimeService.getWorkingTimesByPersonsAndDateRange(Set.of(person), new DateRange(date, date))).thenReturn(Map.of(person, Map.of()));
+
+        final List<Application> applications = List.of(application(person, date, date, FULL));
+        assertThatThrownBy(() -> sut.getWorkDaysCount(applications)).isInstanceOf(WorkDaysCountException.class);
+    }
+
     @Test
     void getWorkDaysWithHalfDayMorning() {
 
@@ -415,6 +466,46 @@ class WorkDaysCountServiceTest {
         assertThat(workDaysCount).isEqualByComparingTo(BigDecimal.valueOf(2.5));
     }
 
+    @Test
+    void getWorkDaysOfCounterWithOneLookupOfWorkingTimes() {
+
+        when(settingsService.getSettings()).thenReturn(new Settings());
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        final LocalDate startDate = LocalDate.of(2013, DECEMBER, 1);
+        final LocalDate endDate = LocalDate.of(2014, JANUARY, 31);
+        final DateRange dateRange = new DateRange(startDate, endDate);
+
+        final WorkingTime workingTime = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        when(workingTimeService.getWorkingTimesByPersonAndDateRange(person, dateRange)).thenReturn(Map.of(dateRange, workingTime));
+
+        final WorkDaysCounter workDaysCounter = sut.getWorkDaysCounter(person, dateRange);
+
+        assertThat(workDaysCounter.getWorkDaysCount(MORNING, LocalDate.of(2013, DECEMBER, 24), LocalDate.of(2013, DECEMBER, 24))).isEqualByComparingTo(BigDecimal.valueOf(0.5));
+        assertThat(workDaysCounter.getWorkDaysCount(FULL, LocalDate.of(2013, DECEMBER, 23), LocalDate.of(2014, JANUARY, 2))).isEqualByComparingTo(BigDecimal.valueOf(5));
+        assertThat(workDaysCounter.getWorkDaysCount(MORNING, LocalDate.of(2013, DECEMBER, 23), LocalDate.of(2014, JANUARY, 2))).isEqualByComparingTo(BigDecimal.valueOf(2.5));
+
+        verify(workingTimeService).getWorkingTimesByPersonAndDateRange(person, dateRange);
+    }
+
+    @Test
+    void getWorkDaysOfCounterWithoutWorkingTimeThrows() {
+
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(1L);
+        final LocalDate startDate = LocalDate.of(2022, NOVEMBER, 1);
+        final LocalDate endDate = LocalDate.of(2022, NOVEMBER, 30);
+        final DateRange dateRange = new DateRange(startDate, endDate);
+
+        final WorkingTime workingTime = createWorkingTime(person, startDate, MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY);
+        when(workingTimeService.getWorkingTimesByPersonAndDateRange(person, dateRange))
+            .thenReturn(Map.of(new DateRange(LocalDate.of(2022, NOVEMBER, 15), endDate), workingTime));
+
+        final WorkDaysCounter workDaysCounter = sut.getWorkDaysCounter(person, dateRange);
+
+        assertThatThrownBy(() -> workDaysCounter.getWorkDaysCount(FULL, LocalDate.of(2022, NOVEMBER, 7), LocalDate.of(2022, NOVEMBER, 18)))
+            .isInstanceOf(WorkDaysCountException.class);
+    }
 
     private HolidayManager getHolidayManager() {
         final ClassLoader cl = Thread.currentThread().getContextClassLoader();
@@ -428,4 +519,12 @@ class WorkDaysCountServiceTest {
         return workingTime;
     }
 
+    private static Application application(Person person, LocalDate startDate, LocalDate endDate, DayLength dayLength) {
+        final Application application = new Application();
+        application.setPerson(person);
+        application.setStartDate(startDate);
+        application.setEndDate(endDate);
+        application.setDayLength(dayLength);
+        return application;
+    }
 }
@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.workingtime;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -53,7 +54,8 @@ class WorkingTimeCalendarServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        sut = new WorkingTimeCalendarServiceImpl(workingTimeRepository, publicHolidaysService, settingsService);
+        final WorkingTimeHistoryCache workingTimeHistoryCache = new WorkingTimeHistoryCache(workingTimeRepository, settingsService, new WorkingTimeProperties(), new SimpleMeterRegistry());
+        sut = new WorkingTimeCalendarServiceImpl(workingTimeHistoryCache, publicHolidaysService);
     }
 
     @Test
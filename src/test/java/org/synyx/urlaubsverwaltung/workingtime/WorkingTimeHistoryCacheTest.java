@@ -0,0 +1,201 @@
+package org.synyx.urlaubsverwaltung.workingtime;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.synyx.urlaubsverwaltung.person.Person;
+import org.synyx.urlaubsverwaltung.settings.Settings;
+import org.synyx.urlaubsverwaltung.settings.SettingsService;
+import org.synyx.urlaubsverwaltung.settings.SettingsUpdatedEvent;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.synyx.urlaubsverwaltung.period.DayLength.FULL;
+import static org.synyx.urlaubsverwaltung.period.DayLength.ZERO;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BADEN_WUERTTEMBERG;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BAYERN;
+import static org.synyx.urlaubsverwaltung.workingtime.FederalState.GERMANY_BERLIN;
+
+@ExtendWith(MockitoExtension.class)
+class WorkingTimeHistoryCacheTest {
+
+    private WorkingTimeHistoryCache sut;
+
+    @Mock
+    private WorkingTimeRepository workingTimeRepository;
+    @Mock
+    private SettingsService settingsService;
+
+    private final WorkingTimeProperties workingTimeProperties = new WorkingTimeProperties();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new WorkingTimeHistoryCache(workingTimeRepository, settingsService, workingTimeProperties, meterRegistry);
+    }
+
+    @Test
+    void ensureReturnsWorkingTimesLatestFirstWithResolvedFederalState() {
+
+        final Person person = person(1L);
+
+        final WorkingTimeEntity older = workingTimeEntity(person, LocalDate.of(2022, 1, 1), null);
+        older.setMonday(FULL);
+        final WorkingTimeEntity newer = workingTimeEntity(person, LocalDate.of(2023, 1, 1), GERMANY_BAYERN);
+        newer.setMonday(ZERO);
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(person))).thenReturn(List.of(older, newer));
+        when(settingsService.getSettings()).thenReturn(settings(GERMANY_BADEN_WUERTTEMBERG));
+
+        final List<WorkingTime> workingTimes = sut.getWorkingTimes(person);
+        assertThat(workingTimes).extracting(WorkingTime::getValidFrom).containsExactly(LocalDate.of(2023, 1, 1), LocalDate.of(2022, 1, 1));
+        assertThat(workingTimes).extracting(WorkingTime::getFederalState).containsExactly(GERMANY_BAYERN, GERMANY_BADEN_WUERTTEMBERG);
+        assertThat(workingTimes).extracting(WorkingTime::isDefaultFederalState).containsExactly(false, true);
+        assertThat(workingTimes).extracting(WorkingTime::getMonday).containsExactly(ZERO, FULL);
+        assertThat(workingTimes).extracting(WorkingTime::getPerson).containsOnly(person);
+    }
+
+    @Test
+    void ensureLoadsOnlyMissingHistoriesAndCountsHitsAndMisses() {
+
+        final Person batman = person(1L);
+        final Person robin = person(2L);
+
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(batman)))
+            .thenReturn(List.of(workingTimeEntity(batman, LocalDate.of(2022, 1, 1), GERMANY_BERLIN)));
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(robin))).thenReturn(List.of());
+
+        sut.getWorkingTimes(batman);
+        final Map<Person, List<WorkingTime>> workingTimesByPerson = sut.getWorkingTimesByPersons(List.of(batman, robin));
+
+        assertThat(workingTimesByPerson.get(batman)).hasSize(1);
+        assertThat(workingTimesByPerson.get(robin)).isEmpty();
+        verify(workingTimeRepository).findByPersonIsInOrderByValidFromDesc(List.of(batman));
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "workingTimeHistory").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "workingTimeHistory").tag("result", "miss").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.size").tag("cache", "workingTimeHistory").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void ensureHandsOutWorkingTimesForTheRequestedPersonInstance() {
+
+        final Person person = person(1L);
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(person)))
+            .thenReturn(List.of(workingTimeEntity(person, LocalDate.of(2022, 1, 1), GERMANY_BERLIN)));
+
+        sut.getWorkingTimes(person);
+
+        final Person renamedPerson = person(1L);
+        renamedPerson.setFirstName("Bruce");
+        assertThat(sut.getWorkingTimes(renamedPerson).get(0).getPerson()).isSameAs(renamedPerson);
+    }
+
+    @Test
+    void ensureEvictReloadsHistoryOfPerson() {
+
+        final Person person = person(1L);
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(person)))
+            .thenReturn(List.of(workingTimeEntity(person, LocalDate.of(2022, 1, 1), GERMANY_BERLIN)));
+
+        sut.getWorkingTimes(person);
+        sut.evict(person);
+        sut.getWorkingTimes(person);
+
+        verify(workingTimeRepository, times(2)).findByPersonIsInOrderByValidFromDesc(List.of(person));
+    }
+
+    @Test
+    void ensureChangedDefaultFederalStateEvictsAllHistories() {
+
+        final Person person = person(1L);
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(person)))
+            .thenReturn(List.of(workingTimeEntity(person, LocalDate.of(2022, 1, 1), null)));
+        when(settingsService.getSettings())
+            .thenReturn(settings(GERMANY_BERLIN))
+            .thenReturn(settings(GERMANY_BAYERN));
+
+        assertThat(sut.getWorkingTimes(person).get(0).getFederalState()).isEqualTo(GERMANY_BERLIN);
+
+        sut.on(SettingsUpdatedEvent.of(settings(GERMANY_BAYERN)));
+
+        assertThat(sut.getWorkingTimes(person).get(0).getFederalState()).isEqualTo(GERMANY_BAYERN);
+    }
+
+    @Test
+    void ensureUnchangedDefaultFederalStateKeepsHistories() {
+
+        final Person person = person(1L);
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(person)))
+            .thenReturn(List.of(workingTimeEntity(person, LocalDate.of(2022, 1, 1), null)));
+        when(settingsService.getSettings()).thenReturn(settings(GERMANY_BERLIN));
+
+        sut.getWorkingTimes(person);
+        sut.on(SettingsUpdatedEvent.of(settings(GERMANY_BERLIN)));
+        sut.getWorkingTimes(person);
+
+        verify(workingTimeRepository).findByPersonIsInOrderByValidFromDesc(List.of(person));
+    }
+
+    @Test
+    void ensureLeastRecentlyUsedHistoriesAreEvictedWhenFull() {
+
+        workingTimeProperties.setHistoryCacheSize(16);
+        sut = new WorkingTimeHistoryCache(workingTimeRepository, settingsService, workingTimeProperties, meterRegistry);
+
+        // 1 and 17 belong to the same partition holding one history
+        final Person first = person(1L);
+        final Person second = person(17L);
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(first))).thenReturn(List.of());
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(second))).thenReturn(List.of());
+
+        sut.getWorkingTimes(first);
+        sut.getWorkingTimes(second);
+        sut.getWorkingTimes(first);
+
+        verify(workingTimeRepository, times(2)).findByPersonIsInOrderByValidFromDesc(List.of(first));
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "workingTimeHistory").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void ensureHistoryOfPersonWithoutIdIsNotCached() {
+
+        final Person person = new Person();
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(person)))
+            .thenReturn(List.of(workingTimeEntity(person, LocalDate.of(2022, 1, 1), GERMANY_BERLIN)));
+
+        assertThat(sut.getWorkingTimes(person)).hasSize(1);
+        assertThat(sut.getWorkingTimes(person)).hasSize(1);
+
+        verify(workingTimeRepository, times(2)).findByPersonIsInOrderByValidFromDesc(List.of(person));
+    }
+
+    private static Person person(Long id) {
+        final Person person = new Person("muster", "Muster", "Marlene", "muster@example.org");
+        person.setId(id);
+        return person;
+    }
+
+    private static WorkingTimeEntity workingTimeEntity(Person person, LocalDate validFrom, FederalState federalStateOverride) {
+        final WorkingTimeEntity workingTimeEntity = new WorkingTimeEntity();
+        workingTimeEntity.setPerson(person);
+        workingTimeEntity.setValidFrom(validFrom);
+        workingTimeEntity.setFederalStateOverride(federalStateOverride);
+        return workingTimeEntity;
+    }
+
+    private static Settings settings(FederalState federalState) {
+        final Settings settings = new Settings();
+        settings.getWorkingTimeSettings().setFederalState(federalState);
+        return settings;
+    }
+}
@@ -1,5 +1,6 @@
 package org.synyx.urlaubsverwaltung.workingtime;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -53,7 +54,8 @@ class WorkingTimeServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        sut = new WorkingTimeServiceImpl(workingTimeRepository, settingsService, fixedClock);
+        final WorkingTimeHistoryCache workingTimeHistoryCache = new WorkingTimeHistoryCache(workingTimeRepository, settingsService, new WorkingTimeProperties(), new SimpleMeterRegistry());
+        sut = new WorkingTimeServiceImpl(workingTimeRepository, workingTimeHistoryCache, settingsService, fixedClock);
     }
 
     @Test
@@ -96,8 +98,10 @@ class WorkingTimeServiceImplTest {
         person.setId(1L);
 
         final WorkingTimeEntity workingTimeEntity = new WorkingTimeEntity();
+        workingTimeEntity.setPerson(person);
+        workingTimeEntity.setValidFrom(date);
         workingTimeEntity.setFederalStateOverride(GERMANY_BAYERN);
-        when(workingTimeRepository.findByPersonAndValidityDateEqualsOrMinorDate(person, date)).thenReturn(workingTimeEntity);
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(person))).thenReturn(List.of(workingTimeEntity));
 
         final FederalState federalState = sut.getFederalStateForPerson(person, date);
 
@@ -114,7 +118,9 @@ class WorkingTimeServiceImplTest {
         person.setId(1L);
 
         final WorkingTimeEntity workingTimeEntity = new WorkingTimeEntity();
-        when(workingTimeRepository.findByPersonAndValidityDateEqualsOrMinorDate(person, date)).thenReturn(workingTimeEntity);
+        workingTimeEntity.setPerson(person);
+        workingTimeEntity.setValidFrom(date);
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(person))).thenReturn(List.of(workingTimeEntity));
 
         final WorkingTimeSettings workingTimeSettings = new WorkingTimeSettings();
         workingTimeSettings.setFederalState(GERMANY_BREMEN);
@@ -131,7 +137,7 @@ class WorkingTimeServiceImplTest {
     @Test
     void ensureGetFederalStateForPersonReturnSystemDefaultWhenNothingFound() {
 
-        when(workingTimeRepository.findByPersonAndValidityDateEqualsOrMinorDate(any(), any())).thenReturn(null);
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(any())).thenReturn(List.of());
 
         final WorkingTimeSettings workingTimeSettings = new WorkingTimeSettings();
         workingTimeSettings.setFederalState(GERMANY_BREMEN);
@@ -192,7 +198,7 @@ class WorkingTimeServiceImplTest {
         workingTimeEntity.setSaturday(FULL);
         workingTimeEntity.setSunday(FULL);
 
-        when(workingTimeRepository.findByPersonOrderByValidFromDesc(person)).thenReturn(List.of(workingTimeEntity));
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(person))).thenReturn(List.of(workingTimeEntity));
 
         final List<WorkingTime> workingTimes = sut.getByPerson(person);
         assertThat(workingTimes).hasSize(1);
@@ -224,7 +230,7 @@ class WorkingTimeServiceImplTest {
         workingTimeEntityTwo.setValidFrom(LocalDate.of(2022, JUNE, 11));
         workingTimeEntityTwo.setFederalStateOverride(null);
 
-        when(workingTimeRepository.findByPersonOrderByValidFromDesc(person)).thenReturn(List.of(workingTimeEntityOne, workingTimeEntityTwo));
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(person))).thenReturn(List.of(workingTimeEntityOne, workingTimeEntityTwo));
 
         final WorkingTimeSettings workingTimeSettings = new WorkingTimeSettings();
         workingTimeSettings.setFederalState(GERMANY_BREMEN);
@@ -254,8 +260,8 @@ class WorkingTimeServiceImplTest {
         workingTimeEntity.setValidFrom(date);
         workingTimeEntity.setFederalStateOverride(GERMANY_BADEN_WUERTTEMBERG);
 
-        when(workingTimeRepository.findByPersonAndValidityDateEqualsOrMinorDate(batman, date))
-            .thenReturn(workingTimeEntity);
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(batman)))
+            .thenReturn(List.of(workingTimeEntity));
 
         final Optional<WorkingTime> actualWorkingTime = sut.getWorkingTime(batman, date);
 
@@ -277,8 +283,8 @@ class WorkingTimeServiceImplTest {
         workingTimeEntity.setPerson(batman);
         workingTimeEntity.setValidFrom(date);
 
-        when(workingTimeRepository.findByPersonAndValidityDateEqualsOrMinorDate(batman, date))
-            .thenReturn(workingTimeEntity);
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(batman)))
+            .thenReturn(List.of(workingTimeEntity));
 
         final WorkingTimeSettings workingTimeSettings = new WorkingTimeSettings();
         workingTimeSettings.setFederalState(GERMANY_BREMEN);
@@ -297,8 +303,8 @@ class WorkingTimeServiceImplTest {
 
     @Test
     void ensureGetByPersonAndValidityDateEqualsOrMinorDateReturnsEmptyOptionalWhenNothingFound() {
-        when(workingTimeRepository.findByPersonAndValidityDateEqualsOrMinorDate(any(), any()))
-            .thenReturn(null);
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(any()))
+            .thenReturn(List.of());
 
         final Optional<WorkingTime> actualWorkingTime = sut.getWorkingTime(new Person(), LocalDate.now());
 
@@ -343,7 +349,7 @@ class WorkingTimeServiceImplTest {
         workingTimeEntityFuture.setValidFrom(LocalDate.of(2022, 1, 1));
         workingTimeEntityFuture.setFederalStateOverride(GERMANY_BERLIN);
 
-        when(workingTimeRepository.findByPersonOrderByValidFromDesc(person)).thenReturn(List.of(workingTimeEntityFuture, workingTimeEntityChanged, workingTimeEntity));
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(person))).thenReturn(List.of(workingTimeEntityFuture, workingTimeEntityChanged, workingTimeEntity));
 
         final DateRange dateRange = new DateRange(LocalDate.of(2021, 11, 1), LocalDate.of(2021, 11, 30));
         final Map<DateRange, FederalState> federalStatesByPersonAndDateRange = sut.getFederalStatesByPersonAndDateRange(person, dateRange);
@@ -379,7 +385,7 @@ class WorkingTimeServiceImplTest {
         workingTimeEntityFuture.setValidFrom(LocalDate.of(2022, 1, 1));
         workingTimeEntityFuture.setFederalStateOverride(GERMANY_BERLIN);
 
-        when(workingTimeRepository.findByPersonOrderByValidFromDesc(person)).thenReturn(List.of(workingTimeEntityFuture, workingTimeEntityChanged, workingTimeEntity));
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(person))).thenReturn(List.of(workingTimeEntityFuture, workingTimeEntityChanged, workingTimeEntity));
 
         final DateRange dateRange = new DateRange(LocalDate.of(2020, 9, 1), LocalDate.of(2020, 9, 10));
         final Map<DateRange, FederalState> federalStatesByPersonAndDateRange = sut.getFederalStatesByPersonAndDateRange(person, dateRange);
@@ -412,7 +418,7 @@ class WorkingTimeServiceImplTest {
         workingTimeEntityFuture.setValidFrom(LocalDate.of(2022, 1, 1));
         workingTimeEntityFuture.setFederalStateOverride(GERMANY_BERLIN);
 
-        when(workingTimeRepository.findByPersonOrderByValidFromDesc(person)).thenReturn(List.of(workingTimeEntityFuture, workingTimeEntityChanged, workingTimeEntity));
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(person))).thenReturn(List.of(workingTimeEntityFuture, workingTimeEntityChanged, workingTimeEntity));
 
         final DateRange dateRange = new DateRange(LocalDate.of(2020, 8, 1), LocalDate.of(2020, 9, 1));
         final Map<DateRange, FederalState> federalStatesByPersonAndDateRange = sut.getFederalStatesByPersonAndDateRange(person, dateRange);
@@ -430,7 +436,7 @@ class WorkingTimeServiceImplTest {
 
         final Person batman = new Person();
 
-        when(workingTimeRepository.findByPersonOrderByValidFromDesc(batman)).thenReturn(emptyList());
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(batman))).thenReturn(emptyList());
 
         assertThat(sut.getFederalStatesByPersonAndDateRange(batman,
             new DateRange(
@@ -461,7 +467,7 @@ class WorkingTimeServiceImplTest {
         workingTimeEntityFuture.setValidFrom(LocalDate.of(2022, 1, 1));
         workingTimeEntityFuture.setFederalStateOverride(GERMANY_BERLIN);
 
-        when(workingTimeRepository.findByPersonOrderByValidFromDesc(person)).thenReturn(List.of(workingTimeEntityFuture, workingTimeEntityChanged, workingTimeEntity));
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(person))).thenReturn(List.of(workingTimeEntityFuture, workingTimeEntityChanged, workingTimeEntity));
 
         final DateRange dateRange = new DateRange(LocalDate.of(2021, 11, 1), LocalDate.of(2021, 11, 30));
         final Map<DateRange, WorkingTime> federalStatesByPersonAndDateRange = sut.getWorkingTimesByPersonAndDateRange(person, dateRange);
@@ -474,6 +480,52 @@ class WorkingTimeServiceImplTest {
             );
     }
 
+    @Test
+    void getWorkingTimesByPersonsAndDateRangeLoadsWorkingTimesOfAllPersonsAtOnce() {
+
+        final Person person = new Person();
+        person.setId(1L);
+        final Person otherPerson = new Person();
+        otherPerson.setId(2L);
+        final Person personWithoutWorkingTime = new Person();
+        personWithoutWorkingTime.setId(3L);
+
+        final WorkingTimeEntity workingTimeEntity = new WorkingTimeEntity();
+        workingTimeEntity.setId(1L);
+        workingTimeEntity.setPerson(person);
+        workingTimeEntity.setValidFrom(LocalDate.of(2020, 9, 1));
+        workingTimeEntity.setFederalStateOverride(GERMANY_BADEN_WUERTTEMBERG);
+
+        final WorkingTimeEntity workingTimeEntityChanged = new WorkingTimeEntity();
+        workingTimeEntityChanged.setId(2L);
+        workingTimeEntityChanged.setPerson(person);
+        workingTimeEntityChanged.setValidFrom(LocalDate.of(2021, 11, 15));
+        workingTimeEntityChanged.setFederalStateOverride(GERMANY_RHEINLAND_PFALZ);
+
+        final WorkingTimeEntity workingTimeEntityOfOtherPerson = new WorkingTimeEntity();
+        workingTimeEntityOfOtherPerson.setId(3L);
+        workingTimeEntityOfOtherPerson.setPerson(otherPerson);
+        workingTimeEntityOfOtherPerson.setValidFrom(LocalDate.of(2021, 1, 1));
+        workingTimeEntityOfOtherPerson.setFederalStateOverride(GERMANY_BERLIN);
+
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(person, otherPerson, personWithoutWorkingTime)))
+            .thenReturn(List.of(workingTimeEntity, workingTimeEntityOfOtherPerson, workingTimeEntityChanged));
+
+        final DateRange dateRange = new DateRange(LocalDate.of(2021, 11, 1), LocalDate.of(2021, 11, 30));
+        final Map<Person, Map<DateRange, WorkingTime>> workingTimesByPerson =
+            sut.getWorkingTimesByPersonsAndDateRange(List.of(person, otherPerson, personWithoutWorkingTime), dateRange);
+
+        assertThat(workingTimesByPerson).hasSize(3);
+        assertThat(workingTimesByPerson.get(person)).containsOnly(
+            entry(new DateRange(LocalDate.of(2021, 11, 1), LocalDate.of(2021, 11, 14)), new WorkingTime(person, LocalDate.of(2020, 9, 1), GERMANY_BADEN_WUERTTEMBERG, false)),
+            entry(new DateRange(LocalDate.of(2021, 11, 15), LocalDate.of(2021, 11, 30)), new WorkingTime(person, LocalDate.of(2021, 11, 15), GERMANY_RHEINLAND_PFALZ, false))
+        );
+        assertThat(workingTimesByPerson.get(otherPerson)).containsOnly(
+            entry(dateRange, new WorkingTime(otherPerson, LocalDate.of(2021, 1, 1), GERMANY_BERLIN, false))
+        );
+        assertThat(workingTimesByPerson.get(personWithoutWorkingTime)).isEmpty();
+    }
+
     @Test
     void getWorkingTimesByPersonAndDateRangeStartsOnWorkingTimeValidFrom() {
 
@@ -497,7 +549,7 @@ class WorkingTimeServiceImplTest {
         workingTimeEntityFuture.setValidFrom(LocalDate.of(2022, 1, 1));
         workingTimeEntityFuture.setFederalStateOverride(GERMANY_BERLIN);
 
-        when(workingTimeRepository.findByPersonOrderByValidFromDesc(person)).thenReturn(List.of(workingTimeEntityFuture, workingTimeEntityChanged, workingTimeEntity));
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(person))).thenReturn(List.of(workingTimeEntityFuture, workingTimeEntityChanged, workingTimeEntity));
 
         final DateRange dateRange = new DateRange(LocalDate.of(2020, 9, 1), LocalDate.of(2020, 9, 10));
         final Map<DateRange, WorkingTime> federalStatesByPersonAndDateRange = sut.getWorkingTimesByPersonAndDateRange(person, dateRange);
@@ -530,7 +582,7 @@ class WorkingTimeServiceImplTest {
         workingTimeEntityFuture.setValidFrom(LocalDate.of(2022, 1, 1));
         workingTimeEntityFuture.setFederalStateOverride(GERMANY_BERLIN);
 
-        when(workingTimeRepository.findByPersonOrderByValidFromDesc(person)).thenReturn(List.of(workingTimeEntityFuture, workingTimeEntityChanged, workingTimeEntity));
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(person))).thenReturn(List.of(workingTimeEntityFuture, workingTimeEntityChanged, workingTimeEntity));
 
         final DateRange dateRange = new DateRange(LocalDate.of(2020, 8, 1), LocalDate.of(2020, 9, 1));
         final Map<DateRange, WorkingTime> federalStatesByPersonAndDateRange = sut.getWorkingTimesByPersonAndDateRange(person, dateRange);
@@ -547,7 +599,7 @@ class WorkingTimeServiceImplTest {
     void getWorkingTimesByPersonAndDateRangeWithoutWorkingTimes() {
 
         final Person person = new Person();
-        when(workingTimeRepository.findByPersonOrderByValidFromDesc(person)).thenReturn(emptyList());
+        when(workingTimeRepository.findByPersonIsInOrderByValidFromDesc(List.of(person))).thenReturn(emptyList());
 
         assertThat(sut.getWorkingTimesByPersonAndDateRange(person,
             new DateRange(